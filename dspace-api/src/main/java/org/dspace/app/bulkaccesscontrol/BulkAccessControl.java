@@ -56,9 +56,7 @@ import org.dspace.content.service.ItemService;
 import org.dspace.core.Constants;
 import org.dspace.core.Context;
 import org.dspace.discovery.DiscoverQuery;
-import org.dspace.discovery.SearchService;
-import org.dspace.discovery.SearchServiceException;
-import org.dspace.discovery.SearchUtils;
+import org.dspace.discovery.DiscoverResultItemIterator;
 import org.dspace.discovery.indexobject.IndexableItem;
 import org.dspace.eperson.EPerson;
 import org.dspace.eperson.factory.EPersonServiceFactory;
@@ -79,8 +77,6 @@ public class BulkAccessControl extends DSpaceRunnable<BulkAccessControlScriptCon
 
     private DSpaceObjectUtils dSpaceObjectUtils;
 
-    private SearchService searchService;
-
     private ItemService itemService;
 
     private String filename;
@@ -115,7 +111,6 @@ public class BulkAccessControl extends DSpaceRunnable<BulkAccessControlScriptCon
     @SuppressWarnings("unchecked")
     public void setup() throws ParseException {
 
-        this.searchService = SearchUtils.getSearchService();
         this.itemService = ContentServiceFactory.getInstance().getItemService();
         this.resourcePolicyService = AuthorizeServiceFactory.getInstance().getResourcePolicyService();
         this.epersonService = EPersonServiceFactory.getInstance().getEPersonService();
@@ -341,19 +336,15 @@ public class BulkAccessControl extends DSpaceRunnable<BulkAccessControlScriptCon
      *
      * @param accessControl the access control input
      * @throws SQLException if something goes wrong in the database
-     * @throws SearchServiceException if a search error occurs
      * @throws AuthorizeException if an authorization error occurs
      */
     private void updateItemsAndBitstreamsPolices(BulkAccessControlInput accessControl)
-        throws SQLException, SearchServiceException, AuthorizeException {
-
-        int counter = 0;
-        int start = 0;
-        int limit = 20;
+        throws SQLException, AuthorizeException {
 
         String query = buildSolrQuery(uuids);
 
-        Iterator<Item> itemIterator = findItems(query, start, limit);
+        // the items are paged with a cursor, which is not affected by their reindexing along the way
+        Iterator<Item> itemIterator = new DiscoverResultItemIterator(context, buildDiscoveryQuery(query, 20), false);
 
         while (itemIterator.hasNext()) {
 
@@ -369,13 +360,6 @@ public class BulkAccessControl extends DSpaceRunnable<BulkAccessControlScriptCon
 
             context.commit();
             context.uncacheEntity(item);
-            counter++;
-
-            if (counter == limit) {
-                counter = 0;
-                start += limit;
-                itemIterator = findItems(query, start, limit);
-            }
         }
     }
 
@@ -396,25 +380,10 @@ public class BulkAccessControl extends DSpaceRunnable<BulkAccessControlScriptCon
         return StringUtils.joinWith(" OR ", query);
     }
 
-    private Iterator<Item> findItems(String query, int start, int limit)
-        throws SearchServiceException {
-
-        DiscoverQuery discoverQuery = buildDiscoveryQuery(query, start, limit);
-
-        return searchService.search(context, discoverQuery)
-                            .getIndexableObjects()
-                            .stream()
-                            .map(indexableObject ->
-                                ((IndexableItem) indexableObject).getIndexedObject())
-                            .collect(Collectors.toList())
-                            .iterator();
-    }
-
-    private DiscoverQuery buildDiscoveryQuery(String query, int start, int limit) {
+    private DiscoverQuery buildDiscoveryQuery(String query, int limit) {
         DiscoverQuery discoverQuery = new DiscoverQuery();
         discoverQuery.setDSpaceObjectFilter(IndexableItem.TYPE);
         discoverQuery.setQuery(query);
-        discoverQuery.setStart(start);
         discoverQuery.setMaxResults(limit);
         discoverQuery.setSortField("search.resourceid", DiscoverQuery.SORT_ORDER.asc);
         return discoverQuery;
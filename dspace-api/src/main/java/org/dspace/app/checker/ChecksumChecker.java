@@ -78,6 +78,10 @@ public final class ChecksumChecker {
      * <dd>Report only errors in the logs</dd>
      * <dt>-p</dt>
      * <dd>Don't prune results before running checker</dd>
+     * <dt>-t</dt>
+     * <dd>number of bitstreams to check concurrently</dd>
+     * <dt>-r</dt>
+     * <dd>maximum read rate per assetstore, in kilobytes per second</dd>
      * </dl>
      *
      * @param args the command line arguments given
@@ -99,6 +103,9 @@ public final class ChecksumChecker {
         options.addOption("c", "count", true, "Check count");
         options.addOption("a", "handle", true, "Specify a handle to check");
         options.addOption("v", "verbose", false, "Report all processing");
+        options.addOption("t", "threads", true, "Number of bitstreams to check concurrently (default 1)");
+        options.addOption("r", "rate", true,
+                          "Maximum read rate per assetstore in kilobytes per second (default unlimited)");
 
         Option option;
 
@@ -204,6 +211,13 @@ public final class ChecksumChecker {
                 checker.setReportVerbose(true);
             }
 
+            if (line.hasOption('t')) {
+                checker.setThreads(Integer.parseInt(line.getOptionValue('t')));
+            }
+            if (line.hasOption('r')) {
+                checker.setMaxBytesPerSecond(Long.parseLong(line.getOptionValue('r')) * 1024);
+            }
+
             checker.setProcessStartDate(processStart);
             checker.setDispatcher(dispatcher);
             checker.setCollector(logger);
@@ -236,6 +250,8 @@ public final class ChecksumChecker {
         System.out.println("\nLoop continuously through all bitstreams: ChecksumChecker -L");
         System.out.println("\nCheck a defined number of bitstreams: ChecksumChecker -c 10");
         System.out.println("\nReport all processing (verbose)(default reports only errors): ChecksumChecker -v");
+        System.out.println("\nCheck 8 bitstreams at once, reading at most 50MB/s per assetstore: "
+                               + "ChecksumChecker -l -t 8 -r 51200");
         System.out.println("\nDefault (no arguments) is equivalent to '-c 1'");
         System.exit(0);
     }
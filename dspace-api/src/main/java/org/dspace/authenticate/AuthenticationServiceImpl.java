@@ -13,6 +13,8 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
+import java.util.UUID;
 
 import jakarta.servlet.http.HttpServletRequest;
 import org.apache.logging.log4j.LogManager;
@@ -24,6 +26,9 @@ import org.dspace.core.factory.CoreServiceFactory;
 import org.dspace.eperson.EPerson;
 import org.dspace.eperson.Group;
 import org.dspace.eperson.service.EPersonService;
+import org.dspace.eperson.service.GroupService;
+import org.dspace.service.ClientInfoService;
+import org.dspace.services.ConfigurationService;
 import org.springframework.beans.factory.annotation.Autowired;
 
 /**
@@ -47,6 +52,10 @@ import org.springframework.beans.factory.annotation.Autowired;
  * <p>
  * The "stack" is always traversed in order, with the methods
  * specified first (in the configuration) thus getting highest priority.
+ * <p>
+ * The special groups of the methods listed in {@code authentication.special-groups.cache.methods} can be cached by
+ * client IP, method and current user for {@code authentication.special-groups.cache.ttl} seconds (0, the default,
+ * disables the cache), see authentication.cfg.
  *
  * @author Larry Stone
  * @see AuthenticationMethod
@@ -58,9 +67,26 @@ public class AuthenticationServiceImpl implements AuthenticationService {
      */
     private final Logger log = LogManager.getLogger();
 
+    /**
+     * Authentication methods whose special groups are cached by default: the ones which only depend on the client
+     * IP and on the current user.
+     */
+    private static final String[] DEFAULT_CACHED_METHODS = {"ip", "password", "ldap"};
+
     @Autowired(required = true)
     protected EPersonService ePersonService;
 
+    @Autowired(required = true)
+    protected GroupService groupService;
+
+    @Autowired(required = true)
+    protected ConfigurationService configurationService;
+
+    @Autowired(required = true)
+    protected ClientInfoService clientInfoService;
+
+    protected final SpecialGroupsCache specialGroupsCache = new SpecialGroupsCache();
+
     protected AuthenticationServiceImpl() {
 
     }
@@ -176,17 +202,41 @@ public class AuthenticationServiceImpl implements AuthenticationService {
                                         HttpServletRequest request)
         throws SQLException {
         List<Group> result = new ArrayList<>();
-        int totalLen = 0;
+
+        long ttl = configurationService.getLongProperty("authentication.special-groups.cache.ttl", 0) * 1000;
+        Set<String> cachedMethods = Set.of();
+        String clientIp = null;
+        if (ttl > 0 && request != null) {
+            cachedMethods = Set.of(configurationService.getArrayProperty(
+                "authentication.special-groups.cache.methods", DEFAULT_CACHED_METHODS));
+            clientIp = clientInfoService.getClientIp(request);
+        }
 
         for (AuthenticationMethod method : getAuthenticationMethodStack()) {
 
             if (method.areSpecialGroupsApplicable(context, request)) {
 
-                List<Group> gl = method.getSpecialGroups(context, request);
-                if (gl.size() > 0) {
-                    result.addAll(gl);
-                    totalLen += gl.size();
+                List<Group> gl = null;
+                String key = null;
+                if (clientIp != null && cachedMethods.contains(method.getName())) {
+                    EPerson principal = context.getCurrentUser();
+                    key = SpecialGroupsCache.getKey(clientIp, method.getName(),
+                                                    principal != null ? principal.getID() : null);
+                    gl = getCachedSpecialGroups(context, key);
+                }
+                if (gl == null) {
+                    gl = method.getSpecialGroups(context, request);
+                    if (key != null) {
+                        List<UUID> groupIds = new ArrayList<>();
+                        for (Group group : gl) {
+                            groupIds.add(group.getID());
+                        }
+                        specialGroupsCache.put(key, groupIds, System.currentTimeMillis() + ttl,
+                            configurationService.getIntProperty("authentication.special-groups.cache.max-entries",
+                                                                10000));
+                    }
                 }
+                result.addAll(gl);
 
             }
         }
@@ -194,6 +244,31 @@ public class AuthenticationServiceImpl implements AuthenticationService {
         return result;
     }
 
+    /**
+     * Get the special groups cached for a request, loaded in the given context.
+     *
+     * @param context The relevant DSpace Context.
+     * @param key     the key of the cached special groups
+     * @return the special groups, or null if they aren't cached or one of them no longer exists
+     * @throws SQLException An exception that provides information on a database access error or other errors.
+     */
+    protected List<Group> getCachedSpecialGroups(Context context, String key) throws SQLException {
+        List<UUID> groupIds = specialGroupsCache.get(key, System.currentTimeMillis());
+        if (groupIds == null) {
+            return null;
+        }
+        List<Group> groups = new ArrayList<>(groupIds.size());
+        for (UUID groupId : groupIds) {
+            Group group = groupService.find(context, groupId);
+            if (group == null) {
+                specialGroupsCache.invalidate(key);
+                return null;
+            }
+            groups.add(group);
+        }
+        return groups;
+    }
+
     @Override
     public Iterator<AuthenticationMethod> authenticationMethodIterator() {
         return getAuthenticationMethodStack().iterator();
@@ -9,11 +9,14 @@ package org.dspace.authenticate;
 
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -26,6 +29,7 @@ import org.dspace.eperson.Group;
 import org.dspace.eperson.factory.EPersonServiceFactory;
 import org.dspace.eperson.service.GroupService;
 import org.dspace.service.ClientInfoService;
+import org.dspace.services.ConfigurationService;
 import org.dspace.services.factory.DSpaceServicesFactory;
 
 /**
@@ -53,57 +57,62 @@ public class IPAuthentication implements AuthenticationMethod {
     private static Logger log = org.apache.logging.log4j.LogManager.getLogger(IPAuthentication.class);
 
     /**
-     * All the IP matchers
+     * Names of the groups of the IP ranges
      */
-    protected List<IPMatcher> ipMatchers;
+    protected IPRangeLookup<String> ipLookup;
 
     /**
-     * All the negative IP matchers
+     * Names of the groups of the negative IP ranges
      */
-    protected List<IPMatcher> ipNegativeMatchers;
+    protected IPRangeLookup<String> ipNegativeLookup;
 
     protected GroupService groupService;
     protected ClientInfoService clientInfoService;
 
-
     /**
-     * Maps IPMatchers to group names when we don't know group DB ID yet. When
-     * the DB ID is known, the IPMatcher is moved to ipMatcherGroupIDs and then
-     * points to the DB ID.
+     * The IP ranges compiled from the last configuration read. As a new instance of the authentication method is
+     * created for each use of the stack, they are shared and only compiled again when the configuration changes.
      */
-    protected Map<IPMatcher, String> ipMatcherGroupNames;
+    private static volatile CompiledRanges compiledRanges;
 
     /**
-     * Maps IPMatchers to group IDs (Integers) where we know the group DB ID
+     * Maps group names to group DB IDs once they are known
      */
-    protected Map<IPMatcher, UUID> ipMatcherGroupIDs;
+    private static final Map<String, UUID> groupIDs = new ConcurrentHashMap<>();
 
     /**
      * Initialize an IP authenticator, reading in the configuration. Note this
      * will never fail if the configuration is bad -- a warning will be logged.
      */
     public IPAuthentication() {
-        ipMatchers = new ArrayList<IPMatcher>();
-        ipNegativeMatchers = new ArrayList<IPMatcher>();
-        ipMatcherGroupIDs = new HashMap<>();
-        ipMatcherGroupNames = new HashMap<>();
         groupService = EPersonServiceFactory.getInstance().getGroupService();
         clientInfoService = CoreServiceFactory.getInstance().getClientInfoService();
 
-        List<String> propNames = DSpaceServicesFactory.getInstance().getConfigurationService()
-                                                      .getPropertyKeys("authentication-ip");
+        ConfigurationService configurationService = DSpaceServicesFactory.getInstance().getConfigurationService();
+        Map<String, List<String>> configuration = new LinkedHashMap<>();
+        for (String propName : configurationService.getPropertyKeys("authentication-ip")) {
+            configuration.put(propName, Arrays.asList(configurationService.getArrayProperty(propName)));
+        }
 
-        for (String propName : propNames) {
-            String[] nameParts = propName.split("\\.");
+        CompiledRanges ranges = compiledRanges;
+        if (ranges == null || !ranges.configuration.equals(configuration)) {
+            ipLookup = new IPRangeLookup<>();
+            ipNegativeLookup = new IPRangeLookup<>();
+            for (Map.Entry<String, List<String>> property : configuration.entrySet()) {
+                String[] nameParts = property.getKey().split("\\.");
 
-            if (nameParts.length == 2) {
-                addMatchers(nameParts[1],
-                            DSpaceServicesFactory.getInstance().getConfigurationService().getArrayProperty(propName));
-            } else {
-                log.warn("Malformed configuration property name: "
-                             + propName);
+                if (nameParts.length == 2) {
+                    addMatchers(nameParts[1], property.getValue().toArray(new String[0]));
+                } else {
+                    log.warn("Malformed configuration property name: "
+                                 + property.getKey());
+                }
             }
+            ranges = new CompiledRanges(configuration, ipLookup, ipNegativeLookup);
+            compiledRanges = ranges;
         }
+        ipLookup = ranges.ipLookup;
+        ipNegativeLookup = ranges.ipNegativeLookup;
     }
 
     /**
@@ -115,15 +124,11 @@ public class IPAuthentication implements AuthenticationMethod {
     protected void addMatchers(String groupName, String[] ipRanges) {
         for (String entry : ipRanges) {
             try {
-                IPMatcher ipm;
                 if (entry.startsWith("-")) {
-                    ipm = new IPMatcher(entry.substring(1));
-                    ipNegativeMatchers.add(ipm);
+                    ipNegativeLookup.add(new IPMatcher(entry.substring(1)), groupName);
                 } else {
-                    ipm = new IPMatcher(entry);
-                    ipMatchers.add(ipm);
+                    ipLookup.add(new IPMatcher(entry), groupName);
                 }
-                ipMatcherGroupNames.put(ipm, groupName);
 
                 if (log.isDebugEnabled()) {
                     log.debug("Configured " + entry + " for special group "
@@ -164,79 +169,38 @@ public class IPAuthentication implements AuthenticationMethod {
         if (request == null) {
             return Collections.EMPTY_LIST;
         }
-        List<Group> groups = new ArrayList<Group>();
 
         // Get the user's IP address
         String addr = clientInfoService.getClientIp(request);
+        if (addr == null) {
+            return Collections.EMPTY_LIST;
+        }
 
-        for (IPMatcher ipm : ipMatchers) {
-            try {
-                if (ipm.match(addr)) {
-                    // Do we know group ID?
-                    UUID g = ipMatcherGroupIDs.get(ipm);
-                    if (g != null) {
-                        groups.add(groupService.find(context, g));
-                    } else {
-                        // See if we have a group name
-                        String groupName = ipMatcherGroupNames.get(ipm);
-
-                        if (groupName != null) {
-                            Group group = groupService.findByName(context, groupName);
-                            if (group != null) {
-                                // Add ID so we won't have to do lookup again
-                                ipMatcherGroupIDs.put(ipm, (group.getID()));
-                                ipMatcherGroupNames.remove(ipm);
-
-                                groups.add(group);
-                            } else {
-                                log.warn(LogHelper.getHeader(context,
-                                                              "configuration_error", "unknown_group="
-                                                                  + groupName));
-                            }
-                        }
-                    }
-                }
-            } catch (IPMatcherException ipme) {
-                log.warn(LogHelper.getHeader(context, "configuration_error",
-                                              "bad_ip=" + addr), ipme);
+        Set<String> groupNames;
+        try {
+            groupNames = ipLookup.lookup(addr);
+            // Now remove any negative matches
+            if (!groupNames.isEmpty()) {
+                groupNames.removeAll(ipNegativeLookup.lookup(addr));
             }
+        } catch (IPMatcherException ipme) {
+            log.warn(LogHelper.getHeader(context, "configuration_error",
+                                          "bad_ip=" + addr), ipme);
+            return Collections.EMPTY_LIST;
         }
 
-        // Now remove any negative matches
-        for (IPMatcher ipm : ipNegativeMatchers) {
-            try {
-                if (ipm.match(addr)) {
-                    // Do we know group ID?
-                    UUID g = ipMatcherGroupIDs.get(ipm);
-                    if (g != null) {
-                        groups.remove(groupService.find(context, g));
-                    } else {
-                        // See if we have a group name
-                        String groupName = ipMatcherGroupNames.get(ipm);
-
-                        if (groupName != null) {
-                            Group group = groupService.findByName(context, groupName);
-                            if (group != null) {
-                                // Add ID so we won't have to do lookup again
-                                ipMatcherGroupIDs.put(ipm, group.getID());
-                                ipMatcherGroupNames.remove(ipm);
-
-                                groups.remove(group);
-                            } else {
-                                log.warn(LogHelper.getHeader(context,
-                                                              "configuration_error", "unknown_group="
-                                                                  + groupName));
-                            }
-                        }
-                    }
-                }
-            } catch (IPMatcherException ipme) {
-                log.warn(LogHelper.getHeader(context, "configuration_error",
-                                              "bad_ip=" + addr), ipme);
+        List<Group> groups = new ArrayList<Group>();
+        for (String groupName : groupNames) {
+            Group group = findGroup(context, groupName);
+            if (group != null) {
+                groups.add(group);
+            } else {
+                log.warn(LogHelper.getHeader(context,
+                                              "configuration_error", "unknown_group="
+                                                  + groupName));
             }
         }
 
-
         if (log.isDebugEnabled()) {
             StringBuilder gsb = new StringBuilder();
             for (Group group : groups) {
@@ -252,6 +216,32 @@ public class IPAuthentication implements AuthenticationMethod {
         return groups;
     }
 
+    /**
+     * Find a group by name, using its DB ID when it is already known. The ID is looked up again if the group has
+     * been deleted or renamed since.
+     *
+     * @param context   The relevant DSpace Context.
+     * @param groupName name of the group
+     * @return the group, or null if there is no group with this name
+     * @throws SQLException An exception that provides information on a database access error or other errors.
+     */
+    protected Group findGroup(Context context, String groupName) throws SQLException {
+        UUID groupID = groupIDs.get(groupName);
+        if (groupID != null) {
+            Group group = groupService.find(context, groupID);
+            if (group != null && groupName.equals(group.getName())) {
+                return group;
+            }
+            groupIDs.remove(groupName);
+        }
+        Group group = groupService.findByName(context, groupName);
+        if (group != null) {
+            // Add ID so we won't have to do lookup again
+            groupIDs.put(groupName, group.getID());
+        }
+        return group;
+    }
+
     @Override
     public boolean areSpecialGroupsApplicable(Context context, HttpServletRequest request) {
         return true;
@@ -283,4 +273,20 @@ public class IPAuthentication implements AuthenticationMethod {
     public boolean canChangePassword(Context context, EPerson ePerson, String currentPassword) {
         return false;
     }
+
+    /**
+     * IP ranges compiled from a given configuration
+     */
+    private static class CompiledRanges {
+        private final Map<String, List<String>> configuration;
+        private final IPRangeLookup<String> ipLookup;
+        private final IPRangeLookup<String> ipNegativeLookup;
+
+        private CompiledRanges(Map<String, List<String>> configuration, IPRangeLookup<String> ipLookup,
+                               IPRangeLookup<String> ipNegativeLookup) {
+            this.configuration = configuration;
+            this.ipLookup = ipLookup;
+            this.ipNegativeLookup = ipNegativeLookup;
+        }
+    }
 }
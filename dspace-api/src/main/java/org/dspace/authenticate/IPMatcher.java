@@ -244,20 +244,17 @@ public class IPMatcher {
      */
     public boolean match(String ipIn) throws IPMatcherException {
         log.debug("ipIn: " + ipIn);
-        byte[] candidate;
-
-        if (ipIn.indexOf(':') < 0) {
-            candidate = new byte[4];
-            ipToBytes(ipIn, candidate, true);
-            candidate = ip4ToIp6(candidate);
-        } else {
-            try {
-                candidate = Inet6Address.getByName(ipIn).getAddress();
-            } catch (UnknownHostException e) {
-                throw new IPMatcherException("Malformed IPv6 address ", e);
-            }
-        }
+        return match(parseAddress(ipIn));
+    }
 
+    /**
+     * Determine whether the given address, as returned by {@link #parseAddress(String)}, falls within the range
+     * this {@code IPMatcher} was initialized with.
+     *
+     * @param candidate 16-byte IPv6 (or IPv4-compatible) address
+     * @return {@code true} if the address matches the range of this {@code IPMatcher}
+     */
+    boolean match(byte[] candidate) {
         for (int i = 0; i < netmask.length; i++) {
             if ((candidate[i] & netmask[i]) != (network[i] & netmask[i])) {
                 if (log.isDebugEnabled()) {
@@ -274,6 +271,72 @@ public class IPMatcher {
         return true;
     }
 
+    /**
+     * Parse a full IPv4 or IPv6 address into the 16-byte form the ranges are matched against (IPv4 addresses are
+     * converted to IPv4-compatible IPv6 addresses).
+     *
+     * @param ipIn IP address as dot-delimited (IPv4) or colon-delimited (IPv6) String
+     * @return the 16 bytes of the address
+     * @throws IPMatcherException if the IP cannot be parsed
+     */
+    static byte[] parseAddress(String ipIn) throws IPMatcherException {
+        if (ipIn.indexOf(':') < 0) {
+            byte[] candidate = new byte[4];
+            ipToBytes(ipIn, candidate, true);
+            return ip4ToIp6(candidate);
+        }
+        try {
+            return Inet6Address.getByName(ipIn).getAddress();
+        } catch (UnknownHostException e) {
+            throw new IPMatcherException("Malformed IPv6 address ", e);
+        }
+    }
+
+    /**
+     * Get the length of the prefix of the range, i.e. the number of leading 1 bits of the (16-byte) netmask.
+     *
+     * @return the prefix length (0-128), or -1 if the netmask isn't contiguous (e.g. {@code 255.0.255.0})
+     */
+    int getPrefixLength() {
+        int length = 0;
+        boolean inPrefix = true;
+        for (byte b : netmask) {
+            for (int bit = 7; bit >= 0; bit--) {
+                boolean set = (b >> bit & 1) == 1;
+                if (set && !inPrefix) {
+                    return -1;
+                }
+                if (set) {
+                    length++;
+                } else {
+                    inPrefix = false;
+                }
+            }
+        }
+        return length;
+    }
+
+    /**
+     * Test whether the given bit of the network of the range is set.
+     *
+     * @param index index of the bit in the 16-byte network, from the most significant one (0-127)
+     * @return {@code true} if the bit is set
+     */
+    boolean isNetworkBitSet(int index) {
+        return isBitSet(network, index);
+    }
+
+    /**
+     * Test whether the given bit of a 16-byte address is set.
+     *
+     * @param address the address
+     * @param index   index of the bit, from the most significant one (0-127)
+     * @return {@code true} if the bit is set
+     */
+    static boolean isBitSet(byte[] address, int index) {
+        return (address[index >> 3] >> (7 - (index & 7)) & 1) == 1;
+    }
+
     /**
      * Convert an IPv4 address to an IPv6 IPv4-compatible address.
      *
@@ -0,0 +1,117 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.authenticate;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Compiled lookup of the values (e.g. group names) associated with IP ranges. Ranges are stored in a binary trie
+ * over the 128 bits of the (IPv6 or IPv4-compatible) network of each {@link IPMatcher}, so finding all the ranges
+ * containing an address walks at most 128 nodes whatever the number of configured ranges. The rare ranges with a
+ * non-contiguous netmask can't be stored in the trie and are matched one by one.
+ * <p>
+ * A lookup is not modified once it has been filled, and can then be shared between threads.
+ *
+ * @param <T> type of the values associated with the ranges
+ */
+public class IPRangeLookup<T> {
+
+    private final Node<T> root = new Node<>();
+
+    /**
+     * Ranges with a non-contiguous netmask
+     */
+    private final List<Map.Entry<IPMatcher, T>> otherRanges = new ArrayList<>();
+
+    private boolean empty = true;
+
+    /**
+     * Associate a value with an IP range.
+     *
+     * @param matcher the IP range
+     * @param value   the value
+     */
+    public void add(IPMatcher matcher, T value) {
+        empty = false;
+        int prefixLength = matcher.getPrefixLength();
+        if (prefixLength < 0) {
+            otherRanges.add(new AbstractMap.SimpleImmutableEntry<>(matcher, value));
+            return;
+        }
+        Node<T> node = root;
+        for (int i = 0; i < prefixLength; i++) {
+            int bit = matcher.isNetworkBitSet(i) ? 1 : 0;
+            if (node.children[bit] == null) {
+                node.children[bit] = new Node<>();
+            }
+            node = node.children[bit];
+        }
+        node.values.add(value);
+    }
+
+    /**
+     * @return true if no range was added
+     */
+    public boolean isEmpty() {
+        return empty;
+    }
+
+    /**
+     * Find the values associated with all the ranges containing an IP address.
+     *
+     * @param ip full IPv4 or IPv6 address
+     * @return the values (a new, modifiable set), without duplicates
+     * @throws IPMatcherException if the IP cannot be parsed
+     */
+    public Set<T> lookup(String ip) throws IPMatcherException {
+        if (empty) {
+            return new LinkedHashSet<>();
+        }
+        return lookup(IPMatcher.parseAddress(ip));
+    }
+
+    /**
+     * Find the values associated with all the ranges containing an address.
+     *
+     * @param address 16-byte address, as returned by {@link IPMatcher#parseAddress(String)}
+     * @return the values, without duplicates
+     */
+    Set<T> lookup(byte[] address) {
+        Set<T> values = new LinkedHashSet<>();
+        Node<T> node = root;
+        int i = 0;
+        while (node != null) {
+            values.addAll(node.values);
+            if (i == 128) {
+                break;
+            }
+            node = node.children[IPMatcher.isBitSet(address, i++) ? 1 : 0];
+        }
+        for (Map.Entry<IPMatcher, T> range : otherRanges) {
+            if (range.getKey().match(address)) {
+                values.add(range.getValue());
+            }
+        }
+        return values;
+    }
+
+    private static class Node<T> {
+        @SuppressWarnings("unchecked")
+        private final Node<T>[] children = new Node[2];
+
+        /**
+         * Values of the ranges whose prefix ends at this node
+         */
+        private final List<T> values = new ArrayList<>(1);
+    }
+}
@@ -0,0 +1,116 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.authenticate;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Cache of the special groups resolved by the authentication methods, by client IP, authentication method and
+ * principal (the current user, if any). Entries expire after a given time to live, and the least recently used
+ * ones are evicted once the maximum number of entries is reached.
+ * <p>
+ * Only the IDs of the groups are kept, so the cached special groups can be used by any Context.
+ */
+public class SpecialGroupsCache {
+
+    /**
+     * Entries by key, in access order
+     */
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * Build the key of the special groups of an authentication method for a request.
+     *
+     * @param clientIp  the IP of the client
+     * @param method    the name of the authentication method
+     * @param principal the id of the current user, or null if anonymous
+     * @return the key
+     */
+    public static String getKey(String clientIp, String method, UUID principal) {
+        return clientIp + "|" + method + "|" + principal;
+    }
+
+    /**
+     * Get the cached special groups.
+     *
+     * @param key the key, from {@link #getKey(String, String, UUID)}
+     * @param now the current time in milliseconds
+     * @return the ids of the special groups, or null if they are not cached or have expired
+     */
+    public List<UUID> get(String key, long now) {
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.expires <= now) {
+                entries.remove(key);
+                return null;
+            }
+            return entry.groupIds;
+        }
+    }
+
+    /**
+     * Cache special groups.
+     *
+     * @param key        the key, from {@link #getKey(String, String, UUID)}
+     * @param groupIds   the ids of the special groups
+     * @param expires    the time in milliseconds after which the entry expires
+     * @param maxEntries the maximum number of cached entries
+     */
+    public void put(String key, List<UUID> groupIds, long expires, int maxEntries) {
+        synchronized (entries) {
+            entries.put(key, new Entry(List.copyOf(groupIds), expires));
+            while (entries.size() > maxEntries) {
+                entries.remove(entries.keySet().iterator().next());
+            }
+        }
+    }
+
+    /**
+     * Discard cached special groups (e.g. when one of the groups no longer exists)
+     *
+     * @param key the key, from {@link #getKey(String, String, UUID)}
+     */
+    public void invalidate(String key) {
+        synchronized (entries) {
+            entries.remove(key);
+        }
+    }
+
+    /**
+     * Discard all the cached special groups
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    /**
+     * @return the number of cached entries, including the expired ones not yet discarded
+     */
+    public int getSize() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private static class Entry {
+        private final List<UUID> groupIds;
+        private final long expires;
+
+        private Entry(List<UUID> groupIds, long expires) {
+            this.groupIds = groupIds;
+            this.expires = expires;
+        }
+    }
+}
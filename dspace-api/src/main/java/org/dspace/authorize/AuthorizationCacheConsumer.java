@@ -0,0 +1,133 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.authorize;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.dspace.content.Bitstream;
+import org.dspace.content.Bundle;
+import org.dspace.content.DSpaceObject;
+import org.dspace.content.Item;
+import org.dspace.core.Constants;
+import org.dspace.core.Context;
+import org.dspace.event.Consumer;
+import org.dspace.event.Event;
+import org.dspace.utils.DSpace;
+
+/**
+ * Consumer which invalidates the decisions of the {@link AuthorizationDecisionCache} which may be affected by the
+ * changes signalled by the events.
+ * <ul>
+ * <li>changes to items, bundles and bitstreams (including their policies) invalidate the decisions about the item,
+ * its bundles and bitstreams</li>
+ * <li>changes to groups, group memberships, deleted EPersons and changes to the community/collection hierarchy or to
+ * the policies of communities and collections invalidate all the decisions, as they may affect any object</li>
+ * </ul>
+ */
+public class AuthorizationCacheConsumer implements Consumer {
+
+    private static final Logger log = LogManager.getLogger(AuthorizationCacheConsumer.class);
+
+    private AuthorizationDecisionCache authorizationDecisionCache;
+
+    // When true all the decisions will be invalidated
+    private boolean invalidateAll = false;
+
+    // Objects whose decisions will be invalidated
+    private final Set<UUID> toInvalidate = new HashSet<>();
+
+    @Override
+    public void initialize() throws Exception {
+        authorizationDecisionCache = new DSpace().getSingletonService(AuthorizationDecisionCache.class);
+    }
+
+    @Override
+    public void consume(Context ctx, Event event) throws Exception {
+        if (invalidateAll || !authorizationDecisionCache.isEnabled()) {
+            return;
+        }
+        int st = event.getSubjectType();
+        int et = event.getEventType();
+        switch (st) {
+            case Constants.GROUP:
+                if (et == Event.ADD || et == Event.REMOVE || et == Event.DELETE) {
+                    invalidateAll = true;
+                }
+                break;
+            case Constants.EPERSON:
+                if (et == Event.DELETE) {
+                    invalidateAll = true;
+                }
+                break;
+            case Constants.COMMUNITY:
+            case Constants.COLLECTION:
+                if ((et == Event.ADD || et == Event.REMOVE) && event.getObjectType() == Constants.ITEM) {
+                    // an item was mapped to or unmapped from a collection
+                    toInvalidate.add(event.getObjectID());
+                    toInvalidate.add(event.getSubjectID());
+                } else if (et != Event.CREATE && et != Event.MODIFY_METADATA) {
+                    invalidateAll = true;
+                }
+                break;
+            case Constants.SITE:
+                invalidateAll = true;
+                break;
+            case Constants.ITEM:
+                toInvalidate.add(event.getSubjectID());
+                if (et != Event.DELETE) {
+                    addBundlesAndBitstreams(event.getSubject(ctx));
+                }
+                break;
+            case Constants.BUNDLE:
+            case Constants.BITSTREAM:
+                toInvalidate.add(event.getSubjectID());
+                if (event.getObjectID() != null) {
+                    toInvalidate.add(event.getObjectID());
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * The policies of bundles and bitstreams may be changed together with the policies of their item
+     */
+    private void addBundlesAndBitstreams(DSpaceObject subject) {
+        if (subject instanceof Item) {
+            for (Bundle bundle : ((Item) subject).getBundles()) {
+                toInvalidate.add(bundle.getID());
+                for (Bitstream bitstream : bundle.getBitstreams()) {
+                    toInvalidate.add(bitstream.getID());
+                }
+            }
+        }
+    }
+
+    @Override
+    public void end(Context ctx) throws Exception {
+        if (invalidateAll) {
+            log.debug("Invalidating all the cached authorization decisions");
+            authorizationDecisionCache.invalidateAll();
+        } else {
+            for (UUID id : toInvalidate) {
+                authorizationDecisionCache.invalidate(id);
+            }
+        }
+        invalidateAll = false;
+        toInvalidate.clear();
+    }
+
+    @Override
+    public void finish(Context ctx) throws Exception {
+    }
+}
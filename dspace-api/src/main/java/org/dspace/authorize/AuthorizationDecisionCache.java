@@ -0,0 +1,240 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.authorize;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.dspace.content.Bitstream;
+import org.dspace.content.Collection;
+import org.dspace.content.Community;
+import org.dspace.content.DSpaceObject;
+import org.dspace.content.Item;
+import org.dspace.core.Context;
+import org.dspace.eperson.EPerson;
+import org.dspace.services.ConfigurationService;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Cache of authorization decisions which is shared by all the contexts (and so spans requests), unlike the cache of
+ * the read-only {@link Context}. A decision is cached for a DSpace object, an action and a principal: the EPerson
+ * together with the special groups of the context.
+ * <p>
+ * Decisions are invalidated by the {@link AuthorizationCacheConsumer} when the objects or their policies change (per
+ * object), and when groups, group memberships or the community/collection hierarchy change (entirely). To make sure
+ * a decision computed from data which was about to be changed isn't cached after its invalidation (events are
+ * dispatched before the changes are committed), decisions computed shortly before or after an invalidation are not
+ * cached. Decisions based on policies with a start or end date are cached until the end of the day at most, and all
+ * decisions are cached for a limited time: this also bounds the staleness of changes made by other DSpace instances.
+ * <p>
+ * Only items, bitstreams, collections and communities are cached: changes to the policies of bundles are not
+ * signalled by events.
+ * <p>
+ * Configuration (dspace.cfg):
+ * <ul>
+ * <li>authorization.cache.enabled: whether the cache is used (default false)</li>
+ * <li>authorization.cache.max-objects: maximum number of objects with cached decisions (default 10000)</li>
+ * <li>authorization.cache.ttl: maximum time a decision is cached, in seconds (default 300)</li>
+ * </ul>
+ */
+public class AuthorizationDecisionCache {
+
+    /**
+     * Maximum number of principals with cached decisions for a single object
+     */
+    private static final int MAX_DECISIONS_PER_OBJECT = 256;
+
+    /**
+     * Decisions computed less than this number of milliseconds after an invalidation aren't cached
+     */
+    static final long QUIET_PERIOD = 10000;
+
+    @Autowired(required = true)
+    protected ConfigurationService configurationService;
+
+    /**
+     * Cached decisions by object, in access order
+     */
+    private final LinkedHashMap<UUID, Map<String, Decision>> decisions = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * Time of the last invalidation of the objects invalidated recently
+     */
+    private final Map<UUID, Long> invalidated = new ConcurrentHashMap<>();
+
+    private volatile long lastInvalidateAll = 0;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    protected AuthorizationDecisionCache() {
+    }
+
+    public boolean isEnabled() {
+        return configurationService.getBooleanProperty("authorization.cache.enabled", false);
+    }
+
+    /**
+     * @return true if decisions about the given object can be cached
+     */
+    public boolean isCacheable(DSpaceObject dso) {
+        return (dso instanceof Item || dso instanceof Bitstream || dso instanceof Collection
+            || dso instanceof Community) && isEnabled();
+    }
+
+    /**
+     * @return the current time, to be passed to {@link #put} once the decision has been computed
+     */
+    public long currentTime() {
+        return System.currentTimeMillis();
+    }
+
+    /**
+     * Get a cached decision.
+     *
+     * @param context        the current context (for its special groups)
+     * @param dso            the object
+     * @param action         the action
+     * @param eperson        the EPerson, null for anonymous
+     * @param useInheritance whether ADMIN rights on parent objects are taken into account
+     * @return the cached decision, or null if there is none
+     */
+    public Boolean get(Context context, DSpaceObject dso, int action, EPerson eperson, boolean useInheritance) {
+        Map<String, Decision> objectDecisions;
+        synchronized (decisions) {
+            objectDecisions = decisions.get(dso.getID());
+        }
+        Decision decision = objectDecisions == null ? null
+            : objectDecisions.get(getPrincipalKey(context, action, eperson, useInheritance));
+        if (decision == null || decision.expires < currentTime()) {
+            misses.incrementAndGet();
+            return null;
+        }
+        hits.incrementAndGet();
+        return decision.authorized;
+    }
+
+    /**
+     * Cache a decision.
+     *
+     * @param context        the current context (for its special groups)
+     * @param dso            the object
+     * @param action         the action
+     * @param eperson        the EPerson, null for anonymous
+     * @param useInheritance whether ADMIN rights on parent objects are taken into account
+     * @param authorized     the decision
+     * @param computedSince  the {@link #currentTime()} before computing the decision
+     * @param validUntil     when the decision may change by itself (due to the dates of policies), or null
+     */
+    public void put(Context context, DSpaceObject dso, int action, EPerson eperson, boolean useInheritance,
+                    boolean authorized, long computedSince, Instant validUntil) {
+        UUID id = dso.getID();
+        Long lastInvalidation = invalidated.get(id);
+        if (computedSince < lastInvalidateAll + QUIET_PERIOD
+            || (lastInvalidation != null && computedSince < lastInvalidation + QUIET_PERIOD)) {
+            return;
+        }
+        long expires = currentTime() + configurationService.getLongProperty("authorization.cache.ttl", 300) * 1000;
+        if (validUntil != null) {
+            expires = Math.min(expires, validUntil.toEpochMilli());
+        }
+
+        String key = getPrincipalKey(context, action, eperson, useInheritance);
+        int maxObjects = configurationService.getIntProperty("authorization.cache.max-objects", 10000);
+        synchronized (decisions) {
+            Map<String, Decision> objectDecisions = decisions.computeIfAbsent(id, k -> new ConcurrentHashMap<>());
+            if (objectDecisions.size() >= MAX_DECISIONS_PER_OBJECT) {
+                objectDecisions.clear();
+            }
+            objectDecisions.put(key, new Decision(authorized, expires));
+            while (decisions.size() > maxObjects) {
+                decisions.remove(decisions.keySet().iterator().next());
+            }
+        }
+    }
+
+    /**
+     * Discard the decisions about the given object
+     *
+     * @param id the id of the object
+     */
+    public void invalidate(UUID id) {
+        long now = currentTime();
+        if (invalidated.size() > 1000) {
+            invalidated.values().removeIf(time -> time + QUIET_PERIOD < now);
+        }
+        invalidated.put(id, now);
+        synchronized (decisions) {
+            decisions.remove(id);
+        }
+        invalidations.incrementAndGet();
+    }
+
+    /**
+     * Discard all the decisions
+     */
+    public void invalidateAll() {
+        lastInvalidateAll = currentTime();
+        synchronized (decisions) {
+            decisions.clear();
+        }
+        invalidated.clear();
+        invalidations.incrementAndGet();
+    }
+
+    private String getPrincipalKey(Context context, int action, EPerson eperson, boolean useInheritance) {
+        StringBuilder key = new StringBuilder();
+        key.append(action).append(useInheritance ? '+' : '-');
+        key.append(eperson == null ? "" : eperson.getID().toString());
+        Set<UUID> specialGroups = context.getSpecialGroupUuids();
+        if (!specialGroups.isEmpty()) {
+            for (UUID group : new TreeSet<>(specialGroups)) {
+                key.append(',').append(group);
+            }
+        }
+        return key.toString();
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public long getInvalidations() {
+        return invalidations.get();
+    }
+
+    /**
+     * @return the number of objects with cached decisions
+     */
+    public int getSize() {
+        synchronized (decisions) {
+            return decisions.size();
+        }
+    }
+
+    private static class Decision {
+        private final boolean authorized;
+        private final long expires;
+
+        Decision(boolean authorized, long expires) {
+            this.authorized = authorized;
+            this.expires = expires;
+        }
+    }
+}
@@ -13,9 +13,13 @@ import static org.dspace.discovery.SearchUtils.RESOURCE_TYPE_FIELD;
 
 import java.sql.SQLException;
 import java.time.LocalDate;
+import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import org.apache.commons.collections4.CollectionUtils;
@@ -79,6 +83,8 @@ public class AuthorizeServiceImpl implements AuthorizeService {
     @Autowired(required = true)
     protected ResourcePolicyService resourcePolicyService;
     @Autowired(required = true)
+    protected AuthorizationDecisionCache authorizationDecisionCache;
+    @Autowired(required = true)
     protected WorkspaceItemService workspaceItemService;
     @Autowired(required = true)
     protected WorkflowItemService workflowItemService;
@@ -247,22 +253,122 @@ public class AuthorizeServiceImpl implements AuthorizeService {
         }
 
         // If authorization was given before and cached
-        Boolean cachedResult = c.getCachedAuthorizationResult(o, action, e);
+        Boolean cachedResult = c.getCachedAuthorizationResult(o, action, e, useInheritance);
         if (cachedResult != null) {
             return cachedResult;
         }
 
-        // is eperson set? if not, userToCheck = null (anonymous)
-        EPerson userToCheck = null;
-        if (e != null) {
-            userToCheck = e;
+        // is eperson set? if not, it is anonymous
+        // perform immediately isAdmin check as this is cheap
+        if (e != null && isAdmin(c, e)) {
+            return true;
+        }
 
-            // perform immediately isAdmin check as this is cheap
-            if (isAdmin(c, e)) {
-                return true;
+        // If the decision was taken before, possibly in another request
+        Boolean sharedResult = getSharedCachedResult(c, o, action, e, useInheritance);
+        if (sharedResult != null) {
+            return sharedResult;
+        }
+
+        long computedSince = authorizationDecisionCache.currentTime();
+        return authorize(c, o, action, e, useInheritance, getPoliciesActionFilter(c, o, action), computedSince);
+    }
+
+    @Override
+    public Map<UUID, Boolean> authorizeActionBooleans(Context c, List<? extends DSpaceObject> dsos, int action)
+        throws SQLException {
+        return authorizeActionBooleans(c, dsos, List.of(action)).get(action);
+    }
+
+    @Override
+    public Map<Integer, Map<UUID, Boolean>> authorizeActionBooleans(Context c, List<? extends DSpaceObject> dsos,
+                                                                   List<Integer> actions) throws SQLException {
+        Map<Integer, Map<UUID, Boolean>> results = new HashMap<>();
+        EPerson e = c.getCurrentUser();
+        boolean allAuthorized = c.ignoreAuthorization() || (e != null && isAdmin(c, e));
+
+        // the objects whose decision isn't known yet for some of the actions, by id
+        Map<UUID, DSpaceObject> toCheck = new LinkedHashMap<>();
+        for (int action : actions) {
+            Map<UUID, Boolean> actionResults = new HashMap<>();
+            results.put(action, actionResults);
+            for (DSpaceObject o : dsos) {
+                if (o == null || actionResults.containsKey(o.getID())) {
+                    continue;
+                }
+                Boolean result = allAuthorized ? Boolean.TRUE : c.getCachedAuthorizationResult(o, action, e, true);
+                if (result == null) {
+                    result = getSharedCachedResult(c, o, action, e, true);
+                }
+                if (result != null) {
+                    actionResults.put(o.getID(), result);
+                } else {
+                    toCheck.put(o.getID(), o);
+                }
+            }
+        }
+        if (toCheck.isEmpty()) {
+            return results;
+        }
+
+        long computedSince = authorizationDecisionCache.currentTime();
+        // the policies of each object, by action
+        Map<UUID, Map<Integer, List<ResourcePolicy>>> policies = new HashMap<>();
+        for (ResourcePolicy rp : resourcePolicyService.find(c, toCheck.values(), actions)) {
+            policies.computeIfAbsent(rp.getdSpaceObject().getID(), id -> new HashMap<>())
+                    .computeIfAbsent(rp.getAction(), a -> new ArrayList<>())
+                    .add(rp);
+        }
+        for (int action : actions) {
+            Map<UUID, Boolean> actionResults = results.get(action);
+            for (DSpaceObject o : toCheck.values()) {
+                if (!actionResults.containsKey(o.getID())) {
+                    List<ResourcePolicy> objectPolicies = policies.getOrDefault(o.getID(), Map.of())
+                                                                  .getOrDefault(action, List.of());
+                    actionResults.put(o.getID(), authorize(c, o, action, e, true, objectPolicies, computedSince));
+                }
             }
         }
+        return results;
+    }
+
+    /**
+     * @return the decision cached in the {@link AuthorizationDecisionCache} (which is also cached in the context),
+     * or null if there is none
+     */
+    private Boolean getSharedCachedResult(Context c, DSpaceObject o, int action, EPerson e, boolean useInheritance) {
+        if (!authorizationDecisionCache.isCacheable(o)) {
+            return null;
+        }
+        Boolean sharedResult = authorizationDecisionCache.get(c, o, action, e, useInheritance);
+        if (sharedResult != null) {
+            c.cacheAuthorizedAction(o, action, e, useInheritance, sharedResult, null);
+        }
+        return sharedResult;
+    }
 
+    /**
+     * Check the given policies (granting the action on the object) for the user, and cache the decision in the
+     * {@link AuthorizationDecisionCache}.
+     */
+    private boolean authorize(Context c, DSpaceObject o, int action, EPerson e, boolean useInheritance,
+                              List<ResourcePolicy> policies, long computedSince) throws SQLException {
+        boolean sharedCache = authorizationDecisionCache.isCacheable(o);
+        LocalDate validUntil = sharedCache ? getNextDateChange(policies) : null;
+        boolean result = authorize(c, o, action, e, useInheritance, policies);
+        if (sharedCache) {
+            authorizationDecisionCache.put(c, o, action, e, useInheritance, result, computedSince,
+                validUntil != null ? validUntil.atStartOfDay(ZoneId.systemDefault()).toInstant() : null);
+        }
+        return result;
+    }
+
+    /**
+     * Check the given policies (granting the action on the object) for the user, see
+     * {@link #authorize(Context, DSpaceObject, int, EPerson, boolean)}.
+     */
+    private boolean authorize(Context c, DSpaceObject o, int action, EPerson e, boolean useInheritance,
+                              List<ResourcePolicy> policies) throws SQLException {
         // In case the dso is an bundle or bitstream we must ignore custom
         // policies if it does not belong to at least one installed item (see
         // DS-2614).
@@ -291,7 +397,7 @@ public class AuthorizeServiceImpl implements AuthorizeService {
             }
         }
 
-        for (ResourcePolicy rp : getPoliciesActionFilter(c, o, action)) {
+        for (ResourcePolicy rp : policies) {
 
             if (ignoreCustomPolicies
                 && ResourcePolicy.TYPE_CUSTOM.equals(rp.getRpType())) {
@@ -305,8 +411,8 @@ public class AuthorizeServiceImpl implements AuthorizeService {
 
             // check policies for date validity
             if (resourcePolicyService.isDateValid(rp)) {
-                if (rp.getEPerson() != null && rp.getEPerson().equals(userToCheck)) {
-                    c.cacheAuthorizedAction(o, action, e, true, rp);
+                if (rp.getEPerson() != null && rp.getEPerson().equals(e)) {
+                    c.cacheAuthorizedAction(o, action, e, useInheritance, true, rp);
                     return true; // match
                 }
 
@@ -314,7 +420,7 @@ public class AuthorizeServiceImpl implements AuthorizeService {
                     && groupService.isMember(c, e, rp.getGroup())) {
                     // group was set, and eperson is a member
                     // of that group
-                    c.cacheAuthorizedAction(o, action, e, true, rp);
+                    c.cacheAuthorizedAction(o, action, e, useInheritance, true, rp);
                     return true;
                 }
             }
@@ -332,15 +438,36 @@ public class AuthorizeServiceImpl implements AuthorizeService {
                                                                       .getAdminObject(c, o, action) : null;
 
             if (isAdmin(c, e, adminObject)) {
-                c.cacheAuthorizedAction(o, action, e, true, null);
+                c.cacheAuthorizedAction(o, action, e, useInheritance, true, null);
                 return true;
             }
         }
         // default authorization is denial
-        c.cacheAuthorizedAction(o, action, e, false, null);
+        c.cacheAuthorizedAction(o, action, e, useInheritance, false, null);
         return false;
     }
 
+    /**
+     * @return the first day after today on which one of the given policies becomes valid or invalid, or null if the
+     * validity of the policies doesn't change in the future
+     */
+    protected LocalDate getNextDateChange(List<ResourcePolicy> policies) {
+        LocalDate today = LocalDate.now();
+        LocalDate next = null;
+        for (ResourcePolicy rp : policies) {
+            LocalDate change = null;
+            if (rp.getStartDate() != null && rp.getStartDate().isAfter(today)) {
+                change = rp.getStartDate();
+            } else if (rp.getEndDate() != null && !rp.getEndDate().isBefore(today)) {
+                change = rp.getEndDate().plusDays(1);
+            }
+            if (change != null && (next == null || change.isBefore(next))) {
+                next = change;
+            }
+        }
+        return next;
+    }
+
     // check whether any bundle belongs to any item that passed submission
     // and workflow process
     protected boolean isAnyItemInstalled(Context ctx, List<Bundle> bundles)
@@ -887,11 +1014,16 @@ public class AuthorizeServiceImpl implements AuthorizeService {
             return false;
         }
 
+        Boolean cachedResult = context.getCachedAdminCheckResult(query, context.getCurrentUser());
+        if (cachedResult != null) {
+            return cachedResult;
+        }
+
         try {
             DiscoverResult discoverResult = getDiscoverResult(context, query, null, null, null, null);
-            if (discoverResult.getTotalSearchResults() > 0) {
-                return true;
-            }
+            boolean result = discoverResult.getTotalSearchResults() > 0;
+            context.cacheAdminCheckResult(query, context.getCurrentUser(), result);
+            return result;
         } catch (SearchServiceException e) {
             log.error("Failed getting community/collection admin status for "
                 + context.getCurrentUser().getEmail() + " The search error is: " + e.getMessage()
@@ -10,6 +10,7 @@ package org.dspace.authorize;
 import java.time.LocalDate;
 import java.util.Objects;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -29,13 +30,20 @@ import org.dspace.core.ReloadableEntity;
 import org.dspace.eperson.EPerson;
 import org.dspace.eperson.Group;
 import org.hibernate.Length;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 /**
- * Database entity representation of the ResourcePolicy table
+ * Database entity representation of the ResourcePolicy table.
+ * <p>
+ * Policies are kept in the second level cache with a read-write strategy, so that a policy updated or deleted by a
+ * transaction is never read from the cache by another one.
  *
  * @author kevinvandevelde at atmire.com
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "resourcepolicy")
 public class ResourcePolicy implements ReloadableEntity<Integer> {
     /** This policy was set on submission, to give the submitter access. */
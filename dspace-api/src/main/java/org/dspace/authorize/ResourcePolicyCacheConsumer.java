@@ -0,0 +1,89 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.authorize;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.dspace.authorize.dao.impl.ResourcePolicyDAOImpl;
+import org.dspace.core.Constants;
+import org.dspace.core.Context;
+import org.dspace.event.Consumer;
+import org.dspace.event.Event;
+import org.dspace.utils.DSpace;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+
+/**
+ * Consumer which evicts the resource policies from the second level cache when the events signal that policies may
+ * have changed. Hibernate already invalidates the cached policies changed through this instance; this consumer also
+ * covers the changes it doesn't track (e.g. policies removed together with their group or object).
+ * <ul>
+ * <li>changes to items, bitstreams, collections and communities (including their policies) evict the cached lookups
+ * of the policies by object and action</li>
+ * <li>deleted groups and EPersons evict all the cached policies and lookups</li>
+ * </ul>
+ * Changes made by other DSpace instances are not signalled: the cache regions expire after a bounded time instead
+ * (see hibernate-ehcache-config.xml).
+ */
+public class ResourcePolicyCacheConsumer implements Consumer {
+
+    private static final Logger log = LogManager.getLogger(ResourcePolicyCacheConsumer.class);
+
+    Cache cache;
+
+    // When true the cached lookups will be evicted
+    private boolean evictLookups = false;
+
+    // When true the cached policies will be evicted too
+    private boolean evictAll = false;
+
+    @Override
+    public void initialize() throws Exception {
+        cache = new DSpace().getServiceManager().getServiceByName("sessionFactory", SessionFactory.class).getCache();
+    }
+
+    @Override
+    public void consume(Context ctx, Event event) throws Exception {
+        int et = event.getEventType();
+        switch (event.getSubjectType()) {
+            case Constants.GROUP:
+            case Constants.EPERSON:
+                if (et == Event.DELETE) {
+                    evictAll = true;
+                }
+                break;
+            case Constants.ITEM:
+            case Constants.BITSTREAM:
+            case Constants.COLLECTION:
+            case Constants.COMMUNITY:
+                if (et != Event.CREATE && et != Event.MODIFY_METADATA) {
+                    evictLookups = true;
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    @Override
+    public void end(Context ctx) throws Exception {
+        if (evictAll) {
+            log.debug("Evicting all the cached resource policies");
+            cache.evictEntityData(ResourcePolicy.class);
+        }
+        if (evictAll || evictLookups) {
+            cache.evictQueryRegion(ResourcePolicyDAOImpl.DSO_AND_ACTION_CACHE_REGION);
+        }
+        evictAll = false;
+        evictLookups = false;
+    }
+
+    @Override
+    public void finish(Context ctx) throws Exception {
+    }
+}
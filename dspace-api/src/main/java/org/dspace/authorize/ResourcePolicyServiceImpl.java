@@ -9,6 +9,8 @@ package org.dspace.authorize;
 
 import java.sql.SQLException;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
@@ -115,6 +117,18 @@ public class ResourcePolicyServiceImpl implements ResourcePolicyService {
         return resourcePolicyDAO.findByDSoAndAction(c, o, actionId);
     }
 
+    @Override
+    public List<ResourcePolicy> find(Context c, Collection<? extends DSpaceObject> dsos, int actionId)
+        throws SQLException {
+        return resourcePolicyDAO.findByDSosAndAction(c, dsos, actionId);
+    }
+
+    @Override
+    public List<ResourcePolicy> find(Context c, Collection<? extends DSpaceObject> dsos,
+                                     Collection<Integer> actionIds) throws SQLException {
+        return resourcePolicyDAO.findByDSosAndActions(c, dsos, actionIds);
+    }
+
     @Override
     public List<ResourcePolicy> find(Context c, DSpaceObject dso, Group group, int action) throws SQLException {
         return resourcePolicyDAO.findByTypeGroupAction(c, dso, group, action);
@@ -251,6 +265,48 @@ public class ResourcePolicyServiceImpl implements ResourcePolicyService {
         c.restoreAuthSystemState();
     }
 
+    @Override
+    public void inheritDefaultReadPolicies(Context context, List<UUID> itemIds,
+                                           List<ResourcePolicy> defaultItemReadPolicies,
+                                           List<ResourcePolicy> defaultBitstreamReadPolicies) throws SQLException {
+        if (itemIds.isEmpty()) {
+            return;
+        }
+        List<ResourcePolicy> itemReadPolicies = distinctByGroup(defaultItemReadPolicies);
+        List<ResourcePolicy> bitstreamReadPolicies = distinctByGroup(defaultBitstreamReadPolicies);
+
+        // the items first, so that only their remaining custom policies are copied to their content
+        resourcePolicyDAO.deleteReplaceableReadPoliciesOfItems(context, Constants.ITEM, itemIds);
+        resourcePolicyDAO.insertInheritedReadPoliciesOfItems(context, Constants.ITEM, itemIds, itemReadPolicies);
+
+        resourcePolicyDAO.deleteReplaceableReadPoliciesOfItems(context, Constants.BUNDLE, itemIds);
+        resourcePolicyDAO.copyCustomPoliciesOfItems(context, Constants.BUNDLE, itemIds);
+        resourcePolicyDAO.insertInheritedReadPoliciesOfItems(context, Constants.BUNDLE, itemIds, itemReadPolicies);
+
+        resourcePolicyDAO.deleteReplaceableReadPoliciesOfItems(context, Constants.BITSTREAM, itemIds);
+        resourcePolicyDAO.copyCustomPoliciesOfItems(context, Constants.BITSTREAM, itemIds);
+        resourcePolicyDAO.insertInheritedReadPoliciesOfItems(context, Constants.BITSTREAM, itemIds,
+                                                             bitstreamReadPolicies);
+
+        // the statements bypass the session, whose loaded policies are now stale
+        resourcePolicyDAO.refreshLoadedPoliciesOfItems(context, itemIds);
+    }
+
+    /**
+     * Keep only the first of the policies of a same group, as a policy isn't inherited when a READ policy of its
+     * group is already in place. Policies without group are all kept.
+     */
+    private List<ResourcePolicy> distinctByGroup(List<ResourcePolicy> policies) {
+        List<ResourcePolicy> distinct = new ArrayList<>(policies.size());
+        Set<UUID> groups = new HashSet<>();
+        for (ResourcePolicy policy : policies) {
+            if (policy.getGroup() == null || groups.add(policy.getGroup().getID())) {
+                distinct.add(policy);
+            }
+        }
+        return distinct;
+    }
+
     @Override
     public void removeDsoGroupPolicies(Context context, DSpaceObject dso, Group group)
         throws SQLException, AuthorizeException {
@@ -8,6 +8,7 @@
 package org.dspace.authorize.dao;
 
 import java.sql.SQLException;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -39,6 +40,32 @@ public interface ResourcePolicyDAO extends GenericDAO<ResourcePolicy> {
 
     public List<ResourcePolicy> findByDSoAndAction(Context context, DSpaceObject dso, int actionId) throws SQLException;
 
+    /**
+     * Return the policies of the given objects for the given action, with a single query (or one query per
+     * 1000 objects)
+     *
+     * @param context  context
+     * @param dsos     DSpaceObjects the policies relate to
+     * @param actionId action (defined in class Constants)
+     * @return list of resource policies of all the objects
+     * @throws SQLException if there's a database problem
+     */
+    public List<ResourcePolicy> findByDSosAndAction(Context context, Collection<? extends DSpaceObject> dsos,
+                                                    int actionId) throws SQLException;
+
+    /**
+     * Return the policies of the given objects for any of the given actions, with a single query (or one query per
+     * 1000 objects)
+     *
+     * @param context   context
+     * @param dsos      DSpaceObjects the policies relate to
+     * @param actionIds actions (defined in class Constants)
+     * @return list of resource policies of all the objects
+     * @throws SQLException if there's a database problem
+     */
+    public List<ResourcePolicy> findByDSosAndActions(Context context, Collection<? extends DSpaceObject> dsos,
+                                                     Collection<Integer> actionIds) throws SQLException;
+
     public void deleteByDsoAndTypeAndAction(Context context, DSpaceObject dSpaceObject, String type, int action)
         throws SQLException;
 
@@ -240,6 +267,59 @@ public interface ResourcePolicyDAO extends GenericDAO<ResourcePolicy> {
      */
     public int countByGroupAndResourceUuid(Context context, Group group, UUID resourceUuid) throws SQLException;
 
+    /**
+     * Delete, with a single statement, the READ policies and the submission and workflow policies of the given
+     * items, or of all their bundles or bitstreams.
+     *
+     * @param context     DSpace context object
+     * @param targetType  type of the objects whose policies are deleted: {@link org.dspace.core.Constants#ITEM},
+     *                    {@link org.dspace.core.Constants#BUNDLE} or {@link org.dspace.core.Constants#BITSTREAM}
+     * @param itemIds     the uuids of the items
+     * @return            number of deleted policies
+     * @throws SQLException  if database error
+     */
+    public int deleteReplaceableReadPoliciesOfItems(Context context, int targetType, List<UUID> itemIds)
+        throws SQLException;
+
+    /**
+     * Copy, with a single statement, the custom policies of the given items to all their bundles or bitstreams
+     * which don't have any custom policy yet.
+     *
+     * @param context     DSpace context object
+     * @param targetType  type of the objects receiving the policies: {@link org.dspace.core.Constants#BUNDLE} or
+     *                    {@link org.dspace.core.Constants#BITSTREAM}
+     * @param itemIds     the uuids of the items
+     * @return            number of created policies
+     * @throws SQLException  if database error
+     */
+    public int copyCustomPoliciesOfItems(Context context, int targetType, List<UUID> itemIds) throws SQLException;
+
+    /**
+     * Clone, with a single statement, the given default policies of a collection as inherited READ policies of the
+     * given items, or of all their bundles or bitstreams. A policy isn't added to an object which already has a READ
+     * policy for the same group, or a custom READ policy.
+     *
+     * @param context          DSpace context object
+     * @param targetType       type of the objects receiving the policies: {@link org.dspace.core.Constants#ITEM},
+     *                         {@link org.dspace.core.Constants#BUNDLE} or {@link org.dspace.core.Constants#BITSTREAM}
+     * @param itemIds          the uuids of the items
+     * @param defaultPolicies  the default policies of the collection to clone
+     * @return                 number of created policies
+     * @throws SQLException  if database error
+     */
+    public int insertInheritedReadPoliciesOfItems(Context context, int targetType, List<UUID> itemIds,
+                                                  List<ResourcePolicy> defaultPolicies) throws SQLException;
+
+    /**
+     * Reload the policies of the given items, and of their bundles and bitstreams, which are already loaded in the
+     * session, as the statements above change the database without updating them.
+     *
+     * @param context  DSpace context object
+     * @param itemIds  the uuids of the items
+     * @throws SQLException  if database error
+     */
+    public void refreshLoadedPoliciesOfItems(Context context, List<UUID> itemIds) throws SQLException;
+
     public ResourcePolicy findOneById(Context context, Integer id) throws SQLException;
 
 
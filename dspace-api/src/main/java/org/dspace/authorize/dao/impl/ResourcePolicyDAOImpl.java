@@ -8,9 +8,14 @@
 package org.dspace.authorize.dao.impl;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 import jakarta.persistence.Query;
@@ -21,15 +26,26 @@ import jakarta.persistence.criteria.Order;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
 import org.apache.commons.collections.CollectionUtils;
+import org.apache.commons.collections4.ListUtils;
 import org.dspace.authorize.ResourcePolicy;
 import org.dspace.authorize.ResourcePolicy_;
 import org.dspace.authorize.dao.ResourcePolicyDAO;
+import org.dspace.content.Bitstream;
+import org.dspace.content.Bundle;
 import org.dspace.content.DSpaceObject;
 import org.dspace.content.DSpaceObject_;
+import org.dspace.content.Item;
 import org.dspace.core.AbstractHibernateDAO;
+import org.dspace.core.Constants;
 import org.dspace.core.Context;
 import org.dspace.eperson.EPerson;
 import org.dspace.eperson.Group;
+import org.hibernate.Hibernate;
+import org.hibernate.Session;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.query.NativeQuery;
 
 /**
  * Hibernate implementation of the Database Access Object interface class for the ResourcePolicy object.
@@ -40,6 +56,17 @@ import org.dspace.eperson.Group;
  */
 public class ResourcePolicyDAOImpl extends AbstractHibernateDAO<ResourcePolicy> implements ResourcePolicyDAO {
 
+    /**
+     * Query cache region of the lookups of the policies by object and action
+     */
+    public static final String DSO_AND_ACTION_CACHE_REGION = "org.dspace.authorize.ResourcePolicy.byDsoAndAction";
+
+    /**
+     * Columns of the resourcepolicy table, as set by the statements creating policies
+     */
+    private static final String POLICY_COLUMNS = "policy_id, resource_type_id, dspace_object, action_id, eperson_id, "
+        + "epersongroup_id, start_date, end_date, rpname, rptype, rpdescription";
+
     protected ResourcePolicyDAOImpl() {
         super();
     }
@@ -103,7 +130,37 @@ public class ResourcePolicyDAOImpl extends AbstractHibernateDAO<ResourcePolicy>
                                        criteriaBuilder.equal(resourcePolicyRoot.get(ResourcePolicy_.actionId), actionId)
                    )
         );
-        return list(context, criteriaQuery, false, ResourcePolicy.class, -1, -1);
+        // the most frequent lookup (for every authorization check), its results are invalidated by Hibernate
+        // whenever the resourcepolicy table is changed
+        Query query = getHibernateSession(context).createQuery(criteriaQuery);
+        query.setHint("org.hibernate.cacheable", Boolean.TRUE);
+        query.setHint("org.hibernate.cacheRegion", DSO_AND_ACTION_CACHE_REGION);
+        return query.getResultList();
+    }
+
+    @Override
+    public List<ResourcePolicy> findByDSosAndAction(Context context, Collection<? extends DSpaceObject> dsos,
+                                                    int actionId) throws SQLException {
+        return findByDSosAndActions(context, dsos, List.of(actionId));
+    }
+
+    @Override
+    public List<ResourcePolicy> findByDSosAndActions(Context context, Collection<? extends DSpaceObject> dsos,
+                                                     Collection<Integer> actionIds) throws SQLException {
+        List<ResourcePolicy> policies = new ArrayList<>();
+        for (List<? extends DSpaceObject> partition : ListUtils.partition(new ArrayList<>(dsos), 1000)) {
+            CriteriaBuilder criteriaBuilder = getCriteriaBuilder(context);
+            CriteriaQuery criteriaQuery = getCriteriaQuery(criteriaBuilder, ResourcePolicy.class);
+            Root<ResourcePolicy> resourcePolicyRoot = criteriaQuery.from(ResourcePolicy.class);
+            criteriaQuery.select(resourcePolicyRoot);
+            criteriaQuery.where(
+                criteriaBuilder.and(resourcePolicyRoot.get(ResourcePolicy_.dSpaceObject).in(partition),
+                                    resourcePolicyRoot.get(ResourcePolicy_.actionId).in(actionIds)
+                )
+            );
+            policies.addAll(list(context, criteriaQuery, false, ResourcePolicy.class, -1, -1));
+        }
+        return policies;
     }
 
     @Override
@@ -411,6 +468,139 @@ public class ResourcePolicyDAOImpl extends AbstractHibernateDAO<ResourcePolicy>
         return count(query);
     }
 
+    @Override
+    public int deleteReplaceableReadPoliciesOfItems(Context context, int targetType, List<UUID> itemIds)
+        throws SQLException {
+        NativeQuery<?> query = createNativePolicyQuery(context,
+            "DELETE FROM resourcepolicy WHERE dspace_object IN (SELECT t.target_id FROM ("
+                + getTargetsOfItemsQuery(targetType) + ") t) "
+                + "AND (action_id = :read OR rptype IN (:rptypes))");
+        query.setParameter("items", itemIds);
+        query.setParameter("read", Constants.READ);
+        query.setParameter("rptypes", List.of(ResourcePolicy.TYPE_SUBMISSION, ResourcePolicy.TYPE_WORKFLOW));
+        return query.executeUpdate();
+    }
+
+    @Override
+    public int copyCustomPoliciesOfItems(Context context, int targetType, List<UUID> itemIds) throws SQLException {
+        if (targetType == Constants.ITEM) {
+            throw new IllegalArgumentException("The custom policies of items can only be copied to their bundles "
+                                                   + "or bitstreams");
+        }
+        NativeQuery<?> query = createNativePolicyQuery(context,
+            "INSERT INTO resourcepolicy (" + POLICY_COLUMNS + ") "
+                + "SELECT nextval('resourcepolicy_seq'), :targetType, t.target_id, p.action_id, p.eperson_id, "
+                + "p.epersongroup_id, p.start_date, p.end_date, p.rpname, p.rptype, p.rpdescription "
+                + "FROM (" + getTargetsOfItemsQuery(targetType) + ") t "
+                + "JOIN resourcepolicy p ON p.dspace_object = t.item_id "
+                + "WHERE p.rptype = :custom AND NOT EXISTS (SELECT 1 FROM resourcepolicy c "
+                + "WHERE c.dspace_object = t.target_id AND c.rptype = :custom)");
+        query.setParameter("items", itemIds);
+        query.setParameter("targetType", targetType);
+        query.setParameter("custom", ResourcePolicy.TYPE_CUSTOM);
+        return query.executeUpdate();
+    }
+
+    @Override
+    public int insertInheritedReadPoliciesOfItems(Context context, int targetType, List<UUID> itemIds,
+                                                  List<ResourcePolicy> defaultPolicies) throws SQLException {
+        if (defaultPolicies.isEmpty()) {
+            return 0;
+        }
+        List<Integer> defaultPolicyIds = new ArrayList<>(defaultPolicies.size());
+        for (ResourcePolicy defaultPolicy : defaultPolicies) {
+            defaultPolicyIds.add(defaultPolicy.getID());
+        }
+        NativeQuery<?> query = createNativePolicyQuery(context,
+            "INSERT INTO resourcepolicy (" + POLICY_COLUMNS + ") "
+                + "SELECT nextval('resourcepolicy_seq'), :targetType, t.target_id, :read, d.eperson_id, "
+                + "d.epersongroup_id, d.start_date, d.end_date, NULL, :inherited, d.rpdescription "
+                + "FROM (" + getTargetsOfItemsQuery(targetType) + ") t "
+                + "CROSS JOIN resourcepolicy d "
+                + "WHERE d.policy_id IN (:defaults) AND NOT EXISTS (SELECT 1 FROM resourcepolicy p "
+                + "WHERE p.dspace_object = t.target_id AND p.action_id = :read "
+                + "AND (p.epersongroup_id = d.epersongroup_id OR p.rptype = :custom))");
+        query.setParameter("items", itemIds);
+        query.setParameter("targetType", targetType);
+        query.setParameter("read", Constants.READ);
+        query.setParameter("inherited", ResourcePolicy.TYPE_INHERITED);
+        query.setParameter("custom", ResourcePolicy.TYPE_CUSTOM);
+        query.setParameter("defaults", defaultPolicyIds);
+        return query.executeUpdate();
+    }
+
+    @Override
+    public void refreshLoadedPoliciesOfItems(Context context, List<UUID> itemIds) throws SQLException {
+        Session session = getHibernateSession(context);
+        Set<UUID> items = new HashSet<>(itemIds);
+        List<DSpaceObject> owners = new ArrayList<>();
+        PersistenceContext persistenceContext = session.unwrap(SessionImplementor.class)
+                                                       .getPersistenceContextInternal();
+        for (Map.Entry<Object, EntityEntry> entry : persistenceContext.reentrantSafeEntityEntries()) {
+            if (entry.getKey() instanceof DSpaceObject dso && Hibernate.isInitialized(dso.getResourcePolicies())
+                && belongsToItems(dso, items)) {
+                owners.add(dso);
+            }
+        }
+        for (DSpaceObject owner : owners) {
+            List<ResourcePolicy> policies = owner.getResourcePolicies();
+            for (ResourcePolicy policy : policies) {
+                session.evict(policy);
+            }
+            policies.clear();
+            policies.addAll(findByDso(context, owner));
+        }
+    }
+
+    /**
+     * Check whether the given object is one of the items, or one of their bundles or bitstreams.
+     */
+    private boolean belongsToItems(DSpaceObject dso, Set<UUID> items) throws SQLException {
+        if (dso instanceof Item) {
+            return items.contains(dso.getID());
+        }
+        if (dso instanceof Bundle bundle) {
+            return bundle.getItems().stream().anyMatch(item -> items.contains(item.getID()));
+        }
+        if (dso instanceof Bitstream bitstream) {
+            for (Bundle bundle : bitstream.getBundles()) {
+                if (belongsToItems(bundle, items)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Create a native statement on the resourcepolicy table. The statement is synchronized with the ResourcePolicy
+     * entity only, so that executing it doesn't evict the second level cache of the other entities.
+     */
+    private NativeQuery<?> createNativePolicyQuery(Context context, String sql) throws SQLException {
+        NativeQuery<?> query = getHibernateSession(context).createNativeQuery(sql);
+        query.addSynchronizedEntityClass(ResourcePolicy.class);
+        return query;
+    }
+
+    /**
+     * Build the query returning the objects of the given type (column target_id) belonging to the items passed as
+     * the "items" parameter (column item_id).
+     */
+    private String getTargetsOfItemsQuery(int targetType) {
+        switch (targetType) {
+            case Constants.ITEM:
+                return "SELECT i.uuid AS item_id, i.uuid AS target_id FROM item i WHERE i.uuid IN (:items)";
+            case Constants.BUNDLE:
+                return "SELECT i2b.item_id AS item_id, i2b.bundle_id AS target_id FROM item2bundle i2b "
+                    + "WHERE i2b.item_id IN (:items)";
+            case Constants.BITSTREAM:
+                return "SELECT i2b.item_id AS item_id, b2b.bitstream_id AS target_id FROM item2bundle i2b "
+                    + "JOIN bundle2bitstream b2b ON b2b.bundle_id = i2b.bundle_id WHERE i2b.item_id IN (:items)";
+            default:
+                throw new IllegalArgumentException("Unsupported object type: " + targetType);
+        }
+    }
+
     @Override
     public ResourcePolicy findOneById(Context context, Integer id) throws SQLException {
         CriteriaBuilder criteriaBuilder = getCriteriaBuilder(context);
@@ -10,6 +10,8 @@ package org.dspace.authorize.service;
 import java.sql.SQLException;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
 import org.dspace.authorize.AuthorizeException;
 import org.dspace.authorize.ResourcePolicy;
@@ -151,6 +153,36 @@ public interface AuthorizeService {
     public boolean authorizeActionBoolean(Context c, EPerson e, DSpaceObject o, int a, boolean useInheritance)
         throws SQLException;
 
+    /**
+     * same as {@link #authorizeActionBoolean(Context, DSpaceObject, int)} for a list of objects: the policies of all
+     * the objects are loaded together, instead of one query per object. The decisions are cached like the ones of
+     * the other authorize methods.
+     *
+     * @param c    DSpace context, containing current user
+     * @param dsos DSpaceObjects
+     * @param a    action being attempted, from
+     *             <code>org.dspace.core.Constants</code>
+     * @return for the id of each object, {@code true} if the current user in the context is authorized to perform
+     * the given action on the object
+     * @throws SQLException An exception that provides information on a database access error or other errors.
+     */
+    public Map<UUID, Boolean> authorizeActionBooleans(Context c, List<? extends DSpaceObject> dsos, int a)
+        throws SQLException;
+
+    /**
+     * same as {@link #authorizeActionBooleans(Context, List, int)} for several actions: the policies of all the
+     * objects for all the actions are loaded together.
+     *
+     * @param c       DSpace context, containing current user
+     * @param dsos    DSpaceObjects
+     * @param actions actions being attempted, from
+     *                <code>org.dspace.core.Constants</code>
+     * @return for each action, the decision for the id of each object
+     * @throws SQLException An exception that provides information on a database access error or other errors.
+     */
+    public Map<Integer, Map<UUID, Boolean>> authorizeActionBooleans(Context c, List<? extends DSpaceObject> dsos,
+                                                                   List<Integer> actions) throws SQLException;
+
     ///////////////////////////////////////////////
     // admin check methods
     ///////////////////////////////////////////////
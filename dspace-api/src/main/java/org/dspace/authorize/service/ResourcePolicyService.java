@@ -8,6 +8,7 @@
 package org.dspace.authorize.service;
 
 import java.sql.SQLException;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -61,6 +62,30 @@ public interface ResourcePolicyService {
 
     public List<ResourcePolicy> find(Context c, DSpaceObject o, int actionId) throws SQLException;
 
+    /**
+     * Return the policies of the given objects for the given action, loaded together
+     *
+     * @param c        context
+     * @param dsos     DSpaceObjects the policies relate to
+     * @param actionId action (defined in class Constants)
+     * @return list of resource policies of all the objects
+     * @throws SQLException if there's a database problem
+     */
+    public List<ResourcePolicy> find(Context c, Collection<? extends DSpaceObject> dsos, int actionId)
+        throws SQLException;
+
+    /**
+     * Return the policies of the given objects for any of the given actions, loaded together
+     *
+     * @param c         context
+     * @param dsos      DSpaceObjects the policies relate to
+     * @param actionIds actions (defined in class Constants)
+     * @return list of resource policies of all the objects
+     * @throws SQLException if there's a database problem
+     */
+    public List<ResourcePolicy> find(Context c, Collection<? extends DSpaceObject> dsos,
+                                     Collection<Integer> actionIds) throws SQLException;
+
     public List<ResourcePolicy> find(Context c, DSpaceObject dso, Group group, int action) throws SQLException;
 
     public List<ResourcePolicy> find(Context context, Group group) throws SQLException;
@@ -143,6 +168,27 @@ public interface ResourcePolicyService {
     public void removeDsoAndTypeNotEqualsToPolicies(Context c, DSpaceObject o, String type)
         throws SQLException, AuthorizeException;
 
+    /**
+     * Replace, with a few set-based statements, the READ policies of the given items and of all their bundles and
+     * bitstreams with the given default READ policies of their collection. This has the same effect as
+     * {@link org.dspace.content.service.ItemService#inheritCollectionDefaultPolicies(Context,
+     * org.dspace.content.Item, org.dspace.content.Collection)} on each item, when the READ policies are replaced:
+     * the READ, submission and workflow policies are removed, the custom policies of each item are copied to its
+     * bundles and bitstreams without custom policies, and the default policies are added as inherited READ
+     * policies. The policies aren't loaded in the session, nor the items and their content.
+     *
+     * @param context                       DSpace context object
+     * @param itemIds                       the uuids of the items
+     * @param defaultItemReadPolicies       the DEFAULT_ITEM_READ policies of the collection, inherited by the
+     *                                      items and bundles
+     * @param defaultBitstreamReadPolicies  the DEFAULT_BITSTREAM_READ policies of the collection, inherited by the
+     *                                      bitstreams
+     * @throws SQLException if there's a database problem
+     */
+    public void inheritDefaultReadPolicies(Context context, List<UUID> itemIds,
+                                           List<ResourcePolicy> defaultItemReadPolicies,
+                                           List<ResourcePolicy> defaultBitstreamReadPolicies) throws SQLException;
+
     /**
      * Return a list of policies for an object that match the action except the record labeled with the rpType
      *
@@ -8,6 +8,8 @@
 package org.dspace.checker;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.dspace.content.Bitstream;
 
@@ -49,4 +51,21 @@ public interface BitstreamDispatcher {
      * @throws SQLException if database error
      */
     public Bitstream next() throws SQLException;
+
+    /**
+     * Returns a batch of distinct bitstreams for checking, which can be checked concurrently. The next batch must
+     * only be requested once the results of the previous batch have been recorded.
+     *
+     * @param max the maximum number of bitstreams to return
+     * @return the next bitstreams, or an empty list if there are no more to check
+     * @throws SQLException if database error
+     */
+    public default List<Bitstream> next(int max) throws SQLException {
+        List<Bitstream> bitstreams = new ArrayList<>(max);
+        Bitstream bitstream;
+        while (bitstreams.size() < max && (bitstream = next()) != null) {
+            bitstreams.add(bitstream);
+        }
+        return bitstreams;
+    }
 }
@@ -9,8 +9,17 @@ package org.dspace.checker;
 
 import java.io.IOException;
 import java.sql.SQLException;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.apache.commons.collections4.MapUtils;
 import org.apache.logging.log4j.Logger;
@@ -20,6 +29,7 @@ import org.dspace.checker.service.ChecksumResultService;
 import org.dspace.checker.service.MostRecentChecksumService;
 import org.dspace.content.Bitstream;
 import org.dspace.core.Context;
+import org.dspace.storage.bitstore.BandwidthThrottle;
 import org.dspace.storage.bitstore.factory.StorageServiceFactory;
 import org.dspace.storage.bitstore.service.BitstreamStorageService;
 
@@ -78,6 +88,28 @@ public final class CheckerCommand {
      */
     private boolean reportVerbose = false;
 
+    /**
+     * Number of bitstreams which are checked concurrently. With a single thread, the bitstreams are checked one by
+     * one in the calling thread.
+     */
+    private int threads = 1;
+
+    /**
+     * Number of bitstreams requested from the dispatcher at once when checking concurrently. The results of a batch
+     * are committed together.
+     */
+    private int batchSize = 100;
+
+    /**
+     * Maximum number of bytes read per second from each asset store, 0 for unlimited
+     */
+    private long maxBytesPerSecond = 0;
+
+    /**
+     * Throttles of the asset stores (by store number), when the throughput is limited
+     */
+    private final Map<Integer, BandwidthThrottle> throttles = new ConcurrentHashMap<>();
+
     /**
      * Default constructor uses DSpace plugin manager to construct dependencies.
      *
@@ -120,6 +152,11 @@ public final class CheckerCommand {
         // bitstream table - this always done.
         checksumService.updateMissingBitstreams(context);
 
+        if (threads > 1) {
+            processConcurrently();
+            return;
+        }
+
         Bitstream bitstream = dispatcher.next();
 
         while (bitstream != null) {
@@ -136,6 +173,92 @@ public final class CheckerCommand {
         }
     }
 
+    /**
+     * Check the bitstreams of the dispatcher in batches, computing the checksums of a batch with a pool of worker
+     * threads. The checksums are computed by the workers only: the results are recorded (and committed, once per
+     * batch) in the calling thread, which owns the context.
+     *
+     * @throws SQLException if database error
+     */
+    protected void processConcurrently() throws SQLException {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        Instant start = Instant.now();
+        long checkedCount = 0;
+        long checkedBytes = 0;
+        try {
+            List<Bitstream> batch = dispatcher.next(batchSize);
+            while (!batch.isEmpty()) {
+                List<MostRecentChecksum> results = new ArrayList<>(batch.size());
+                Map<MostRecentChecksum, Future<Map<String, Object>>> computations = new LinkedHashMap<>();
+                for (Bitstream bitstream : batch) {
+                    LOG.debug("Processing bitstream id = " + bitstream.getID());
+                    MostRecentChecksum info = checksumService.findByBitstream(context, bitstream);
+                    if (info != null && info.isToBeProcessed() && !info.getBitstream().isDeleted()) {
+                        info.setProcessStartDate(Instant.now());
+                        computations.put(info, executor.submit(() -> computeChecksum(info.getBitstream())));
+                        checkedBytes += bitstream.getSizeBytes();
+                    } else {
+                        results.add(checkBitstream(bitstream));
+                    }
+                }
+
+                for (Map.Entry<MostRecentChecksum, Future<Map<String, Object>>> computation
+                    : computations.entrySet()) {
+                    MostRecentChecksum info = computation.getKey();
+                    Map<String, Object> checksumMap = null;
+                    Exception error = null;
+                    try {
+                        checksumMap = computation.getValue().get();
+                    } catch (ExecutionException e) {
+                        error = e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new IllegalStateException("Checksum checker interrupted", e);
+                    }
+                    recordChecksum(info, checksumMap, error);
+                    results.add(info);
+                }
+                context.commit();
+
+                for (MostRecentChecksum info : results) {
+                    if (reportVerbose
+                        || !ChecksumResultCode.CHECKSUM_MATCH.equals(info.getChecksumResult().getResultCode())) {
+                        collector.collect(context, info);
+                    }
+                }
+                for (Bitstream bitstream : batch) {
+                    context.uncacheEntity(bitstream);
+                }
+
+                checkedCount += batch.size();
+                long seconds = Math.max(1, Duration.between(start, Instant.now()).getSeconds());
+                LOG.info("Checked " + checkedCount + " bitstreams (" + checkedBytes / (1024 * 1024) + " MB) in "
+                             + seconds + " seconds, " + checkedBytes / 1024 / seconds + " KB/s");
+                batch = dispatcher.next(batchSize);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Compute the current checksum of the given bitstream in its asset store, within the throughput limit of the
+     * store. This is called by the worker threads: it must not use the (not thread-safe) context.
+     *
+     * @param bitstream the bitstream
+     * @return the checksum and checksum algorithm, or an empty map if the asset is missing
+     * @throws IOException  if the asset can't be read
+     * @throws SQLException if database error
+     */
+    protected Map<String, Object> computeChecksum(Bitstream bitstream) throws IOException, SQLException {
+        if (maxBytesPerSecond > 0) {
+            throttles.computeIfAbsent(bitstream.getStoreNumber(), store -> new BandwidthThrottle(maxBytesPerSecond))
+                     .acquire(bitstream.getSizeBytes());
+        }
+        // The storage service only uses the context to look up the bitstream's store
+        return bitstreamStorageService.computeChecksum(context, bitstream);
+    }
+
     /**
      * Check a specified bitstream.
      *
@@ -244,8 +367,30 @@ public final class CheckerCommand {
     protected void processBitstream(MostRecentChecksum info) throws SQLException {
         info.setProcessStartDate(Instant.now());
 
+        Map<String, Object> checksumMap = null;
+        Exception error = null;
+        try {
+            checksumMap = computeChecksum(info.getBitstream());
+        } catch (IOException | SQLException e) {
+            error = e;
+        }
+        recordChecksum(info, checksumMap, error);
+    }
+
+    /**
+     * Record the result of the computation of the current checksum of a bitstream.
+     *
+     * @param info        BitstreamInfo to handle
+     * @param checksumMap the computed checksum, null if the computation failed
+     * @param error       the failure of the computation, null if it succeeded
+     * @throws SQLException if database error
+     */
+    protected void recordChecksum(MostRecentChecksum info, Map<String, Object> checksumMap, Exception error)
+        throws SQLException {
         try {
-            Map<String, Object> checksumMap = bitstreamStorageService.computeChecksum(context, info.getBitstream());
+            if (error != null) {
+                throw error;
+            }
             if (MapUtils.isNotEmpty(checksumMap)) {
                 info.setBitstreamFound(true);
                 if (checksumMap.containsKey("checksum")) {
@@ -278,6 +423,9 @@ public final class CheckerCommand {
             info.setChecksumResult(getChecksumResultByCode(ChecksumResultCode.BITSTREAM_INFO_NOT_FOUND));
             LOG.error("Error retrieving metadata for bitstream ID "
                           + info.getBitstream().getID(), e);
+        } catch (Exception e) {
+            info.setChecksumResult(getChecksumResultByCode(ChecksumResultCode.BITSTREAM_NOT_PROCESSED));
+            LOG.error("Error checking bitstream ID " + info.getBitstream().getID(), e);
         } finally {
             info.setProcessEndDate(Instant.now());
 
@@ -345,6 +493,45 @@ public final class CheckerCommand {
         processStartDate = startDate;
     }
 
+    public int getThreads() {
+        return threads;
+    }
+
+    /**
+     * Set the number of bitstreams which are checked concurrently.
+     *
+     * @param threads number of worker threads, 1 to check the bitstreams one by one
+     */
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Set the number of bitstreams requested from the dispatcher (and committed) at once when checking concurrently.
+     *
+     * @param batchSize batch size
+     */
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public long getMaxBytesPerSecond() {
+        return maxBytesPerSecond;
+    }
+
+    /**
+     * Set the maximum number of bytes read per second from each asset store.
+     *
+     * @param maxBytesPerSecond maximum throughput per asset store, 0 for unlimited
+     */
+    public void setMaxBytesPerSecond(long maxBytesPerSecond) {
+        this.maxBytesPerSecond = maxBytesPerSecond;
+    }
+
     /**
      * Determine if any errors are reported
      *
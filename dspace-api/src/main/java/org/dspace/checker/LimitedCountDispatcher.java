@@ -8,6 +8,7 @@
 package org.dspace.checker;
 
 import java.sql.SQLException;
+import java.util.List;
 
 import org.dspace.content.Bitstream;
 import org.dspace.core.factory.CoreServiceFactory;
@@ -75,4 +76,11 @@ public class LimitedCountDispatcher implements BitstreamDispatcher {
             return null;
         }
     }
+
+    @Override
+    public List<Bitstream> next(int max) throws SQLException {
+        List<Bitstream> bitstreams = delegate.next(Math.min(max, Math.max(remaining, 0)));
+        remaining -= bitstreams.size();
+        return bitstreams;
+    }
 }
@@ -9,6 +9,7 @@ package org.dspace.checker;
 
 import java.sql.SQLException;
 import java.time.Instant;
+import java.util.List;
 
 import org.dspace.content.Bitstream;
 
@@ -68,4 +69,9 @@ public class LimitedDurationDispatcher implements BitstreamDispatcher {
     public Bitstream next() throws SQLException {
         return (Instant.now().toEpochMilli() > end) ? null : delegate.next();
     }
+
+    @Override
+    public List<Bitstream> next(int max) throws SQLException {
+        return (Instant.now().toEpochMilli() > end) ? List.of() : delegate.next(max);
+    }
 }
@@ -181,6 +181,35 @@ public class MostRecentChecksumServiceImpl implements MostRecentChecksumService
         return mostRecentChecksumDAO.getOldestRecord(context, lessThanDate);
     }
 
+    /**
+     * Returns the given number of oldest bitstreams, in the order of {@link #findOldestRecord(Context)}.
+     *
+     * @param context context
+     * @param limit   maximum number of bitstreams
+     * @return the oldest bitstreams
+     * @throws SQLException if database error
+     */
+    @Override
+    public List<MostRecentChecksum> findOldestRecords(Context context, int limit) throws SQLException {
+        return mostRecentChecksumDAO.getOldestRecords(context, limit);
+    }
+
+    /**
+     * Returns the given number of oldest bitstreams in the set of bitstreams that are less than the specified date,
+     * in the order of {@link #findOldestRecord(Context, Instant)}.
+     *
+     * @param context      context
+     * @param lessThanDate date
+     * @param limit        maximum number of bitstreams
+     * @return the oldest bitstreams
+     * @throws SQLException if database error
+     */
+    @Override
+    public List<MostRecentChecksum> findOldestRecords(Context context, Instant lessThanDate, int limit)
+        throws SQLException {
+        return mostRecentChecksumDAO.getOldestRecords(context, lessThanDate, limit);
+    }
+
     @Override
     public List<MostRecentChecksum> findNotInHistory(Context context) throws SQLException {
         return mostRecentChecksumDAO.findNotInHistory(context);
@@ -9,6 +9,8 @@ package org.dspace.checker;
 
 import java.sql.SQLException;
 import java.time.Instant;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import org.dspace.checker.factory.CheckerServiceFactory;
 import org.dspace.checker.service.MostRecentChecksumService;
@@ -90,4 +92,23 @@ public class SimpleDispatcher implements BitstreamDispatcher {
         }
 
     }
+
+    /**
+     * Selects the next candidate bitstreams, in the same order as {@link #next()}.
+     *
+     * @throws SQLException if database error
+     */
+    @Override
+    public synchronized List<Bitstream> next(int max) throws SQLException {
+        if (max <= 0) {
+            return List.of();
+        }
+        List<MostRecentChecksum> oldestRecords;
+        if (!loopContinuously && (processStartTime != null)) {
+            oldestRecords = checksumService.findOldestRecords(context, processStartTime, max);
+        } else {
+            oldestRecords = checksumService.findOldestRecords(context, max);
+        }
+        return oldestRecords.stream().map(MostRecentChecksum::getBitstream).collect(Collectors.toList());
+    }
 }
@@ -45,6 +45,11 @@ public interface MostRecentChecksumService {
 
     public MostRecentChecksum findOldestRecord(Context context, Instant lessThanDate) throws SQLException;
 
+    public List<MostRecentChecksum> findOldestRecords(Context context, int limit) throws SQLException;
+
+    public List<MostRecentChecksum> findOldestRecords(Context context, Instant lessThanDate, int limit)
+        throws SQLException;
+
     public List<MostRecentChecksum> findNotInHistory(Context context) throws SQLException;
 
     public void update(Context context, MostRecentChecksum mostRecentChecksum) throws SQLException;
@@ -717,6 +717,11 @@ public class CommunityServiceImpl extends DSpaceObjectServiceImpl<Community> imp
         return communityDAO.countRows(context);
     }
 
+    @Override
+    public List<Community> findByIds(Context context, List<UUID> ids) throws SQLException {
+        return communityDAO.findByIds(context, ids);
+    }
+
     /**
      * Returns total community archived items
      *
@@ -25,6 +25,7 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.collections4.ListUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.logging.log4j.Logger;
 import org.dspace.app.requestitem.RequestItem;
@@ -356,6 +357,21 @@ public class ItemServiceImpl extends DSpaceObjectServiceImpl<Item> implements It
         return itemDAO.findAllRegularItems(context);
     }
 
+    @Override
+    public List<UUID> findAllRegularItemIds(Context context) throws SQLException {
+        return itemDAO.findAllRegularItemIds(context);
+    }
+
+    @Override
+    public List<Item> findByIds(Context context, List<UUID> ids) throws SQLException {
+        return itemDAO.findByIds(context, ids);
+    }
+
+    @Override
+    public List<UUID> findExistingIds(Context context, List<UUID> ids) throws SQLException {
+        return itemDAO.findExistingIds(context, ids);
+    }
+
     @Override
     public Iterator<Item> findBySubmitter(Context context, EPerson eperson) throws SQLException {
         return itemDAO.findBySubmitter(context, eperson);
@@ -1001,6 +1017,87 @@ public class ItemServiceImpl extends DSpaceObjectServiceImpl<Item> implements It
                                        "item_id=" + item.getID()));
     }
 
+    @Override
+    public void inheritCollectionDefaultPolicies(Context context, Collection collection)
+        throws SQLException, AuthorizeException {
+        inheritCollectionDefaultPolicies(context, collection, false);
+    }
+
+    @Override
+    public void inheritCollectionDefaultPolicies(Context context, Collection collection, boolean commitBatches)
+        throws SQLException, AuthorizeException {
+        authorizeService.authorizeAction(context, collection, Constants.ADMIN);
+
+        List<UUID> itemIds = itemDAO.findIdsByOwningCollection(context, collection);
+        int batchSize = configurationService.getIntProperty("core.authorization.inheritance.batch-size", 1000);
+        if (isInheritanceAppendMode()) {
+            // the policies to append depend on the policies in place on each object
+            for (List<UUID> batch : ListUtils.partition(itemIds, batchSize)) {
+                for (UUID itemId : batch) {
+                    Item item = find(context, itemId);
+                    inheritCollectionDefaultPolicies(context, item, collection);
+                    if (commitBatches) {
+                        context.uncacheEntity(item);
+                    }
+                }
+                if (commitBatches) {
+                    context.commit();
+                }
+            }
+            return;
+        }
+
+        List<ResourcePolicy> defaultItemPolicies = getDefaultReadPolicies(context, collection,
+                                                                          Constants.DEFAULT_ITEM_READ);
+        List<ResourcePolicy> defaultBitstreamPolicies = getDefaultReadPolicies(context, collection,
+                                                                               Constants.DEFAULT_BITSTREAM_READ);
+        for (List<UUID> batch : ListUtils.partition(itemIds, batchSize)) {
+            resourcePolicyService.inheritDefaultReadPolicies(context, batch, defaultItemPolicies,
+                                                             defaultBitstreamPolicies);
+            itemDAO.updateLastModified(context, batch, Instant.now());
+            for (UUID itemId : batch) {
+                context.addEvent(new Event(Event.MODIFY, Constants.ITEM, itemId, null, new ArrayList<>()));
+            }
+            if (commitBatches) {
+                // dispatch the events of the batch at once, so that its items are reindexed together
+                context.commit();
+            }
+        }
+
+        log.info(LogHelper.getHeader(context, "collection_inheritCollectionDefaultPolicies",
+                                      "collection_id=" + collection.getID() + ",items=" + itemIds.size()));
+    }
+
+    /**
+     * Get the default READ policies of a collection, which must exist.
+     *
+     * @param context    DSpace context object
+     * @param collection the collection
+     * @param action     Constants.DEFAULT_ITEM_READ or Constants.DEFAULT_BITSTREAM_READ
+     * @return the default policies
+     * @throws SQLException if database error, or if the collection has no such default policies
+     */
+    protected List<ResourcePolicy> getDefaultReadPolicies(Context context, Collection collection, int action)
+        throws SQLException {
+        List<ResourcePolicy> defaultPolicies = authorizeService.getPoliciesActionFilter(context, collection, action);
+        if (defaultPolicies.isEmpty()) {
+            throw new SQLException("Collection " + collection.getID()
+                                       + " (" + collection.getHandle() + ")"
+                                       + " has no default "
+                                       + (action == Constants.DEFAULT_ITEM_READ ? "item" : "bitstream")
+                                       + " READ policies");
+        }
+        return defaultPolicies;
+    }
+
+    /**
+     * @return true if the inherited READ policies are appended to the policies in place rather than replacing them
+     */
+    protected boolean isInheritanceAppendMode() {
+        return configurationService
+            .getBooleanProperty("core.authorization.installitem.inheritance-read.append-mode", false);
+    }
+
     @Override
     public void adjustBundleBitstreamPolicies(Context context, Item item, Collection collection)
         throws SQLException, AuthorizeException {
@@ -1178,7 +1275,14 @@ public class ItemServiceImpl extends DSpaceObjectServiceImpl<Item> implements It
             if (inheritDefaultPolicies) {
                 log.info(LogHelper.getHeader(context, "move_item",
                                               "Updating item with inherited policies"));
-                inheritCollectionDefaultPolicies(context, item, to);
+                if (isInheritanceAppendMode()) {
+                    inheritCollectionDefaultPolicies(context, item, to);
+                } else {
+                    // replace the policies of the item and all its content with a few statements
+                    resourcePolicyService.inheritDefaultReadPolicies(context, List.of(item.getID()),
+                        getDefaultReadPolicies(context, to, Constants.DEFAULT_ITEM_READ),
+                        getDefaultReadPolicies(context, to, Constants.DEFAULT_BITSTREAM_READ));
+                }
             }
 
             // Update the item
@@ -10,6 +10,7 @@ package org.dspace.content.dao;
 import java.sql.SQLException;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 
 import org.dspace.content.Collection;
 import org.dspace.content.Item;
@@ -52,5 +53,15 @@ public interface CollectionDAO extends DSpaceObjectLegacySupportDAO<Collection>
 
     int countRows(Context context) throws SQLException;
 
+    /**
+     * Find the collections with the given UUIDs, with their metadata fetched by the same query.
+     *
+     * @param context DSpace Context
+     * @param ids     the UUIDs of the collections
+     * @return the collections found, in no particular order
+     * @throws SQLException if database error
+     */
+    List<Collection> findByIds(Context context, List<UUID> ids) throws SQLException;
+
     List<Map.Entry<Collection, Long>> getCollectionsWithBitstreamSizesTotal(Context context) throws SQLException;
 }
@@ -9,6 +9,7 @@ package org.dspace.content.dao;
 
 import java.sql.SQLException;
 import java.util.List;
+import java.util.UUID;
 
 import org.dspace.content.Community;
 import org.dspace.content.MetadataField;
@@ -41,4 +42,14 @@ public interface CommunityDAO extends DSpaceObjectLegacySupportDAO<Community> {
         throws SQLException;
 
     int countRows(Context context) throws SQLException;
+
+    /**
+     * Find the communitys with the given UUIDs, with their metadata fetched by the same query.
+     *
+     * @param context DSpace Context
+     * @param ids     the UUIDs of the communitys
+     * @return the communitys found, in no particular order
+     * @throws SQLException if database error
+     */
+    List<Community> findByIds(Context context, List<UUID> ids) throws SQLException;
 }
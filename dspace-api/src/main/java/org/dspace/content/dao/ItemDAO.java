@@ -48,6 +48,16 @@ public interface ItemDAO extends DSpaceObjectLegacySupportDAO<Item> {
      */
     Iterator<Item> findAllRegularItems(Context context) throws SQLException;
 
+    /**
+     * Find the UUIDs of all regular items (see {@link #findAllRegularItems(Context)}), ordered by UUID.
+     * Only the identifiers are loaded, which allows callers to partition the items in ranges and load them
+     * from separate contexts.
+     * @param context the DSpace context.
+     * @return ordered list of the UUIDs of all regular items.
+     * @throws SQLException if database error.
+     */
+    List<UUID> findAllRegularItemIds(Context context) throws SQLException;
+
     /**
      * Find all Items modified since a Date.
      *
@@ -130,6 +140,47 @@ public interface ItemDAO extends DSpaceObjectLegacySupportDAO<Item> {
      */
     int countArchivedByCollectionExcludingOwning(Context context, Collection collection) throws SQLException;
 
+    /**
+     * Find the UUIDs of all the items owned by a given collection, ordered by UUID. Only the identifiers are
+     * loaded, which allows callers to process the items of large collections in batches.
+     *
+     * @param context    the DSpace context.
+     * @param collection the owning collection.
+     * @return ordered list of the UUIDs of the items owned by the collection.
+     * @throws SQLException if database error.
+     */
+    List<UUID> findIdsByOwningCollection(Context context, Collection collection) throws SQLException;
+
+    /**
+     * Set the last modified date of the items with the given UUIDs, with a single statement.
+     *
+     * @param context      the DSpace context.
+     * @param itemIds      the UUIDs of the items.
+     * @param lastModified the new last modified date.
+     * @throws SQLException if database error.
+     */
+    void updateLastModified(Context context, List<UUID> itemIds, Instant lastModified) throws SQLException;
+
+    /**
+     * Find the items with the given UUIDs, with their metadata and owning collection fetched by the same query.
+     *
+     * @param context the DSpace context.
+     * @param ids     the UUIDs of the items.
+     * @return the items found, in no particular order.
+     * @throws SQLException if database error.
+     */
+    List<Item> findByIds(Context context, List<UUID> ids) throws SQLException;
+
+    /**
+     * Find which of the given UUIDs belong to an existing item. Only the identifiers are loaded.
+     *
+     * @param context the DSpace context.
+     * @param ids     the UUIDs to check.
+     * @return the UUIDs of the existing items, in no particular order.
+     * @throws SQLException if database error.
+     */
+    List<UUID> findExistingIds(Context context, List<UUID> ids) throws SQLException;
+
     Iterator<Item> findAllByCollection(Context context, Collection collection) throws SQLException;
 
     Iterator<Item> findAllByCollection(Context context, Collection collection, Integer limit, Integer offset)
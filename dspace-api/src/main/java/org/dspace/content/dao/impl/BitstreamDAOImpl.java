@@ -73,6 +73,20 @@ public class BitstreamDAOImpl extends AbstractHibernateDSODAO<Bitstream> impleme
         return list(context, criteriaQuery, false, Bitstream.class, -1, -1);
     }
 
+    @Override
+    public Bitstream findDuplicateContent(Context context, Bitstream bitstream) throws SQLException {
+        Query query = createQuery(context, "SELECT b FROM Bitstream b WHERE b.checksum = :checksum" +
+            " AND b.checksumAlgorithm = :checksumAlgorithm AND b.sizeBytes = :sizeBytes" +
+            " AND b.storeNumber = :storeNumber AND b.deleted = false AND b.id <> :id" +
+            " AND b.internalId NOT LIKE '-R%'");
+        query.setParameter("checksum", bitstream.getChecksum());
+        query.setParameter("checksumAlgorithm", bitstream.getChecksumAlgorithm());
+        query.setParameter("sizeBytes", bitstream.getSizeBytes());
+        query.setParameter("storeNumber", bitstream.getStoreNumber());
+        query.setParameter("id", bitstream.getID());
+        return singleResult(query);
+    }
+
     @Override
     public List<Bitstream> findBitstreamsWithNoRecentChecksum(Context context) throws SQLException {
         Query query = createQuery(context, "SELECT b FROM MostRecentChecksum c RIGHT JOIN Bitstream b " +
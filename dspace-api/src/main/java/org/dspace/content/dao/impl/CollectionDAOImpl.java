@@ -12,6 +12,7 @@ import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 
 import jakarta.persistence.Query;
 import jakarta.persistence.criteria.CriteriaBuilder;
@@ -168,6 +169,11 @@ public class CollectionDAOImpl extends AbstractHibernateDSODAO<Collection> imple
         return count(createQuery(context, "SELECT count(*) FROM Collection"));
     }
 
+    @Override
+    public List<Collection> findByIds(Context context, List<UUID> ids) throws SQLException {
+        return findByIds(context, Collection.class, ids);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public List<Map.Entry<Collection, Long>> getCollectionsWithBitstreamSizesTotal(Context context)
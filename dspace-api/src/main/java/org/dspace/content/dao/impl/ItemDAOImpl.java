@@ -86,6 +86,11 @@ public class ItemDAOImpl extends AbstractHibernateDSODAO<Item> implements ItemDA
 
     @Override
     public Iterator<Item> findAllRegularItems(Context context) throws SQLException {
+        return new UUIDIterator<Item>(context, findAllRegularItemIds(context), Item.class, this);
+    }
+
+    @Override
+    public List<UUID> findAllRegularItemIds(Context context) throws SQLException {
         // NOTE: This query includes archived items, withdrawn items and older versions of items.
         //       It does not include workspace, workflow or template items.
         Query query = createQuery(
@@ -97,7 +102,43 @@ public class ItemDAOImpl extends AbstractHibernateDSODAO<Item> implements ItemDA
         );
         @SuppressWarnings("unchecked")
         List<UUID> uuids = query.getResultList();
-        return new UUIDIterator<Item>(context, uuids, Item.class, this);
+        return uuids;
+    }
+
+    @Override
+    public List<UUID> findIdsByOwningCollection(Context context, Collection collection) throws SQLException {
+        Query query = createQuery(context,
+            "SELECT i.id FROM Item as i WHERE i.owningCollection = :collection ORDER BY i.id");
+        query.setParameter("collection", collection);
+        @SuppressWarnings("unchecked")
+        List<UUID> uuids = query.getResultList();
+        return uuids;
+    }
+
+    @Override
+    public void updateLastModified(Context context, List<UUID> itemIds, Instant lastModified) throws SQLException {
+        Query query = createQuery(context, "UPDATE Item i SET i.lastModified = :lastModified WHERE i.id IN (:ids)");
+        query.setParameter("lastModified", lastModified);
+        query.setParameter("ids", itemIds);
+        query.executeUpdate();
+    }
+
+    @Override
+    public List<Item> findByIds(Context context, List<UUID> ids) throws SQLException {
+        return findByIds(context, Item.class, ids, "owningCollection");
+    }
+
+    @Override
+    public List<UUID> findExistingIds(Context context, List<UUID> ids) throws SQLException {
+        List<UUID> existing = new ArrayList<>(ids.size());
+        for (int start = 0; start < ids.size(); start += IN_CLAUSE_BATCH_SIZE) {
+            Query query = createQuery(context, "SELECT i.id FROM Item i WHERE i.id IN (:ids)");
+            query.setParameter("ids", ids.subList(start, Math.min(start + IN_CLAUSE_BATCH_SIZE, ids.size())));
+            @SuppressWarnings("unchecked")
+            List<UUID> uuids = query.getResultList();
+            existing.addAll(uuids);
+        }
+        return existing;
     }
 
     @Override
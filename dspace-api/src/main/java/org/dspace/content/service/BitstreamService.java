@@ -9,6 +9,7 @@ package org.dspace.content.service;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Path;
 import java.sql.SQLException;
 import java.util.Iterator;
 import java.util.List;
@@ -166,6 +167,20 @@ public interface BitstreamService extends DSpaceObjectService<Bitstream>, DSpace
     public InputStream retrieve(Context context, Bitstream bitstream)
         throws IOException, SQLException, AuthorizeException;
 
+    /**
+     * Retrieve the local file holding the contents of the bitstream, when its assetstore keeps the bitstreams on a
+     * local file system. This allows callers to read the contents through a {@link java.nio.channels.FileChannel}.
+     *
+     * @param context   DSpace context object
+     * @param bitstream DSpace bitstream
+     * @return the path of the file, or null if the contents are only available through {@link #retrieve}
+     * @throws IOException        if IO error
+     * @throws SQLException       if database error
+     * @throws AuthorizeException if authorization error
+     */
+    public Path retrieveLocalPath(Context context, Bitstream bitstream)
+        throws IOException, SQLException, AuthorizeException;
+
     /**
      * Determine if this bitstream is registered (available elsewhere on
      * filesystem than in assetstore). More about registered items:
@@ -198,6 +213,17 @@ public interface BitstreamService extends DSpaceObjectService<Bitstream>, DSpace
 
     public List<Bitstream> findDuplicateInternalIdentifier(Context context, Bitstream bitstream) throws SQLException;
 
+    /**
+     * Find another (not deleted, not registered) bitstream in the same asset store with the same size and checksum
+     * as the given bitstream, whose asset can be shared with it.
+     *
+     * @param context   DSpace context object
+     * @param bitstream the bitstream
+     * @return a bitstream with the same content, or null if there is none
+     * @throws SQLException if database error
+     */
+    public Bitstream findDuplicateContent(Context context, Bitstream bitstream) throws SQLException;
+
     public Iterator<Bitstream> getItemBitstreams(Context context, Item item) throws SQLException;
 
     public Iterator<Bitstream> getCollectionBitstreams(Context context, Collection collection) throws SQLException;
@@ -340,6 +340,17 @@ public interface CollectionService
 
     int countTotal(Context context) throws SQLException;
 
+    /**
+     * Find the collections with the given UUIDs with a single query (per batch of UUIDs), with their metadata already
+     * loaded.
+     *
+     * @param context DSpace Context
+     * @param ids     the UUIDs of the collections
+     * @return the collections found, in no particular order. UUIDs without collection are ignored.
+     * @throws SQLException if database error
+     */
+    List<Collection> findByIds(Context context, List<UUID> ids) throws SQLException;
+
     /**
      * The map entry returned contains a collection as a key and sum of bitstream sizes in bytes as a value
      *
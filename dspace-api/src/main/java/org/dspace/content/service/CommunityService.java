@@ -293,6 +293,17 @@ public interface CommunityService extends DSpaceObjectService<Community>, DSpace
 
     int countTotal(Context context) throws SQLException;
 
+    /**
+     * Find the communitys with the given UUIDs with a single query (per batch of UUIDs), with their metadata already
+     * loaded.
+     *
+     * @param context DSpace Context
+     * @param ids     the UUIDs of the communitys
+     * @return the communitys found, in no particular order. UUIDs without community are ignored.
+     * @throws SQLException if database error
+     */
+    List<Community> findByIds(Context context, List<UUID> ids) throws SQLException;
+
     /**
      * Returns total community archived items
      *
@@ -140,6 +140,36 @@ public interface ItemService
      */
     Iterator<Item> findAllRegularItems(Context context) throws SQLException;
 
+    /**
+     * Find the UUIDs of all regular items (see {@link #findAllRegularItems(Context)}), ordered by UUID.
+     * Only the identifiers are loaded, which allows callers to partition the items in ranges and load them
+     * from separate contexts.
+     * @param context the DSpace context.
+     * @return ordered list of the UUIDs of all regular items.
+     * @throws SQLException if database error.
+     */
+    List<UUID> findAllRegularItemIds(Context context) throws SQLException;
+
+    /**
+     * Find the items with the given UUIDs with a single query (per batch of UUIDs), with their metadata and
+     * owning collection already loaded, e.g. to display a list of search results.
+     * @param context the DSpace context.
+     * @param ids the UUIDs of the items.
+     * @return the items found, in no particular order. UUIDs without item are ignored.
+     * @throws SQLException if database error.
+     */
+    List<Item> findByIds(Context context, List<UUID> ids) throws SQLException;
+
+    /**
+     * Find which of the given UUIDs belong to an existing item, without loading the items, e.g. to detect the
+     * search results referring to deleted items.
+     * @param context the DSpace context.
+     * @param ids the UUIDs to check.
+     * @return the UUIDs of the existing items, in no particular order.
+     * @throws SQLException if database error.
+     */
+    List<UUID> findExistingIds(Context context, List<UUID> ids) throws SQLException;
+
     /**
      * Find all the items in the archive by a given submitter. The order is
      * indeterminate. Only items with the "in archive" flag set are included.
@@ -519,6 +549,45 @@ public interface ItemService
                                                  boolean overrideItemReadPolicies)
         throws java.sql.SQLException, AuthorizeException;
 
+    /**
+     * Replace the read policies of all the items owned by a collection, and of their contents, with the
+     * DEFAULT_ITEM_READ and DEFAULT_BITSTREAM_READ policies of the collection, as
+     * {@link #inheritCollectionDefaultPolicies(Context, Item, Collection)} does for a single item. The items are
+     * processed in batches (core.authorization.inheritance.batch-size, 1000 by default) with set-based statements,
+     * without loading them, in the transaction of the caller. Entities loaded in the context before the call may not
+     * reflect the new policies.
+     * <p>
+     * When core.authorization.installitem.inheritance-read.append-mode is enabled the policies to add depend on the
+     * policies in place on each object, so the items are then processed one by one.
+     *
+     * @param context    DSpace context object
+     * @param collection the collection whose items will inherit its default policies
+     * @throws SQLException       if database error
+     *                            if an SQL error or if no default policies found.
+     * @throws AuthorizeException if the current user isn't an administrator of the collection
+     */
+    void inheritCollectionDefaultPolicies(Context context, Collection collection)
+        throws SQLException, AuthorizeException;
+
+    /**
+     * Replace the read policies of all the items owned by a collection, and of their contents, with the default
+     * policies of the collection, see {@link #inheritCollectionDefaultPolicies(Context, Collection)}.
+     * <p>
+     * When commitBatches is true, the context is committed after each batch, so that the items of a batch are
+     * reindexed together and a large collection doesn't hold a single long transaction. The changes made by the
+     * caller before the call are committed along with the first batch, and a failure only rolls back the current
+     * batch. This is meant for command line tools and scripts which own their context.
+     *
+     * @param context       DSpace context object
+     * @param collection    the collection whose items will inherit its default policies
+     * @param commitBatches true to commit the context after each batch of items
+     * @throws SQLException       if database error
+     *                            if an SQL error or if no default policies found.
+     * @throws AuthorizeException if the current user isn't an administrator of the collection
+     */
+    void inheritCollectionDefaultPolicies(Context context, Collection collection, boolean commitBatches)
+        throws SQLException, AuthorizeException;
+
     /**
      * Adjust the Bundle and Bitstream policies to reflect what have been defined
      * during the submission/workflow. The temporary SUBMISSION and WORKFLOW
@@ -8,9 +8,12 @@
 package org.dspace.core;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.UUID;
 
+import jakarta.persistence.Query;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Root;
@@ -31,6 +34,11 @@ import org.dspace.content.MetadataField;
  * @param <T> type of DSO represented.
  */
 public abstract class AbstractHibernateDSODAO<T extends DSpaceObject> extends AbstractHibernateDAO<T> {
+    /**
+     * Maximum number of ids bound to a single IN clause
+     */
+    protected static final int IN_CLAUSE_BATCH_SIZE = 1000;
+
     /**
      * Find a DSO by its "legacy ID".  Former versions of DSpace used integer
      * record IDs, and these may still be found in external records such as AIPs.
@@ -51,6 +59,35 @@ public abstract class AbstractHibernateDSODAO<T extends DSpaceObject> extends Ab
         return uniqueResult(context, criteriaQuery, false, clazz);
     }
 
+    /**
+     * Find DSOs by their ids, with their metadata (and the given associations) fetched by the same query, so that
+     * a list of objects can be loaded with one query instead of one query per object and per lazy association.
+     * The ids are queried in batches of {@link #IN_CLAUSE_BATCH_SIZE}.
+     * @param context current DSpace context.
+     * @param clazz DSO subtype of the objects.
+     * @param ids the ids of the objects.
+     * @param associations additional single-valued associations to fetch, e.g. "owningCollection".
+     * @return the objects found, in no particular order. Ids without object are ignored.
+     * @throws SQLException if database error.
+     */
+    protected List<T> findByIds(Context context, Class<T> clazz, List<UUID> ids, String... associations)
+        throws SQLException {
+        StringBuilder queryString = new StringBuilder("SELECT o FROM ").append(clazz.getSimpleName())
+            .append(" o LEFT JOIN FETCH o.metadata");
+        for (String association : associations) {
+            queryString.append(" LEFT JOIN FETCH o.").append(association);
+        }
+        queryString.append(" WHERE o.id IN (:ids)");
+
+        List<T> result = new ArrayList<>(ids.size());
+        for (int start = 0; start < ids.size(); start += IN_CLAUSE_BATCH_SIZE) {
+            Query query = createQuery(context, queryString.toString());
+            query.setParameter("ids", ids.subList(start, Math.min(start + IN_CLAUSE_BATCH_SIZE, ids.size())));
+            result.addAll(findMany(context, query));
+        }
+        return result;
+    }
+
     /**
      * Add left outer join on all metadata fields which are passed to this function.
      * The identifier of the join will be the toString() representation of the metadata field.
@@ -780,7 +780,8 @@ public class Context implements AutoCloseable {
      * process a large number of records.
      *
      * READ_ONLY: READ ONLY mode will tell the database we are nog going to do any updates. This means it can disable
-     * optimalisations for delaying or grouping updates.
+     * optimalisations for delaying or grouping updates. Entities are loaded read-only: changes made to them are not
+     * tracked, nor persisted.
      *
      * READ_WRITE: This is the default mode and enables the normal database behaviour. This behaviour is optimal for
      * querying and updating a
@@ -907,8 +908,22 @@ public class Context implements AutoCloseable {
     }
 
     public Boolean getCachedAuthorizationResult(DSpaceObject dspaceObject, int action, EPerson eperson) {
+        return getCachedAuthorizationResult(dspaceObject, action, eperson, true);
+    }
+
+    /**
+     * Get an authorization decision cached in read-only mode.
+     *
+     * @param dspaceObject   the object
+     * @param action         the action
+     * @param eperson        the EPerson, null for anonymous
+     * @param useInheritance whether ADMIN rights on the parent objects were taken into account
+     * @return the decision, or null if it isn't cached
+     */
+    public Boolean getCachedAuthorizationResult(DSpaceObject dspaceObject, int action, EPerson eperson,
+                                                boolean useInheritance) {
         if (isReadOnly()) {
-            return readOnlyCache.getCachedAuthorizationResult(dspaceObject, action, eperson);
+            return readOnlyCache.getCachedAuthorizationResult(dspaceObject, action, eperson, useInheritance);
         } else {
             return null;
         }
@@ -916,8 +931,23 @@ public class Context implements AutoCloseable {
 
     public void cacheAuthorizedAction(DSpaceObject dspaceObject, int action, EPerson eperson, Boolean result,
                                       ResourcePolicy rp) {
+        cacheAuthorizedAction(dspaceObject, action, eperson, true, result, rp);
+    }
+
+    /**
+     * Cache an authorization decision in read-only mode.
+     *
+     * @param dspaceObject   the object
+     * @param action         the action
+     * @param eperson        the EPerson, null for anonymous
+     * @param useInheritance whether ADMIN rights on the parent objects were taken into account
+     * @param result         the decision
+     * @param rp             the policy granting the action, uncached from the session, or null
+     */
+    public void cacheAuthorizedAction(DSpaceObject dspaceObject, int action, EPerson eperson, boolean useInheritance,
+                                      Boolean result, ResourcePolicy rp) {
         if (isReadOnly()) {
-            readOnlyCache.cacheAuthorizedAction(dspaceObject, action, eperson, result);
+            readOnlyCache.cacheAuthorizedAction(dspaceObject, action, eperson, useInheritance, result);
             try {
                 uncacheEntity(rp);
             } catch (SQLException e) {
@@ -954,6 +984,20 @@ public class Context implements AutoCloseable {
         }
     }
 
+    public Boolean getCachedAdminCheckResult(String check, EPerson eperson) {
+        if (isReadOnly()) {
+            return readOnlyCache.getCachedAdminCheckResult(check, eperson);
+        } else {
+            return null;
+        }
+    }
+
+    public void cacheAdminCheckResult(String check, EPerson eperson, Boolean result) {
+        if (isReadOnly()) {
+            readOnlyCache.cacheAdminCheckResult(check, eperson, result);
+        }
+    }
+
     /**
      * Reload all entities related to this context.
      *
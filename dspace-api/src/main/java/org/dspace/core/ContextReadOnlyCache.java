@@ -26,9 +26,10 @@ public class ContextReadOnlyCache {
 
     /**
      * Authorized actions cache that is used when the context is in READ_ONLY mode.
-     * The key of the cache is: DSpace Object ID, action ID, Eperson ID.
+     * The key of the cache is: DSpace Object ID, action ID and whether ADMIN rights on the parent objects are taken
+     * into account ("+" or "-"), Eperson ID.
      */
-    private final HashMap<Triple<String, Integer, String>, Boolean> authorizedActionsCache = new HashMap<>();
+    private final HashMap<Triple<String, String, String>, Boolean> authorizedActionsCache = new HashMap<>();
 
     /**
      * Group membership cache that is used when the context is in READ_ONLY mode.
@@ -41,12 +42,29 @@ public class ContextReadOnlyCache {
      */
     private final HashMap<String, Set<Group>> allMemberGroupsCache = new HashMap<>();
 
+    /**
+     * Cache of the site wide admin checks (e.g. whether the ePerson is a community or collection admin) when the
+     * context is in READ_ONLY mode.
+     * The key of the cache is: check, Eperson ID.
+     */
+    private final HashMap<Pair<String, String>, Boolean> adminChecksCache = new HashMap<>();
+
     public Boolean getCachedAuthorizationResult(DSpaceObject dspaceObject, int action, EPerson eperson) {
-        return authorizedActionsCache.get(buildAuthorizedActionKey(dspaceObject, action, eperson));
+        return getCachedAuthorizationResult(dspaceObject, action, eperson, true);
+    }
+
+    public Boolean getCachedAuthorizationResult(DSpaceObject dspaceObject, int action, EPerson eperson,
+                                                boolean useInheritance) {
+        return authorizedActionsCache.get(buildAuthorizedActionKey(dspaceObject, action, eperson, useInheritance));
     }
 
     public void cacheAuthorizedAction(DSpaceObject dspaceObject, int action, EPerson eperson, Boolean result) {
-        authorizedActionsCache.put(buildAuthorizedActionKey(dspaceObject, action, eperson), result);
+        cacheAuthorizedAction(dspaceObject, action, eperson, true, result);
+    }
+
+    public void cacheAuthorizedAction(DSpaceObject dspaceObject, int action, EPerson eperson, boolean useInheritance,
+                                      Boolean result) {
+        authorizedActionsCache.put(buildAuthorizedActionKey(dspaceObject, action, eperson, useInheritance), result);
     }
 
     public Boolean getCachedGroupMembership(Group group, EPerson eperson) {
@@ -79,20 +97,29 @@ public class ContextReadOnlyCache {
         return allMemberGroupsCache.get(buildAllMembersGroupKey(ePerson));
     }
 
+    public Boolean getCachedAdminCheckResult(String check, EPerson eperson) {
+        return adminChecksCache.get(new ImmutablePair<>(check, eperson == null ? "" : eperson.getID().toString()));
+    }
+
+    public void cacheAdminCheckResult(String check, EPerson eperson, Boolean result) {
+        adminChecksCache.put(new ImmutablePair<>(check, eperson == null ? "" : eperson.getID().toString()), result);
+    }
+
     public void clear() {
         authorizedActionsCache.clear();
         groupMembershipCache.clear();
         allMemberGroupsCache.clear();
+        adminChecksCache.clear();
     }
 
     private String buildAllMembersGroupKey(EPerson ePerson) {
         return ePerson == null ? "" : ePerson.getID().toString();
     }
 
-    private ImmutableTriple<String, Integer, String> buildAuthorizedActionKey(DSpaceObject dspaceObject, int action,
-                                                                              EPerson eperson) {
+    private ImmutableTriple<String, String, String> buildAuthorizedActionKey(DSpaceObject dspaceObject, int action,
+                                                                             EPerson eperson, boolean useInheritance) {
         return new ImmutableTriple<>(dspaceObject == null ? "" : dspaceObject.getID().toString(),
-                                     Integer.valueOf(action),
+                                     action + (useInheritance ? "+" : "-"),
                                      eperson == null ? "" : eperson.getID().toString());
     }
 
@@ -10,6 +10,7 @@ package org.dspace.core;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
+import java.util.Map;
 import javax.sql.DataSource;
 
 import org.dspace.authorize.ResourcePolicy;
@@ -26,7 +27,10 @@ import org.hibernate.Hibernate;
 import org.hibernate.Session;
 import org.hibernate.SessionFactory;
 import org.hibernate.Transaction;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.resource.transaction.spi.TransactionStatus;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -233,12 +237,35 @@ public class HibernateDBConnection implements DBConnection<Session> {
     }
 
     private void configureDatabaseMode() throws SQLException {
+        Session session = getSession();
         if (batchModeEnabled) {
-            getSession().setHibernateFlushMode(FlushMode.ALWAYS);
+            session.setHibernateFlushMode(FlushMode.ALWAYS);
         } else if (readOnlyEnabled) {
-            getSession().setHibernateFlushMode(FlushMode.MANUAL);
+            session.setHibernateFlushMode(FlushMode.MANUAL);
         } else {
-            getSession().setHibernateFlushMode(FlushMode.AUTO);
+            session.setHibernateFlushMode(FlushMode.AUTO);
+        }
+
+        if (readOnlyEnabled != session.isDefaultReadOnly()) {
+            // Entities loaded in read-only mode are not dirty checked, and no snapshot of their state is kept
+            session.setDefaultReadOnly(readOnlyEnabled);
+            if (!readOnlyEnabled) {
+                makeLoadedEntitiesModifiable(session);
+            }
+        }
+    }
+
+    /**
+     * Make the entities loaded while the session was read-only modifiable again, so that changes made to them once
+     * the context is back in a read-write mode are persisted.
+     */
+    private void makeLoadedEntitiesModifiable(Session session) {
+        PersistenceContext persistenceContext = session.unwrap(SessionImplementor.class)
+                                                       .getPersistenceContextInternal();
+        for (Map.Entry<Object, EntityEntry> entry : persistenceContext.reentrantSafeEntityEntries()) {
+            if (entry.getValue().isReadOnly() && entry.getValue().isModifiableEntity()) {
+                session.setReadOnly(entry.getKey(), false);
+            }
         }
     }
 
@@ -28,6 +28,11 @@ import org.dspace.discovery.configuration.DiscoverySearchFilterFacet;
  */
 public class DiscoverQuery {
 
+    /**
+     * The cursor mark of the first page, see {@link #setCursorMark(String)}
+     */
+    public static final String CURSOR_MARK_START = "*";
+
     /**
      * Main attributes for the discovery query
      **/
@@ -72,6 +77,16 @@ public class DiscoverQuery {
 
     private String discoveryConfigurationName;
 
+    /**
+     * The Solr cursor mark of the page to retrieve, null when paging by start offset
+     **/
+    private String cursorMark;
+
+    /**
+     * Whether the items found may be returned as the listings stored in the index instead of loaded from the database
+     **/
+    private boolean itemListings;
+
     public DiscoverQuery() {
         //Initialize all our lists
         this.filterQueries = new ArrayList<>();
@@ -115,6 +130,29 @@ public class DiscoverQuery {
         return sortOrder;
     }
 
+    /**
+     * Return the cursor mark of the page to retrieve, see {@link #setCursorMark(String)}
+     *
+     * @return the cursor mark, null when paging by start offset
+     */
+    public String getCursorMark() {
+        return cursorMark;
+    }
+
+    /**
+     * Page through the results with a Solr cursor instead of a start offset, which keeps the cost of every page
+     * constant however deep it is. Use {@link #CURSOR_MARK_START} for the first page, then the
+     * {@link DiscoverResult#getNextCursorMark()} of each page for the following one: the last page is reached when
+     * the next cursor mark is equal to the current one. The start offset is ignored, and the results are sorted by
+     * their unique index ID after the sort field (if any), so that the order is stable.
+     *
+     * @param cursorMark
+     *            the cursor mark of the page to retrieve, null to page by start offset
+     */
+    public void setCursorMark(String cursorMark) {
+        this.cursorMark = cursorMark;
+    }
+
     /**
      * Sets the DSpace object filter, must be an DSpace Object type integer
      * can be used to only return objects from a certain DSpace Object type
@@ -411,4 +449,24 @@ public class DiscoverQuery {
     public void setDiscoveryConfigurationName(String discoveryConfigurationName) {
         this.discoveryConfigurationName = discoveryConfigurationName;
     }
+
+    /**
+     * Return whether the items found may be returned as {@link ItemListing}s
+     *
+     * @return true if the stored listings of the items found are used
+     */
+    public boolean isItemListings() {
+        return itemListings;
+    }
+
+    /**
+     * Set whether the items found may be returned as the {@link ItemListing}s stored in the index, instead of the
+     * items loaded from the database. Items without a stored listing are still loaded from the database.
+     *
+     * @param itemListings
+     *            true to use the stored listings of the items found
+     */
+    public void setItemListings(boolean itemListings) {
+        this.itemListings = itemListings;
+    }
 }
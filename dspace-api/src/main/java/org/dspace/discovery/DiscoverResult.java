@@ -43,6 +43,7 @@ public class DiscoverResult {
     private int searchTime;
     private Map<String, IndexableObjectHighlightResult> highlightedResults;
     private String spellCheckQuery;
+    private String nextCursorMark;
 
     public DiscoverResult() {
         indexableObjects = new ArrayList<IndexableObject>();
@@ -91,6 +92,18 @@ public class DiscoverResult {
         this.maxResults = maxResults;
     }
 
+    /**
+     * @return the cursor mark of the next page, when the query was paged with a cursor (see
+     *         {@link DiscoverQuery#setCursorMark(String)}), null otherwise
+     */
+    public String getNextCursorMark() {
+        return nextCursorMark;
+    }
+
+    public void setNextCursorMark(String nextCursorMark) {
+        this.nextCursorMark = nextCursorMark;
+    }
+
     public int getSearchTime() {
         return searchTime;
     }
@@ -18,6 +18,10 @@ import org.dspace.core.ReloadableEntity;
 
 /**
  * Implementation of {@link Iterator} to iterate over the discover search result.
+ * <p>
+ * When the query starts from the first result, the pages are retrieved with a Solr cursor (see
+ * {@link DiscoverQuery#setCursorMark(String)}) rather than with an increasing start offset, so that iterating over
+ * a large number of results doesn't get slower page after page.
  *
  * @param <T>  the type of the indexed object
  * @param <PK> the type of the id of the indexed object
@@ -36,6 +40,7 @@ public class DiscoverResultIterator<T extends ReloadableEntity, PK extends Seria
     private final DiscoverQuery discoverQuery;
     private final boolean uncacheEntitites;
     private final int maxResults;
+    private final boolean useCursor;
     private int iteratorCounter;
     private DiscoverResult currentDiscoverResult;
     private Iterator<IndexableObject> currentSlotIterator;
@@ -74,6 +79,11 @@ public class DiscoverResultIterator<T extends ReloadableEntity, PK extends Seria
         this.searchService = SearchUtils.getSearchService();
         this.uncacheEntitites = uncacheEntities;
         this.maxResults = maxResults;
+        // a cursor can't skip the first results
+        this.useCursor = discoverQuery.getStart() == 0;
+        if (useCursor) {
+            discoverQuery.setCursorMark(DiscoverQuery.CURSOR_MARK_START);
+        }
 
         updateCurrentSlotIterator();
     }
@@ -94,12 +104,21 @@ public class DiscoverResultIterator<T extends ReloadableEntity, PK extends Seria
             return true;
         }
 
-        this.discoverQuery.setStart(iteratorCounter);
-
         if (uncacheEntitites) {
             uncacheEntitites();
         }
 
+        if (useCursor) {
+            String nextCursorMark = currentDiscoverResult.getNextCursorMark();
+            if (nextCursorMark == null || nextCursorMark.equals(discoverQuery.getCursorMark())) {
+                // the last page has been reached
+                return false;
+            }
+            this.discoverQuery.setCursorMark(nextCursorMark);
+        } else {
+            this.discoverQuery.setStart(iteratorCounter);
+        }
+
         updateCurrentSlotIterator();
 
         return currentSlotIterator.hasNext();
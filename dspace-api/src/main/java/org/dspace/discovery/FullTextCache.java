@@ -0,0 +1,232 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.discovery;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.commons.io.input.BoundedInputStream;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.dspace.content.Bitstream;
+import org.dspace.services.ConfigurationService;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Local disk cache of the extracted full text (the bitstreams of the TEXT bundle) which is sent to solr when an item
+ * is indexed. Entries are keyed by the checksum of the bitstream, so an unchanged bitstream is read from the cache
+ * instead of from the (possibly remote) assetstore when its item is reindexed.
+ * <p>
+ * Only the part of the text which can end up in the index is cached: when discovery.solr.fulltext.charLimit is set,
+ * at most 4 bytes per indexed character are kept. The cache is bounded by discovery.fulltext.cache.max-size (in
+ * bytes); the least recently used entries are evicted first. Entries found on disk at startup are reused.
+ */
+public class FullTextCache {
+
+    private static final Logger log = LogManager.getLogger(FullTextCache.class);
+
+    /**
+     * The maximum number of bytes used to encode a single character, used to bound the size of the cached text
+     */
+    private static final int MAX_BYTES_PER_CHAR = 4;
+
+    @Autowired
+    protected ConfigurationService configurationService;
+
+    private Path directory;
+    private long maxSize;
+    private long currentSize = 0;
+
+    /**
+     * Cache entries and their size in bytes, in access order (least recently used first)
+     */
+    private final LinkedHashMap<String, Long> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    /**
+     * @return true if the full text cache is enabled
+     */
+    public boolean isEnabled() {
+        return configurationService.getBooleanProperty("discovery.fulltext.cache.enabled", false);
+    }
+
+    /**
+     * Open the full text of the given bitstream, from the cache if its checksum is known, otherwise from the given
+     * source which is stored in the cache for next time.
+     *
+     * @param bitstream the full text bitstream
+     * @param source    the source of the bitstream content, only called on a cache miss
+     * @return the full text of the bitstream
+     * @throws IOException If the full text can't be read or cached
+     */
+    public InputStream open(Bitstream bitstream, FullTextSource source) throws IOException {
+        String key = getKey(bitstream);
+        if (key == null) {
+            return source.open();
+        }
+        init();
+
+        Path file = getPath(key);
+        synchronized (this) {
+            if (entries.get(key) != null) {
+                if (Files.exists(file)) {
+                    hits.incrementAndGet();
+                    return Files.newInputStream(file);
+                }
+                // removed from disk behind our back
+                currentSize -= entries.remove(key);
+            }
+        }
+        misses.incrementAndGet();
+        return Files.newInputStream(fill(key, file, source));
+    }
+
+    /**
+     * Copy the (bounded) content of the source into the cache and register the new entry.
+     */
+    protected Path fill(String key, Path file, FullTextSource source) throws IOException {
+        Files.createDirectories(file.getParent());
+        Path temp = Files.createTempFile(file.getParent(), key, ".tmp");
+        try {
+            long limit = getByteLimit();
+            try (InputStream in = source.open();
+                 OutputStream out = Files.newOutputStream(temp)) {
+                if (limit > 0) {
+                    BoundedInputStream.builder().setInputStream(in).setMaxCount(limit).get().transferTo(out);
+                } else {
+                    in.transferTo(out);
+                }
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        register(key, Files.size(file));
+        return file;
+    }
+
+    private synchronized void register(String key, long size) {
+        Long previous = entries.put(key, size);
+        currentSize += size - (previous != null ? previous : 0);
+        evict();
+    }
+
+    /**
+     * Remove the least recently used entries until the cache fits its maximum size.
+     */
+    private void evict() {
+        Iterator<Map.Entry<String, Long>> iterator = entries.entrySet().iterator();
+        while (currentSize > maxSize && iterator.hasNext()) {
+            Map.Entry<String, Long> eldest = iterator.next();
+            try {
+                Files.deleteIfExists(getPath(eldest.getKey()));
+            } catch (IOException e) {
+                log.warn("Unable to remove full text cache entry {}", eldest.getKey(), e);
+            }
+            currentSize -= eldest.getValue();
+            iterator.remove();
+            evictions.incrementAndGet();
+        }
+    }
+
+    /**
+     * Read the configuration and the entries already on disk, on first use.
+     */
+    private synchronized void init() throws IOException {
+        if (directory != null) {
+            return;
+        }
+        String dir = configurationService.getProperty("discovery.fulltext.cache.dir",
+            configurationService.getProperty("dspace.dir") + "/var/fulltext-cache");
+        maxSize = configurationService.getLongProperty("discovery.fulltext.cache.max-size", 1024L * 1024 * 1024);
+        Path root = Paths.get(dir);
+        Files.createDirectories(root);
+
+        // register existing entries, oldest first so that they are evicted first
+        List<Path> existing;
+        try (Stream<Path> files = Files.walk(root)) {
+            existing = files.filter(path -> path.toString().endsWith(".txt"))
+                            .sorted(Comparator.comparingLong(path -> path.toFile().lastModified()))
+                            .collect(Collectors.toList());
+        }
+        directory = root;
+        for (Path path : existing) {
+            String key = StringUtils.removeEnd(path.getFileName().toString(), ".txt");
+            register(key, Files.size(path));
+        }
+        log.info("Full text cache in {} initialized with {} entries ({} bytes)", directory, entries.size(),
+                 currentSize);
+    }
+
+    /**
+     * The cache key consists of the checksum algorithm, the checksum and the (configured) byte limit, so changing the
+     * full text character limit invalidates the cached entries.
+     *
+     * @return the key, or null if the bitstream has no (usable) checksum
+     */
+    protected String getKey(Bitstream bitstream) {
+        String checksum = bitstream.getChecksum();
+        String algorithm = bitstream.getChecksumAlgorithm();
+        if (StringUtils.isBlank(checksum) || StringUtils.isBlank(algorithm)
+            || !StringUtils.isAlphanumeric(checksum) || !StringUtils.isAlphanumeric(algorithm)) {
+            return null;
+        }
+        return algorithm.toLowerCase() + "-" + checksum.toLowerCase() + "-" + getByteLimit();
+    }
+
+    private Path getPath(String key) {
+        String checksum = StringUtils.substringBetween(key, "-");
+        return directory.resolve(StringUtils.left(checksum, 2)).resolve(key + ".txt");
+    }
+
+    private long getByteLimit() {
+        long charLimit = configurationService.getIntProperty("discovery.solr.fulltext.charLimit", 100000);
+        return charLimit > 0 ? charLimit * MAX_BYTES_PER_CHAR : -1;
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public long getEvictions() {
+        return evictions.get();
+    }
+
+    public synchronized long getSize() {
+        return currentSize;
+    }
+
+    /**
+     * Source of the full text of a bitstream, read on a cache miss.
+     */
+    @FunctionalInterface
+    public interface FullTextSource {
+        InputStream open() throws IOException;
+    }
+}
@@ -36,6 +36,7 @@ import org.dspace.content.Item;
 import org.dspace.content.factory.ContentServiceFactory;
 import org.dspace.content.service.BitstreamService;
 import org.dspace.core.Context;
+import org.dspace.services.factory.DSpaceServicesFactory;
 
 /**
  * Construct a <code>ContentStream</code> from a <code>File</code>
@@ -48,6 +49,7 @@ public class FullTextContentStreams extends ContentStreamBase {
     protected final Context context;
     protected List<FullTextBitstream> fullTextStreams;
     protected BitstreamService bitstreamService;
+    protected FullTextCache fullTextCache;
 
     public FullTextContentStreams(Context context, Item parentItem) throws SQLException {
         this.context = context;
@@ -153,6 +155,14 @@ public class FullTextContentStreams extends ContentStreamBase {
         return bitstreamService;
     }
 
+    private FullTextCache getFullTextCache() {
+        if (fullTextCache == null) {
+            fullTextCache = DSpaceServicesFactory.getInstance().getServiceManager()
+                                                 .getServiceByName(FullTextCache.class.getName(), FullTextCache.class);
+        }
+        return fullTextCache;
+    }
+
     private class FullTextBitstream {
         private final String itemHandle;
         private final Bitstream bitstream;
@@ -176,7 +186,17 @@ public class FullTextContentStreams extends ContentStreamBase {
         }
 
         public InputStream getInputStream() throws SQLException, IOException, AuthorizeException {
-            return getBitstreamService().retrieve(context, bitstream);
+            FullTextCache cache = getFullTextCache();
+            if (cache == null || !cache.isEnabled()) {
+                return getBitstreamService().retrieve(context, bitstream);
+            }
+            return cache.open(bitstream, () -> {
+                try {
+                    return getBitstreamService().retrieve(context, bitstream);
+                } catch (SQLException | AuthorizeException e) {
+                    throw new IOException(e);
+                }
+            });
         }
 
         public String getItemHandle() {
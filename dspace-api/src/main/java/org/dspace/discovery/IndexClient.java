@@ -7,6 +7,7 @@
  */
 package org.dspace.discovery;
 
+import static org.dspace.discovery.IndexClientOptions.PARALLEL_OPTION;
 import static org.dspace.discovery.IndexClientOptions.TYPE_OPTION;
 
 import java.io.IOException;
@@ -80,6 +81,7 @@ public class IndexClient extends DSpaceRunnable<IndexDiscoveryScriptConfiguratio
             }
         }
 
+        final long skippedBefore = SolrDocumentBatch.getTotalSkipped();
         switch (indexClientOptions) {
             case REMOVE:
                 handler.logInfo("Removing " + commandLine.getOptionValue("r") + " from Index");
@@ -103,7 +105,11 @@ public class IndexClient extends DSpaceRunnable<IndexDiscoveryScriptConfiguratio
                             TYPE_OPTION));
                 }
                 indexer.deleteIndex();
-                indexer.createIndex(context);
+                if (commandLine.hasOption(PARALLEL_OPTION)) {
+                    rebuildInParallel(commandLine.getOptionValue(PARALLEL_OPTION));
+                } else {
+                    indexer.createIndex(context);
+                }
                 if (indexClientOptions == IndexClientOptions.BUILDANDSPELLCHECK) {
                     checkRebuildSpellCheck(commandLine, indexer);
                 }
@@ -145,6 +151,10 @@ public class IndexClient extends DSpaceRunnable<IndexDiscoveryScriptConfiguratio
                 break;
         }
 
+        final long skipped = SolrDocumentBatch.getTotalSkipped() - skippedBefore;
+        if (skipped > 0) {
+            handler.logInfo("Skipped writing " + skipped + " unchanged document" + (skipped > 1 ? "s" : ""));
+        }
         handler.logInfo("Done with indexing");
     }
 
@@ -254,6 +264,28 @@ public class IndexClient extends DSpaceRunnable<IndexDiscoveryScriptConfiguratio
         return count;
     }
 
+    /**
+     * Rebuild the index using a pool of worker threads, see {@link ParallelIndexRebuilder}.
+     *
+     * @param workers the number of worker threads, as passed on the command line
+     * @throws Exception If the index could not be rebuilt
+     */
+    private void rebuildInParallel(String workers) throws Exception {
+        int workerCount;
+        try {
+            workerCount = Integer.parseInt(workers);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("The " + PARALLEL_OPTION + " option requires a number of workers, got "
+                                                   + workers);
+        }
+        SolrSearchCore solrSearchCore = DSpaceServicesFactory.getInstance().getServiceManager()
+                .getServicesByType(SolrSearchCore.class).get(0);
+        new ParallelIndexRebuilder(indexer, IndexObjectFactoryFactory.getInstance(), solrSearchCore,
+                                   ContentServiceFactory.getInstance().getItemService(),
+                                   DSpaceServicesFactory.getInstance().getConfigurationService(), handler,
+                                   workerCount).rebuild(context);
+    }
+
     /**
      * Check the command line options and rebuild the spell check if active.
      *
@@ -19,6 +19,8 @@ import org.dspace.core.Constants;
 import org.dspace.core.Context;
 import org.dspace.discovery.indexobject.factory.IndexFactory;
 import org.dspace.discovery.indexobject.factory.IndexObjectFactoryFactory;
+import org.dspace.discovery.queue.IndexQueueAction;
+import org.dspace.discovery.queue.service.IndexQueueService;
 import org.dspace.event.Consumer;
 import org.dspace.event.Event;
 import org.dspace.services.factory.DSpaceServicesFactory;
@@ -50,6 +52,10 @@ public class IndexEventConsumer implements Consumer {
 
     IndexObjectFactoryFactory indexObjectServiceFactory = IndexObjectFactoryFactory.getInstance();
 
+    IndexQueueService indexQueueService = DSpaceServicesFactory.getInstance().getServiceManager()
+                                                               .getServiceByName(IndexQueueService.class.getName(),
+                                                                                 IndexQueueService.class);
+
     @Override
     public void initialize() throws Exception {
 
@@ -210,6 +216,11 @@ public class IndexEventConsumer implements Consumer {
     @Override
     public void end(Context ctx) throws Exception {
 
+        if (indexQueueService != null && indexQueueService.isEnabled()) {
+            enqueue(ctx);
+            return;
+        }
+
         // Change the mode to readonly to improve performance
         Context.Mode originalMode = ctx.getCurrentMode();
         ctx.setMode(Context.Mode.READ_ONLY);
@@ -248,6 +259,37 @@ public class IndexEventConsumer implements Consumer {
         }
     }
 
+    /**
+     * Queue the sets of objects to update and delete on the indexing queue, as part of the current transaction,
+     * instead of updating the index synchronously. Deletions are queued first so that an object which is both
+     * deleted and updated (e.g. an item leaving the workflow) ends up being updated.
+     */
+    private void enqueue(Context ctx) throws SQLException {
+        try {
+            for (String uid : uniqueIdsToDelete) {
+                indexQueueService.enqueue(ctx, uid, IndexQueueAction.DELETE);
+            }
+            for (IndexableObject iu : objectsToUpdate) {
+                enqueueUpdate(ctx, iu);
+            }
+            for (IndexableObject iu : createdItemsToUpdate) {
+                enqueueUpdate(ctx, iu);
+            }
+        } finally {
+            objectsToUpdate.clear();
+            uniqueIdsToDelete.clear();
+            createdItemsToUpdate.clear();
+        }
+    }
+
+    private void enqueueUpdate(Context ctx, IndexableObject iu) throws SQLException {
+        String uniqueIndexID = iu.getUniqueIndexID();
+        if (uniqueIndexID != null) {
+            indexQueueService.enqueue(ctx, uniqueIndexID, IndexQueueAction.UPDATE);
+            log.debug("Queued " + iu.getTypeText() + ", unique_id=" + uniqueIndexID);
+        }
+    }
+
     private void indexObject(Context ctx, IndexableObject iu, boolean preDb) throws SQLException {
         /* we let all types through here and
          * allow the search indexer to make
@@ -72,6 +72,15 @@ public interface IndexingService {
 
     void commit() throws SearchServiceException;
 
+    /**
+     * Notify that changes were sent to the search core without an explicit commit, asking Solr to commit them within
+     * the given time (commitWithin), so that any search results cached until then are discarded.
+     *
+     * @param commitWithin the maximum time in milliseconds before Solr commits the changes
+     */
+    default void changesCommittedWithin(int commitWithin) {
+    }
+
     void optimize() throws SearchServiceException;
 
     void buildSpellCheck() throws SearchServiceException, IOException;
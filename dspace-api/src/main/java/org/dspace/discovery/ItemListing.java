@@ -0,0 +1,185 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.discovery;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.dspace.core.ReloadableEntity;
+
+/**
+ * The subset of an archived item needed to display it in a list of search results, as stored in the search core by
+ * the {@link SolrServiceItemListingPlugin}. Search results can be built from it without loading the items from the
+ * database.
+ */
+public class ItemListing implements ReloadableEntity<UUID> {
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    private final UUID id;
+    private final String handle;
+    private final String name;
+    private final boolean discoverable;
+    private final Instant lastModified;
+    private final List<Value> metadata;
+
+    public ItemListing(UUID id, String handle, String name, boolean discoverable, Instant lastModified,
+                       List<Value> metadata) {
+        this.id = id;
+        this.handle = handle;
+        this.name = name;
+        this.discoverable = discoverable;
+        this.lastModified = lastModified;
+        this.metadata = metadata;
+    }
+
+    @Override
+    public UUID getID() {
+        return id;
+    }
+
+    public String getHandle() {
+        return handle;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public boolean isDiscoverable() {
+        return discoverable;
+    }
+
+    public Instant getLastModified() {
+        return lastModified;
+    }
+
+    /**
+     * @return the stored metadata values, in the order of their fields and places
+     */
+    public List<Value> getMetadata() {
+        return metadata;
+    }
+
+    /**
+     * Serialize the listing to the JSON stored in the search core
+     *
+     * @return the JSON representation
+     */
+    public String toJson() {
+        ObjectNode node = mapper.createObjectNode();
+        node.put("id", id.toString());
+        node.put("handle", handle);
+        node.put("name", name);
+        node.put("discoverable", discoverable);
+        node.put("lastModified", lastModified != null ? lastModified.toString() : null);
+        ArrayNode values = node.putArray("metadata");
+        for (Value value : metadata) {
+            values.addObject()
+                  .put("field", value.getField())
+                  .put("value", value.getValue())
+                  .put("language", value.getLanguage())
+                  .put("authority", value.getAuthority())
+                  .put("confidence", value.getConfidence())
+                  .put("place", value.getPlace());
+        }
+        return node.toString();
+    }
+
+    /**
+     * Parse a listing stored in the search core
+     *
+     * @param json the JSON representation, from {@link #toJson()}
+     * @return the listing
+     * @throws JsonProcessingException if the JSON can't be parsed
+     */
+    public static ItemListing fromJson(String json) throws JsonProcessingException {
+        JsonNode node = mapper.readTree(json);
+        List<Value> metadata = new ArrayList<>();
+        for (JsonNode value : node.path("metadata")) {
+            metadata.add(new Value(value.path("field").asText(), textOrNull(value, "value"),
+                                   textOrNull(value, "language"), textOrNull(value, "authority"),
+                                   value.path("confidence").asInt(-1), value.path("place").asInt()));
+        }
+        String lastModified = textOrNull(node, "lastModified");
+        return new ItemListing(UUID.fromString(node.path("id").asText()), textOrNull(node, "handle"),
+                               textOrNull(node, "name"), node.path("discoverable").asBoolean(true),
+                               lastModified != null ? Instant.parse(lastModified) : null, metadata);
+    }
+
+    private static String textOrNull(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        return value == null || value.isNull() ? null : value.asText();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof ItemListing && Objects.equals(id, ((ItemListing) o).id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(id);
+    }
+
+    /**
+     * A stored metadata value
+     */
+    public static class Value {
+        private final String field;
+        private final String value;
+        private final String language;
+        private final String authority;
+        private final int confidence;
+        private final int place;
+
+        public Value(String field, String value, String language, String authority, int confidence, int place) {
+            this.field = field;
+            this.value = value;
+            this.language = language;
+            this.authority = authority;
+            this.confidence = confidence;
+            this.place = place;
+        }
+
+        /**
+         * @return the metadata field, as schema.element[.qualifier]
+         */
+        public String getField() {
+            return field;
+        }
+
+        public String getValue() {
+            return value;
+        }
+
+        public String getLanguage() {
+            return language;
+        }
+
+        public String getAuthority() {
+            return authority;
+        }
+
+        public int getConfidence() {
+            return confidence;
+        }
+
+        public int getPlace() {
+            return place;
+        }
+    }
+}
@@ -0,0 +1,225 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.discovery;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.solr.client.solrj.SolrServerException;
+import org.dspace.content.Item;
+import org.dspace.content.service.ItemService;
+import org.dspace.core.Context;
+import org.dspace.discovery.indexobject.IndexableItem;
+import org.dspace.discovery.indexobject.factory.IndexFactory;
+import org.dspace.discovery.indexobject.factory.IndexObjectFactoryFactory;
+import org.dspace.scripts.handler.DSpaceRunnableHandler;
+import org.dspace.services.ConfigurationService;
+
+/**
+ * Rebuilds the complete discovery index using a pool of worker threads.
+ * <p>
+ * The UUIDs of all regular items are loaded up front and split in consecutive ranges. Every range is indexed by a
+ * worker using its own {@link Context}, and the documents are sent to solr in batches through a
+ * {@link SolrDocumentBatch}. All other indexable object types are indexed (batched) on the calling thread.
+ * Progress, throughput and an estimated time of completion are reported through the script handler.
+ * <p>
+ * The objects which could not be indexed (see {@link SolrDocumentBatch#getFailedIds()}) are counted and reported at
+ * the end, and make the rebuild fail once all the other objects have been indexed and committed.
+ */
+public class ParallelIndexRebuilder {
+
+    private static final Logger log = LogManager.getLogger(ParallelIndexRebuilder.class);
+
+    private final IndexingService indexingService;
+    private final IndexObjectFactoryFactory indexObjectFactoryFactory;
+    private final SolrSearchCore solrSearchCore;
+    private final ItemService itemService;
+    private final DSpaceRunnableHandler handler;
+
+    private final int workers;
+    private final int batchSize;
+    private final int rangeSize;
+    private final long progressInterval;
+
+    private final AtomicLong indexed = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    public ParallelIndexRebuilder(IndexingService indexingService, IndexObjectFactoryFactory indexObjectFactoryFactory,
+                                  SolrSearchCore solrSearchCore, ItemService itemService,
+                                  ConfigurationService configurationService, DSpaceRunnableHandler handler,
+                                  int workers) {
+        this.indexingService = indexingService;
+        this.indexObjectFactoryFactory = indexObjectFactoryFactory;
+        this.solrSearchCore = solrSearchCore;
+        this.itemService = itemService;
+        this.handler = handler;
+        this.workers = Math.max(1, workers);
+        this.batchSize = configurationService.getIntProperty("discovery.index.batch-size", 100);
+        this.rangeSize = Math.max(1, configurationService.getIntProperty("discovery.index.parallel.range-size", 1000));
+        this.progressInterval = Math.max(1,
+            configurationService.getLongProperty("discovery.index.parallel.progress-interval", 30));
+    }
+
+    /**
+     * Index all indexable objects. The index is expected to be empty (or is overwritten) and is committed once at
+     * the end.
+     *
+     * @param context The DSpace context used for the non-item objects and to list the item identifiers
+     * @return the number of indexed objects
+     * @throws SQLException           If database error
+     * @throws IOException            If IO error
+     * @throws SolrServerException    If the documents could not be written to the search core
+     * @throws SearchServiceException If the final commit fails, or if some objects could not be indexed
+     */
+    public long rebuild(Context context) throws SQLException, IOException, SolrServerException,
+        SearchServiceException {
+        long start = System.currentTimeMillis();
+        indexed.set(0);
+        failed.set(0);
+
+        indexOtherTypes(context);
+
+        List<UUID> itemIds = itemService.findAllRegularItemIds(context);
+        handler.logInfo(String.format("Indexing %d items in ranges of %d using %d workers (batch size %d)",
+                                      itemIds.size(), rangeSize, workers, batchSize));
+        indexItems(itemIds, indexed.get() + itemIds.size());
+
+        indexingService.commit();
+        long seconds = Math.max(1, (System.currentTimeMillis() - start) / 1000);
+        handler.logInfo(String.format("Indexed %d objects in %d seconds (%d objects/s)",
+                                      indexed.get(), seconds, indexed.get() / seconds));
+        if (failed.get() > 0) {
+            handler.logError(String.format("%d objects could not be indexed, see the log for details", failed.get()));
+            throw new SearchServiceException(failed.get() + " objects could not be indexed");
+        }
+        return indexed.get();
+    }
+
+    /**
+     * @return the number of objects which could not be indexed by the last rebuild
+     */
+    public long getFailed() {
+        return failed.get();
+    }
+
+    /**
+     * Index all objects which aren't items on the calling thread.
+     */
+    protected void indexOtherTypes(Context context) throws SQLException, IOException, SolrServerException {
+        try (SolrDocumentBatch batch = SolrDocumentBatch.open(solrSearchCore.getSolr(), batchSize)) {
+            for (IndexFactory indexFactory : indexObjectFactoryFactory.getIndexFactories()) {
+                if (StringUtils.equals(indexFactory.getType(), IndexableItem.TYPE)) {
+                    continue;
+                }
+                @SuppressWarnings("unchecked")
+                Iterator<IndexableObject> indexableObjects = indexFactory.findAll(context);
+                while (indexableObjects.hasNext()) {
+                    IndexableObject indexableObject = indexableObjects.next();
+                    indexingService.indexContent(context, indexableObject, true);
+                    context.uncacheEntity(indexableObject.getIndexedObject());
+                    indexed.incrementAndGet();
+                }
+            }
+            batch.flush();
+            failed.addAndGet(batch.getFailed());
+        }
+    }
+
+    /**
+     * Index the given items, split in ranges over the worker pool, reporting progress until all ranges are done.
+     */
+    protected void indexItems(List<UUID> itemIds, long total) throws IOException {
+        ExecutorService executor = Executors.newFixedThreadPool(workers);
+        List<Future<Long>> results = new ArrayList<>();
+        try {
+            for (int from = 0; from < itemIds.size(); from += rangeSize) {
+                List<UUID> range = itemIds.subList(from, Math.min(from + rangeSize, itemIds.size()));
+                results.add(executor.submit(() -> indexRange(range)));
+            }
+            executor.shutdown();
+
+            long start = System.currentTimeMillis();
+            long startCount = indexed.get();
+            while (!executor.awaitTermination(progressInterval, TimeUnit.SECONDS)) {
+                reportProgress(start, startCount, total);
+            }
+            for (Future<Long> result : results) {
+                result.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for the indexing workers", e);
+        } catch (ExecutionException e) {
+            throw new IOException("An indexing worker failed: " + e.getCause().getMessage(), e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Index one range of items using a dedicated context and solr document batch.
+     *
+     * @param range the item UUIDs to index
+     * @return the number of items handled
+     */
+    protected long indexRange(List<UUID> range) throws SQLException, IOException, SolrServerException {
+        Context context = new Context(Context.Mode.READ_ONLY);
+        context.turnOffAuthorisationSystem();
+        long count = 0;
+        try (SolrDocumentBatch batch = SolrDocumentBatch.open(solrSearchCore.getSolr(), batchSize)) {
+            for (UUID uuid : range) {
+                Item item = itemService.find(context, uuid);
+                if (item != null) {
+                    indexingService.indexContent(context, new IndexableItem(item), true);
+                    context.uncacheEntity(item);
+                }
+                count++;
+                indexed.incrementAndGet();
+                if ((count % 100) == 0) {
+                    context.uncacheEntities();
+                }
+            }
+            batch.flush();
+            failed.addAndGet(batch.getFailed());
+        } finally {
+            context.restoreAuthSystemState();
+            context.abort();
+        }
+        log.debug("Indexed item range {} - {}", range.get(0), range.get(range.size() - 1));
+        return count;
+    }
+
+    private void reportProgress(long start, long startCount, long total) {
+        long done = indexed.get();
+        long elapsed = Math.max(1, System.currentTimeMillis() - start);
+        double perSecond = (done - startCount) * 1000d / elapsed;
+        String eta = perSecond > 0
+            ? formatDuration(Duration.ofSeconds((long) ((total - done) / perSecond)))
+            : "unknown";
+        handler.logInfo(String.format("Indexed %d/%d objects (%.1f objects/s, ETA %s)", done, total, perSecond, eta));
+    }
+
+    private String formatDuration(Duration duration) {
+        return String.format("%dh%02dm%02ds", duration.toHours(), duration.toMinutesPart(),
+                             duration.toSecondsPart());
+    }
+}
@@ -0,0 +1,167 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.discovery;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.apache.solr.client.solrj.response.QueryResponse;
+import org.apache.solr.common.params.CommonParams;
+import org.apache.solr.common.params.SolrParams;
+
+/**
+ * Cache of the responses of the search core, by query. Entries expire after a given time to live, and the least
+ * recently used ones are evicted once the maximum number of entries is reached.
+ * <p>
+ * The whole cache is invalidated whenever the index is committed (see {@link #invalidate()}): every invalidation
+ * starts a new generation, and responses obtained during a previous generation are never cached. When the changes
+ * are only committed later by Solr (commitWithin), no response is cached until then (see {@link #invalidate(long)}).
+ * <p>
+ * Only the Solr responses are kept, not the objects found, so the cached responses can be used by any Context.
+ * As the queries include the read restrictions of the current user, a response is only shared by the users with the
+ * same effective read groups.
+ */
+public class SearchResultCache {
+
+    /**
+     * Entries by key, in access order
+     */
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * The current generation of the index, guarded by the entries
+     */
+    private long generation;
+
+    /**
+     * The time in milliseconds until which the responses are not cached, guarded by the entries
+     */
+    private long uncachedUntil;
+
+    /**
+     * Build the key of a query. The parameters are sorted by name, and the filter queries are sorted too, so that
+     * equivalent queries have the same key.
+     *
+     * @param params the parameters of the Solr query
+     * @return the key
+     */
+    public static String getKey(SolrParams params) {
+        Map<String, List<String>> normalized = new TreeMap<>();
+        Iterator<String> names = params.getParameterNamesIterator();
+        while (names.hasNext()) {
+            String name = names.next();
+            List<String> values = new ArrayList<>(Arrays.asList(params.getParams(name)));
+            if (CommonParams.FQ.equals(name)) {
+                Collections.sort(values);
+            }
+            normalized.put(name, values);
+        }
+        return normalized.toString();
+    }
+
+    /**
+     * @return the current generation of the index, to pass to {@link #put(String, QueryResponse, long, long, int)},
+     *         or -1 if the responses obtained now must not be cached
+     */
+    public long getGeneration() {
+        synchronized (entries) {
+            return System.currentTimeMillis() < uncachedUntil ? -1 : generation;
+        }
+    }
+
+    /**
+     * Get a cached response.
+     *
+     * @param key the key, from {@link #getKey(SolrParams)}
+     * @param now the current time in milliseconds
+     * @return the response, or null if it is not cached or has expired
+     */
+    public QueryResponse get(String key, long now) {
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.expires <= now) {
+                entries.remove(key);
+                return null;
+            }
+            return entry.response;
+        }
+    }
+
+    /**
+     * Cache a response, unless the index has been committed since the query was sent.
+     *
+     * @param key        the key, from {@link #getKey(SolrParams)}
+     * @param response   the response
+     * @param generation the generation of the index before the query was sent, from {@link #getGeneration()}
+     * @param expires    the time in milliseconds after which the entry expires
+     * @param maxEntries the maximum number of cached entries
+     */
+    public void put(String key, QueryResponse response, long generation, long expires, int maxEntries) {
+        synchronized (entries) {
+            if (generation < 0 || generation != this.generation) {
+                return;
+            }
+            entries.put(key, new Entry(response, expires));
+            while (entries.size() > maxEntries) {
+                entries.remove(entries.keySet().iterator().next());
+            }
+        }
+    }
+
+    /**
+     * Discard all the cached responses, as the index has changed
+     */
+    public void invalidate() {
+        synchronized (entries) {
+            generation++;
+            entries.clear();
+        }
+    }
+
+    /**
+     * Discard all the cached responses, as changes have been sent to the index which will only be visible after the
+     * given time. The responses obtained until then are not cached.
+     *
+     * @param until the time in milliseconds after which the changes are committed
+     */
+    public void invalidate(long until) {
+        synchronized (entries) {
+            generation++;
+            entries.clear();
+            uncachedUntil = Math.max(uncachedUntil, until);
+        }
+    }
+
+    /**
+     * @return the number of cached entries, including the expired ones not yet discarded
+     */
+    public int getSize() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private static class Entry {
+        private final QueryResponse response;
+        private final long expires;
+
+        private Entry(QueryResponse response, long expires) {
+            this.response = response;
+            this.expires = expires;
+        }
+    }
+}
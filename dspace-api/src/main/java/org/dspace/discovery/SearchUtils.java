@@ -42,6 +42,7 @@ public class SearchUtils {
     public static final String RESOURCE_UNIQUE_ID = "search.uniqueid";
     public static final String RESOURCE_TYPE_FIELD = "search.resourcetype";
     public static final String RESOURCE_ID_FIELD = "search.resourceid";
+    public static final String FINGERPRINT_FIELD = "search.fingerprint";
     public static final String NAMED_RESOURCE_TYPE = "namedresourcetype";
     public static final String FILTER_SEPARATOR = "\n|||\n";
 
@@ -0,0 +1,325 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.discovery;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.solr.client.solrj.SolrClient;
+import org.apache.solr.client.solrj.SolrServerException;
+import org.apache.solr.common.SolrDocument;
+import org.apache.solr.common.SolrInputDocument;
+import org.apache.solr.common.params.CommonParams;
+import org.apache.solr.common.params.ModifiableSolrParams;
+
+/**
+ * Buffer of solr documents which are sent to the search core in batches using {@link SolrClient#add(java.util.Collection)}
+ * instead of one request per document. Deletions by unique id are buffered the same way. Optionally the batch asks
+ * solr to commit the changes within a given time (commitWithin) so that callers don't have to commit explicitly.
+ * <p>
+ * A batch is bound to the thread which opened it: while it is open, the index factories add the documents they write
+ * to this batch (see {@link #current()}). Closing the batch flushes the remaining documents and unbinds it.
+ * <p>
+ * If solr rejects a batch, its documents (or deletions) are sent again one by one, so that a single bad document
+ * doesn't prevent the others from being indexed. The unique ids of the documents which could still not be written
+ * are recorded (see {@link #getFailedIds()}), so that the caller can report or retry them.
+ * <p>
+ * Documents added with {@link #addIfChanged(SolrInputDocument)} are compared with the fingerprints of the indexed
+ * documents, looked up with a single real-time get per flush, and are not written again if they didn't change.
+ *
+ * <pre>
+ * try (SolrDocumentBatch batch = SolrDocumentBatch.open(solrClient, 500)) {
+ *     indexingService.indexContent(context, indexableObject, true);
+ * }
+ * </pre>
+ */
+public class SolrDocumentBatch implements AutoCloseable {
+
+    private static final Logger log = LogManager.getLogger(SolrDocumentBatch.class);
+
+    private static final ThreadLocal<SolrDocumentBatch> currentBatch = new ThreadLocal<>();
+
+    /**
+     * Number of documents which were not written since startup because their fingerprint matched the indexed
+     * document
+     */
+    private static final AtomicLong totalSkipped = new AtomicLong();
+
+    private final SolrClient solr;
+    private final int batchSize;
+    private final int commitWithin;
+    private final List<SolrInputDocument> documents;
+    private final List<String> deletions;
+    private final List<String> failedIds = new ArrayList<>();
+    // the unique ids of the buffered documents which are only written if their fingerprint changed
+    private final Set<String> writeIfChanged = new HashSet<>();
+    private long written = 0;
+    private long deleted = 0;
+    private long skipped = 0;
+
+    protected SolrDocumentBatch(SolrClient solr, int batchSize, int commitWithin) {
+        this.solr = solr;
+        this.batchSize = Math.max(1, batchSize);
+        this.commitWithin = commitWithin;
+        this.documents = new ArrayList<>(this.batchSize);
+        this.deletions = new ArrayList<>();
+    }
+
+    /**
+     * Open a new batch and bind it to the current thread.
+     *
+     * @param solr      the solr client the documents will be sent to
+     * @param batchSize the number of documents after which the batch is flushed
+     * @return the new batch
+     * @throws IllegalStateException if a batch is already open for the current thread
+     */
+    public static SolrDocumentBatch open(SolrClient solr, int batchSize) {
+        return open(solr, batchSize, -1);
+    }
+
+    /**
+     * Open a new batch and bind it to the current thread.
+     *
+     * @param solr         the solr client the documents will be sent to
+     * @param batchSize    the number of documents (or deletions) after which the batch is flushed
+     * @param commitWithin the maximum time in milliseconds before solr commits the changes, -1 to not ask for a
+     *                     commit
+     * @return the new batch
+     * @throws IllegalStateException if a batch is already open for the current thread
+     */
+    public static SolrDocumentBatch open(SolrClient solr, int batchSize, int commitWithin) {
+        if (currentBatch.get() != null) {
+            throw new IllegalStateException("A solr document batch is already open for this thread");
+        }
+        SolrDocumentBatch batch = new SolrDocumentBatch(solr, batchSize, commitWithin);
+        currentBatch.set(batch);
+        return batch;
+    }
+
+    /**
+     * @return the batch bound to the current thread, or null if documents should be written immediately
+     */
+    public static SolrDocumentBatch current() {
+        return currentBatch.get();
+    }
+
+    /**
+     * Add a document to the batch, flushing the batch when it is full.
+     *
+     * @param document the document to add
+     * @throws IOException         If IO error
+     * @throws SolrServerException If the documents could not be written to the search core
+     */
+    public void add(SolrInputDocument document) throws IOException, SolrServerException {
+        documents.add(document);
+        if (documents.size() >= batchSize) {
+            flush();
+        }
+    }
+
+    /**
+     * Add a document to the batch, unless the indexed document has the same fingerprint (see
+     * {@link SearchUtils#FINGERPRINT_FIELD}). The fingerprints of all such documents are looked up at once when the
+     * batch is flushed. A document without fingerprint is always written.
+     *
+     * @param document the document to add, with its fingerprint
+     * @throws IOException         If IO error
+     * @throws SolrServerException If the documents could not be written to the search core
+     */
+    public void addIfChanged(SolrInputDocument document) throws IOException, SolrServerException {
+        String uniqueId = (String) document.getFieldValue(SearchUtils.RESOURCE_UNIQUE_ID);
+        if (uniqueId != null && document.getFieldValue(SearchUtils.FINGERPRINT_FIELD) != null) {
+            writeIfChanged.add(uniqueId);
+        }
+        add(document);
+    }
+
+    /**
+     * Add the deletion of a document to the batch, flushing the batch when it is full.
+     *
+     * @param uniqueId the unique id of the document to delete
+     * @throws IOException         If IO error
+     * @throws SolrServerException If the documents could not be removed from the search core
+     */
+    public void delete(String uniqueId) throws IOException, SolrServerException {
+        deletions.add(uniqueId);
+        if (deletions.size() >= batchSize) {
+            flush();
+        }
+    }
+
+    /**
+     * Send all buffered deletions and documents to the search core. Deletions are sent first, and unchanged documents
+     * are skipped. If solr rejects the whole batch, the deletions or documents are sent one by one, and the ones
+     * which still fail are recorded in {@link #getFailedIds()}.
+     *
+     * @throws IOException         If IO error
+     * @throws SolrServerException If the documents could not be written to the search core
+     */
+    public void flush() throws IOException, SolrServerException {
+        if (!deletions.isEmpty()) {
+            List<String> uniqueIds = new ArrayList<>(deletions);
+            deletions.clear();
+            try {
+                solr.deleteById(uniqueIds, commitWithin);
+                deleted += uniqueIds.size();
+            } catch (IOException | SolrServerException | RuntimeException e) {
+                log.warn("Unable to delete {} documents at once, deleting them one by one", uniqueIds.size(), e);
+                for (String uniqueId : uniqueIds) {
+                    try {
+                        solr.deleteById(uniqueId, commitWithin);
+                        deleted++;
+                    } catch (IOException | SolrServerException | RuntimeException e2) {
+                        addFailure(uniqueId, e2);
+                    }
+                }
+            }
+        }
+        if (!documents.isEmpty()) {
+            List<SolrInputDocument> toWrite = skipUnchanged(documents);
+            documents.clear();
+            writeIfChanged.clear();
+            if (toWrite.isEmpty()) {
+                return;
+            }
+            try {
+                solr.add(toWrite, commitWithin);
+                written += toWrite.size();
+            } catch (IOException | SolrServerException | RuntimeException e) {
+                log.warn("Unable to write {} documents at once, writing them one by one", toWrite.size(), e);
+                for (SolrInputDocument document : toWrite) {
+                    try {
+                        solr.add(document, commitWithin);
+                        written++;
+                    } catch (IOException | SolrServerException | RuntimeException e2) {
+                        addFailure((String) document.getFieldValue(SearchUtils.RESOURCE_UNIQUE_ID), e2);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Filter out the documents whose fingerprint matches the one of the indexed document. A real-time get is used,
+     * so that uncommitted changes (e.g. the deletion of the whole index before a rebuild) are taken into account.
+     * If the lookup fails, all documents are written.
+     *
+     * @param documents the buffered documents
+     * @return the documents to write
+     */
+    protected List<SolrInputDocument> skipUnchanged(List<SolrInputDocument> documents) {
+        List<SolrInputDocument> toWrite = new ArrayList<>(documents);
+        if (writeIfChanged.isEmpty()) {
+            return toWrite;
+        }
+        Map<String, Object> indexed = new HashMap<>();
+        try {
+            ModifiableSolrParams params = new ModifiableSolrParams();
+            params.set(CommonParams.FL, SearchUtils.RESOURCE_UNIQUE_ID + "," + SearchUtils.FINGERPRINT_FIELD);
+            for (SolrDocument document : solr.getById(new HashSet<>(writeIfChanged), params)) {
+                indexed.put((String) document.getFirstValue(SearchUtils.RESOURCE_UNIQUE_ID),
+                            document.getFirstValue(SearchUtils.FINGERPRINT_FIELD));
+            }
+        } catch (IOException | SolrServerException | RuntimeException e) {
+            log.warn("Unable to retrieve the fingerprints of {} indexed documents, they will be rewritten",
+                     writeIfChanged.size(), e);
+            return toWrite;
+        }
+        int before = toWrite.size();
+        toWrite.removeIf(document -> {
+            String uniqueId = (String) document.getFieldValue(SearchUtils.RESOURCE_UNIQUE_ID);
+            Object fingerprint = document.getFieldValue(SearchUtils.FINGERPRINT_FIELD);
+            return writeIfChanged.contains(uniqueId) && fingerprint != null
+                && fingerprint.equals(indexed.get(uniqueId));
+        });
+        int unchanged = before - toWrite.size();
+        if (unchanged > 0) {
+            log.debug("Skipped writing {} unchanged documents", unchanged);
+            skipped += unchanged;
+            totalSkipped.addAndGet(unchanged);
+        }
+        return toWrite;
+    }
+
+    /**
+     * Record a document which could not be written to (or removed from) the search core, either by this batch or
+     * while it was being built.
+     *
+     * @param uniqueId the unique id of the document, may be null if unknown
+     * @param cause    the reason of the failure
+     */
+    public void addFailure(String uniqueId, Throwable cause) {
+        log.error("Unable to update the document {} in the search core", uniqueId, cause);
+        failedIds.add(uniqueId);
+    }
+
+    /**
+     * @return the number of documents which could not be written to (or removed from) the search core
+     */
+    public long getFailed() {
+        return failedIds.size();
+    }
+
+    /**
+     * @return the unique ids of the documents which could not be written to (or removed from) the search core
+     */
+    public List<String> getFailedIds() {
+        return Collections.unmodifiableList(failedIds);
+    }
+
+    /**
+     * @return the number of documents which were sent to the search core by this batch
+     */
+    public long getWritten() {
+        return written;
+    }
+
+    /**
+     * @return the number of documents which were not written by this batch because they didn't change
+     */
+    public long getSkipped() {
+        return skipped;
+    }
+
+    /**
+     * @return the number of documents which were not written since startup because they didn't change
+     */
+    public static long getTotalSkipped() {
+        return totalSkipped.get();
+    }
+
+    /**
+     * @return the number of documents which were deleted from the search core by this batch
+     */
+    public long getDeleted() {
+        return deleted;
+    }
+
+    /**
+     * Flush the remaining documents and unbind this batch from the current thread.
+     */
+    @Override
+    public void close() throws IOException, SolrServerException {
+        try {
+            flush();
+        } finally {
+            if (currentBatch.get() == this) {
+                currentBatch.remove();
+            }
+        }
+    }
+}
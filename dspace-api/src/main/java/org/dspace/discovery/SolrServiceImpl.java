@@ -19,14 +19,17 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import jakarta.mail.MessagingException;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.MapUtils;
@@ -44,6 +47,7 @@ import org.apache.solr.client.solrj.util.ClientUtils;
 import org.apache.solr.common.SolrDocument;
 import org.apache.solr.common.SolrDocumentList;
 import org.apache.solr.common.SolrInputDocument;
+import org.apache.solr.common.params.CursorMarkParams;
 import org.apache.solr.common.params.FacetParams;
 import org.apache.solr.common.params.HighlightParams;
 import org.apache.solr.common.params.MoreLikeThisParams;
@@ -69,6 +73,7 @@ import org.dspace.discovery.configuration.DiscoverySortConfiguration;
 import org.dspace.discovery.indexobject.IndexableCollection;
 import org.dspace.discovery.indexobject.IndexableCommunity;
 import org.dspace.discovery.indexobject.IndexableItem;
+import org.dspace.discovery.indexobject.IndexableItemListing;
 import org.dspace.discovery.indexobject.factory.IndexFactory;
 import org.dspace.discovery.indexobject.factory.IndexObjectFactoryFactory;
 import org.dspace.discovery.indexobject.factory.ItemIndexFactory;
@@ -120,6 +125,11 @@ public class SolrServiceImpl implements SearchService, IndexingService {
     @Autowired
     protected ConfigurationService configurationService;
 
+    /**
+     * The cached responses of the queries of the discovery configurations with a cache
+     */
+    protected final SearchResultCache searchResultCache = new SearchResultCache();
+
     protected SolrServiceImpl() {
 
     }
@@ -143,6 +153,9 @@ public class SolrServiceImpl implements SearchService, IndexingService {
      * If the handle for the "dso" already exists in the index, and the "dso"
      * has a lastModified timestamp that is newer than the document in the index
      * then it is updated, otherwise a new document is added.
+     * <p>
+     * A stale document is written even if its fingerprint didn't change, so that its time of indexing is updated
+     * and it is no longer found stale. When forced, unchanged documents are skipped.
      *
      * @param context Users Context
      * @param indexableObject     The object we want to index
@@ -155,19 +168,26 @@ public class SolrServiceImpl implements SearchService, IndexingService {
         try {
             final IndexFactory indexableObjectFactory = indexObjectServiceFactory.
                     getIndexableObjectFactory(indexableObject);
-            if (force || requiresIndexing(indexableObject.getUniqueIndexID(), indexableObject.getLastModified())) {
-                update(context, indexableObjectFactory, indexableObject);
+            if (force) {
+                update(context, indexableObjectFactory, indexableObject, false, true);
+                log.info(LogHelper.getHeader(context, "indexed_object", indexableObject.getUniqueIndexID()));
+            } else if (requiresIndexing(indexableObject.getUniqueIndexID(), indexableObject.getLastModified())) {
+                update(context, indexableObjectFactory, indexableObject, false, false);
                 log.info(LogHelper.getHeader(context, "indexed_object", indexableObject.getUniqueIndexID()));
             }
         } catch (IOException | SQLException | SolrServerException | SearchServiceException e) {
-            log.error(e.getMessage(), e);
+            SolrDocumentBatch batch = SolrDocumentBatch.current();
+            if (batch != null) {
+                batch.addFailure(indexableObject.getUniqueIndexID(), e);
+            } else {
+                log.error(e.getMessage(), e);
+            }
         }
     }
 
     protected void update(Context context, IndexFactory indexableObjectService,
                           IndexableObject indexableObject) throws IOException, SQLException, SolrServerException {
-        final SolrInputDocument solrInputDocument = indexableObjectService.buildDocument(context, indexableObject);
-        indexableObjectService.writeDocument(context, indexableObject, solrInputDocument);
+        update(context, indexableObjectService, indexableObject, false, true);
     }
 
     /**
@@ -179,13 +199,23 @@ public class SolrServiceImpl implements SearchService, IndexingService {
      */
     protected void update(Context context, IndexFactory indexableObjectService, IndexableObject indexableObject,
                           boolean preDB) throws IOException, SQLException, SolrServerException {
-        if (preDB) {
-            final SolrInputDocument solrInputDocument =
-                    indexableObjectService.buildNewDocument(context, indexableObject);
-            indexableObjectService.writeDocument(context, indexableObject, solrInputDocument);
-        } else {
-            update(context, indexableObjectService, indexableObject);
-        }
+        update(context, indexableObjectService, indexableObject, preDB, true);
+    }
+
+    /**
+     * Update the given indexable object using a given service
+     * @param context                   The DSpace Context
+     * @param indexableObjectService    The service to index the object with
+     * @param indexableObject           The object to index
+     * @param preDB                     Add a "preDB" status to the document
+     * @param skipUnchanged             Don't write the document if its content didn't change since it was indexed
+     */
+    protected void update(Context context, IndexFactory indexableObjectService, IndexableObject indexableObject,
+                          boolean preDB, boolean skipUnchanged) throws IOException, SQLException, SolrServerException {
+        final SolrInputDocument solrInputDocument = preDB
+            ? indexableObjectService.buildNewDocument(context, indexableObject)
+            : indexableObjectService.buildDocument(context, indexableObject);
+        indexableObjectService.writeDocument(context, indexableObject, solrInputDocument, skipUnchanged);
     }
 
     /**
@@ -222,7 +252,7 @@ public class SolrServiceImpl implements SearchService, IndexingService {
             log.info("Try to delete uniqueID:" + uniqueID);
             indexObjectServiceFactory.getIndexableObjectFactory(indexableObject).delete(indexableObject);
             if (commit) {
-                solrSearchCore.getSolr().commit();
+                commitSearchCore();
             }
         } catch (IOException | SolrServerException exception) {
             log.error(exception.getMessage(), exception);
@@ -263,11 +293,16 @@ public class SolrServiceImpl implements SearchService, IndexingService {
                     log.warn("Object not found in Solr index: " + searchUniqueID);
                 }
                 if (commit) {
-                    solrSearchCore.getSolr().commit();
+                    commitSearchCore();
                 }
             }
         } catch (SolrServerException e) {
-            log.error(e.getMessage(), e);
+            SolrDocumentBatch batch = SolrDocumentBatch.current();
+            if (batch != null) {
+                batch.addFailure(searchUniqueID, e);
+            } else {
+                log.error(e.getMessage(), e);
+            }
         }
     }
 
@@ -342,6 +377,7 @@ public class SolrServiceImpl implements SearchService, IndexingService {
             final List<IndexFactory> indexableObjectServices = indexObjectServiceFactory.
                 getIndexFactories();
             int indexObject = 0;
+            long skippedBefore = SolrDocumentBatch.getTotalSkipped();
             for (IndexFactory indexableObjectService : indexableObjectServices) {
                 if (type == null || StringUtils.equals(indexableObjectService.getType(), type)) {
                     final Iterator<IndexableObject> indexableObjects = indexableObjectService.findAll(context);
@@ -357,8 +393,10 @@ public class SolrServiceImpl implements SearchService, IndexingService {
                 }
             }
             if (solrSearchCore.getSolr() != null) {
-                solrSearchCore.getSolr().commit();
+                commitSearchCore();
             }
+            log.info("Processed {} objects, skipped writing {} unchanged documents", indexObject,
+                     SolrDocumentBatch.getTotalSkipped() - skippedBefore);
 
         } catch (IOException | SQLException | SolrServerException e) {
             log.error(e.getMessage(), e);
@@ -750,6 +788,10 @@ public class SolrServiceImpl implements SearchService, IndexingService {
                 pagesize = 10;
             }
             discoverQuery.setMaxResults(pagesize);
+            if (discoverQuery.getStart() == 0 && discoverQuery.getCursorMark() == null) {
+                // page with a cursor, so that the cost of a page doesn't grow with its depth
+                discoverQuery.setCursorMark(DiscoverQuery.CURSOR_MARK_START);
+            }
             this.discoverResult = search(context, dso, discoverQuery);
         }
 
@@ -766,7 +808,11 @@ public class SolrServiceImpl implements SearchService, IndexingService {
                 int offset = absoluteCursor;
                 // reset the position counter for getting element relativecursor on a page
                 relativeCursor = 0;
-                discoverQuery.setStart(offset);
+                if (discoverQuery.getCursorMark() != null) {
+                    discoverQuery.setCursorMark(discoverResult.getNextCursorMark());
+                } else {
+                    discoverQuery.setStart(offset);
+                }
                 try {
                     discoverResult = search(context, dso, discoverQuery);
                 } catch (SearchServiceException e) {
@@ -805,6 +851,9 @@ public class SolrServiceImpl implements SearchService, IndexingService {
             solrQuery.addField(SearchUtils.RESOURCE_ID_FIELD);
             solrQuery.addField(SearchUtils.RESOURCE_UNIQUE_ID);
             solrQuery.addField(STATUS_FIELD);
+            if (discoveryQuery.isItemListings()) {
+                solrQuery.addField(SolrServiceItemListingPlugin.ITEM_LISTING_FIELD);
+            }
         }
 
         if (discoveryQuery.isSpellCheck()) {
@@ -831,7 +880,11 @@ public class SolrServiceImpl implements SearchService, IndexingService {
             solrQuery.addFilterQuery(filterQuery + ":[* TO *]");
         }
 
-        if (discoveryQuery.getStart() != -1) {
+        if (discoveryQuery.getCursorMark() != null) {
+            // Solr doesn't accept a start offset along with a cursor
+            solrQuery.setStart(0);
+            solrQuery.set(CursorMarkParams.CURSOR_MARK_PARAM, discoveryQuery.getCursorMark());
+        } else if (discoveryQuery.getStart() != -1) {
             solrQuery.setStart(discoveryQuery.getStart());
         }
 
@@ -847,6 +900,11 @@ public class SolrServiceImpl implements SearchService, IndexingService {
 
             solrQuery.addSort(discoveryQuery.getSortField(), order);
         }
+        if (discoveryQuery.getCursorMark() != null
+            && !SearchUtils.RESOURCE_UNIQUE_ID.equals(discoveryQuery.getSortField())) {
+            // a cursor requires a total order, ending with the unique key of the documents
+            solrQuery.addSort(SearchUtils.RESOURCE_UNIQUE_ID, SolrQuery.ORDER.asc);
+        }
 
         for (String property : discoveryQuery.getProperties().keySet()) {
             List<String> values = discoveryQuery.getProperties().get(property);
@@ -936,17 +994,22 @@ public class SolrServiceImpl implements SearchService, IndexingService {
             boolean skipLoadingResponse = false;
             // use zombieDocs to collect stale found objects
             List<String> zombieDocs = new ArrayList<>();
-            QueryResponse solrQueryResponse = solrSearchCore.getSolr().query(solrQuery,
-                          solrSearchCore.REQUEST_METHOD);
+            QueryResponse solrQueryResponse = querySearchCore(query, solrQuery);
             if (solrQueryResponse != null) {
                 result.setSearchTime(solrQueryResponse.getQTime());
                 result.setStart(query.getStart());
                 result.setMaxResults(query.getMaxResults());
                 result.setTotalSearchResults(solrQueryResponse.getResults().getNumFound());
+                result.setNextCursorMark(solrQueryResponse.getNextCursorMark());
 
                 List<String> searchFields = query.getSearchFields();
-                for (SolrDocument doc : solrQueryResponse.getResults()) {
-                    IndexableObject indexableObject = findIndexableObject(context, doc);
+                // load the objects of all the documents at once, keeping the ranking order of the documents
+                List<IndexableObject> indexableObjects = findIndexableObjects(context,
+                                                                              solrQueryResponse.getResults(),
+                                                                              query.isItemListings());
+                for (int i = 0; i < solrQueryResponse.getResults().size(); i++) {
+                    SolrDocument doc = solrQueryResponse.getResults().get(i);
+                    IndexableObject indexableObject = indexableObjects.get(i);
 
                     if (indexableObject != null) {
                         result.addIndexableObject(indexableObject);
@@ -1010,7 +1073,7 @@ public class SolrServiceImpl implements SearchService, IndexingService {
                 log.info("ZombieDocs ");
                 zombieDocs.forEach(log::info);
                 solrSearchCore.getSolr().deleteById(zombieDocs);
-                solrSearchCore.getSolr().commit();
+                commitSearchCore();
             } else {
                 valid = true;
             }
@@ -1169,6 +1232,97 @@ public class SolrServiceImpl implements SearchService, IndexingService {
         return indexableObject.orElse(null);
     }
 
+    /**
+     * Find the indexable objects of a list of Solr documents. The objects are loaded with one call to
+     * {@link IndexFactory#findIndexableObjects(Context, List)} per type instead of one call per document.
+     *
+     * @param context
+     *            The relevant DSpace Context.
+     * @param docs
+     *            the solr documents, the following fields MUST be present RESOURCE_TYPE_FIELD and RESOURCE_ID_FIELD
+     * @return the indexable objects, in the order of the documents, with null for the documents whose object could
+     *         not be found
+     * @throws SQLException
+     *             An exception that provides information on a database access error or other errors.
+     */
+    protected List<IndexableObject> findIndexableObjects(Context context, List<SolrDocument> docs)
+        throws SQLException {
+        return findIndexableObjects(context, docs, false);
+    }
+
+    /**
+     * Find the indexable objects of a list of Solr documents, as {@link #findIndexableObjects(Context, List)}.
+     * If itemListings is true, the items whose document holds a stored {@link ItemListing} are returned as
+     * {@link IndexableItemListing}s without loading the items from the database. Only the existence of these items
+     * is checked, with a single query: the documents of deleted items get null like any other stale document, so that
+     * they are removed from the index.
+     *
+     * @param context
+     *            The relevant DSpace Context.
+     * @param docs
+     *            the solr documents, the following fields MUST be present RESOURCE_TYPE_FIELD and RESOURCE_ID_FIELD
+     * @param itemListings
+     *            whether the stored listings of the items can be used
+     * @return the indexable objects, in the order of the documents, with null for the documents whose object could
+     *         not be found
+     * @throws SQLException
+     *             An exception that provides information on a database access error or other errors.
+     */
+    protected List<IndexableObject> findIndexableObjects(Context context, List<SolrDocument> docs,
+                                                         boolean itemListings) throws SQLException {
+        Map<String, IndexableObject> listings = new HashMap<>();
+        Map<String, List<String>> idsByType = new LinkedHashMap<>();
+        for (SolrDocument doc : docs) {
+            String type = (String) doc.getFirstValue(SearchUtils.RESOURCE_TYPE_FIELD);
+            String id = (String) doc.getFirstValue(SearchUtils.RESOURCE_ID_FIELD);
+            if (itemListings && IndexableItem.TYPE.equals(type)) {
+                Object json = doc.getFirstValue(SolrServiceItemListingPlugin.ITEM_LISTING_FIELD);
+                if (json instanceof String) {
+                    try {
+                        listings.put(id, new IndexableItemListing(ItemListing.fromJson((String) json)));
+                        continue;
+                    } catch (JsonProcessingException | IllegalArgumentException e) {
+                        log.warn("Unable to parse the listing of item {}, loading it from the database", id, e);
+                    }
+                }
+            }
+            idsByType.computeIfAbsent(type, t -> new ArrayList<>()).add(id);
+        }
+        if (!listings.isEmpty()) {
+            List<UUID> listedIds = new ArrayList<>();
+            for (String id : listings.keySet()) {
+                listedIds.add(UUID.fromString(id));
+            }
+            Set<String> existing = new HashSet<>();
+            for (UUID id : contentServiceFactory.getItemService().findExistingIds(context, listedIds)) {
+                existing.add(id.toString());
+            }
+            listings.keySet().retainAll(existing);
+        }
+
+        Map<String, Map<String, IndexableObject>> objectsByType = new HashMap<>();
+        for (Map.Entry<String, List<String>> entry : idsByType.entrySet()) {
+            final IndexFactory indexableObjectService = indexObjectServiceFactory.
+                    getIndexFactoryByType(entry.getKey());
+            objectsByType.put(entry.getKey(), indexableObjectService.findIndexableObjects(context, entry.getValue()));
+        }
+
+        List<IndexableObject> indexableObjects = new ArrayList<>(docs.size());
+        for (SolrDocument doc : docs) {
+            String type = (String) doc.getFirstValue(SearchUtils.RESOURCE_TYPE_FIELD);
+            String id = (String) doc.getFirstValue(SearchUtils.RESOURCE_ID_FIELD);
+            IndexableObject indexableObject = listings.get(id);
+            if (indexableObject == null && objectsByType.containsKey(type)) {
+                indexableObject = objectsByType.get(type).get(id);
+            }
+            if (indexableObject == null) {
+                log.warn("Not able to retrieve object RESOURCE_ID:" + id + " - RESOURCE_TYPE_ID:" + type);
+            }
+            indexableObjects.add(indexableObject);
+        }
+        return indexableObjects;
+    }
+
     public List<IndexableObject> search(Context context, String query, int offset, int max,
             String... filterquery) {
         return search(context, query, null, true, offset, max, filterquery);
@@ -1198,11 +1352,8 @@ public class SolrServiceImpl implements SearchService, IndexingService {
             QueryResponse rsp = solrSearchCore.getSolr().query(solrQuery, solrSearchCore.REQUEST_METHOD);
             SolrDocumentList docs = rsp.getResults();
 
-            Iterator iter = docs.iterator();
             List<IndexableObject> result = new ArrayList<>();
-            while (iter.hasNext()) {
-                SolrDocument doc = (SolrDocument) iter.next();
-                IndexableObject o = findIndexableObject(context, doc);
+            for (IndexableObject o : findIndexableObjects(context, docs)) {
                 if (o != null) {
                     result.add(o);
                 }
@@ -1507,8 +1658,12 @@ public class SolrServiceImpl implements SearchService, IndexingService {
             try {
                 final IndexFactory indexableObjectFactory = indexObjectServiceFactory.
                         getIndexableObjectFactory(indexableObject);
-                if (force || requiresIndexing(indexableObject.getUniqueIndexID(), indexableObject.getLastModified())) {
-                    update(context, indexableObjectFactory, indexableObject, true);
+                if (force) {
+                    update(context, indexableObjectFactory, indexableObject, true, true);
+                    log.info(LogHelper.getHeader(context, "indexed_object", indexableObject.getUniqueIndexID()));
+                } else if (requiresIndexing(indexableObject.getUniqueIndexID(),
+                                            indexableObject.getLastModified())) {
+                    update(context, indexableObjectFactory, indexableObject, true, false);
                     log.info(LogHelper.getHeader(context, "indexed_object", indexableObject.getUniqueIndexID()));
                 }
             } catch (IOException | SQLException | SolrServerException | SearchServiceException e) {
@@ -1522,17 +1677,82 @@ public class SolrServiceImpl implements SearchService, IndexingService {
         }
     }
 
+    /**
+     * Commit the changes sent to the search core, and discard the cached search results which may no longer match
+     * the index
+     *
+     * @throws SolrServerException
+     *             Exception from the Solr server to the solrj Java client.
+     * @throws IOException
+     *             A general class of exceptions produced by failed or interrupted I/O operations.
+     */
+    protected void commitSearchCore() throws SolrServerException, IOException {
+        solrSearchCore.getSolr().commit();
+        searchResultCache.invalidate();
+    }
+
+    /**
+     * Send a query to the search core. When the discovery configuration of the query has a cache (see
+     * {@link DiscoveryConfiguration#isCacheEnabled()}), the response is served from the cache if possible.
+     * Cached responses expire after {@code discovery.search.cache.ttl} seconds, or as soon as the index is committed
+     * by this application. At most {@code discovery.search.cache.max-entries} responses are cached.
+     *
+     * @param discoverQuery
+     *            the discovery query
+     * @param solrQuery
+     *            the Solr query resolved from the discovery query
+     * @return the response of the search core
+     * @throws SolrServerException
+     *             Exception from the Solr server to the solrj Java client.
+     * @throws IOException
+     *             A general class of exceptions produced by failed or interrupted I/O operations.
+     */
+    protected QueryResponse querySearchCore(DiscoverQuery discoverQuery, SolrQuery solrQuery)
+        throws SolrServerException, IOException {
+        int ttl = configurationService.getIntProperty("discovery.search.cache.ttl", 60);
+        int maxEntries = configurationService.getIntProperty("discovery.search.cache.max-entries", 1000);
+        if (ttl <= 0 || maxEntries <= 0 || !isCacheEnabled(discoverQuery)) {
+            return solrSearchCore.getSolr().query(solrQuery, solrSearchCore.REQUEST_METHOD);
+        }
+        String key = SearchResultCache.getKey(solrQuery);
+        long now = System.currentTimeMillis();
+        QueryResponse response = searchResultCache.get(key, now);
+        if (response == null) {
+            long generation = searchResultCache.getGeneration();
+            response = solrSearchCore.getSolr().query(solrQuery, solrSearchCore.REQUEST_METHOD);
+            searchResultCache.put(key, response, generation, now + ttl * 1000L, maxEntries);
+        }
+        return response;
+    }
+
+    private boolean isCacheEnabled(DiscoverQuery discoverQuery) {
+        // pages retrieved with a cursor belong to bulk iterations, which are not worth caching
+        if (discoverQuery.getCursorMark() != null
+            || StringUtils.isBlank(discoverQuery.getDiscoveryConfigurationName())) {
+            return false;
+        }
+        DiscoveryConfiguration discoveryConfiguration = SearchUtils.getConfigurationService()
+            .getDiscoveryConfiguration(discoverQuery.getDiscoveryConfigurationName(), false);
+        return discoveryConfiguration != null && discoveryConfiguration.isCacheEnabled();
+    }
+
     @Override
     public void commit() throws SearchServiceException {
         try {
             if (solrSearchCore.getSolr() != null) {
-                solrSearchCore.getSolr().commit();
+                commitSearchCore();
             }
         } catch (IOException | SolrServerException e) {
             throw new SearchServiceException(e.getMessage(), e);
         }
     }
 
+    @Override
+    public void changesCommittedWithin(int commitWithin) {
+        // the responses fetched before Solr commits the changes may not include them, don't cache them
+        searchResultCache.invalidate(System.currentTimeMillis() + Math.max(0, commitWithin));
+    }
+
     @Override
     public String escapeQueryChars(String query) {
         // Use Solr's built in query escape tool
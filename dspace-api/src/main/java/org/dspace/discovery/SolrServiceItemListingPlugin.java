@@ -0,0 +1,88 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.discovery;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.solr.common.SolrInputDocument;
+import org.dspace.app.util.service.MetadataExposureService;
+import org.dspace.content.Item;
+import org.dspace.content.MetadataField;
+import org.dspace.content.MetadataValue;
+import org.dspace.content.service.ItemService;
+import org.dspace.core.Context;
+import org.dspace.discovery.indexobject.IndexableItem;
+import org.dspace.services.ConfigurationService;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Indexing plugin storing the {@link ItemListing} of archived items in the search core, so that search results
+ * can be displayed without loading the items from the database (see {@link DiscoverQuery#setItemListings}).
+ * <p>
+ * Only the metadata fields configured in {@code discovery.item-listing.metadata} are stored (wildcards such as
+ * {@code dc.contributor.*} are supported), except the hidden ones. Withdrawn and non-archived items have no listing,
+ * as their metadata depends on the permissions of the current user; they are always loaded from the database.
+ */
+public class SolrServiceItemListingPlugin implements SolrServiceIndexPlugin {
+
+    private static final Logger log = LogManager.getLogger();
+
+    /**
+     * Stored-only field holding the JSON of the listing
+     */
+    public static final String ITEM_LISTING_FIELD = "item.listing_stored";
+
+    private static final String[] DEFAULT_METADATA = {
+        "dc.title", "dc.contributor.*", "dc.creator", "dc.date.issued", "dc.type", "dspace.entity.type"
+    };
+
+    @Autowired(required = true)
+    protected ItemService itemService;
+
+    @Autowired(required = true)
+    protected MetadataExposureService metadataExposureService;
+
+    @Autowired(required = true)
+    protected ConfigurationService configurationService;
+
+    @Override
+    public void additionalIndex(Context context, IndexableObject indexableObject, SolrInputDocument document) {
+        if (!(indexableObject instanceof IndexableItem)) {
+            return;
+        }
+        Item item = ((IndexableItem) indexableObject).getIndexedObject();
+        if (!item.isArchived() || item.isWithdrawn()) {
+            return;
+        }
+        try {
+            List<ItemListing.Value> values = new ArrayList<>();
+            for (String field : configurationService.getArrayProperty("discovery.item-listing.metadata",
+                                                                      DEFAULT_METADATA)) {
+                for (MetadataValue value : itemService.getMetadataByMetadataString(item, field)) {
+                    MetadataField metadataField = value.getMetadataField();
+                    // as seen by an anonymous user
+                    if (!metadataExposureService.isHidden(null, metadataField.getMetadataSchema().getName(),
+                                                          metadataField.getElement(), metadataField.getQualifier())) {
+                        values.add(new ItemListing.Value(metadataField.toString('.'), value.getValue(),
+                                                         value.getLanguage(), value.getAuthority(),
+                                                         value.getConfidence(), value.getPlace()));
+                    }
+                }
+            }
+            ItemListing listing = new ItemListing(item.getID(), item.getHandle(), itemService.getName(item),
+                                                  item.isDiscoverable(), item.getLastModified(), values);
+            document.addField(ITEM_LISTING_FIELD, listing.toJson());
+        } catch (SQLException e) {
+            log.error("Unable to store the listing of item {}", item.getID(), e);
+        }
+    }
+}
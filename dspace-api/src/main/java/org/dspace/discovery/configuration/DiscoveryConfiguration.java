@@ -52,6 +52,7 @@ public class DiscoveryConfiguration implements InitializingBean {
     private DiscoveryMoreLikeThisConfiguration moreLikeThisConfiguration;
     private boolean spellCheckEnabled;
     private boolean indexAlways = false;
+    private boolean cacheEnabled = false;
 
     /**
      * The `indexAlways` property determines whether the configuration should
@@ -71,6 +72,20 @@ public class DiscoveryConfiguration implements InitializingBean {
         this.indexAlways = indexAlways;
     }
 
+    /**
+     * The `cacheEnabled` property determines whether the responses of the search core to the queries of this
+     * configuration are cached. The default value is false. Enable it for the configurations whose queries are
+     * repeated often, such as the ones of the home, community and collection pages.
+     * @return true if the responses to the queries of this configuration are cached.
+     */
+    public boolean isCacheEnabled() {
+        return cacheEnabled;
+    }
+
+    public void setCacheEnabled(boolean cacheEnabled) {
+        this.cacheEnabled = cacheEnabled;
+    }
+
     public String getId() {
         return id;
     }
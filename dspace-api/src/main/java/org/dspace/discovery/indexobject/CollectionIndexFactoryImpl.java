@@ -11,8 +11,10 @@ import java.io.IOException;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -154,6 +156,17 @@ public class CollectionIndexFactoryImpl extends DSpaceObjectIndexFactoryImpl<Ind
         return collection == null ? Optional.empty() : Optional.of(new IndexableCollection(collection));
     }
 
+    @Override
+    public Map<String, IndexableCollection> findIndexableObjects(Context context, List<String> ids)
+        throws SQLException {
+        Map<UUID, String> uuids = toUUIDs(ids);
+        Map<String, IndexableCollection> indexableObjects = new HashMap<>();
+        for (Collection collection : collectionService.findByIds(context, new ArrayList<>(uuids.keySet()))) {
+            indexableObjects.put(uuids.get(collection.getID()), new IndexableCollection(collection));
+        }
+        return indexableObjects;
+    }
+
     @Override
     public List<String> getLocations(Context context, IndexableCollection indexableCollection) throws SQLException {
         return getCollectionLocations(context, indexableCollection.getIndexedObject());
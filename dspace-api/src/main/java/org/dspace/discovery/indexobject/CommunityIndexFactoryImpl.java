@@ -11,8 +11,10 @@ import java.io.IOException;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -121,6 +123,17 @@ public class CommunityIndexFactoryImpl extends DSpaceObjectIndexFactoryImpl<Inde
         return community == null ? Optional.empty() : Optional.of(new IndexableCommunity(community));
     }
 
+    @Override
+    public Map<String, IndexableCommunity> findIndexableObjects(Context context, List<String> ids)
+        throws SQLException {
+        Map<UUID, String> uuids = toUUIDs(ids);
+        Map<String, IndexableCommunity> indexableObjects = new HashMap<>();
+        for (Community community : communityService.findByIds(context, new ArrayList<>(uuids.keySet()))) {
+            indexableObjects.put(uuids.get(community.getID()), new IndexableCommunity(community));
+        }
+        return indexableObjects;
+    }
+
     @Override
     public List<String> getLocations(Context context, IndexableCommunity indexableDSpaceObject) throws SQLException {
         final Community target = indexableDSpaceObject.getIndexedObject();
@@ -9,9 +9,14 @@ package org.dspace.discovery.indexobject;
 
 import java.io.IOException;
 import java.sql.SQLException;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
 import org.apache.commons.lang3.StringUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.apache.solr.common.SolrInputDocument;
 import org.dspace.content.DSpaceObject;
 import org.dspace.core.Context;
@@ -24,6 +29,8 @@ import org.dspace.discovery.indexobject.factory.DSpaceObjectIndexFactory;
 public abstract class DSpaceObjectIndexFactoryImpl<T extends IndexableDSpaceObject, S extends DSpaceObject>
         extends IndexFactoryImpl<T, S> implements DSpaceObjectIndexFactory<T, S> {
 
+    private static final Logger log = LogManager.getLogger();
+
     @Override
     public SolrInputDocument buildDocument(Context context, T indexableObject) throws SQLException, IOException {
         // Add the ID's, types and call the SolrServiceIndexPlugins
@@ -64,6 +71,25 @@ public abstract class DSpaceObjectIndexFactoryImpl<T extends IndexableDSpaceObje
         }
     }
 
+    /**
+     * Parse the identifiers of indexable objects, as stored in the search core, to the UUIDs of their
+     * DSpaceObjects. Identifiers which aren't UUIDs are ignored, as no object can be found for them.
+     *
+     * @param ids the identifiers
+     * @return the identifiers by UUID, in the order of the given identifiers
+     */
+    protected Map<UUID, String> toUUIDs(List<String> ids) {
+        Map<UUID, String> uuids = new LinkedHashMap<>();
+        for (String id : ids) {
+            try {
+                uuids.put(UUID.fromString(id), id);
+            } catch (IllegalArgumentException e) {
+                log.warn("Invalid identifier of a DSpaceObject: " + id);
+            }
+        }
+        return uuids;
+    }
+
     @Override
     public void storeCommunityCollectionLocations(SolrInputDocument doc, List<String> locations) {
         if (locations != null) {
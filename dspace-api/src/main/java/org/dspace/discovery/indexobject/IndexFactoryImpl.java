@@ -9,10 +9,15 @@ package org.dspace.discovery.indexobject;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.sql.SQLException;
 import java.time.Instant;
 import java.util.List;
+import java.util.TreeSet;
 
+import org.apache.commons.codec.binary.Hex;
 import org.apache.commons.collections4.ListUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.logging.log4j.Logger;
@@ -28,6 +33,7 @@ import org.dspace.core.Context;
 import org.dspace.discovery.FullTextContentStreams;
 import org.dspace.discovery.IndexableObject;
 import org.dspace.discovery.SearchUtils;
+import org.dspace.discovery.SolrDocumentBatch;
 import org.dspace.discovery.SolrSearchCore;
 import org.dspace.discovery.SolrServiceIndexPlugin;
 import org.dspace.discovery.indexobject.factory.IndexFactory;
@@ -85,11 +91,23 @@ public abstract class IndexFactoryImpl<T extends IndexableObject, S> implements
     @Override
     public void writeDocument(Context context, T indexableObject, SolrInputDocument solrInputDocument)
             throws SQLException, IOException, SolrServerException {
+        writeDocument(context, indexableObject, solrInputDocument, true);
+    }
+
+    @Override
+    public void writeDocument(Context context, T indexableObject, SolrInputDocument solrInputDocument,
+                              boolean skipUnchanged) throws SQLException, IOException, SolrServerException {
         try {
-            writeDocument(solrInputDocument, null);
+            writeDocument(solrInputDocument, null, skipUnchanged);
         } catch (Exception e) {
-            log.error("Error occurred while writing SOLR document for {} object {}",
-                indexableObject.getType(), indexableObject.getID(), e);
+            SolrDocumentBatch batch = SolrDocumentBatch.current();
+            if (batch != null) {
+                // reported by the owner of the batch
+                batch.addFailure(indexableObject.getUniqueIndexID(), e);
+            } else {
+                log.error("Error occurred while writing SOLR document for {} object {}",
+                    indexableObject.getType(), indexableObject.getID(), e);
+            }
         }
     }
 
@@ -102,6 +120,19 @@ public abstract class IndexFactoryImpl<T extends IndexableObject, S> implements
      */
     protected void writeDocument(SolrInputDocument doc, FullTextContentStreams streams)
             throws IOException, SolrServerException {
+        writeDocument(doc, streams, true);
+    }
+
+    /**
+     * Write the document to the index under the appropriate unique identifier.
+     *
+     * @param doc           the solr document to be written to the server
+     * @param streams       list of bitstream content streams
+     * @param skipUnchanged true to not write the document if its fingerprint matches the indexed document
+     * @throws IOException A general class of exceptions produced by failed or interrupted I/O operations.
+     */
+    protected void writeDocument(SolrInputDocument doc, FullTextContentStreams streams, boolean skipUnchanged)
+            throws IOException, SolrServerException {
         final SolrClient solr = solrSearchCore.getSolr();
         if (solr != null) {
             // If full text stream(s) were passed in, we'll index them as part of the SolrInputDocument
@@ -153,12 +184,66 @@ public abstract class IndexFactoryImpl<T extends IndexableObject, S> implements
                     doc.addField("fulltext", tikaHandler.toString());
                 }
             }
-            // Add document to index
-            solr.add(doc);
+            boolean fingerprintEnabled = isFingerprintEnabled();
+            if (fingerprintEnabled) {
+                doc.setField(SearchUtils.FINGERPRINT_FIELD, computeFingerprint(doc));
+            }
+            // Add document to index, or to the batch of the current thread if one is open
+            SolrDocumentBatch batch = SolrDocumentBatch.current();
+            if (batch != null) {
+                if (fingerprintEnabled && skipUnchanged) {
+                    batch.addIfChanged(doc);
+                } else {
+                    batch.add(doc);
+                }
+            } else if (fingerprintEnabled && skipUnchanged) {
+                try (SolrDocumentBatch single = SolrDocumentBatch.open(solr, 1)) {
+                    single.addIfChanged(doc);
+                }
+            } else {
+                solr.add(doc);
+            }
 
         }
     }
 
+    /**
+     * @return true if documents whose content didn't change since they were indexed should not be written again
+     */
+    protected boolean isFingerprintEnabled() {
+        return DSpaceServicesFactory.getInstance().getConfigurationService()
+                                    .getBooleanProperty("discovery.index.fingerprint.enabled", false);
+    }
+
+    /**
+     * Compute a SHA-256 fingerprint of the content of the given document. The fields are processed in alphabetical
+     * order (values in their original order), and the time of indexing and the fingerprint itself are ignored, so
+     * two documents built from unchanged content get the same fingerprint.
+     *
+     * @param doc the solr document
+     * @return the hex encoded fingerprint
+     */
+    public static String computeFingerprint(SolrInputDocument doc) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        for (String name : new TreeSet<>(doc.getFieldNames())) {
+            if (SearchUtils.LAST_INDEXED_FIELD.equals(name) || SearchUtils.FINGERPRINT_FIELD.equals(name)) {
+                continue;
+            }
+            digest.update(name.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            for (Object value : doc.getFieldValues(name)) {
+                digest.update(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 1);
+            }
+            digest.update((byte) 2);
+        }
+        return Hex.encodeHexString(digest.digest());
+    }
 
     /**
      * Index the provided value as use for a sidebar facet
@@ -237,12 +322,17 @@ public abstract class IndexFactoryImpl<T extends IndexableObject, S> implements
 
     @Override
     public void delete(T indexableObject) throws IOException, SolrServerException {
-        solrSearchCore.getSolr().deleteById(indexableObject.getUniqueIndexID());
+        delete(indexableObject.getUniqueIndexID());
     }
 
     @Override
     public void delete(String indexableObjectIdentifier) throws IOException, SolrServerException {
-        solrSearchCore.getSolr().deleteById(indexableObjectIdentifier);
+        SolrDocumentBatch batch = SolrDocumentBatch.current();
+        if (batch != null) {
+            batch.delete(indexableObjectIdentifier);
+        } else {
+            solrSearchCore.getSolr().deleteById(indexableObjectIdentifier);
+        }
     }
 
     @Override
@@ -0,0 +1,58 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.discovery.indexobject;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import org.dspace.core.Constants;
+import org.dspace.discovery.ItemListing;
+
+/**
+ * IndexableObject of an item found by a search, built from the {@link ItemListing} stored in the search core
+ * instead of the item loaded from the database. It has the same type and unique index ID as the
+ * {@link IndexableItem} of the item.
+ */
+public class IndexableItemListing extends AbstractIndexableObject<ItemListing, UUID> {
+
+    private ItemListing listing;
+
+    public IndexableItemListing(ItemListing listing) {
+        this.listing = listing;
+    }
+
+    @Override
+    public String getType() {
+        return IndexableItem.TYPE;
+    }
+
+    @Override
+    public UUID getID() {
+        return listing.getID();
+    }
+
+    @Override
+    public ItemListing getIndexedObject() {
+        return listing;
+    }
+
+    @Override
+    public void setIndexedObject(ItemListing listing) {
+        this.listing = listing;
+    }
+
+    @Override
+    public String getTypeText() {
+        return Constants.typeText[Constants.ITEM];
+    }
+
+    @Override
+    public Instant getLastModified() {
+        return listing.getLastModified();
+    }
+}
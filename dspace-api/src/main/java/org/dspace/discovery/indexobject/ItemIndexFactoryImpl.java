@@ -593,9 +593,10 @@ public class ItemIndexFactoryImpl extends DSpaceObjectIndexFactoryImpl<Indexable
     }
 
     @Override
-    public void writeDocument(Context context, IndexableItem indexableObject, SolrInputDocument solrInputDocument)
-            throws SQLException, IOException, SolrServerException {
-        writeDocument(solrInputDocument, new FullTextContentStreams(context, indexableObject.getIndexedObject()));
+    public void writeDocument(Context context, IndexableItem indexableObject, SolrInputDocument solrInputDocument,
+                              boolean skipUnchanged) throws SQLException, IOException, SolrServerException {
+        writeDocument(solrInputDocument, new FullTextContentStreams(context, indexableObject.getIndexedObject()),
+                      skipUnchanged);
     }
 
     @Override
@@ -682,6 +683,16 @@ public class ItemIndexFactoryImpl extends DSpaceObjectIndexFactoryImpl<Indexable
         return item == null ? Optional.empty() : Optional.of(new IndexableItem(item));
     }
 
+    @Override
+    public Map<String, IndexableItem> findIndexableObjects(Context context, List<String> ids) throws SQLException {
+        Map<UUID, String> uuids = toUUIDs(ids);
+        Map<String, IndexableItem> indexableObjects = new HashMap<>();
+        for (Item item : itemService.findByIds(context, new ArrayList<>(uuids.keySet()))) {
+            indexableObjects.put(uuids.get(item.getID()), new IndexableItem(item));
+        }
+        return indexableObjects;
+    }
+
     /**
      * Handles indexing when discoverySearchFilter is of type facet.
      *
@@ -9,8 +9,10 @@ package org.dspace.discovery.indexobject.factory;
 
 import java.io.IOException;
 import java.sql.SQLException;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.apache.solr.client.solrj.SolrServerException;
@@ -66,6 +68,22 @@ public interface IndexFactory<T extends IndexableObject, S> {
     void writeDocument(Context context, T indexableObject, SolrInputDocument solrInputDocument)
             throws SQLException, IOException, SolrServerException;
 
+    /**
+     * Write the provided document to the solr core
+     * @param context               DSpace context object
+     * @param indexableObject       The indexable object that we want to store in the search core
+     * @param solrInputDocument     Solr input document which will be written to our discovery search core
+     * @param skipUnchanged         false to write the document even if its content didn't change since it was
+     *                              indexed, e.g. to update its time of indexing
+     * @throws SQLException         If database error
+     * @throws IOException          If IO error
+     * @throws SolrServerException  If the solr document could not be written to the search core
+     */
+    default void writeDocument(Context context, T indexableObject, SolrInputDocument solrInputDocument,
+                               boolean skipUnchanged) throws SQLException, IOException, SolrServerException {
+        writeDocument(context, indexableObject, solrInputDocument);
+    }
+
     /**
      * Remove the provided indexable object from the solr core
      * @param indexableObject       The indexable object that we want to remove from the search core
@@ -98,6 +116,26 @@ public interface IndexFactory<T extends IndexableObject, S> {
      */
     Optional<T> findIndexableObject(Context context, String id) throws SQLException;
 
+    /**
+     * Retrieve the indexable objects with the provided identifiers, e.g. for a page of search results.
+     * The default implementation retrieves them one by one, factories of frequently searched types should load
+     * them with a single query.
+     * @param context       DSpace context object
+     * @param ids           The identifiers for which we want to retrieve our indexable objects
+     * @return              The indexable objects found, by identifier. Identifiers without object are missing.
+     * @throws SQLException If database error
+     */
+    default Map<String, T> findIndexableObjects(Context context, List<String> ids) throws SQLException {
+        Map<String, T> indexableObjects = new HashMap<>();
+        for (String id : ids) {
+            Optional<T> indexableObject = findIndexableObject(context, id);
+            if (indexableObject.isPresent()) {
+                indexableObjects.put(id, indexableObject.get());
+            }
+        }
+        return indexableObjects;
+    }
+
     /**
      * Determine whether the class can handle the factory implementation
      * @param object        The object which we want to check
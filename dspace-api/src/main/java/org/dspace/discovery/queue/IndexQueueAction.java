@@ -0,0 +1,24 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.discovery.queue;
+
+/**
+ * The actions which can be queued for an indexable object on the discovery indexing queue.
+ */
+public enum IndexQueueAction {
+
+    /**
+     * (Re)index the object, or remove it from the index if it no longer exists.
+     */
+    UPDATE,
+
+    /**
+     * Remove the object from the index.
+     */
+    DELETE
+}
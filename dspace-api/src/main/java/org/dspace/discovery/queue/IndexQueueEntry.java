@@ -0,0 +1,85 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.discovery.queue;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import org.dspace.core.ReloadableEntity;
+
+/**
+ * Entity that models a record on the discovery indexing queue. Each record holds the unique index id of an indexable
+ * object (e.g. Item-{uuid}) which has to be (re)indexed or removed from the index. Repeated changes to the same object
+ * are coalesced on a single record: the action and queued timestamp are overwritten and the revision is incremented,
+ * which allows the queue workers to only remove records which didn't change while they were being processed.
+ */
+@Entity
+@Table(name = "index_queue")
+public class IndexQueueEntry implements ReloadableEntity<Integer> {
+
+    @Id
+    @Column(name = "id")
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "index_queue_id_seq")
+    @SequenceGenerator(name = "index_queue_id_seq", sequenceName = "index_queue_id_seq", allocationSize = 1)
+    private Integer id;
+
+    @Column(name = "unique_index_id", nullable = false, unique = true)
+    private String uniqueIndexId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "action", nullable = false)
+    private IndexQueueAction action;
+
+    @Column(name = "queued", nullable = false)
+    private Instant queued;
+
+    @Column(name = "revision", nullable = false)
+    private Integer revision = 0;
+
+    /**
+     * Protected constructor, create object using:
+     * {@link org.dspace.discovery.queue.service.IndexQueueService#enqueue}
+     */
+    protected IndexQueueEntry() {
+    }
+
+    @Override
+    public Integer getID() {
+        return id;
+    }
+
+    public String getUniqueIndexId() {
+        return uniqueIndexId;
+    }
+
+    public IndexQueueAction getAction() {
+        return action;
+    }
+
+    public Instant getQueued() {
+        return queued;
+    }
+
+    public Integer getRevision() {
+        return revision;
+    }
+
+    @Override
+    public String toString() {
+        return "IndexQueueEntry [id=" + id + ", uniqueIndexId=" + uniqueIndexId + ", action=" + action
+            + ", queued=" + queued + ", revision=" + revision + "]";
+    }
+}
@@ -0,0 +1,218 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.discovery.queue;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.solr.client.solrj.SolrServerException;
+import org.dspace.core.Context;
+import org.dspace.discovery.IndexableObject;
+import org.dspace.discovery.IndexingService;
+import org.dspace.discovery.SolrDocumentBatch;
+import org.dspace.discovery.SolrSearchCore;
+import org.dspace.discovery.indexobject.factory.IndexFactory;
+import org.dspace.discovery.indexobject.factory.IndexObjectFactoryFactory;
+import org.dspace.discovery.queue.dao.IndexQueueEntryDAO;
+import org.dspace.discovery.queue.service.IndexQueueService;
+import org.dspace.services.ConfigurationService;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Service implementation for the discovery indexing queue. This class is responsible for all business logic calls
+ * for the IndexQueueEntry object and is autowired by spring.
+ * <p>
+ * Every worker processes its own partition of the queue (see {@link IndexQueueEntryDAO#findOldest}) in batches:
+ * the records of a batch are sent to solr through a {@link SolrDocumentBatch} and only then removed from the queue,
+ * unless they were queued again in the meantime. There is a single record per object, so an object is always
+ * processed by the same worker. A failure leaves the records on the queue so that they are retried on the next run.
+ */
+public class IndexQueueServiceImpl implements IndexQueueService {
+
+    private static final Logger log = LogManager.getLogger(IndexQueueServiceImpl.class);
+
+    @Autowired
+    protected IndexQueueEntryDAO indexQueueEntryDAO;
+    @Autowired
+    protected ConfigurationService configurationService;
+    @Autowired
+    protected IndexingService indexingService;
+    @Autowired
+    protected IndexObjectFactoryFactory indexObjectFactoryFactory;
+    @Autowired
+    protected SolrSearchCore solrSearchCore;
+
+    private final AtomicBoolean processing = new AtomicBoolean();
+
+    protected IndexQueueServiceImpl() {
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return configurationService.getBooleanProperty("discovery.indexing.queue.enabled", false);
+    }
+
+    @Override
+    public void enqueue(Context context, String uniqueIndexId, IndexQueueAction action) throws SQLException {
+        indexQueueEntryDAO.upsert(context, uniqueIndexId, action, Instant.now());
+    }
+
+    @Override
+    public int processQueue() {
+        if (!processing.compareAndSet(false, true)) {
+            log.debug("The indexing queue is already being processed");
+            return 0;
+        }
+        int workers = Math.max(1, configurationService.getIntProperty("discovery.indexing.queue.workers", 2));
+        ExecutorService executor = Executors.newFixedThreadPool(workers);
+        int processed = 0;
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int partition = 0; partition < workers; partition++) {
+                final int workerPartition = partition;
+                results.add(executor.submit(() -> processPartition(workers, workerPartition)));
+            }
+            for (Future<Integer> result : results) {
+                try {
+                    processed += result.get();
+                } catch (ExecutionException e) {
+                    log.error("Error while processing the indexing queue", e.getCause());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdownNow();
+            processing.set(false);
+        }
+        if (processed > 0) {
+            log.info("Processed {} records of the indexing queue", processed);
+        }
+        return processed;
+    }
+
+    /**
+     * Process the records of one partition of the queue until the partition is empty. The records which fail are
+     * skipped until the next run, and the run stops when a whole batch fails (e.g. when solr is unavailable).
+     *
+     * @param partitions the total number of partitions
+     * @param partition  the partition to process
+     * @return the number of records processed successfully
+     */
+    protected int processPartition(int partitions, int partition)
+        throws SQLException, IOException, SolrServerException {
+        int batchSize = configurationService.getIntProperty("discovery.indexing.queue.batch-size", 100);
+        int commitWithin = configurationService.getIntProperty("discovery.indexing.queue.commit-within", 1000);
+        int processed = 0;
+
+        // the records which failed during this run
+        Set<Integer> failedIds = new HashSet<>();
+
+        Context context = new Context();
+        context.turnOffAuthorisationSystem();
+        try {
+            List<IndexQueueEntry> entries = indexQueueEntryDAO.findOldest(context, partitions, partition, failedIds,
+                                                                          batchSize);
+            while (!entries.isEmpty()) {
+                Set<String> failed = new HashSet<>();
+                try (SolrDocumentBatch batch = SolrDocumentBatch.open(solrSearchCore.getSolr(), batchSize,
+                                                                      commitWithin)) {
+                    for (IndexQueueEntry entry : entries) {
+                        if (!process(context, entry)) {
+                            failed.add(entry.getUniqueIndexId());
+                        }
+                    }
+                    batch.flush();
+                    failed.addAll(batch.getFailedIds());
+                    if (batch.getWritten() > 0 || batch.getDeleted() > 0) {
+                        indexingService.changesCommittedWithin(commitWithin);
+                    }
+                }
+                for (IndexQueueEntry entry : entries) {
+                    if (failed.contains(entry.getUniqueIndexId())) {
+                        failedIds.add(entry.getID());
+                    } else {
+                        indexQueueEntryDAO.deleteIfUnchanged(context, entry.getID(), entry.getRevision());
+                        processed++;
+                    }
+                }
+                context.commit();
+                context.uncacheEntities();
+                if (failed.size() >= entries.size()) {
+                    log.warn("All {} records of a batch of the indexing queue failed, they will be retried on the "
+                                 + "next run", entries.size());
+                    break;
+                }
+                entries = indexQueueEntryDAO.findOldest(context, partitions, partition, failedIds, batchSize);
+            }
+            context.restoreAuthSystemState();
+            context.complete();
+        } finally {
+            if (context.isValid()) {
+                context.abort();
+            }
+        }
+        return processed;
+    }
+
+    /**
+     * Apply a single queued action to the index. An update of an object which no longer exists removes it from the
+     * index. The documents are written through the batch of the current thread, whose failures are reported when it
+     * is flushed.
+     *
+     * @return false if the action failed
+     */
+    protected boolean process(Context context, IndexQueueEntry entry) {
+        String uniqueIndexId = entry.getUniqueIndexId();
+        try {
+            Optional<IndexableObject> indexableObject = Optional.empty();
+            if (entry.getAction() == IndexQueueAction.UPDATE) {
+                IndexFactory indexFactory = indexObjectFactoryFactory.getIndexableObjectFactory(uniqueIndexId);
+                if (indexFactory != null) {
+                    indexableObject = indexFactory.findIndexableObject(context,
+                        StringUtils.substringAfter(uniqueIndexId, "-"));
+                }
+            }
+            if (indexableObject.isPresent()) {
+                indexingService.indexContent(context, indexableObject.get(), true, false);
+            } else {
+                indexingService.unIndexContent(context, uniqueIndexId, false);
+            }
+            return true;
+        } catch (Exception e) {
+            log.error("Failed while processing queued {} of {}", entry.getAction(), uniqueIndexId, e);
+            return false;
+        }
+    }
+
+    @Override
+    public long countQueued(Context context) throws SQLException {
+        return indexQueueEntryDAO.countQueued(context);
+    }
+
+    @Override
+    public Duration getLag(Context context) throws SQLException {
+        Instant oldest = indexQueueEntryDAO.findOldestQueued(context);
+        return oldest == null ? Duration.ZERO : Duration.between(oldest, Instant.now());
+    }
+}
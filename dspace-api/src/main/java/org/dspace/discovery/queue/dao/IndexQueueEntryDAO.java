@@ -0,0 +1,79 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.discovery.queue.dao;
+
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+import org.dspace.core.Context;
+import org.dspace.core.GenericDAO;
+import org.dspace.discovery.queue.IndexQueueAction;
+import org.dspace.discovery.queue.IndexQueueEntry;
+
+/**
+ * Database Access Object interface class for the IndexQueueEntry object. The implementation of this class is
+ * responsible for all database calls for the IndexQueueEntry object and is autowired by spring. This class should
+ * only be accessed from a single service and should never be exposed outside of the API
+ */
+public interface IndexQueueEntryDAO extends GenericDAO<IndexQueueEntry> {
+
+    /**
+     * Queue an action for the given unique index id with a single statement: either insert a new queue record, or,
+     * if the object is already queued, overwrite the action and queued timestamp of its record and increment its
+     * revision. There is at most one record per unique index id.
+     *
+     * @param context       DSpace context object
+     * @param uniqueIndexId the unique index id of the indexable object
+     * @param action        the action to queue
+     * @param queued        the queued timestamp
+     * @throws SQLException if an SQL error occurs
+     */
+    void upsert(Context context, String uniqueIndexId, IndexQueueAction action, Instant queued) throws SQLException;
+
+    /**
+     * Find the oldest queue records of a single partition of the queue. The queue is partitioned on the record id,
+     * so that every worker can process its own partition without coordination.
+     *
+     * @param context    DSpace context object
+     * @param partitions the total number of partitions
+     * @param partition  the partition to find the records for, between 0 and partitions - 1
+     * @param excluded   the ids of the records to skip, e.g. because they already failed
+     * @param limit      the maximum number of records to return
+     * @return the oldest queue records of the partition
+     * @throws SQLException if an SQL error occurs
+     */
+    List<IndexQueueEntry> findOldest(Context context, int partitions, int partition, Collection<Integer> excluded,
+                                     int limit) throws SQLException;
+
+    /**
+     * Remove the given queue record, unless it has been changed since it was read.
+     *
+     * @param context  DSpace context object
+     * @param id       the id of the queue record
+     * @param revision the revision of the queue record when it was read
+     * @return the number of removed records
+     * @throws SQLException if an SQL error occurs
+     */
+    int deleteIfUnchanged(Context context, Integer id, Integer revision) throws SQLException;
+
+    /**
+     * @param context DSpace context object
+     * @return the number of records on the queue
+     * @throws SQLException if an SQL error occurs
+     */
+    long countQueued(Context context) throws SQLException;
+
+    /**
+     * @param context DSpace context object
+     * @return the queued timestamp of the oldest record on the queue, or null if the queue is empty
+     * @throws SQLException if an SQL error occurs
+     */
+    Instant findOldestQueued(Context context) throws SQLException;
+}
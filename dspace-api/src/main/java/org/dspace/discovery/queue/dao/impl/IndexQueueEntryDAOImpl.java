@@ -0,0 +1,107 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.discovery.queue.dao.impl;
+
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+import jakarta.persistence.Query;
+import org.dspace.core.AbstractHibernateDAO;
+import org.dspace.core.Context;
+import org.dspace.discovery.queue.IndexQueueAction;
+import org.dspace.discovery.queue.IndexQueueEntry;
+import org.dspace.discovery.queue.dao.IndexQueueEntryDAO;
+import org.dspace.storage.rdbms.DatabaseUtils;
+import org.hibernate.query.NativeQuery;
+
+/**
+ * Hibernate implementation of the Database Access Object interface class for the IndexQueueEntry object.
+ * This class is responsible for all database calls for the IndexQueueEntry object and is autowired by spring
+ * This class should never be accessed directly.
+ */
+public class IndexQueueEntryDAOImpl extends AbstractHibernateDAO<IndexQueueEntry> implements IndexQueueEntryDAO {
+
+    /**
+     * Insert or update statement for PostgreSQL, relying on the unique constraint on unique_index_id
+     */
+    private static final String POSTGRES_UPSERT = "INSERT INTO index_queue (id, unique_index_id, action, queued, "
+        + "revision) VALUES (nextval('index_queue_id_seq'), :uniqueIndexId, :action, :queued, 0) "
+        + "ON CONFLICT (unique_index_id) DO UPDATE SET action = EXCLUDED.action, queued = EXCLUDED.queued, "
+        + "revision = index_queue.revision + 1";
+
+    /**
+     * Insert or update statement for H2, which doesn't support ON CONFLICT ... DO UPDATE
+     */
+    private static final String H2_UPSERT = "MERGE INTO index_queue t USING (SELECT "
+        + "CAST(:uniqueIndexId AS VARCHAR(255)) AS unique_index_id, CAST(:action AS VARCHAR(32)) AS action, "
+        + "CAST(:queued AS TIMESTAMP) AS queued) s ON t.unique_index_id = s.unique_index_id "
+        + "WHEN MATCHED THEN UPDATE SET action = s.action, queued = s.queued, revision = t.revision + 1 "
+        + "WHEN NOT MATCHED THEN INSERT (id, unique_index_id, action, queued, revision) "
+        + "VALUES (NEXT VALUE FOR index_queue_id_seq, s.unique_index_id, s.action, s.queued, 0)";
+
+    /**
+     * The type of the database, see {@link DatabaseUtils#getDbType}, looked up on first use
+     */
+    private volatile String dbType;
+
+    protected IndexQueueEntryDAOImpl() {
+        super();
+    }
+
+    @Override
+    public void upsert(Context context, String uniqueIndexId, IndexQueueAction action, Instant queued)
+        throws SQLException {
+        if (dbType == null) {
+            dbType = getHibernateSession(context).doReturningWork(DatabaseUtils::getDbType);
+        }
+        NativeQuery<?> query = getHibernateSession(context)
+            .createNativeQuery(DatabaseUtils.DBMS_H2.equals(dbType) ? H2_UPSERT : POSTGRES_UPSERT);
+        query.addSynchronizedEntityClass(IndexQueueEntry.class);
+        query.setParameter("uniqueIndexId", uniqueIndexId);
+        query.setParameter("action", action.name());
+        query.setParameter("queued", queued);
+        query.executeUpdate();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<IndexQueueEntry> findOldest(Context context, int partitions, int partition,
+                                            Collection<Integer> excluded, int limit) throws SQLException {
+        Query query = createQuery(context, "FROM IndexQueueEntry WHERE mod(id, :partitions) = :partition"
+            + (excluded.isEmpty() ? "" : " AND id NOT IN (:excluded)") + " ORDER BY queued, id");
+        query.setParameter("partitions", partitions);
+        query.setParameter("partition", partition);
+        if (!excluded.isEmpty()) {
+            query.setParameter("excluded", excluded);
+        }
+        query.setMaxResults(limit);
+        return query.getResultList();
+    }
+
+    @Override
+    public int deleteIfUnchanged(Context context, Integer id, Integer revision) throws SQLException {
+        Query query = createQuery(context, "DELETE FROM IndexQueueEntry WHERE id = :id AND revision = :revision");
+        query.setParameter("id", id);
+        query.setParameter("revision", revision);
+        return query.executeUpdate();
+    }
+
+    @Override
+    public long countQueued(Context context) throws SQLException {
+        Query query = createQuery(context, "SELECT COUNT(e) FROM IndexQueueEntry e");
+        return (long) query.getSingleResult();
+    }
+
+    @Override
+    public Instant findOldestQueued(Context context) throws SQLException {
+        Query query = createQuery(context, "SELECT MIN(e.queued) FROM IndexQueueEntry e");
+        return (Instant) query.getSingleResult();
+    }
+}
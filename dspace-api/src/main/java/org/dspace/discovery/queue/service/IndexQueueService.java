@@ -0,0 +1,61 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.discovery.queue.service;
+
+import java.sql.SQLException;
+import java.time.Duration;
+
+import org.dspace.core.Context;
+import org.dspace.discovery.queue.IndexQueueAction;
+
+/**
+ * Service interface class for the discovery indexing queue. When the queue is enabled, the
+ * {@link org.dspace.discovery.IndexEventConsumer} doesn't update the index itself but queues the unique index ids of
+ * the changed objects as part of the committing transaction. A pool of background workers drains the queue and
+ * sends the changes to solr in batches, using commitWithin instead of explicit commits.
+ */
+public interface IndexQueueService {
+
+    /**
+     * @return true if the index event consumer should queue its changes instead of indexing them synchronously
+     */
+    boolean isEnabled();
+
+    /**
+     * Queue an action for the given indexable object. If the object is already queued, the existing record is
+     * overwritten with the new action so that repeated changes to the same object are only processed once.
+     *
+     * @param context       DSpace context object
+     * @param uniqueIndexId the unique index id of the indexable object, e.g. Item-{uuid}
+     * @param action        the action to queue
+     * @throws SQLException if an SQL error occurs
+     */
+    void enqueue(Context context, String uniqueIndexId, IndexQueueAction action) throws SQLException;
+
+    /**
+     * Process all queued records using the configured number of workers, each with its own context. Returns
+     * immediately if the queue is already being processed by this instance.
+     *
+     * @return the number of processed records
+     */
+    int processQueue();
+
+    /**
+     * @param context DSpace context object
+     * @return the number of records on the queue
+     * @throws SQLException if an SQL error occurs
+     */
+    long countQueued(Context context) throws SQLException;
+
+    /**
+     * @param context DSpace context object
+     * @return the time the oldest record has been waiting on the queue, zero if the queue is empty
+     * @throws SQLException if an SQL error occurs
+     */
+    Duration getLag(Context context) throws SQLException;
+}
@@ -0,0 +1,255 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.eperson;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.dspace.core.Constants;
+import org.dspace.core.Context;
+import org.dspace.event.Event;
+import org.dspace.services.ConfigurationService;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Cache of the effective groups of EPersons and groups, shared by all the contexts (and so spans requests). The
+ * effective groups of an EPerson are the groups it is a direct member of and all their (direct or indirect) parent
+ * groups; the effective groups of a group are its parent groups. They are kept as bitsets over an ordinal assigned to
+ * each group, so membership checks don't need any query once the snapshot of a member is loaded.
+ * <p>
+ * Snapshots are versioned: a change to the group hierarchy (or the deletion of a group) makes all the snapshots
+ * stale, while a change to the groups of an EPerson only discards the snapshot of that EPerson. Both are signalled
+ * by the {@link GroupMembershipCacheConsumer}. As events are dispatched before the changes are committed, snapshots
+ * loaded shortly before or after an invalidation are not cached. A context with membership changes not yet dispatched
+ * doesn't use the cache at all (see {@link #hasPendingChanges(Context)}), as it sees its own uncommitted changes.
+ * Snapshots also expire after a time to live, which bounds their staleness when several DSpace instances share a
+ * database.
+ * <p>
+ * Configuration (dspace.cfg):
+ * <ul>
+ * <li>groups.membership-cache.enabled: whether the cache is used (default false)</li>
+ * <li>groups.membership-cache.max-members: maximum number of cached snapshots (default 10000)</li>
+ * <li>groups.membership-cache.ttl: maximum time a snapshot is cached, in seconds (default 300)</li>
+ * </ul>
+ */
+public class GroupMembershipCache {
+
+    /**
+     * Snapshots loaded less than this number of milliseconds after an invalidation aren't cached
+     */
+    private static final long QUIET_PERIOD = 10000;
+
+    @Autowired(required = true)
+    protected ConfigurationService configurationService;
+
+    /**
+     * Ordinal of each group, and the group of each ordinal
+     */
+    private final Map<UUID, Integer> ordinals = new ConcurrentHashMap<>();
+    private final List<UUID> groups = new ArrayList<>();
+
+    /**
+     * Snapshots by EPerson or group, in access order
+     */
+    private final LinkedHashMap<UUID, Snapshot> snapshots = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * Time of the last invalidation of the members invalidated recently
+     */
+    private final Map<UUID, Long> invalidated = new ConcurrentHashMap<>();
+
+    private final AtomicLong version = new AtomicLong();
+    private volatile long lastInvalidateAll = 0;
+
+    protected GroupMembershipCache() {
+    }
+
+    public boolean isEnabled() {
+        return configurationService.getBooleanProperty("groups.membership-cache.enabled", false);
+    }
+
+    /**
+     * @return the current time in milliseconds (overridden by the tests)
+     */
+    public long currentTime() {
+        return System.currentTimeMillis();
+    }
+
+    /**
+     * Whether a context has changes to group memberships (or deleted groups or EPersons) whose events haven't been
+     * dispatched yet. Such a context must neither use the cached snapshots, which don't reflect its changes, nor
+     * cache the snapshots it loads, which reflect changes that may never be committed.
+     *
+     * @param context the current context
+     * @return true if the context has pending membership changes
+     */
+    public boolean hasPendingChanges(Context context) {
+        if (!context.hasEvents()) {
+            return false;
+        }
+        for (Event event : context.getEvents()) {
+            int et = event.getEventType();
+            if (event.getSubjectType() == Constants.GROUP && (et == Event.ADD || et == Event.REMOVE
+                || et == Event.DELETE)) {
+                return true;
+            } else if (event.getSubjectType() == Constants.EPERSON && et == Event.DELETE) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return the current version of the snapshots, to be passed to {@link #put} once the snapshot has been loaded
+     */
+    public long getVersion() {
+        return version.get();
+    }
+
+    /**
+     * Get the cached snapshot of an EPerson or group.
+     *
+     * @param member the id of the EPerson or group
+     * @return the snapshot, or null if there is none or it is stale or expired
+     */
+    public Snapshot get(UUID member) {
+        Snapshot snapshot;
+        synchronized (snapshots) {
+            snapshot = snapshots.get(member);
+        }
+        return snapshot != null && snapshot.version == version.get() && snapshot.expires >= currentTime()
+            ? snapshot : null;
+    }
+
+    /**
+     * Cache the snapshot of an EPerson or group.
+     *
+     * @param member        the id of the EPerson or group
+     * @param groupIds      the ids of the effective groups of the member
+     * @param version       the {@link #getVersion()} before loading the groups
+     * @param computedSince the time before loading the groups
+     * @return the snapshot (even when it is not cached)
+     */
+    public Snapshot put(UUID member, Collection<UUID> groupIds, long version, long computedSince) {
+        BitSet bits = new BitSet();
+        for (UUID groupId : groupIds) {
+            bits.set(getOrdinal(groupId));
+        }
+        long ttl = configurationService.getLongProperty("groups.membership-cache.ttl", 300) * 1000;
+        Snapshot snapshot = new Snapshot(bits, version, currentTime() + ttl);
+
+        Long lastInvalidation = invalidated.get(member);
+        if (version != this.version.get() || computedSince < lastInvalidateAll + QUIET_PERIOD
+            || (lastInvalidation != null && computedSince < lastInvalidation + QUIET_PERIOD)) {
+            return snapshot;
+        }
+        int maxMembers = configurationService.getIntProperty("groups.membership-cache.max-members", 10000);
+        synchronized (snapshots) {
+            snapshots.put(member, snapshot);
+            while (snapshots.size() > maxMembers) {
+                snapshots.remove(snapshots.keySet().iterator().next());
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * Discard the snapshot of an EPerson (e.g. when it is added to or removed from a group)
+     *
+     * @param member the id of the EPerson
+     */
+    public void invalidate(UUID member) {
+        long now = currentTime();
+        if (invalidated.size() > 1000) {
+            invalidated.values().removeIf(time -> time + QUIET_PERIOD < now);
+        }
+        invalidated.put(member, now);
+        synchronized (snapshots) {
+            snapshots.remove(member);
+        }
+    }
+
+    /**
+     * Make all the snapshots stale (e.g. when the group hierarchy changes)
+     */
+    public void invalidateAll() {
+        lastInvalidateAll = currentTime();
+        version.incrementAndGet();
+        synchronized (snapshots) {
+            snapshots.clear();
+        }
+        invalidated.clear();
+    }
+
+    private int getOrdinal(UUID group) {
+        Integer ordinal = ordinals.get(group);
+        if (ordinal == null) {
+            synchronized (groups) {
+                ordinal = ordinals.computeIfAbsent(group, id -> {
+                    groups.add(id);
+                    return groups.size() - 1;
+                });
+            }
+        }
+        return ordinal;
+    }
+
+    /**
+     * @return the number of cached snapshots
+     */
+    public int getSize() {
+        synchronized (snapshots) {
+            return snapshots.size();
+        }
+    }
+
+    /**
+     * The effective groups of an EPerson or group, at a given version
+     */
+    public class Snapshot {
+        private final BitSet groupOrdinals;
+        private final long version;
+        private final long expires;
+
+        private Snapshot(BitSet groupOrdinals, long version, long expires) {
+            this.groupOrdinals = groupOrdinals;
+            this.version = version;
+            this.expires = expires;
+        }
+
+        /**
+         * @return true if the given group is one of the effective groups
+         */
+        public boolean contains(UUID group) {
+            Integer ordinal = ordinals.get(group);
+            return ordinal != null && groupOrdinals.get(ordinal);
+        }
+
+        /**
+         * @return the ids of the effective groups
+         */
+        public Set<UUID> getGroupIds() {
+            Set<UUID> ids = new HashSet<>();
+            synchronized (groups) {
+                for (int i = groupOrdinals.nextSetBit(0); i >= 0; i = groupOrdinals.nextSetBit(i + 1)) {
+                    ids.add(groups.get(i));
+                }
+            }
+            return ids;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.eperson;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import org.dspace.core.Constants;
+import org.dspace.core.Context;
+import org.dspace.event.Consumer;
+import org.dspace.event.Event;
+import org.dspace.utils.DSpace;
+
+/**
+ * Consumer which refreshes the {@link GroupMembershipCache} when group memberships change: the snapshot of an EPerson
+ * added to or removed from a group is discarded, and changes to the group hierarchy or deleted groups make all the
+ * snapshots stale.
+ */
+public class GroupMembershipCacheConsumer implements Consumer {
+
+    private GroupMembershipCache groupMembershipCache;
+
+    // When true all the snapshots will be made stale
+    private boolean invalidateAll = false;
+
+    // EPersons whose snapshot will be discarded
+    private final Set<UUID> toInvalidate = new HashSet<>();
+
+    @Override
+    public void initialize() throws Exception {
+        groupMembershipCache = new DSpace().getSingletonService(GroupMembershipCache.class);
+    }
+
+    @Override
+    public void consume(Context ctx, Event event) throws Exception {
+        if (invalidateAll || !groupMembershipCache.isEnabled()) {
+            return;
+        }
+        int et = event.getEventType();
+        if (event.getSubjectType() == Constants.EPERSON) {
+            if (et == Event.DELETE) {
+                toInvalidate.add(event.getSubjectID());
+            }
+        } else if (event.getSubjectType() == Constants.GROUP) {
+            if ((et == Event.ADD || et == Event.REMOVE) && event.getObjectType() == Constants.EPERSON) {
+                toInvalidate.add(event.getObjectID());
+            } else if (et == Event.ADD || et == Event.REMOVE || et == Event.DELETE) {
+                invalidateAll = true;
+            }
+        }
+    }
+
+    @Override
+    public void end(Context ctx) throws Exception {
+        if (invalidateAll) {
+            groupMembershipCache.invalidateAll();
+        } else {
+            for (UUID id : toInvalidate) {
+                groupMembershipCache.invalidate(id);
+            }
+        }
+        invalidateAll = false;
+        toInvalidate.clear();
+    }
+
+    @Override
+    public void finish(Context ctx) throws Exception {
+    }
+}
@@ -73,6 +73,9 @@ public class GroupServiceImpl extends DSpaceObjectServiceImpl<Group> implements
     @Autowired(required = true)
     protected Group2GroupCacheDAO group2GroupCacheDAO;
 
+    @Autowired(required = true)
+    protected GroupMembershipCache groupMembershipCache;
+
     @Autowired(required = true)
     protected CollectionService collectionService;
 
@@ -274,7 +277,7 @@ public class GroupServiceImpl extends DSpaceObjectServiceImpl<Group> implements
 
             // special, everyone is member of group 0 (anonymous)
         } else if (StringUtils.equals(group.getName(), Group.ANONYMOUS) ||
-                   isParentOf(context, group, findByName(context, Group.ANONYMOUS))) {
+                   isParentOrSelf(context, group, findByName(context, Group.ANONYMOUS))) {
             return true;
 
         } else {
@@ -288,8 +291,13 @@ public class GroupServiceImpl extends DSpaceObjectServiceImpl<Group> implements
 
                 //If we have an ePerson, check we can find membership in the database
                 if (ePerson != null) {
-                    //lookup eperson in normal groups and subgroups with 1 query
-                    isMember = isEPersonInGroup(context, group, ePerson);
+                    if (groupMembershipCache.isEnabled()) {
+                        //lookup the group in the effective groups of the eperson
+                        isMember = getSnapshot(context, ePerson).contains(group.getID());
+                    } else {
+                        //lookup eperson in normal groups and subgroups with 1 query
+                        isMember = isEPersonInGroup(context, group, ePerson);
+                    }
                 }
 
                 //If we did not find the group membership in the database, check the special groups.
@@ -305,7 +313,7 @@ public class GroupServiceImpl extends DSpaceObjectServiceImpl<Group> implements
                     while (it.hasNext() && !isMember) {
                         Group specialGroup = it.next();
                         //Check if the special group matches the given group or if it is a subgroup (with 1 query)
-                        if (specialGroup.equals(group) || isParentOf(context, group, specialGroup)) {
+                        if (isParentOrSelf(context, group, specialGroup)) {
                             isMember = true;
                         }
                     }
@@ -322,6 +330,49 @@ public class GroupServiceImpl extends DSpaceObjectServiceImpl<Group> implements
         return Objects.equals(context.getCurrentUser(), ePerson);
     }
 
+    /**
+     * @return true if the child group is the given group or one of its (direct or indirect) member groups
+     */
+    private boolean isParentOrSelf(Context context, Group group, Group childGroup) throws SQLException {
+        if (childGroup == null) {
+            return false;
+        } else if (childGroup.equals(group)) {
+            return true;
+        } else if (groupMembershipCache.isEnabled()) {
+            return getSnapshot(context, childGroup).contains(group.getID());
+        } else {
+            return isParentOf(context, group, childGroup);
+        }
+    }
+
+    /**
+     * Get the effective groups of an EPerson (its groups and their parent groups) or of a group (its parent groups)
+     * from the {@link GroupMembershipCache}, loading them if they aren't cached. The cache is bypassed while the
+     * context has membership changes which haven't been dispatched.
+     */
+    private GroupMembershipCache.Snapshot getSnapshot(Context context, DSpaceObject member) throws SQLException {
+        boolean pendingChanges = groupMembershipCache.hasPendingChanges(context);
+        GroupMembershipCache.Snapshot snapshot = pendingChanges ? null : groupMembershipCache.get(member.getID());
+        if (snapshot != null) {
+            return snapshot;
+        }
+        // a version which can't be cached when there are pending changes
+        long version = pendingChanges ? -1 : groupMembershipCache.getVersion();
+        long computedSince = groupMembershipCache.currentTime();
+        Set<UUID> groupIds = new HashSet<>();
+        if (member instanceof EPerson) {
+            for (Group group : groupDAO.findByEPerson(context, (EPerson) member)) {
+                groupIds.add(group.getID());
+            }
+            if (!groupIds.isEmpty()) {
+                groupIds.addAll(group2GroupCacheDAO.getParents(context, groupIds));
+            }
+        } else {
+            groupIds.addAll(group2GroupCacheDAO.getParents(context, member.getID()));
+        }
+        return groupMembershipCache.put(member.getID(), groupIds, version, computedSince);
+    }
+
     @Override
     public boolean isMember(final Context context, final String groupName) throws SQLException {
         return isMember(context, findByName(context, groupName));
@@ -344,6 +395,12 @@ public class GroupServiceImpl extends DSpaceObjectServiceImpl<Group> implements
             return cachedGroupMembership;
         }
 
+        if (groupMembershipCache.isEnabled()) {
+            Set<Group> groups = allMemberGroupsFromSnapshots(context, ePerson);
+            context.cacheAllMemberGroupsSet(ePerson, groups);
+            return groups;
+        }
+
         Set<Group> groups = new HashSet<>();
 
         if (ePerson != null) {
@@ -376,6 +433,34 @@ public class GroupServiceImpl extends DSpaceObjectServiceImpl<Group> implements
         return groups;
     }
 
+    /**
+     * Same as {@link #allMemberGroupsSet(Context, EPerson)}, from the snapshots of the {@link GroupMembershipCache}
+     */
+    private Set<Group> allMemberGroupsFromSnapshots(Context context, EPerson ePerson) throws SQLException {
+        Set<UUID> groupIds = new HashSet<>();
+        if (ePerson != null) {
+            groupIds.addAll(getSnapshot(context, ePerson).getGroupIds());
+        }
+        List<Group> memberGroups = new ArrayList<>();
+        if ((context.getCurrentUser() == null) || (context.getCurrentUser().equals(ePerson))) {
+            memberGroups.addAll(context.getSpecialGroups());
+        }
+        memberGroups.add(findByName(context, Group.ANONYMOUS));
+        for (Group group : memberGroups) {
+            groupIds.add(group.getID());
+            groupIds.addAll(getSnapshot(context, group).getGroupIds());
+        }
+
+        Set<Group> groups = new HashSet<>();
+        for (UUID id : groupIds) {
+            Group group = find(context, id);
+            if (group != null) {
+                groups.add(group);
+            }
+        }
+        return groups;
+    }
+
     @Override
     public List<EPerson> allMembers(Context c, Group g) throws SQLException {
         // two queries - first to get all groups which are a member of this group
@@ -563,11 +648,14 @@ public class GroupServiceImpl extends DSpaceObjectServiceImpl<Group> implements
             ePerson.getGroups().remove(group);
         }
 
-        // empty out group2groupcache table (if we do it after we delete our object we get an issue with references)
-        group2GroupCacheDAO.deleteAll(context);
+        // remove our rows from the group2groupcache table (if we do it after we delete our object we get an issue
+        // with references), the rows of our former ancestors are updated once we're gone
+        Set<UUID> ancestors = group2GroupCacheDAO.getParents(context, group.getID());
+        group2GroupCacheDAO.deleteByGroup(context, group.getID());
         // Remove ourself
         groupDAO.delete(context, group);
-        rethinkGroupCache(context, false);
+        ancestors.remove(group.getID());
+        updateGroupCache(context, ancestors);
 
         log.info(LogHelper.getHeader(context, "delete_group", "group_id="
             + group.getID()));
@@ -658,7 +746,7 @@ public class GroupServiceImpl extends DSpaceObjectServiceImpl<Group> implements
         }
 
         if (group.isGroupsChanged()) {
-            rethinkGroupCache(context, true);
+            updateGroupCache(context, group);
             group.clearGroupsChanged();
         }
 
@@ -742,6 +830,75 @@ public class GroupServiceImpl extends DSpaceObjectServiceImpl<Group> implements
         }
     }
 
+    /**
+     * Update the group cache AKA the group2groupcache table in the database after the member groups or the parent
+     * groups of the given group changed. Only the rows of the group and of its former and current ancestors can
+     * change, so only these rows are recomputed, and only the rows which differ are written.
+     *
+     * @param context The relevant DSpace Context.
+     * @param group   the group whose member groups or parent groups changed
+     * @throws SQLException An exception that provides information on a database access error or other errors.
+     */
+    protected void updateGroupCache(Context context, Group group) throws SQLException {
+        Set<UUID> roots = new HashSet<>();
+        roots.add(group.getID());
+        // former ancestors, from the cache
+        roots.addAll(group2GroupCacheDAO.getParents(context, group.getID()));
+        // current ancestors, from the Group table
+        Set<UUID> level = Set.of(group.getID());
+        while (!level.isEmpty()) {
+            Set<UUID> nextLevel = new HashSet<>();
+            for (Pair<UUID, UUID> relation : groupDAO.getGroup2GroupResults(context, level, false)) {
+                if (roots.add(relation.getLeft())) {
+                    nextLevel.add(relation.getLeft());
+                }
+            }
+            level = nextLevel;
+        }
+        updateGroupCache(context, roots);
+    }
+
+    /**
+     * Recompute the rows of the group cache AKA the group2groupcache table with the given groups as parent, and
+     * write the differences with the current rows in batches.
+     *
+     * @param context The relevant DSpace Context.
+     * @param parents the groups whose rows are recomputed
+     * @throws SQLException An exception that provides information on a database access error or other errors.
+     */
+    protected void updateGroupCache(Context context, Set<UUID> parents) throws SQLException {
+        if (parents.isEmpty()) {
+            return;
+        }
+        // direct member groups of the given groups and of all their descendants
+        Map<UUID, Set<UUID>> children = new HashMap<>();
+        Set<UUID> level = parents;
+        while (!level.isEmpty()) {
+            for (UUID parent : level) {
+                children.putIfAbsent(parent, new HashSet<>());
+            }
+            Set<UUID> nextLevel = new HashSet<>();
+            for (Pair<UUID, UUID> relation : groupDAO.getGroup2GroupResults(context, level, true)) {
+                children.get(relation.getLeft()).add(relation.getRight());
+                if (!children.containsKey(relation.getRight())) {
+                    nextLevel.add(relation.getRight());
+                }
+            }
+            level = nextLevel;
+        }
+
+        Set<Pair<UUID, UUID>> newCache = new HashSet<>();
+        for (UUID parent : parents) {
+            for (UUID child : getChildren(children, parent)) {
+                newCache.add(Pair.of(parent, child));
+            }
+        }
+        Set<Pair<UUID, UUID>> oldCache = group2GroupCacheDAO.getCache(context, parents);
+
+        group2GroupCacheDAO.deleteFromCache(context, SetUtils.difference(oldCache, newCache));
+        group2GroupCacheDAO.addToCache(context, SetUtils.difference(newCache, oldCache));
+    }
+
     @Override
     public DSpaceObject getParentObject(Context context, Group group) throws SQLException {
         if (group == null) {
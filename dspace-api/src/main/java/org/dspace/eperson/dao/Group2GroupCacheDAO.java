@@ -8,6 +8,7 @@
 package org.dspace.eperson.dao;
 
 import java.sql.SQLException;
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
@@ -36,6 +37,34 @@ public interface Group2GroupCacheDAO extends GenericDAO<Group2GroupCache> {
      */
     Set<Pair<UUID, UUID>> getCache(Context context) throws SQLException;
 
+    /**
+     * Returns the rows of the cache table with one of the given groups as parent, as a set of UUID pairs.
+     * @param context The relevant DSpace Context.
+     * @param parents UUIDs of the parent groups.
+     * @return Set of UUID pairs, where the first element is the parent UUID and the second one is the child UUID.
+     * @throws SQLException An exception that provides information on a database access error or other errors.
+     */
+    Set<Pair<UUID, UUID>> getCache(Context context, Collection<UUID> parents) throws SQLException;
+
+    /**
+     * Returns the UUIDs of all the groups which are (direct or indirect) parents of the given group in the cache.
+     * @param context The relevant DSpace Context.
+     * @param child UUID of the child group.
+     * @return Set of parent group UUIDs.
+     * @throws SQLException An exception that provides information on a database access error or other errors.
+     */
+    Set<UUID> getParents(Context context, UUID child) throws SQLException;
+
+    /**
+     * Returns the UUIDs of all the groups which are (direct or indirect) parents of at least one of the given groups
+     * in the cache.
+     * @param context The relevant DSpace Context.
+     * @param children UUIDs of the child groups.
+     * @return Set of parent group UUIDs.
+     * @throws SQLException An exception that provides information on a database access error or other errors.
+     */
+    Set<UUID> getParents(Context context, Collection<UUID> children) throws SQLException;
+
     /**
      * Returns all cache entities that are children of a given parent Group entity.
      * @param context The relevant DSpace Context.
@@ -98,4 +127,30 @@ public interface Group2GroupCacheDAO extends GenericDAO<Group2GroupCache> {
      * @throws SQLException An exception that provides information on a database access error or other errors.
      */
     void addToCache(Context context, UUID parent, UUID child) throws SQLException;
+
+    /**
+     * Deletes all the cache rows with the given group as parent or as child.
+     * @param context The relevant DSpace Context.
+     * @param group Group UUID.
+     * @throws SQLException An exception that provides information on a database access error or other errors.
+     */
+    void deleteByGroup(Context context, UUID group) throws SQLException;
+
+    /**
+     * Deletes the given cache rows, in batches.
+     * @param context The relevant DSpace Context.
+     * @param pairs UUID pairs of the rows, where the first element is the parent UUID and the second one is the
+     *              child UUID.
+     * @throws SQLException An exception that provides information on a database access error or other errors.
+     */
+    void deleteFromCache(Context context, Collection<Pair<UUID, UUID>> pairs) throws SQLException;
+
+    /**
+     * Adds the given rows to the cache table, in batches.
+     * @param context The relevant DSpace Context.
+     * @param pairs UUID pairs of the rows, where the first element is the parent UUID and the second one is the
+     *              child UUID.
+     * @throws SQLException An exception that provides information on a database access error or other errors.
+     */
+    void addToCache(Context context, Collection<Pair<UUID, UUID>> pairs) throws SQLException;
 }
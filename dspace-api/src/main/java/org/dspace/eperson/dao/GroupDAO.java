@@ -8,6 +8,7 @@
 package org.dspace.eperson.dao;
 
 import java.sql.SQLException;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -85,6 +86,19 @@ public interface GroupDAO extends DSpaceObjectDAO<Group>, DSpaceObjectLegacySupp
      */
     List<Pair<UUID, UUID>> getGroup2GroupResults(Context context, boolean flushQueries) throws SQLException;
 
+    /**
+     * Get the direct parent - child group relations of the given groups, either as parent or as child
+     *
+     * @param context  The DSpace context
+     * @param groupIds The ids of the groups
+     * @param asParent true to get the relations with the given groups as parent (i.e. their member groups), false
+     *                 to get the relations with the given groups as child (i.e. their parent groups)
+     * @return A list of pairs indicating parent - child
+     * @throws SQLException if database error
+     */
+    List<Pair<UUID, UUID>> getGroup2GroupResults(Context context, Collection<UUID> groupIds, boolean asParent)
+        throws SQLException;
+
     /**
      * Return all empty groups
      *
@@ -8,9 +8,13 @@
 package org.dspace.eperson.dao.impl;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 
@@ -19,6 +23,7 @@ import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
+import org.apache.commons.collections4.ListUtils;
 import org.apache.commons.lang3.tuple.Pair;
 import org.dspace.core.AbstractHibernateDAO;
 import org.dspace.core.Context;
@@ -35,6 +40,11 @@ import org.dspace.eperson.dao.Group2GroupCacheDAO;
  * @author kevinvandevelde at atmire.com
  */
 public class Group2GroupCacheDAOImpl extends AbstractHibernateDAO<Group2GroupCache> implements Group2GroupCacheDAO {
+    /**
+     * Maximum number of rows (or ids) handled by a single statement
+     */
+    private static final int BATCH_SIZE = 500;
+
     protected Group2GroupCacheDAOImpl() {
         super();
     }
@@ -49,6 +59,45 @@ public class Group2GroupCacheDAOImpl extends AbstractHibernateDAO<Group2GroupCac
         return new HashSet<Pair<UUID, UUID>>(results);
     }
 
+    @Override
+    public Set<Pair<UUID, UUID>> getCache(Context context, Collection<UUID> parents) throws SQLException {
+        Set<Pair<UUID, UUID>> results = new HashSet<>();
+        for (List<UUID> ids : ListUtils.partition(new ArrayList<>(parents), BATCH_SIZE)) {
+            Query query = createQuery(
+                context,
+                "SELECT new org.apache.commons.lang3.tuple.ImmutablePair(g.parent.id, g.child.id) " +
+                    "FROM Group2GroupCache g WHERE g.parent.id IN (:parents)"
+            );
+            query.setParameter("parents", ids);
+            List<Pair<UUID, UUID>> partialResults = query.getResultList();
+            results.addAll(partialResults);
+        }
+        return results;
+    }
+
+    @Override
+    public Set<UUID> getParents(Context context, UUID child) throws SQLException {
+        Query query = createQuery(context, "SELECT g.parent.id FROM Group2GroupCache g WHERE g.child.id = :child");
+        query.setParameter("child", child);
+        List<UUID> results = query.getResultList();
+        return new HashSet<>(results);
+    }
+
+    @Override
+    public Set<UUID> getParents(Context context, Collection<UUID> children) throws SQLException {
+        Set<UUID> results = new HashSet<>();
+        for (List<UUID> ids : ListUtils.partition(new ArrayList<>(children), BATCH_SIZE)) {
+            Query query = createQuery(
+                context,
+                "SELECT DISTINCT g.parent.id FROM Group2GroupCache g WHERE g.child.id IN (:children)"
+            );
+            query.setParameter("children", ids);
+            List<UUID> partialResults = query.getResultList();
+            results.addAll(partialResults);
+        }
+        return results;
+    }
+
     @Override
     public List<Group2GroupCache> findByParent(Context context, Group group) throws SQLException {
         CriteriaBuilder criteriaBuilder = getCriteriaBuilder(context);
@@ -124,4 +173,47 @@ public class Group2GroupCacheDAOImpl extends AbstractHibernateDAO<Group2GroupCac
         query.setParameter("child", child);
         query.executeUpdate();
     }
+
+    @Override
+    public void deleteByGroup(Context context, UUID group) throws SQLException {
+        Query query = getHibernateSession(context).createNativeQuery(
+            "delete from group2groupcache g WHERE g.parent_id = :group OR g.child_id = :group"
+        );
+        query.setParameter("group", group);
+        query.executeUpdate();
+    }
+
+    @Override
+    public void deleteFromCache(Context context, Collection<Pair<UUID, UUID>> pairs) throws SQLException {
+        Map<UUID, List<UUID>> childrenByParent = new HashMap<>();
+        for (Pair<UUID, UUID> pair : pairs) {
+            childrenByParent.computeIfAbsent(pair.getLeft(), parent -> new ArrayList<>()).add(pair.getRight());
+        }
+        for (Map.Entry<UUID, List<UUID>> entry : childrenByParent.entrySet()) {
+            for (List<UUID> children : ListUtils.partition(entry.getValue(), BATCH_SIZE)) {
+                Query query = getHibernateSession(context).createNativeQuery(
+                    "delete from group2groupcache g WHERE g.parent_id = :parent AND g.child_id IN (:children)"
+                );
+                query.setParameter("parent", entry.getKey());
+                query.setParameter("children", children);
+                query.executeUpdate();
+            }
+        }
+    }
+
+    @Override
+    public void addToCache(Context context, Collection<Pair<UUID, UUID>> pairs) throws SQLException {
+        for (List<Pair<UUID, UUID>> batch : ListUtils.partition(new ArrayList<>(pairs), BATCH_SIZE)) {
+            StringBuilder sql = new StringBuilder("insert into group2groupcache (parent_id, child_id) VALUES ");
+            for (int i = 0; i < batch.size(); i++) {
+                sql.append(i > 0 ? ", " : "").append("(:parent").append(i).append(", :child").append(i).append(')');
+            }
+            Query query = getHibernateSession(context).createNativeQuery(sql.toString());
+            for (int i = 0; i < batch.size(); i++) {
+                query.setParameter("parent" + i, batch.get(i).getLeft());
+                query.setParameter("child" + i, batch.get(i).getRight());
+            }
+            query.executeUpdate();
+        }
+    }
 }
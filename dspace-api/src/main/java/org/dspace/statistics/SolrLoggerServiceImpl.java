@@ -95,16 +95,20 @@ import org.dspace.content.Item;
 import org.dspace.content.factory.ContentServiceFactory;
 import org.dspace.content.service.BitstreamService;
 import org.dspace.content.service.DSpaceObjectLegacySupportService;
+import org.dspace.content.service.DSpaceObjectService;
 import org.dspace.core.Constants;
 import org.dspace.core.Context;
 import org.dspace.eperson.EPerson;
 import org.dspace.eperson.Group;
+import org.dspace.eperson.service.EPersonService;
 import org.dspace.service.ClientInfoService;
 import org.dspace.services.ConfigurationService;
 import org.dspace.statistics.service.SolrLoggerService;
+import org.dspace.statistics.util.DnsCache;
 import org.dspace.statistics.util.LocationUtils;
 import org.dspace.statistics.util.SpiderDetector;
 import org.dspace.usage.UsageWorkflowEvent;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
 
@@ -117,7 +121,7 @@ import org.springframework.beans.factory.annotation.Autowired;
  * @author kevinvandevelde at atmire.com
  * @author mdiggory at atmire.com
  */
-public class SolrLoggerServiceImpl implements SolrLoggerService, InitializingBean {
+public class SolrLoggerServiceImpl implements SolrLoggerService, InitializingBean, DisposableBean {
     private static final Logger log = LogManager.getLogger();
 
     private static final String MULTIPLE_VALUES_SPLITTER = "|";
@@ -150,9 +154,19 @@ public class SolrLoggerServiceImpl implements SolrLoggerService, InitializingBea
     protected GeoIpService geoIpService;
     @Autowired
     private AuthorizeService authorizeService;
+    @Autowired
+    protected EPersonService ePersonService;
 
     protected SolrClient solr;
 
+    /**
+     * Queue of the usage events to record in the background, or null if they are recorded on the request thread
+     */
+    protected StatisticsIngestionQueue ingestionQueue;
+
+    /** Host names of the client IP addresses, used by the background recording. */
+    protected DnsCache dnsCache;
+
     /** Name of the current-year statistics core.  Prior-year shards will have a year suffixed. */
     private String statisticsCoreBase;
 
@@ -204,6 +218,50 @@ public class SolrLoggerServiceImpl implements SolrLoggerService, InitializingBea
             log.error(ex);
         }
         locationService = service;
+
+        initIngestion();
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        shutdownIngestion();
+    }
+
+    /**
+     * Start recording the usage events in the background, if it is enabled.
+     */
+    protected void initIngestion() {
+        if (configurationService.getBooleanProperty("solr-statistics.ingestion.enabled", false)) {
+            dnsCache = new DnsCache(
+                configurationService.getLongProperty("solr-statistics.ingestion.dns-cache.ttl", 3600) * 1000,
+                configurationService.getIntProperty("solr-statistics.ingestion.dns-cache.max-entries", 10000));
+            ingestionQueue = new StatisticsIngestionQueue(
+                configurationService.getIntProperty("solr-statistics.ingestion.capacity", 10000),
+                configurationService.getIntProperty("solr-statistics.ingestion.workers", 2),
+                configurationService.getIntProperty("solr-statistics.ingestion.batch-size", 100),
+                configurationService.getLongProperty("solr-statistics.ingestion.offer-timeout", 0),
+                this::recordEvents);
+        }
+    }
+
+    /**
+     * @return the queue of the usage events recorded in the background, or null if they are recorded on the request
+     * thread
+     */
+    public StatisticsIngestionQueue getIngestionQueue() {
+        return ingestionQueue;
+    }
+
+    /**
+     * Record the usage events still queued and go back to recording them on the request thread.
+     */
+    protected void shutdownIngestion() {
+        if (ingestionQueue != null) {
+            ingestionQueue.shutdown(
+                configurationService.getLongProperty("solr-statistics.ingestion.shutdown-timeout", 30) * 1000);
+            ingestionQueue = null;
+            dnsCache = null;
+        }
     }
 
     @Override
@@ -221,51 +279,11 @@ public class SolrLoggerServiceImpl implements SolrLoggerService, InitializingBea
     @Override
     public void postView(DSpaceObject dspaceObject, HttpServletRequest request,
                          EPerson currentUser, String referrer) {
-        Context context = new Context();
-        // Do not record statistics for Admin users
-        try {
-            if (authorizeService.isAdmin(context, currentUser)) {
-                return;
-            }
-        } catch (SQLException e) {
-            throw new RuntimeException(e);
-        }
-
-        if (solr == null) {
-            return;
-        }
-        initSolrYearCores();
-
-
-        try {
-            SolrInputDocument doc1 = getCommonSolrDoc(dspaceObject, request, currentUser, referrer);
-            if (doc1 == null) {
-                return;
-            }
-            if (dspaceObject instanceof Bitstream) {
-                Bitstream bit = (Bitstream) dspaceObject;
-                List<Bundle> bundles = bit.getBundles();
-                for (Bundle bundle : bundles) {
-                    doc1.addField("bundleName", bundle.getName());
-                }
-            }
-
-            doc1.addField("statistics_type", StatisticsType.VIEW.text());
-
-
-            solr.add(doc1);
-            // commits are executed automatically using the solr autocommit
-            boolean useAutoCommit = configurationService.getBooleanProperty("solr-statistics.autoCommit", true);
-            if (!useAutoCommit) {
-                solr.commit(false, false);
-            }
-
-        } catch (RuntimeException re) {
-            throw re;
-        } catch (Exception e) {
-            String email = null == currentUser ? "[anonymous]" : currentUser.getEmail();
-            log.error("Error saving VIEW event to Solr for DSpaceObject {} by EPerson {}",
-                      dspaceObject.getID(), email, e);
+        StatisticsEvent event = createEvent(StatisticsType.VIEW, dspaceObject, request, currentUser, referrer);
+        if (event != null) {
+            // Do not record statistics for Admin users
+            event.setSkipAdmin(true);
+            recordEvent(event, dspaceObject);
         }
     }
 
@@ -278,39 +296,10 @@ public class SolrLoggerServiceImpl implements SolrLoggerService, InitializingBea
     @Override
     public void postView(DSpaceObject dspaceObject,
                          String ip, String userAgent, String xforwardedfor, EPerson currentUser, String referrer) {
-        if (solr == null) {
-            return;
-        }
-        initSolrYearCores();
-
-        try {
-            SolrInputDocument doc1 = getCommonSolrDoc(dspaceObject, ip, userAgent, xforwardedfor,
-                                                      currentUser, referrer);
-            if (doc1 == null) {
-                return;
-            }
-            if (dspaceObject instanceof Bitstream) {
-                Bitstream bit = (Bitstream) dspaceObject;
-                List<Bundle> bundles = bit.getBundles();
-                for (Bundle bundle : bundles) {
-                    doc1.addField("bundleName", bundle.getName());
-                }
-            }
-
-            doc1.addField("statistics_type", StatisticsType.VIEW.text());
-
-            solr.add(doc1);
-            // commits are executed automatically using the solr autocommit
-            boolean useAutoCommit = configurationService.getBooleanProperty("solr-statistics.autoCommit", true);
-            if (!useAutoCommit) {
-                solr.commit(false, false);
-            }
-
-        } catch (RuntimeException re) {
-            throw re;
-        } catch (Exception e) {
-            log.error("Error saving VIEW event to Solr for DSpaceObject {} by EPerson {}",
-                      dspaceObject.getID(), currentUser.getEmail(), e);
+        StatisticsEvent event = createEvent(StatisticsType.VIEW, dspaceObject, ip, userAgent, xforwardedfor,
+                                            currentUser, referrer);
+        if (event != null) {
+            recordEvent(event, dspaceObject);
         }
     }
 
@@ -391,32 +380,7 @@ public class SolrLoggerServiceImpl implements SolrLoggerService, InitializingBea
             // Save the location information if valid, save the event without
             // location information if not valid
             if (locationService != null && ipAddress != null) {
-                try {
-                    CityResponse location = locationService.city(ipAddress);
-                    String countryCode = location.getCountry().getIsoCode();
-                    double latitude = location.getLocation().getLatitude();
-                    double longitude = location.getLocation().getLongitude();
-                    if (!(
-                            "--".equals(countryCode)
-                            && latitude == -180
-                            && longitude == -180)
-                    ) {
-                        try {
-                            doc1.addField("continent", LocationUtils
-                                .getContinentCode(countryCode));
-                        } catch (Exception e) {
-                            log.warn("Failed to load country/continent table: {}", countryCode);
-                        }
-                        doc1.addField("countryCode", countryCode);
-                        doc1.addField("city", location.getCity().getName());
-                        doc1.addField("latitude", latitude);
-                        doc1.addField("longitude", longitude);
-                    }
-                } catch (IOException e) {
-                    log.warn("GeoIP lookup failed.", e);
-                } catch (GeoIp2Exception e) {
-                    log.info("Unable to get location of request: {}", e.getMessage());
-                }
+                addLocation(doc1, ipAddress);
             }
         }
 
@@ -482,34 +446,8 @@ public class SolrLoggerServiceImpl implements SolrLoggerService, InitializingBea
         doc1.addField("isBot", isSpiderBot);
         // Save the location information if valid, save the event without
         // location information if not valid
-        if (locationService != null) {
-            try {
-                CityResponse location = locationService.city(ipAddress);
-                String countryCode = location.getCountry().getIsoCode();
-                double latitude = location.getLocation().getLatitude();
-                double longitude = location.getLocation().getLongitude();
-                if (!(
-                        "--".equals(countryCode)
-                                && latitude == -180
-                                && longitude == -180)
-                ) {
-                    try {
-                        doc1.addField("continent", LocationUtils
-                                .getContinentCode(countryCode));
-                    } catch (Exception e) {
-                        System.out
-                                .println("COUNTRY ERROR: " + countryCode);
-                    }
-                    doc1.addField("countryCode", countryCode);
-                    doc1.addField("city", location.getCity().getName());
-                    doc1.addField("latitude", latitude);
-                    doc1.addField("longitude", longitude);
-                }
-            } catch (IOException e) {
-                log.warn("GeoIP lookup failed.", e);
-            } catch (GeoIp2Exception e) {
-                log.info("Unable to get location of request: {}", e.getMessage());
-            }
+        if (locationService != null && ipAddress != null) {
+            addLocation(doc1, ipAddress);
         }
 
         if (dspaceObject != null) {
@@ -530,50 +468,330 @@ public class SolrLoggerServiceImpl implements SolrLoggerService, InitializingBea
     @Override
     public void postSearch(DSpaceObject resultObject, HttpServletRequest request, EPerson currentUser,
                            List<String> queries, int rpp, String sortBy, String order, int page, DSpaceObject scope) {
+        StatisticsType statisticsType = resultObject != null ? StatisticsType.SEARCH_RESULT : StatisticsType.SEARCH;
+        StatisticsEvent event = createEvent(statisticsType, resultObject, request, currentUser, null);
+        if (event != null) {
+            event.getQueries().addAll(queries);
+            if (scope != null) {
+                event.setScope(scope.getType(), scope.getID());
+            }
+            event.setRpp(rpp);
+            event.setSort(sortBy, order);
+            event.setPage(page);
+            recordEvent(event, resultObject);
+        }
+    }
+
+    /**
+     * Capture a usage event of the current request.
+     *
+     * @param statisticsType the type of event
+     * @param dspaceObject   the object used, if any
+     * @param request        the current request, if any
+     * @param currentUser    the current session's user
+     * @param referrer       the optional referrer
+     * @return the event, or null if it must not be recorded as it comes from a bot
+     */
+    protected StatisticsEvent createEvent(StatisticsType statisticsType, DSpaceObject dspaceObject,
+                                          HttpServletRequest request, EPerson currentUser, String referrer) {
+        boolean isSpiderBot = request != null && SpiderDetector.isSpider(request);
+        if (isSpiderBot &&
+            !configurationService.getBooleanProperty("usage-statistics.logBots", true)) {
+            return null;
+        }
+
+        StatisticsEvent event = new StatisticsEvent(statisticsType);
+        if (request != null) {
+            event.setIp(clientInfoService.getClientIp(request));
+            event.setReferrer(referrer != null ? referrer : request.getHeader("referer"));
+            event.setUserAgent(request.getHeader("User-Agent"));
+            event.setBot(isSpiderBot);
+        }
+        setDsoAndUser(event, dspaceObject, currentUser);
+        return event;
+    }
+
+    /**
+     * Capture a usage event of a client which is not the current request.
+     *
+     * @param statisticsType the type of event
+     * @param dspaceObject   the object used, if any
+     * @param ip             the IP address of the client
+     * @param userAgent      the user agent of the client
+     * @param xforwardedfor  the X-Forwarded-For header sent by the client
+     * @param currentUser    the user of the client
+     * @param referrer       the optional referrer
+     * @return the event, or null if it must not be recorded as it comes from a bot
+     */
+    protected StatisticsEvent createEvent(StatisticsType statisticsType, DSpaceObject dspaceObject, String ip,
+                                          String userAgent, String xforwardedfor, EPerson currentUser,
+                                          String referrer) {
+        boolean isSpiderBot = SpiderDetector.isSpider(ip);
+        if (isSpiderBot &&
+            !configurationService.getBooleanProperty("usage-statistics.logBots", true)) {
+            return null;
+        }
+
+        StatisticsEvent event = new StatisticsEvent(statisticsType);
+        event.setIp(clientInfoService.getClientIp(ip, xforwardedfor));
+        event.setUserAgent(userAgent);
+        event.setReferrer(referrer);
+        event.setBot(isSpiderBot);
+        setDsoAndUser(event, dspaceObject, currentUser);
+        return event;
+    }
+
+    /**
+     * Record a usage event: it is queued when the background recording is enabled, otherwise it is sent to the
+     * statistics core right away. Both ways, the same document is built by {@link #getEventSolrDoc}.
+     *
+     * @param event        the event
+     * @param dspaceObject the object used, if any
+     */
+    protected void recordEvent(StatisticsEvent event, DSpaceObject dspaceObject) {
+        if (ingestionQueue != null) {
+            ingestionQueue.offer(event);
+            return;
+        }
+        if (solr == null) {
+            return;
+        }
+        initSolrYearCores();
+
+        // most events are recorded without reading the database
+        Context context = needsContext(event, dspaceObject) ? new Context(Context.Mode.READ_ONLY) : null;
         try {
-            SolrInputDocument solrDoc = getCommonSolrDoc(resultObject, request, currentUser);
-            if (solrDoc == null) {
+            SolrInputDocument doc = getEventSolrDoc(context, event, dspaceObject);
+            if (doc == null) {
                 return;
             }
-            initSolrYearCores();
+            solr.add(doc);
+            // commits are executed automatically using the solr autocommit
+            boolean useAutoCommit = configurationService.getBooleanProperty("solr-statistics.autoCommit", true);
+            if (!useAutoCommit) {
+                solr.commit(false, false);
+            }
+        } catch (SQLException | SolrServerException | IOException e) {
+            log.error("Error saving {} event to Solr for DSpaceObject {} by EPerson {}",
+                      event.getStatisticsType().text(), event.getDsoId(), event.getEpersonId(), e);
+        } finally {
+            if (context != null) {
+                context.abort();
+            }
+        }
+    }
+
+    private void setDsoAndUser(StatisticsEvent event, DSpaceObject dspaceObject, EPerson currentUser) {
+        if (dspaceObject != null) {
+            event.setDso(dspaceObject.getType(), dspaceObject.getID());
+        }
+        if (currentUser != null) {
+            event.setEpersonId(currentUser.getID());
+        }
+    }
+
+    /**
+     * Record a batch of usage events captured by {@link #createEvent}, on a thread of the ingestion queue. The
+     * DNS name and location of the clients and the parents of the objects are resolved here, and all the events are
+     * sent to the statistics core at once.
+     *
+     * @param events the events
+     */
+    protected void recordEvents(List<StatisticsEvent> events) {
+        if (solr == null) {
+            return;
+        }
+        initSolrYearCores();
 
-            for (String query : queries) {
-                solrDoc.addField("query", query);
+        Context context = new Context(Context.Mode.READ_ONLY);
+        try {
+            List<SolrInputDocument> docs = new ArrayList<>(events.size());
+            for (StatisticsEvent event : events) {
+                try {
+                    SolrInputDocument doc = getEventSolrDoc(context, event);
+                    if (doc != null) {
+                        docs.add(doc);
+                    }
+                } catch (SQLException e) {
+                    log.error("Error reading the {} event of DSpaceObject {}", event.getStatisticsType().text(),
+                              event.getDsoId(), e);
+                }
+            }
+            if (docs.isEmpty()) {
+                return;
             }
+            solr.add(docs);
+            // commits are executed automatically using the solr autocommit
+            boolean useAutoCommit = configurationService.getBooleanProperty("solr-statistics.autoCommit", true);
+            if (!useAutoCommit) {
+                solr.commit(false, false);
+            }
+        } catch (SolrServerException | IOException e) {
+            throw new RuntimeException("Error saving " + events.size() + " usage events to Solr", e);
+        } finally {
+            context.abort();
+        }
+    }
 
-            if (resultObject != null) {
-                //We have a search result
-                solrDoc.addField("statistics_type", StatisticsType.SEARCH_RESULT.text());
+    /**
+     * Returns a solr input document for a usage event captured by {@link #createEvent}.
+     *
+     * @param context the DSpace context
+     * @param event   the event
+     * @return a solr input document, or null if the event must not be recorded as it comes from an administrator
+     * @throws SQLException in case of a database exception
+     */
+    protected SolrInputDocument getEventSolrDoc(Context context, StatisticsEvent event) throws SQLException {
+        return getEventSolrDoc(context, event, null);
+    }
+
+    /**
+     * Whether {@link #getEventSolrDoc(Context, StatisticsEvent, DSpaceObject)} needs a context to build the document
+     * of the given event: to check whether it comes from an administrator, or to find the object used.
+     *
+     * @param event        the event
+     * @param dspaceObject the object used, if already known
+     * @return true if a context is needed
+     */
+    protected boolean needsContext(StatisticsEvent event, DSpaceObject dspaceObject) {
+        return (event.isSkipAdmin() && event.getEpersonId() != null)
+            || (dspaceObject == null && event.getDsoId() != null);
+    }
+
+    /**
+     * Returns a solr input document for a usage event captured by {@link #createEvent}.
+     *
+     * @param context      the DSpace context, which may be null when {@link #needsContext} is false
+     * @param event        the event
+     * @param dspaceObject the object used, or null to find it by the identifier in the event
+     * @return a solr input document, or null if the event must not be recorded as it comes from an administrator
+     * @throws SQLException in case of a database exception
+     */
+    protected SolrInputDocument getEventSolrDoc(Context context, StatisticsEvent event, DSpaceObject dspaceObject)
+        throws SQLException {
+        if (event.isSkipAdmin() && event.getEpersonId() != null) {
+            EPerson eperson = ePersonService.find(context, event.getEpersonId());
+            if (eperson != null && authorizeService.isAdmin(context, eperson)) {
+                return null;
+            }
+        }
+
+        SolrInputDocument doc1 = new SolrInputDocument();
+        String ip = event.getIp();
+        if (ip != null) {
+            boolean anonymize = configurationService.getBooleanProperty("anonymize_statistics.anonymize_on_log",
+                                                                        false);
+            if (anonymize) {
+                try {
+                    doc1.addField("ip", anonymizeIp(ip));
+                } catch (UnknownHostException e) {
+                    log.warn(e.getMessage(), e);
+                }
             } else {
-                solrDoc.addField("statistics_type", StatisticsType.SEARCH.text());
+                doc1.addField("ip", ip);
             }
-            //Store the scope
-            if (scope != null) {
-                solrDoc.addField("scopeId", scope.getID().toString());
-                solrDoc.addField("scopeType", scope.getType());
+            if (event.getReferrer() != null) {
+                doc1.addField("referrer", event.getReferrer());
             }
 
-            if (rpp != -1) {
-                solrDoc.addField("rpp", rpp);
+            InetAddress ipAddress = null;
+            String dns = null;
+            if (!anonymize) {
+                try {
+                    ipAddress = InetAddress.getByName(ip);
+                    // the reverse lookup is the slow part, it is cached when recording in the background
+                    dns = dnsCache != null ? dnsCache.getHostName(ip) : ipAddress.getHostName();
+                } catch (UnknownHostException e) {
+                    log.info("Failed DNS Lookup for IP:  {}", ip);
+                    log.debug(e.getMessage(), e);
+                }
+            } else {
+                dns = configurationService.getProperty("anonymize_statistics.dns_mask", "anonymized");
             }
+            if (dns != null) {
+                doc1.addField("dns", dns.toLowerCase(Locale.ROOT));
+            }
+            if (event.getUserAgent() != null) {
+                doc1.addField("userAgent", event.getUserAgent());
+            }
+            doc1.addField("isBot", event.isBot());
+            if (locationService != null && ipAddress != null) {
+                addLocation(doc1, ipAddress);
+            }
+        }
 
-            if (sortBy != null) {
-                solrDoc.addField("sortBy", sortBy);
-                if (order != null) {
-                    solrDoc.addField("sortOrder", order);
+        if (event.getDsoId() != null) {
+            doc1.addField("id", event.getDsoId().toString());
+            doc1.addField("type", event.getDsoType());
+            if (dspaceObject == null) {
+                DSpaceObjectService<DSpaceObject> dsoService =
+                    contentServiceFactory.getDSpaceObjectService(event.getDsoType());
+                dspaceObject = dsoService.find(context, event.getDsoId());
+            }
+            if (dspaceObject != null) {
+                storeParents(doc1, dspaceObject);
+                if (event.getStatisticsType() == StatisticsType.VIEW && dspaceObject instanceof Bitstream) {
+                    for (Bundle bundle : ((Bitstream) dspaceObject).getBundles()) {
+                        doc1.addField("bundleName", bundle.getName());
+                    }
                 }
             }
+        }
+        doc1.addField("time", event.getTime().toString());
+        if (event.getEpersonId() != null) {
+            doc1.addField("epersonid", event.getEpersonId().toString());
+        }
+        doc1.addField("statistics_type", event.getStatisticsType().text());
 
-            if (page != -1) {
-                solrDoc.addField("page", page);
+        for (String query : event.getQueries()) {
+            doc1.addField("query", query);
+        }
+        if (event.getScopeId() != null) {
+            doc1.addField("scopeId", event.getScopeId().toString());
+            doc1.addField("scopeType", event.getScopeType());
+        }
+        if (event.getRpp() != -1) {
+            doc1.addField("rpp", event.getRpp());
+        }
+        if (event.getSortBy() != null) {
+            doc1.addField("sortBy", event.getSortBy());
+            if (event.getSortOrder() != null) {
+                doc1.addField("sortOrder", event.getSortOrder());
             }
+        }
+        if (event.getPage() != -1) {
+            doc1.addField("page", event.getPage());
+        }
+        return doc1;
+    }
 
-            solr.add(solrDoc);
-        } catch (RuntimeException re) {
-            throw re;
-        } catch (Exception e) {
-            log.error("Error saving SEARCH event to Solr by EPerson {}",
-                      currentUser.getEmail(), e);
+    /**
+     * Save the location of a client, if it is known.
+     *
+     * @param doc1      the solr input document
+     * @param ipAddress the address of the client
+     */
+    private void addLocation(SolrInputDocument doc1, InetAddress ipAddress) {
+        try {
+            CityResponse location = locationService.city(ipAddress);
+            String countryCode = location.getCountry().getIsoCode();
+            double latitude = location.getLocation().getLatitude();
+            double longitude = location.getLocation().getLongitude();
+            if (!("--".equals(countryCode) && latitude == -180 && longitude == -180)) {
+                try {
+                    doc1.addField("continent", LocationUtils.getContinentCode(countryCode));
+                } catch (Exception e) {
+                    log.warn("Failed to load country/continent table: {}", countryCode);
+                }
+                doc1.addField("countryCode", countryCode);
+                doc1.addField("city", location.getCity().getName());
+                doc1.addField("latitude", latitude);
+                doc1.addField("longitude", longitude);
+            }
+        } catch (IOException e) {
+            log.warn("GeoIP lookup failed.", e);
+        } catch (GeoIp2Exception e) {
+            log.info("Unable to get location of request: {}", e.getMessage());
         }
     }
 
@@ -0,0 +1,169 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.statistics;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A usage event captured on the thread of the request, to be recorded later by the
+ * {@link StatisticsIngestionQueue}. It only holds plain values (no entities, no request), so it can outlive the
+ * request and its Context. The DNS name, location and parents of the object are resolved when it is recorded.
+ */
+public class StatisticsEvent {
+
+    private final SolrLoggerServiceImpl.StatisticsType statisticsType;
+    private final Instant time = Instant.now();
+
+    private Integer dsoType;
+    private UUID dsoId;
+    private UUID epersonId;
+    private boolean skipAdmin;
+    private String ip;
+    private String userAgent;
+    private String referrer;
+    private boolean bot;
+
+    private final List<String> queries = new ArrayList<>();
+    private Integer scopeType;
+    private UUID scopeId;
+    private int rpp = -1;
+    private String sortBy;
+    private String sortOrder;
+    private int page = -1;
+
+    public StatisticsEvent(SolrLoggerServiceImpl.StatisticsType statisticsType) {
+        this.statisticsType = statisticsType;
+    }
+
+    public SolrLoggerServiceImpl.StatisticsType getStatisticsType() {
+        return statisticsType;
+    }
+
+    /**
+     * @return the time of the event, i.e. when it was captured
+     */
+    public Instant getTime() {
+        return time;
+    }
+
+    public Integer getDsoType() {
+        return dsoType;
+    }
+
+    public UUID getDsoId() {
+        return dsoId;
+    }
+
+    public void setDso(int dsoType, UUID dsoId) {
+        this.dsoType = dsoType;
+        this.dsoId = dsoId;
+    }
+
+    public UUID getEpersonId() {
+        return epersonId;
+    }
+
+    public void setEpersonId(UUID epersonId) {
+        this.epersonId = epersonId;
+    }
+
+    /**
+     * @return true if the event must not be recorded when the user is an administrator
+     */
+    public boolean isSkipAdmin() {
+        return skipAdmin;
+    }
+
+    public void setSkipAdmin(boolean skipAdmin) {
+        this.skipAdmin = skipAdmin;
+    }
+
+    /**
+     * @return the IP of the client, not anonymized
+     */
+    public String getIp() {
+        return ip;
+    }
+
+    public void setIp(String ip) {
+        this.ip = ip;
+    }
+
+    public String getUserAgent() {
+        return userAgent;
+    }
+
+    public void setUserAgent(String userAgent) {
+        this.userAgent = userAgent;
+    }
+
+    public String getReferrer() {
+        return referrer;
+    }
+
+    public void setReferrer(String referrer) {
+        this.referrer = referrer;
+    }
+
+    public boolean isBot() {
+        return bot;
+    }
+
+    public void setBot(boolean bot) {
+        this.bot = bot;
+    }
+
+    public List<String> getQueries() {
+        return queries;
+    }
+
+    public Integer getScopeType() {
+        return scopeType;
+    }
+
+    public UUID getScopeId() {
+        return scopeId;
+    }
+
+    public void setScope(int scopeType, UUID scopeId) {
+        this.scopeType = scopeType;
+        this.scopeId = scopeId;
+    }
+
+    public int getRpp() {
+        return rpp;
+    }
+
+    public void setRpp(int rpp) {
+        this.rpp = rpp;
+    }
+
+    public String getSortBy() {
+        return sortBy;
+    }
+
+    public String getSortOrder() {
+        return sortOrder;
+    }
+
+    public void setSort(String sortBy, String sortOrder) {
+        this.sortBy = sortBy;
+        this.sortOrder = sortOrder;
+    }
+
+    public int getPage() {
+        return page;
+    }
+
+    public void setPage(int page) {
+        this.page = page;
+    }
+}
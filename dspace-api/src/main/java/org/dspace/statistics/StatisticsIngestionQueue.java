@@ -0,0 +1,200 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.statistics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Bounded queue of the usage events waiting to be recorded, so that the requests don't wait for the statistics
+ * core. Background workers take the events from the queue and pass them in batches to a recorder.
+ * <p>
+ * When the queue is full, an event is only waited for during the offer timeout; after that it is dropped and
+ * counted, rather than slowing down the requests. On {@link #shutdown(long)}, the events still in the queue are
+ * recorded before the workers stop.
+ */
+public class StatisticsIngestionQueue {
+
+    private static final Logger log = LogManager.getLogger();
+
+    /**
+     * How long an idle worker waits for an event before checking whether the queue is shut down, in milliseconds
+     */
+    private static final long POLL_TIMEOUT = 500;
+
+    /**
+     * Only one dropped event in this many is logged
+     */
+    private static final long DROP_LOG_INTERVAL = 1000;
+
+    private final BlockingQueue<StatisticsEvent> queue;
+    private final Consumer<List<StatisticsEvent>> recorder;
+    private final int batchSize;
+    private final long offerTimeout;
+    private final ExecutorService workers;
+    private volatile boolean running = true;
+
+    private final AtomicLong accepted = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong recorded = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    /**
+     * Create the queue and start its workers.
+     *
+     * @param capacity     the maximum number of events waiting in the queue
+     * @param workerCount  the number of background workers
+     * @param batchSize    the maximum number of events passed to the recorder at once
+     * @param offerTimeout how long to wait for room in a full queue before dropping an event, in milliseconds
+     * @param recorder     records a batch of events, throwing a runtime exception if it fails
+     */
+    public StatisticsIngestionQueue(int capacity, int workerCount, int batchSize, long offerTimeout,
+                                    Consumer<List<StatisticsEvent>> recorder) {
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.recorder = recorder;
+        this.batchSize = batchSize;
+        this.offerTimeout = offerTimeout;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(workerCount, runnable -> {
+            Thread thread = new Thread(runnable, "statistics-ingestion-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < workerCount; i++) {
+            workers.submit(this::work);
+        }
+    }
+
+    /**
+     * Queue an event to be recorded. This never waits longer than the offer timeout.
+     *
+     * @param event the event
+     * @return true if the event was queued, false if it was dropped
+     */
+    public boolean offer(StatisticsEvent event) {
+        boolean queued = false;
+        if (running) {
+            try {
+                queued = offerTimeout > 0 ? queue.offer(event, offerTimeout, TimeUnit.MILLISECONDS)
+                    : queue.offer(event);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (queued) {
+            accepted.incrementAndGet();
+        } else {
+            long count = dropped.incrementAndGet();
+            if (count % DROP_LOG_INTERVAL == 1) {
+                log.warn("The statistics ingestion queue is full or shut down, {} usage events dropped so far",
+                         count);
+            }
+        }
+        return queued;
+    }
+
+    /**
+     * Stop accepting events, record the events still in the queue and stop the workers.
+     *
+     * @param timeout how long to wait for the queue to be flushed, in milliseconds
+     */
+    public void shutdown(long timeout) {
+        running = false;
+        workers.shutdown();
+        try {
+            if (!workers.awaitTermination(timeout, TimeUnit.MILLISECONDS)) {
+                workers.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            workers.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        List<StatisticsEvent> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        dropped.addAndGet(remaining.size());
+        log.info("Statistics ingestion queue shut down: {} usage events accepted, {} recorded, {} failed, "
+                     + "{} dropped", accepted.get(), recorded.get(), failed.get(), dropped.get());
+    }
+
+    private void work() {
+        List<StatisticsEvent> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                StatisticsEvent event = queue.poll(POLL_TIMEOUT, TimeUnit.MILLISECONDS);
+                if (event == null) {
+                    continue;
+                }
+                batch.add(event);
+                queue.drainTo(batch, batchSize - 1);
+                record(batch);
+            } catch (InterruptedException e) {
+                // the shutdown timed out
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void record(List<StatisticsEvent> batch) {
+        try {
+            recorder.accept(batch);
+            recorded.addAndGet(batch.size());
+        } catch (RuntimeException e) {
+            failed.addAndGet(batch.size());
+            log.error("Unable to record {} usage events", batch.size(), e);
+        }
+    }
+
+    /**
+     * @return the number of events waiting in the queue
+     */
+    public int getSize() {
+        return queue.size();
+    }
+
+    /**
+     * @return the number of events queued so far
+     */
+    public long getAccepted() {
+        return accepted.get();
+    }
+
+    /**
+     * @return the number of events dropped so far, because the queue was full or shut down
+     */
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    /**
+     * @return the number of events recorded so far
+     */
+    public long getRecorded() {
+        return recorded.get();
+    }
+
+    /**
+     * @return the number of events which could not be recorded so far
+     */
+    public long getFailed() {
+        return failed.get();
+    }
+}
@@ -147,6 +147,15 @@ public class OpenUrlServiceImpl implements OpenUrlService {
             return;
         }
 
+        if (context.isReadOnly()) {
+            // e.g. an anonymous download: the context won't be committed, so save the failed url in its own one
+            try (Context trackerContext = new Context()) {
+                logfailed(trackerContext, url);
+                trackerContext.complete();
+            }
+            return;
+        }
+
         OpenURLTracker tracker = failedOpenUrlTrackerService.create(context);
         tracker.setUploadDate(now);
         tracker.setUrl(url);
@@ -0,0 +1,97 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.statistics.util;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.LinkedHashMap;
+
+/**
+ * Cache of the host names of client IP addresses, as found by a reverse DNS lookup. Entries expire after a given
+ * time to live, and the least recently used ones are evicted once the maximum number of entries is reached.
+ * <p>
+ * Failed lookups are cached too, so that an unresolvable address is not looked up again for every event.
+ */
+public class DnsCache {
+
+    /**
+     * Entries by IP address, in access order
+     */
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private final long ttl;
+
+    private final int maxEntries;
+
+    /**
+     * @param ttl        the time to live of the entries, in milliseconds
+     * @param maxEntries the maximum number of cached entries
+     */
+    public DnsCache(long ttl, int maxEntries) {
+        this.ttl = ttl;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Get the host name of an IP address, looking it up if it is not cached.
+     *
+     * @param ip the IP address
+     * @return the host name, the address itself if it has no name, or null if it is not a valid address
+     */
+    public String getHostName(String ip) {
+        long now = System.currentTimeMillis();
+        synchronized (entries) {
+            Entry entry = entries.get(ip);
+            if (entry != null && entry.expires > now) {
+                return entry.hostName;
+            }
+        }
+        // the lookup may be slow, don't hold the lock meanwhile
+        String hostName = lookup(ip);
+        synchronized (entries) {
+            entries.put(ip, new Entry(hostName, now + ttl));
+            while (entries.size() > maxEntries) {
+                entries.remove(entries.keySet().iterator().next());
+            }
+        }
+        return hostName;
+    }
+
+    /**
+     * @return the number of cached entries, including the expired ones not yet discarded
+     */
+    public int getSize() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * Look up the host name of an IP address.
+     *
+     * @param ip the IP address
+     * @return the host name, the address itself if it has no name, or null if it is not a valid address
+     */
+    protected String lookup(String ip) {
+        try {
+            return InetAddress.getByName(ip).getHostName();
+        } catch (UnknownHostException e) {
+            return null;
+        }
+    }
+
+    private static class Entry {
+        private final String hostName;
+        private final long expires;
+
+        private Entry(String hostName, long expires) {
+            this.hostName = hostName;
+            this.expires = expires;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.storage.bitstore;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limits the throughput of all the threads sharing it to a number of bytes per second. Threads account for the bytes
+ * they transfer with {@link #acquire(long)}, which waits as long as needed to stay under the maximum throughput (on
+ * average: up to one second worth of bytes can be transferred in a burst).
+ */
+public class BandwidthThrottle {
+
+    private final long bytesPerSecond;
+    private double available;
+    private long last = System.nanoTime();
+
+    /**
+     * @param bytesPerSecond the maximum throughput in bytes per second, must be positive
+     */
+    public BandwidthThrottle(long bytesPerSecond) {
+        if (bytesPerSecond <= 0) {
+            throw new IllegalArgumentException("The maximum throughput must be positive");
+        }
+        this.bytesPerSecond = bytesPerSecond;
+    }
+
+    /**
+     * Account for the given number of bytes, waiting as long as needed to stay under the maximum throughput
+     *
+     * @param bytes the number of bytes which are (or will be) transferred
+     * @throws InterruptedIOException if the thread is interrupted while waiting
+     */
+    public void acquire(long bytes) throws InterruptedIOException {
+        long waitNanos;
+        synchronized (this) {
+            long now = System.nanoTime();
+            available = Math.min(bytesPerSecond, available + (now - last) / 1e9 * bytesPerSecond) - bytes;
+            last = now;
+            waitNanos = available < 0 ? (long) (-available / bytesPerSecond * 1e9) : 0;
+        }
+        if (waitNanos > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Transfer interrupted");
+            }
+        }
+    }
+
+    /**
+     * @param in a stream
+     * @return the given stream, read at most at the throughput of this throttle
+     */
+    public InputStream throttle(InputStream in) {
+        return new FilterInputStream(in) {
+            @Override
+            public int read() throws IOException {
+                int b = super.read();
+                if (b >= 0) {
+                    acquire(1);
+                }
+                return b;
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                int n = super.read(b, off, len);
+                if (n > 0) {
+                    acquire(n);
+                }
+                return n;
+            }
+        };
+    }
+
+    public long getBytesPerSecond() {
+        return bytesPerSecond;
+    }
+}
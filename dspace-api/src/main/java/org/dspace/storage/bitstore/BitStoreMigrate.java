@@ -62,6 +62,10 @@ public class BitStoreMigrate {
                               "Delete file from losing assetstore. (Default: Keep bitstream in old assetstore)");
             options.addOption("p", "print", false, "Print out current assetstore information");
             options.addOption("s", "size", true, "Batch commit size. (Default: 1, commit after each file transfer)");
+            options.addOption("t", "threads", true, "Number of parallel file transfers. (Default: 1)");
+            options.addOption("r", "rate", true,
+                              "Maximum transfer rate of all file transfers together, in kilobytes per second. " +
+                                  "(Default: unlimited)");
             options.addOption("h", "help", false, "Help");
 
             try {
@@ -103,8 +107,17 @@ public class BitStoreMigrate {
                     batchCommitSize = Integer.parseInt(line.getOptionValue('s'));
                 }
 
-                bitstreamStorageService
-                    .migrate(context, sourceAssetstore, destinationAssetstore, deleteOld, batchCommitSize);
+                int threads = 1;
+                if (line.hasOption('t')) {
+                    threads = Integer.parseInt(line.getOptionValue('t'));
+                }
+                long maxBytesPerSecond = 0;
+                if (line.hasOption('r')) {
+                    maxBytesPerSecond = Long.parseLong(line.getOptionValue('r')) * 1024;
+                }
+
+                bitstreamStorageService.migrate(context, sourceAssetstore, destinationAssetstore, deleteOld,
+                                                batchCommitSize, threads, maxBytesPerSecond);
             } else {
                 printHelp(options);
                 System.exit(0);
@@ -9,6 +9,7 @@ package org.dspace.storage.bitstore;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
 
@@ -45,6 +46,19 @@ public interface BitStoreService {
      */
     public InputStream get(Bitstream bitstream) throws IOException;
 
+    /**
+     * Retrieve the local file holding the bits of the bitstream, for stores which keep their assets on a local (or
+     * mounted) file system. Callers can read such a file through a {@link java.nio.channels.FileChannel}, e.g. to
+     * send it with a zero-copy transfer or to read a byte range at a given position.
+     *
+     * @param bitstream DSpace Bitstream object
+     * @return The path of the file, or null if the bits aren't available as a local file
+     * @throws java.io.IOException If a problem occurs while locating the file
+     */
+    public default Path getLocalPath(Bitstream bitstream) throws IOException {
+        return null;
+    }
+
     /**
      * Store a stream of bits.
      *
@@ -9,17 +9,31 @@ package org.dspace.storage.bitstore;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.sql.SQLException;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import jakarta.annotation.Nullable;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.collections4.MapUtils;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.dspace.authorize.AuthorizeException;
@@ -67,6 +81,11 @@ public class BitstreamStorageServiceImpl implements BitstreamStorageService, Ini
      */
     private static final Logger log = LogManager.getLogger();
 
+    /**
+     * Algorithm of the checksums computed by the stores, and so of the checksums compared to find duplicate content
+     */
+    private static final String CHECKSUM_ALGORITHM = "MD5";
+
     @Autowired(required = true)
     protected BitstreamService bitstreamService;
     @Autowired(required = true)
@@ -82,6 +101,11 @@ public class BitstreamStorageServiceImpl implements BitstreamStorageService, Ini
      */
     private int incoming;
 
+    /**
+     * Whether new bitstreams share the asset of an existing bitstream with the same content
+     */
+    private boolean deduplicate = false;
+
     /**
      * This prefix string marks registered bitstreams in internal_id
      */
@@ -119,11 +143,13 @@ public class BitstreamStorageServiceImpl implements BitstreamStorageService, Ini
         bitstream.setInternalId(id);
 
         BitStoreService store = this.getStore(incoming);
-        //For efficiencies sake, PUT is responsible for setting bitstream size_bytes, checksum, and checksum_algorithm
-        store.put(bitstream, is);
-        //bitstream.setSizeBytes(file.length());
-        //bitstream.setChecksum(Utils.toHex(dis.getMessageDigest().digest()));
-        //bitstream.setChecksumAlgorithm("MD5");
+        if (deduplicate) {
+            storeDeduplicated(context, bitstream, store, is);
+        } else {
+            //For efficiencies sake, PUT is responsible for setting bitstream size_bytes, checksum, and
+            // checksum_algorithm
+            store.put(bitstream, is);
+        }
 
         bitstream.setDeleted(false);
         try {
@@ -147,6 +173,42 @@ public class BitstreamStorageServiceImpl implements BitstreamStorageService, Ini
         return bitstreamId;
     }
 
+    /**
+     * Store the content of a new bitstream, unless a bitstream of the same store already has the same content. The
+     * content is spooled to a temporary file while its checksum is computed, so that a duplicate is never uploaded:
+     * the new bitstream shares the asset of the existing bitstream instead. The shared asset is only removed by
+     * {@link #cleanup(boolean, boolean)} once no bitstream refers to its internal id anymore.
+     */
+    protected void storeDeduplicated(Context context, Bitstream bitstream, BitStoreService store, InputStream is)
+        throws SQLException, IOException {
+        Path spool = Files.createTempFile(bitstream.getInternalId(), ".tmp");
+        try {
+            MessageDigest digest = MessageDigest.getInstance(CHECKSUM_ALGORITHM);
+            try (InputStream in = new DigestInputStream(is, digest)) {
+                bitstream.setSizeBytes(Files.copy(in, spool, StandardCopyOption.REPLACE_EXISTING));
+            }
+            bitstream.setChecksum(Utils.toHex(digest.digest()));
+            bitstream.setChecksumAlgorithm(CHECKSUM_ALGORITHM);
+
+            Bitstream duplicate = bitstreamService.findDuplicateContent(context, bitstream);
+            if (duplicate != null) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Bitstream " + bitstream.getID() + " shares the asset " + duplicate.getInternalId() +
+                                  " of bitstream " + duplicate.getID());
+                }
+                bitstream.setInternalId(duplicate.getInternalId());
+                return;
+            }
+            try (InputStream in = Files.newInputStream(spool)) {
+                store.put(bitstream, in);
+            }
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException(e);
+        } finally {
+            Files.deleteIfExists(spool);
+        }
+    }
+
     /**
      * Register a bitstream already in storage.
      *
@@ -220,6 +282,13 @@ public class BitstreamStorageServiceImpl implements BitstreamStorageService, Ini
         return this.getStore(storeNumber).get(bitstream);
     }
 
+    @Override
+    public Path retrieveLocalPath(Context context, Bitstream bitstream)
+        throws SQLException, IOException {
+        Integer storeNumber = bitstream.getStoreNumber();
+        return this.getStore(storeNumber).getLocalPath(bitstream);
+    }
+
     @Override
     public void cleanup(boolean deleteDbRecords, boolean verbose) throws SQLException, IOException, AuthorizeException {
         Context context = new Context(Context.Mode.BATCH_EDIT);
@@ -402,40 +471,173 @@ public class BitstreamStorageServiceImpl implements BitstreamStorageService, Ini
     @Override
     public void migrate(Context context, Integer assetstoreSource, Integer assetstoreDestination, boolean deleteOld,
                         Integer batchCommitSize) throws IOException, SQLException, AuthorizeException {
-        //Find all the bitstreams on the old source, copy it to new destination, update store_number, save, remove old
-        Iterator<Bitstream> allBitstreamsInSource = bitstreamService.findByStoreNumber(context, assetstoreSource);
-        int processedCounter = 0;
+        migrate(context, assetstoreSource, assetstoreDestination, deleteOld, batchCommitSize, 1, 0);
+    }
 
-        while (allBitstreamsInSource.hasNext()) {
-            Bitstream bitstream = allBitstreamsInSource.next();
-            log.info("Copying bitstream:" + bitstream
-                .getID() + " from assetstore[" + assetstoreSource + "] to assetstore[" + assetstoreDestination + "] " +
-                         "Name:" + bitstream
-                .getName() + ", SizeBytes:" + bitstream.getSizeBytes());
+    /**
+     * Migrates all assets off of one assetstore to another, transferring several assets in parallel. The assets are
+     * transferred outside of the database session: the bitstreams are detached from the context, and their new store
+     * number is only saved (and committed every batchCommitSize bitstreams) once their transfer has completed and the
+     * checksum of the transferred bits matched the checksum of the bitstream. Old assets are removed after that
+     * commit. The committed store numbers are the checkpoint of the migration: when it is interrupted, running it
+     * again resumes with the bitstreams which are still in the source assetstore.
+     *
+     * @param assetstoreSource      source assetstore
+     * @param assetstoreDestination destination assetstore
+     * @param threads               number of parallel transfers
+     * @param maxBytesPerSecond     maximum throughput of all the transfers together, 0 for unlimited
+     * @throws IOException        A general class of exceptions produced by failed or interrupted I/O operations.
+     * @throws SQLException       An exception that provides information on a database access error or other errors.
+     * @throws AuthorizeException Exception indicating the current user of the context does not have permission
+     *                            to perform a particular action.
+     */
+    @Override
+    public void migrate(Context context, Integer assetstoreSource, Integer assetstoreDestination, boolean deleteOld,
+                        Integer batchCommitSize, int threads, long maxBytesPerSecond)
+        throws IOException, SQLException, AuthorizeException {
+        BitStoreService source = this.getStore(assetstoreSource);
+        BitStoreService destination = this.getStore(assetstoreDestination);
+        BandwidthThrottle throttle = maxBytesPerSecond > 0 ? new BandwidthThrottle(maxBytesPerSecond) : null;
+        int transferThreads = Math.max(1, threads);
+        // Keep the transfer threads busy while the completed transfers are saved
+        int maxInFlight = transferThreads * 2;
+
+        ExecutorService executor = Executors.newFixedThreadPool(transferThreads);
+        CompletionService<MigratedBitstream> transfers = new ExecutorCompletionService<>(executor);
+        List<MigratedBitstream> batch = new ArrayList<>();
+        int inFlight = 0;
+        int processedCounter = 0;
+        int failedCounter = 0;
+        try {
+            Iterator<Bitstream> allBitstreamsInSource = bitstreamService.findByStoreNumber(context, assetstoreSource);
+            while (allBitstreamsInSource.hasNext() || inFlight > 0) {
+                while (inFlight < maxInFlight && allBitstreamsInSource.hasNext()) {
+                    Bitstream bitstream = allBitstreamsInSource.next();
+                    log.info("Copying bitstream:" + bitstream.getID() + " from assetstore[" + assetstoreSource +
+                                 "] to assetstore[" + assetstoreDestination + "] Name:" + bitstream.getName() +
+                                 ", SizeBytes:" + bitstream.getSizeBytes());
+                    // The transfer updates the size and checksum of the bitstream, which must not be flushed before
+                    // the transfer is complete
+                    context.uncacheEntity(bitstream);
+                    transfers.submit(() -> transfer(bitstream, source, destination, throttle));
+                    inFlight++;
+                }
 
-            InputStream inputStream = retrieve(context, bitstream);
-            this.getStore(assetstoreDestination).put(bitstream, inputStream);
-            bitstream.setStoreNumber(assetstoreDestination);
-            bitstreamService.update(context, bitstream);
+                MigratedBitstream migrated = takeTransfer(transfers);
+                inFlight--;
+                if (migrated.error != null) {
+                    failedCounter++;
+                    log.error("Unable to copy bitstream:" + migrated.bitstream.getID() + " to assetstore[" +
+                                  assetstoreDestination + "], it is left in assetstore[" + assetstoreSource + "]",
+                              migrated.error);
+                } else {
+                    batch.add(migrated);
+                }
 
-            if (deleteOld) {
-                log.info("Removing bitstream:" + bitstream.getID() + " from assetstore[" + assetstoreSource + "]");
-                this.getStore(assetstoreSource).remove(bitstream);
+                if (batch.size() >= batchCommitSize) {
+                    processedCounter += commitMigrated(context, batch, source, assetstoreSource,
+                                                       assetstoreDestination, deleteOld);
+                    log.info("Migration Commit Checkpoint: " + processedCounter);
+                }
             }
+            processedCounter += commitMigrated(context, batch, source, assetstoreSource, assetstoreDestination,
+                                               deleteOld);
+        } finally {
+            executor.shutdownNow();
+        }
 
-            processedCounter++;
-            context.uncacheEntity(bitstream);
+        log.info(
+            "Assetstore Migration from assetstore[" + assetstoreSource + "] to assetstore[" + assetstoreDestination +
+                "] completed. " + processedCounter + " objects were transferred, " + failedCounter + " failed.");
+    }
 
-            //modulo
-            if ((processedCounter % batchCommitSize) == 0) {
-                log.info("Migration Commit Checkpoint: " + processedCounter);
-                context.dispatchEvents();
+    /**
+     * Copy the asset of a (detached) bitstream to the destination store, verifying the checksum of the copied bits
+     * on the fly. An asset whose checksum doesn't match is removed from the destination store again.
+     */
+    private MigratedBitstream transfer(Bitstream bitstream, BitStoreService source, BitStoreService destination,
+                                       BandwidthThrottle throttle) {
+        String expectedChecksum = bitstream.getChecksum();
+        MessageDigest digest = null;
+        try {
+            if (StringUtils.isNotBlank(expectedChecksum)) {
+                digest = MessageDigest.getInstance(bitstream.getChecksumAlgorithm());
+            }
+            InputStream inputStream = source.get(bitstream);
+            if (throttle != null) {
+                inputStream = throttle.throttle(inputStream);
+            }
+            if (digest != null) {
+                inputStream = new DigestInputStream(inputStream, digest);
+            }
+            try (InputStream in = inputStream) {
+                destination.put(bitstream, in);
+            }
+            if (digest != null) {
+                String checksum = Utils.toHex(digest.digest());
+                if (!StringUtils.equalsIgnoreCase(checksum, expectedChecksum)) {
+                    destination.remove(bitstream);
+                    throw new IOException("Checksum mismatch: expected " + expectedChecksum + ", copied " + checksum);
+                }
             }
+            return new MigratedBitstream(bitstream, null);
+        } catch (IOException | NoSuchAlgorithmException | RuntimeException e) {
+            return new MigratedBitstream(bitstream, e);
         }
+    }
 
-        log.info(
-            "Assetstore Migration from assetstore[" + assetstoreSource + "] to assetstore[" + assetstoreDestination +
-                "] completed. " + processedCounter + " objects were transferred.");
+    private MigratedBitstream takeTransfer(CompletionService<MigratedBitstream> transfers) throws IOException {
+        try {
+            return transfers.take().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Assetstore migration interrupted");
+        } catch (ExecutionException e) {
+            // transfer() reports its errors in its result
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Save the new store number (and the size and checksum computed by the destination store) of the transferred
+     * bitstreams and commit, then remove their old assets if requested.
+     *
+     * @return the number of saved bitstreams
+     */
+    private int commitMigrated(Context context, List<MigratedBitstream> batch, BitStoreService source,
+                               Integer assetstoreSource, Integer assetstoreDestination, boolean deleteOld)
+        throws SQLException, AuthorizeException {
+        List<Bitstream> saved = new ArrayList<>(batch.size());
+        for (MigratedBitstream migrated : batch) {
+            Bitstream bitstream = bitstreamService.find(context, migrated.bitstream.getID());
+            if (bitstream == null) {
+                log.warn("Bitstream:" + migrated.bitstream.getID() + " was deleted during its migration");
+                continue;
+            }
+            bitstream.setStoreNumber(assetstoreDestination);
+            bitstream.setSizeBytes(migrated.bitstream.getSizeBytes());
+            bitstream.setChecksum(migrated.bitstream.getChecksum());
+            bitstream.setChecksumAlgorithm(migrated.bitstream.getChecksumAlgorithm());
+            bitstreamService.update(context, bitstream);
+            saved.add(bitstream);
+        }
+        context.commit();
+
+        for (MigratedBitstream migrated : batch) {
+            if (deleteOld && !isReferencedInStore(context, migrated.bitstream, assetstoreSource)) {
+                log.info("Removing bitstream:" + migrated.bitstream.getID() + " from old assetstore");
+                try {
+                    source.remove(migrated.bitstream);
+                } catch (IOException e) {
+                    log.error("Unable to remove bitstream:" + migrated.bitstream.getID() + " from old assetstore", e);
+                }
+            }
+        }
+        for (Bitstream bitstream : saved) {
+            context.uncacheEntity(bitstream);
+        }
+        batch.clear();
+        return saved.size();
     }
 
     @Override
@@ -465,6 +667,14 @@ public class BitstreamStorageServiceImpl implements BitstreamStorageService, Ini
         this.incoming = incoming;
     }
 
+    public boolean isDeduplicate() {
+        return deduplicate;
+    }
+
+    public void setDeduplicate(boolean deduplicate) {
+        this.deduplicate = deduplicate;
+    }
+
     public void setStores(Map<Integer, BitStoreService> stores) {
         this.stores = stores;
     }
@@ -502,4 +712,31 @@ public class BitstreamStorageServiceImpl implements BitstreamStorageService, Ini
         return bitStoreService;
     }
 
+    /**
+     * Whether other bitstreams in the given store share the asset of the given bitstream (versions of a bitstream,
+     * or deduplicated bitstreams)
+     */
+    private boolean isReferencedInStore(Context context, Bitstream bitstream, int storeNumber) throws SQLException {
+        for (Bitstream other : bitstreamService.findDuplicateInternalIdentifier(context, bitstream)) {
+            boolean sameStore = other.getStoreNumber() == storeNumber;
+            context.uncacheEntity(other);
+            if (sameStore) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The result of the transfer of a bitstream during a migration
+     */
+    private static class MigratedBitstream {
+        private final Bitstream bitstream;
+        private final Exception error;
+
+        MigratedBitstream(Bitstream bitstream, Exception error) {
+            this.bitstream = bitstream;
+            this.error = error;
+        }
+    }
 }
@@ -0,0 +1,554 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.storage.bitstore;
+
+import java.io.File;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.dspace.content.Bitstream;
+import org.dspace.core.Utils;
+
+/**
+ * Asset store which wraps another (typically remote) asset store and keeps a copy of the assets which are read on
+ * local disk, so that popular bitstreams are not fetched from the wrapped store over and over. It is configured in
+ * bitstore.xml in place of the wrapped store, under the same store number:
+ *
+ * <pre>
+ * &lt;entry key="1" value-ref="cachedS3Store"/&gt;
+ * ...
+ * &lt;bean name="cachedS3Store" class="org.dspace.storage.bitstore.CachingBitStoreService"&gt;
+ *     &lt;property name="store" ref="s3Store"/&gt;
+ *     &lt;property name="cacheDir" value="${assetstore.cache.dir}"/&gt;
+ * &lt;/bean&gt;
+ * </pre>
+ *
+ * The cache is bounded by maxSize (in bytes), the least recently used assets are evicted first. An asset which
+ * isn't cached yet is streamed from the wrapped store to the reader and copied into the cache on the way, it is only
+ * cached once it has been read entirely and its checksum has been verified against the checksum of the bitstream.
+ * While an asset is being copied, concurrent reads of the same asset are served from the wrapped store. Writes,
+ * removals and technical metadata (including checksums computed by the checksum checker) always go to the wrapped
+ * store.
+ * <p>
+ * The cached file returned by {@link #getLocalPath(Bitstream)} is opened by the caller later on (possibly by the
+ * servlet container, after the request has been handled), so the asset is pinned for pinDuration milliseconds: the
+ * eviction of the least recently used assets skips it until then. Once opened, the file remains readable even if it
+ * is evicted.
+ */
+public class CachingBitStoreService extends BaseBitStoreService {
+
+    private static final Logger log = LogManager.getLogger(CachingBitStoreService.class);
+
+    /**
+     * The wrapped asset store
+     */
+    private BitStoreService store;
+
+    /**
+     * The directory holding the cached assets
+     */
+    private File cacheDir;
+
+    /**
+     * The maximum size of the cache in bytes. Default 10GB
+     */
+    private long maxSize = 10L * 1024 * 1024 * 1024;
+
+    /**
+     * The maximum size of a single cached asset in bytes, larger assets are read from the wrapped store. Default 1GB
+     */
+    private long maxEntrySize = 1024L * 1024 * 1024;
+
+    /**
+     * How long (in milliseconds) an asset whose local path has been handed out is protected from eviction. Default
+     * 5 minutes
+     */
+    private long pinDuration = 5L * 60 * 1000;
+
+    /**
+     * Cached assets (by internal id) and their size in bytes, in access order (least recently used first)
+     */
+    private final LinkedHashMap<String, Long> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long currentSize = 0;
+
+    /**
+     * Cached assets (by internal id) which must not be evicted before the given time (in milliseconds)
+     */
+    private final Map<String, Long> pins = new HashMap<>();
+
+    /**
+     * Assets which are being copied from the wrapped store
+     */
+    private final Set<String> fills = ConcurrentHashMap.newKeySet();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong checksumFailures = new AtomicLong();
+
+    public CachingBitStoreService() {
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return store.isEnabled();
+    }
+
+    /**
+     * Initialize the wrapped store, and register the assets found in the cache directory
+     */
+    @Override
+    public void init() throws IOException {
+        if (store.isEnabled() && !store.isInitialized()) {
+            store.init();
+        }
+        if (initialized) {
+            return;
+        }
+        Path root = cacheDir.toPath();
+        Files.createDirectories(root);
+
+        // register existing entries, oldest first so that they are evicted first
+        List<Path> existing;
+        try (Stream<Path> files = Files.walk(root)) {
+            existing = files.filter(Files::isRegularFile)
+                            .filter(path -> !path.getFileName().toString().endsWith(".tmp"))
+                            .sorted(Comparator.comparingLong(path -> path.toFile().lastModified()))
+                            .collect(Collectors.toList());
+        }
+        for (Path path : existing) {
+            register(path.getFileName().toString(), Files.size(path));
+        }
+        this.initialized = true;
+        log.info("Asset cache in {} initialized with {} entries ({} bytes)", root, entries.size(), currentSize);
+    }
+
+    @Override
+    public boolean isInitialized() {
+        return initialized && store.isInitialized();
+    }
+
+    @Override
+    public String generateId() {
+        return store.generateId();
+    }
+
+    /**
+     * Retrieve the bits from the cache. Bits which aren't cached yet are streamed from the wrapped store and copied
+     * into the cache while they are read.
+     *
+     * @param bitstream The bitstream to retrieve
+     * @return The stream of bits
+     * @throws java.io.IOException If a problem occurs while retrieving the bits
+     */
+    @Override
+    public InputStream get(Bitstream bitstream) throws IOException {
+        if (!isCacheable(bitstream)) {
+            return store.get(bitstream);
+        }
+        String key = bitstream.getInternalId();
+        Path file = getCachePath(key);
+        if (isCached(key, file)) {
+            try {
+                InputStream in = Files.newInputStream(file);
+                hits.incrementAndGet();
+                return in;
+            } catch (NoSuchFileException e) {
+                log.debug("Cached asset {} was evicted while opening it", key);
+            }
+        }
+
+        misses.incrementAndGet();
+        if (!fills.add(key)) {
+            // another reader is copying the asset, don't wait for it
+            return store.get(bitstream);
+        }
+        try {
+            return fill(bitstream, key, file);
+        } catch (IOException | RuntimeException e) {
+            fills.remove(key);
+            throw e;
+        }
+    }
+
+    /**
+     * The cached copy of an asset can be sent with zero-copy transfers, assets which aren't cached yet are read
+     * through {@link #get(Bitstream)} (which caches them). The cached copy is pinned for pinDuration milliseconds, so
+     * that it is not evicted before the caller opens it.
+     */
+    @Override
+    public Path getLocalPath(Bitstream bitstream) throws IOException {
+        if (!isCacheable(bitstream)) {
+            return store.getLocalPath(bitstream);
+        }
+        String key = bitstream.getInternalId();
+        Path file = getCachePath(key);
+        if (pin(key, file)) {
+            hits.incrementAndGet();
+            return file;
+        }
+        return store.getLocalPath(bitstream);
+    }
+
+    @Override
+    public void put(Bitstream bitstream, InputStream inputStream) throws IOException {
+        evict(bitstream.getInternalId());
+        store.put(bitstream, inputStream);
+    }
+
+    @Override
+    public Map<String, Object> about(Bitstream bitstream, List<String> attrs) throws IOException {
+        return store.about(bitstream, attrs);
+    }
+
+    @Override
+    public void remove(Bitstream bitstream) throws IOException {
+        store.remove(bitstream);
+        evict(bitstream.getInternalId());
+    }
+
+    /**
+     * Only regular assets of a known size and checksum, which fit in the cache, are cached
+     */
+    protected boolean isCacheable(Bitstream bitstream) {
+        String internalId = bitstream.getInternalId();
+        return initialized
+            && StringUtils.isAlphanumeric(internalId)
+            && StringUtils.isNotBlank(bitstream.getChecksum())
+            && StringUtils.isNotBlank(bitstream.getChecksumAlgorithm())
+            && bitstream.getSizeBytes() <= Math.min(maxEntrySize, maxSize);
+    }
+
+    private synchronized boolean isCached(String key, Path file) {
+        if (entries.get(key) == null) {
+            return false;
+        }
+        if (Files.exists(file)) {
+            return true;
+        }
+        // removed from disk behind our back
+        currentSize -= entries.remove(key);
+        return false;
+    }
+
+    /**
+     * Protect a cached asset from eviction for pinDuration milliseconds
+     *
+     * @return true if the asset is cached
+     */
+    private synchronized boolean pin(String key, Path file) {
+        if (!isCached(key, file)) {
+            return false;
+        }
+        pins.merge(key, System.currentTimeMillis() + pinDuration, Long::max);
+        return true;
+    }
+
+    /**
+     * Open the asset in the wrapped store, with a stream which copies the bits into a temporary file of the cache
+     * while they are read.
+     *
+     * @return the stream of bits, the asset is cached once it has been read entirely
+     */
+    protected InputStream fill(Bitstream bitstream, String key, Path file) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance(bitstream.getChecksumAlgorithm());
+        } catch (NoSuchAlgorithmException e) {
+            log.warn("Unsupported checksum algorithm {}, asset {} is not cached",
+                     bitstream.getChecksumAlgorithm(), key);
+            fills.remove(key);
+            return store.get(bitstream);
+        }
+        Files.createDirectories(file.getParent());
+        Path temp = Files.createTempFile(file.getParent(), key, ".tmp");
+        try {
+            return new FillingInputStream(new DigestInputStream(store.get(bitstream), digest), bitstream, key,
+                                          file, temp);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+    }
+
+    private synchronized void register(String key, long size) {
+        Long previous = entries.put(key, size);
+        currentSize += size - (previous != null ? previous : 0);
+        evictLeastRecentlyUsed();
+    }
+
+    /**
+     * Remove the least recently used entries until the cache fits its maximum size.
+     */
+    private void evictLeastRecentlyUsed() {
+        long now = System.currentTimeMillis();
+        pins.values().removeIf(until -> until <= now);
+        Iterator<Map.Entry<String, Long>> iterator = entries.entrySet().iterator();
+        while (currentSize > maxSize && iterator.hasNext()) {
+            Map.Entry<String, Long> eldest = iterator.next();
+            if (pins.containsKey(eldest.getKey())) {
+                continue;
+            }
+            try {
+                Files.deleteIfExists(getCachePath(eldest.getKey()));
+            } catch (IOException e) {
+                log.warn("Unable to remove cached asset {}", eldest.getKey(), e);
+            }
+            currentSize -= eldest.getValue();
+            iterator.remove();
+            evictions.incrementAndGet();
+        }
+    }
+
+    /**
+     * Remove the cached copy of an asset, if any
+     */
+    private void evict(String key) throws IOException {
+        if (!initialized || !StringUtils.isAlphanumeric(key)) {
+            return;
+        }
+        synchronized (this) {
+            // the cached copy is stale, even if it is pinned
+            pins.remove(key);
+            Long size = entries.remove(key);
+            if (size != null) {
+                currentSize -= size;
+            }
+        }
+        Files.deleteIfExists(getCachePath(key));
+    }
+
+    private Path getCachePath(String key) {
+        return cacheDir.toPath().resolve(getIntermediatePath(key)).resolve(key);
+    }
+
+    public BitStoreService getStore() {
+        return store;
+    }
+
+    public void setStore(BitStoreService store) {
+        this.store = store;
+    }
+
+    public File getCacheDir() {
+        return cacheDir;
+    }
+
+    public void setCacheDir(File cacheDir) {
+        this.cacheDir = cacheDir;
+    }
+
+    public void setMaxSize(long maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public void setMaxEntrySize(long maxEntrySize) {
+        this.maxEntrySize = maxEntrySize;
+    }
+
+    public void setPinDuration(long pinDuration) {
+        this.pinDuration = pinDuration;
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public long getEvictions() {
+        return evictions.get();
+    }
+
+    public long getChecksumFailures() {
+        return checksumFailures.get();
+    }
+
+    public synchronized long getSize() {
+        return currentSize;
+    }
+
+    public synchronized int getEntryCount() {
+        return entries.size();
+    }
+
+    /**
+     * Stream of the bits of the wrapped store, which copies them into a temporary file while they are read. Once the
+     * end of the stream is reached, the temporary file is moved in place if the checksum of the bits matches the
+     * checksum of the bitstream. A stream which is closed before its end, or whose copy fails, is not cached.
+     */
+    private class FillingInputStream extends FilterInputStream {
+
+        private final DigestInputStream digestStream;
+        private final Bitstream bitstream;
+        private final String key;
+        private final Path file;
+        private final Path temp;
+        private OutputStream out;
+        private boolean closed = false;
+
+        FillingInputStream(DigestInputStream in, Bitstream bitstream, String key, Path file, Path temp)
+            throws IOException {
+            super(in);
+            this.digestStream = in;
+            this.bitstream = bitstream;
+            this.key = key;
+            this.file = file;
+            this.temp = temp;
+            this.out = Files.newOutputStream(temp);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                write(new byte[] {(byte) b}, 0, 1);
+            } else {
+                complete();
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = super.read(b, off, len);
+            if (read > 0) {
+                write(b, off, read);
+            } else if (read < 0) {
+                complete();
+            }
+            return read;
+        }
+
+        /**
+         * Skipped bits are read anyway, so that they are copied too
+         */
+        @Override
+        public long skip(long n) throws IOException {
+            byte[] buffer = new byte[8192];
+            long skipped = 0;
+            while (skipped < n) {
+                int read = read(buffer, 0, (int) Math.min(buffer.length, n - skipped));
+                if (read < 0) {
+                    break;
+                }
+                skipped += read;
+            }
+            return skipped;
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        @Override
+        public synchronized void mark(int readlimit) {
+        }
+
+        @Override
+        public synchronized void reset() throws IOException {
+            throw new IOException("mark/reset not supported");
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                super.close();
+            } finally {
+                abandon();
+                fills.remove(key);
+            }
+        }
+
+        /**
+         * Copy the bits into the temporary file. A failure only stops the copy, the bits are still returned
+         */
+        private void write(byte[] b, int off, int len) {
+            if (out == null) {
+                return;
+            }
+            try {
+                out.write(b, off, len);
+            } catch (IOException e) {
+                log.warn("Unable to cache asset {}", key, e);
+                abandon();
+            }
+        }
+
+        /**
+         * Move the copy in place once the end of the stream has been reached, if its checksum matches
+         */
+        private void complete() {
+            if (out == null) {
+                return;
+            }
+            try {
+                out.close();
+                out = null;
+                String checksum = Utils.toHex(digestStream.getMessageDigest().digest());
+                if (!StringUtils.equalsIgnoreCase(checksum, bitstream.getChecksum())) {
+                    checksumFailures.incrementAndGet();
+                    log.warn("Checksum mismatch for asset {} (expected {}, read {}), it is not cached", key,
+                             bitstream.getChecksum(), checksum);
+                    Files.deleteIfExists(temp);
+                    return;
+                }
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                register(key, Files.size(file));
+            } catch (IOException e) {
+                log.warn("Unable to cache asset {}", key, e);
+                abandon();
+            }
+        }
+
+        /**
+         * Stop the copy and remove the temporary file, if it hasn't been moved in place
+         */
+        private void abandon() {
+            try {
+                if (out != null) {
+                    out.close();
+                    out = null;
+                }
+                Files.deleteIfExists(temp);
+            } catch (IOException e) {
+                log.warn("Unable to remove temporary copy {} of asset {}", temp, key, e);
+            }
+        }
+    }
+}
@@ -12,7 +12,9 @@ import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.security.DigestInputStream;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
@@ -81,6 +83,22 @@ public class DSBitStoreService extends BaseBitStoreService {
         }
     }
 
+    /**
+     * Retrieve the file of the asset, so that it can be read through a {@link java.nio.channels.FileChannel}.
+     *
+     * @param bitstream The bitstream of the asset
+     * @return The path of the file, or null if the file does not exist
+     * @throws java.io.IOException If a problem occurs while locating the file
+     */
+    @Override
+    public Path getLocalPath(Bitstream bitstream) throws IOException {
+        File file = getFile(bitstream);
+        if (file == null || !Files.isRegularFile(file.toPath())) {
+            return null;
+        }
+        return file.toPath();
+    }
+
     /**
      * Store a stream of bits.
      *
@@ -88,6 +106,8 @@ public class DSBitStoreService extends BaseBitStoreService {
      * If this method returns successfully, the bits have been stored.
      * If an exception is thrown, the bits have not been stored.
      * </p>
+     * The bits are written to a temporary file next to the asset, which is then moved into place: a failed write
+     * (e.g. an interrupted assetstore migration) never leaves a partial asset behind.
      *
      * @param in The stream of bits to store
      * @throws java.io.IOException If a problem occurs while storing the bits
@@ -101,16 +121,17 @@ public class DSBitStoreService extends BaseBitStoreService {
             if (!parent.exists()) {
                 parent.mkdirs();
             }
-            //Create the corresponding file and open it
-            file.createNewFile();
+            Path temp = Files.createTempFile(parent.toPath(), file.getName() + ".", ".tmp");
 
             try (
-                    FileOutputStream fos = new FileOutputStream(file);
+                    FileOutputStream fos = new FileOutputStream(temp.toFile());
                     // Read through a digest input stream that will work out the MD5
                     DigestInputStream dis = new DigestInputStream(in, MessageDigest.getInstance(CSA));
             ) {
                 Utils.bufferedCopy(dis, fos);
                 in.close();
+                fos.close();
+                Files.move(temp, file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
 
                 bitstream.setSizeBytes(file.length());
                 bitstream.setChecksum(Utils.toHex(dis.getMessageDigest().digest()));
@@ -118,6 +139,8 @@ public class DSBitStoreService extends BaseBitStoreService {
             } catch (NoSuchAlgorithmException nsae) {
                 // Should never happen
                 log.warn("Caught NoSuchAlgorithmException", nsae);
+            } finally {
+                Files.deleteIfExists(temp);
             }
         } catch (Exception e) {
             log.error("put(" + bitstream.getInternalId() + ", inputstream)", e);
@@ -17,10 +17,17 @@ import java.io.InputStream;
 import java.security.DigestInputStream;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 import java.util.function.Supplier;
 
 import com.amazonaws.AmazonClientException;
@@ -34,6 +41,7 @@ import com.amazonaws.services.s3.AmazonS3ClientBuilder;
 import com.amazonaws.services.s3.model.AmazonS3Exception;
 import com.amazonaws.services.s3.model.GetObjectRequest;
 import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.S3Object;
 import com.amazonaws.services.s3.transfer.Download;
 import com.amazonaws.services.s3.transfer.TransferManager;
 import com.amazonaws.services.s3.transfer.TransferManagerBuilder;
@@ -108,6 +116,26 @@ public class S3BitStoreService extends BaseBitStoreService {
      */
     private long bufferSize = 5 * 1024 * 1024;
 
+    /**
+     * The number of chunks which are downloaded ahead of the reader, in parallel. Default 0: the chunks are
+     * downloaded one at a time when they are read (see {@link S3LazyInputStream})
+     */
+    private int prefetchChunks = 0;
+
+    /**
+     * The maximum number of prefetched chunks held in memory by all open streams together. Default 32
+     */
+    private int prefetchMaxBuffers = 32;
+
+    /**
+     * The number of threads downloading prefetched chunks, shared by all open streams. Default 8
+     */
+    private int prefetchThreads = 8;
+
+    private ExecutorService prefetchExecutor = null;
+
+    private Semaphore prefetchBuffers = null;
+
     /**
      * container for all the assets
      */
@@ -264,6 +292,9 @@ public class S3BitStoreService extends BaseBitStoreService {
         if (isRegisteredBitstream(key)) {
             key = key.substring(REGISTERED_FLAG.length());
         }
+        if (prefetchChunks > 0) {
+            return new S3PrefetchInputStream(key, bufferSize, bitstream.getSizeBytes(), prefetchChunks);
+        }
         return new S3LazyInputStream(key, bufferSize, bitstream.getSizeBytes());
     }
 
@@ -619,13 +650,60 @@ public class S3BitStoreService extends BaseBitStoreService {
         this.bufferSize = bufferSize;
     }
 
+    public void setPrefetchChunks(int prefetchChunks) {
+        this.prefetchChunks = prefetchChunks;
+    }
+
+    public void setPrefetchMaxBuffers(int prefetchMaxBuffers) {
+        this.prefetchMaxBuffers = prefetchMaxBuffers;
+    }
+
+    public void setPrefetchThreads(int prefetchThreads) {
+        this.prefetchThreads = prefetchThreads;
+    }
+
+    /**
+     * Lazily create the thread pool and the buffer pool shared by all {@link S3PrefetchInputStream}s
+     */
+    private synchronized ExecutorService getPrefetchExecutor() {
+        if (prefetchExecutor == null) {
+            prefetchBuffers = new Semaphore(Math.max(1, prefetchMaxBuffers));
+            prefetchExecutor = Executors.newFixedThreadPool(Math.max(1, prefetchThreads), runnable -> {
+                Thread thread = new Thread(runnable, "s3-prefetch");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return prefetchExecutor;
+    }
+
+    /**
+     * Download a byte range of an object into memory
+     *
+     * @param objectKey the key of the object
+     * @param startByte the first byte of the range (inclusive)
+     * @param endByte   the last byte of the range (inclusive)
+     * @return the content of the range
+     * @throws IOException If the range could not be downloaded
+     */
+    protected byte[] downloadRange(String objectKey, long startByte, long endByte) throws IOException {
+        GetObjectRequest getRequest = new GetObjectRequest(bucketName, objectKey).withRange(startByte, endByte);
+        try (S3Object object = s3Service.getObject(getRequest);
+             InputStream in = object.getObjectContent()) {
+            return in.readAllBytes();
+        } catch (AmazonClientException e) {
+            throw new IOException(e);
+        }
+    }
+
     /**
      * This inner class represent an InputStream that uses temporary files to
      * represent chunk of the object downloaded from S3. When the input stream is
      * read the class look first to the current chunk and download a new one once if
      * the current one as been fully read. The class is responsible to close a chunk
      * as soon as a new one is retrieved, the last chunk is closed when the input
-     * stream itself is closed or the last byte is read (the first of the two)
+     * stream itself is closed or the last byte is read (the first of the two).
+     * The first chunk is only downloaded when the stream is read.
      */
     public class S3LazyInputStream extends InputStream {
         private InputStream currentChunkStream;
@@ -640,14 +718,13 @@ public class S3BitStoreService extends BaseBitStoreService {
             this.chunkMaxSize = chunkMaxSize;
             this.endOfChunk = 0;
             this.fileSize = fileSize;
-            downloadChunk();
         }
 
         @Override
         public int read() throws IOException {
             // is the current chunk completely read and other are available?
             if (currPos == endOfChunk && currPos < fileSize) {
-                currentChunkStream.close();
+                close();
                 downloadChunk();
             }
 
@@ -656,11 +733,57 @@ public class S3BitStoreService extends BaseBitStoreService {
             if (byteRead != -1) {
                 currPos++;
             } else {
-                currentChunkStream.close();
+                close();
             }
             return byteRead;
         }
 
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            if (currPos == endOfChunk && currPos < fileSize) {
+                close();
+                downloadChunk();
+            }
+            int read = currPos < endOfChunk
+                ? currentChunkStream.read(b, off, (int) Long.min(len, endOfChunk - currPos))
+                : -1;
+            if (read != -1) {
+                currPos += read;
+            } else {
+                close();
+            }
+            return read;
+        }
+
+        /**
+         * Skip within the current chunk, or move the position so that the next read downloads the chunk starting at
+         * the new position. Seeking to the start of an HTTP Range request doesn't download the skipped bytes.
+         */
+        @Override
+        public long skip(long n) throws IOException {
+            if (n <= 0) {
+                return 0;
+            }
+            long target = Long.min(currPos + n, fileSize);
+            long skipped = target - currPos;
+            if (target < endOfChunk) {
+                currentChunkStream.skipNBytes(skipped);
+            } else {
+                close();
+                endOfChunk = target;
+            }
+            currPos = target;
+            return skipped;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return (int) Long.min(Integer.MAX_VALUE, endOfChunk - currPos);
+        }
+
         /**
          * This method download the next chunk from S3
          *
@@ -695,4 +818,180 @@ public class S3BitStoreService extends BaseBitStoreService {
         }
 
     }
+
+    /**
+     * This inner class represent an InputStream that downloads the next chunks (byte ranges) of the object from S3 in
+     * parallel while the current chunk is read. The chunks are kept in memory: the number of chunks prefetched by a
+     * single stream is bounded by prefetchChunks, the number of prefetched chunks held by all streams together by
+     * prefetchMaxBuffers. When no buffer is available, a stream downloads only the chunk it needs next.
+     * <p>
+     * Skipping beyond the prefetched chunks discards them and restarts the prefetching at the new position, so an
+     * HTTP Range request is served by downloading the requested byte range only. Nothing is downloaded before the
+     * stream is read or skipped.
+     */
+    public class S3PrefetchInputStream extends InputStream {
+        private final String objectKey;
+        private final long chunkMaxSize;
+        private final long fileSize;
+        private final int prefetch;
+        private final Deque<PrefetchedChunk> window = new ArrayDeque<>();
+        private PrefetchedChunk currentChunk;
+        private byte[] current;
+        private int currentOffset = 0;
+        private long nextChunkStart = 0;
+        private long currPos = 0;
+        private boolean closed = false;
+
+        public S3PrefetchInputStream(String objectKey, long chunkMaxSize, long fileSize, int prefetch) {
+            this.objectKey = objectKey;
+            this.chunkMaxSize = Math.max(1, chunkMaxSize);
+            this.fileSize = fileSize;
+            this.prefetch = Math.max(1, prefetch);
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (!nextChunk()) {
+                return -1;
+            }
+            currPos++;
+            return current[currentOffset++] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            if (!nextChunk()) {
+                return -1;
+            }
+            int read = Math.min(len, current.length - currentOffset);
+            System.arraycopy(current, currentOffset, b, off, read);
+            currentOffset += read;
+            currPos += read;
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            if (n <= 0 || closed) {
+                return 0;
+            }
+            long target = Long.min(currPos + n, fileSize);
+            long skipped = target - currPos;
+            if (current != null && skipped < current.length - currentOffset) {
+                currentOffset += (int) skipped;
+            } else {
+                discard();
+                nextChunkStart = target;
+                schedule();
+            }
+            currPos = target;
+            return skipped;
+        }
+
+        @Override
+        public int available() {
+            return current != null ? current.length - currentOffset : 0;
+        }
+
+        /**
+         * Make sure the current chunk has unread bytes, waiting for the next prefetched chunk if needed.
+         *
+         * @return false at the end of the object
+         */
+        private boolean nextChunk() throws IOException {
+            if (closed) {
+                throw new IOException("Stream closed");
+            }
+            if (current != null && currentOffset < current.length) {
+                return true;
+            }
+            releaseCurrent();
+            if (currPos >= fileSize) {
+                return false;
+            }
+            schedule();
+            currentChunk = window.poll();
+            try {
+                current = currentChunk.data.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while downloading " + objectKey, e);
+            } catch (ExecutionException e) {
+                throw e.getCause() instanceof IOException ? (IOException) e.getCause() : new IOException(e.getCause());
+            }
+            currentOffset = 0;
+            if (current.length == 0) {
+                throw new IOException("Unexpected end of S3 object " + objectKey + " at byte " + currPos);
+            }
+            schedule();
+            return true;
+        }
+
+        /**
+         * Start downloading chunks until the prefetch window is full, or no buffer is available.
+         */
+        private void schedule() {
+            ExecutorService executor = getPrefetchExecutor();
+            while (window.size() < prefetch && nextChunkStart < fileSize) {
+                boolean pooled = prefetchBuffers.tryAcquire();
+                if (!pooled && (!window.isEmpty() || currentChunk != null)) {
+                    return;
+                }
+                long startByte = nextChunkStart;
+                long endByte = Long.min(startByte + chunkMaxSize, fileSize) - 1;
+                nextChunkStart = endByte + 1;
+                window.add(new PrefetchedChunk(executor.submit(() -> downloadRange(objectKey, startByte, endByte)),
+                                               pooled));
+            }
+        }
+
+        private void releaseCurrent() {
+            if (currentChunk != null) {
+                currentChunk.release();
+                currentChunk = null;
+            }
+            current = null;
+        }
+
+        /**
+         * Drop the current chunk and cancel all prefetched chunks
+         */
+        private void discard() {
+            releaseCurrent();
+            PrefetchedChunk chunk;
+            while ((chunk = window.poll()) != null) {
+                chunk.data.cancel(true);
+                chunk.release();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            discard();
+            closed = true;
+        }
+    }
+
+    /**
+     * A chunk being downloaded, and whether it holds one of the shared prefetch buffers
+     */
+    private class PrefetchedChunk {
+        private final Future<byte[]> data;
+        private boolean pooled;
+
+        PrefetchedChunk(Future<byte[]> data, boolean pooled) {
+            this.data = data;
+            this.pooled = pooled;
+        }
+
+        void release() {
+            if (pooled) {
+                prefetchBuffers.release();
+                pooled = false;
+            }
+        }
+    }
 }
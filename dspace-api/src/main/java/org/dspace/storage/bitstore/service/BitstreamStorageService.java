@@ -9,6 +9,7 @@ package org.dspace.storage.bitstore.service;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Path;
 import java.sql.SQLException;
 import java.util.Map;
 import java.util.UUID;
@@ -126,6 +127,19 @@ public interface BitstreamStorageService {
     public InputStream retrieve(Context context, Bitstream bitstream)
         throws SQLException, IOException;
 
+    /**
+     * Retrieve the local file holding the bits of the bitstream, if its store keeps the assets on a local file
+     * system (see {@link org.dspace.storage.bitstore.BitStoreService#getLocalPath(Bitstream)}).
+     *
+     * @param context   The current context
+     * @param bitstream The bitstream to retrieve
+     * @return The path of the file, or null if the bits aren't available as a local file
+     * @throws IOException  If a problem occurs while locating the file
+     * @throws SQLException If a problem occurs accessing the RDBMS
+     */
+    public Path retrieveLocalPath(Context context, Bitstream bitstream)
+        throws SQLException, IOException;
+
     /**
      * Clean up the bitstream storage area. This method deletes any bitstreams
      * which are more than 1 hour old and marked deleted. The deletions cannot
@@ -180,6 +194,28 @@ public interface BitstreamStorageService {
     public void migrate(Context context, Integer assetstoreSource, Integer assetstoreDestination, boolean deleteOld,
                         Integer batchCommitSize) throws IOException, SQLException, AuthorizeException;
 
+    /**
+     * Migrate all the assets from assetstoreSource to assetstoreDestination with several parallel transfers. The
+     * checksum of every transferred asset is verified, and the migrated bitstreams are committed in batches so that
+     * an interrupted migration can be resumed by running it again.
+     *
+     * @param context               The relevant DSpace Context.
+     * @param assetstoreSource      source assetstore
+     * @param assetstoreDestination destination assetstore
+     * @param deleteOld             whether to delete files from the source assetstore after migration
+     * @param batchCommitSize       batch size
+     * @param threads               number of parallel transfers
+     * @param maxBytesPerSecond     maximum throughput of all the transfers together in bytes per second, 0 for
+     *                              unlimited
+     * @throws IOException        A general class of exceptions produced by failed or interrupted I/O operations.
+     * @throws SQLException       An exception that provides information on a database access error or other errors.
+     * @throws AuthorizeException Exception indicating the current user of the context does not have permission
+     *                            to perform a particular action.
+     */
+    public void migrate(Context context, Integer assetstoreSource, Integer assetstoreDestination, boolean deleteOld,
+                        Integer batchCommitSize, int threads, long maxBytesPerSecond)
+        throws IOException, SQLException, AuthorizeException;
+
 
     /**
      * Gets the last modified timestamp of the the given bitstream's content, if known.
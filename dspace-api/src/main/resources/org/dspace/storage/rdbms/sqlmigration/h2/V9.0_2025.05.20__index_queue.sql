@@ -0,0 +1,26 @@
+--
+-- The contents of this file are subject to the license and copyright
+-- detailed in the LICENSE and NOTICE files at the root of the source
+-- tree and available online at
+--
+-- http://www.dspace.org/license/
+--
+
+-----------------------------------------------------------------------------------
+-- Create table for the asynchronous discovery indexing queue
+-----------------------------------------------------------------------------------
+
+CREATE SEQUENCE index_queue_id_seq;
+
+CREATE TABLE index_queue
+(
+    id INTEGER NOT NULL,
+    unique_index_id VARCHAR(255) NOT NULL,
+    action VARCHAR(32) NOT NULL,
+    queued TIMESTAMP NOT NULL,
+    revision INTEGER DEFAULT 0 NOT NULL,
+    CONSTRAINT index_queue_pkey PRIMARY KEY (id),
+    CONSTRAINT index_queue_unique_index_id_key UNIQUE (unique_index_id)
+);
+
+CREATE INDEX index_queue_queued_idx ON index_queue(queued);
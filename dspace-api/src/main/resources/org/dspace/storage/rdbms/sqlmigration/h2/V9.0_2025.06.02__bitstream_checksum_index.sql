@@ -0,0 +1,13 @@
+--
+-- The contents of this file are subject to the license and copyright
+-- detailed in the LICENSE and NOTICE files at the root of the source
+-- tree and available online at
+--
+-- http://www.dspace.org/license/
+--
+
+-----------------------------------------------------------------------------------
+-- Index the bitstream checksums, to find bitstreams with identical content
+-----------------------------------------------------------------------------------
+
+CREATE INDEX bitstream_checksum_idx ON bitstream(checksum);
@@ -34,6 +34,7 @@ SELECT setval('fileextension_seq', max(file_extension_id)) FROM fileextension;
 SELECT setval('handle_id_seq', max(handle_id)) FROM handle;
 SELECT setval('harvested_collection_seq', max(id)) FROM harvested_collection;
 SELECT setval('harvested_item_seq', max(id)) FROM harvested_item;
+SELECT setval('index_queue_id_seq', max(id)) FROM index_queue;
 SELECT setval('metadatafieldregistry_seq', max(metadata_field_id)) FROM metadatafieldregistry;
 SELECT setval('metadataschemaregistry_seq', max(metadata_schema_id)) FROM metadataschemaregistry;
 SELECT setval('metadatavalue_seq', max(metadata_value_id)) FROM metadatavalue;
@@ -50,6 +50,8 @@ import org.dspace.app.mediafilter.factory.MediaFilterServiceFactory;
 import org.dspace.app.mediafilter.service.MediaFilterService;
 import org.dspace.app.scripts.handler.impl.TestDSpaceRunnableHandler;
 import org.dspace.authorize.ResourcePolicy;
+import org.dspace.authorize.factory.AuthorizeServiceFactory;
+import org.dspace.authorize.service.AuthorizeService;
 import org.dspace.builder.BitstreamBuilder;
 import org.dspace.builder.BundleBuilder;
 import org.dspace.builder.CollectionBuilder;
@@ -60,6 +62,7 @@ import org.dspace.content.Bitstream;
 import org.dspace.content.Bundle;
 import org.dspace.content.Collection;
 import org.dspace.content.Community;
+import org.dspace.content.DSpaceObject;
 import org.dspace.content.Item;
 import org.dspace.core.Constants;
 import org.dspace.core.SelfNamedPlugin;
@@ -1821,6 +1824,99 @@ public class BulkAccessControlIT extends AbstractIntegrationTestWithDatabase {
         ));
     }
 
+    @Test
+    public void performBulkAccessWithReplaceModeKeepsUntypedPoliciesAndOtherBundlesTest() throws Exception {
+        context.turnOffAuthorisationSystem();
+
+        Group anonymousGroup = groupService.findByName(context, Group.ANONYMOUS);
+        Group reviewers = GroupBuilder.createGroup(context)
+                                      .withName("reviewers")
+                                      .build();
+
+        Community community = CommunityBuilder.createCommunity(context)
+                                              .withName("community")
+                                              .build();
+
+        Collection collection = CollectionBuilder.createCollection(context, community)
+                                                 .withName("collection")
+                                                 .build();
+
+        Item item = ItemBuilder.createItem(context, collection).build();
+
+        Bitstream original;
+        Bitstream license;
+        Bitstream thumbnail;
+        try (InputStream is = IOUtils.toInputStream("Dummy content", CharEncoding.UTF_8)) {
+            original = BitstreamBuilder.createBitstream(context, item, is, CONTENT_BUNDLE_NAME)
+                                       .withName("bitstream")
+                                       .build();
+        }
+        try (InputStream is = IOUtils.toInputStream("Dummy license", CharEncoding.UTF_8)) {
+            license = BitstreamBuilder.createBitstream(context, item, is, Constants.LICENSE_BUNDLE_NAME)
+                                      .withName("license.txt")
+                                      .build();
+        }
+        try (InputStream is = IOUtils.toInputStream("Dummy thumbnail", CharEncoding.UTF_8)) {
+            thumbnail = BitstreamBuilder.createBitstream(context, item, is, "THUMBNAIL")
+                                        .withName("cover.jpg")
+                                        .build();
+        }
+
+        AuthorizeService authorizeService = AuthorizeServiceFactory.getInstance().getAuthorizeService();
+        for (DSpaceObject dso : List.of(item, original, license, thumbnail)) {
+            authorizeService.addPolicy(context, dso, READ, reviewers);
+        }
+
+        context.restoreAuthSystemState();
+
+        List<Integer> licensePolicies = getPolicyIds(license);
+        List<Integer> thumbnailPolicies = getPolicyIds(thumbnail);
+
+        String json = "{ \"item\": {\n" +
+            "      \"mode\": \"replace\"\n" +
+            "   },\n" +
+            " \"bitstream\": {\n" +
+            "      \"mode\": \"replace\"\n" +
+            "   }\n" +
+            "}\n";
+
+        buildJsonFile(json);
+
+        String[] args = new String[] {
+            "bulk-access-control",
+            "-u", collection.getID().toString(),
+            "-f", tempFilePath,
+            "-e", admin.getEmail()
+        };
+
+        TestDSpaceRunnableHandler testDSpaceRunnableHandler = new TestDSpaceRunnableHandler();
+        ScriptLauncher.handleScript(args, ScriptLauncher.getConfig(kernelImpl), testDSpaceRunnableHandler, kernelImpl);
+
+        assertThat(testDSpaceRunnableHandler.getErrorMessages(), empty());
+        assertThat(testDSpaceRunnableHandler.getWarningMessages(), empty());
+
+        item = context.reloadEntity(item);
+        original = context.reloadEntity(original);
+        license = context.reloadEntity(license);
+        thumbnail = context.reloadEntity(thumbnail);
+
+        // only the custom and inherited READ policies are replaced
+        assertThat(item.getResourcePolicies(), hasItems(
+            matches(READ, anonymousGroup, TYPE_INHERITED),
+            matches(READ, reviewers, null)
+        ));
+        assertThat(original.getResourcePolicies(), hasItems(
+            matches(READ, anonymousGroup, TYPE_INHERITED),
+            matches(READ, reviewers, null)
+        ));
+
+        // the bitstreams outside the ORIGINAL bundle are left as they were
+        assertThat(getPolicyIds(license), containsInAnyOrder(licensePolicies.toArray()));
+        assertThat(getPolicyIds(thumbnail), containsInAnyOrder(thumbnailPolicies.toArray()));
+        assertThat(license.getResourcePolicies(), hasItem(matches(READ, reviewers, null)));
+        assertThat(thumbnail.getResourcePolicies(), hasItem(matches(READ, reviewers, null)));
+    }
+
     @Test
     public void performBulkAccessWithHelpParamTest() throws Exception {
 
@@ -1936,6 +2032,13 @@ public class BulkAccessControlIT extends AbstractIntegrationTestWithDatabase {
                    .collect(Collectors.toList());
     }
 
+    private List<Integer> getPolicyIds(DSpaceObject dso) {
+        return dso.getResourcePolicies()
+                  .stream()
+                  .map(ResourcePolicy::getID)
+                  .collect(Collectors.toList());
+    }
+
     private void buildJsonFile(String json) throws IOException {
         File file = new File(tempDir + "/bulk-access.json");
         Path path = Paths.get(file.getAbsolutePath());
@@ -0,0 +1,87 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.authenticate;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link IPRangeLookup}
+ */
+public class IPRangeLookupTest {
+
+    private IPRangeLookup<String> lookup;
+
+    @Before
+    public void setUp() throws IPMatcherException {
+        lookup = new IPRangeLookup<>();
+        lookup.add(new IPMatcher("18."), "MIT");
+        lookup.add(new IPMatcher("18.25.0.0/16"), "Campus");
+        lookup.add(new IPMatcher("18.25.3.4"), "Library");
+        lookup.add(new IPMatcher("192.168.0.0/255.255.0.0"), "Private");
+        lookup.add(new IPMatcher("10.0.0.0/255.0.255.0"), "Sparse");
+        lookup.add(new IPMatcher("2001:18e8:3::/48"), "IPv6");
+        lookup.add(new IPMatcher("16.0.0.0/4"), "Wide");
+    }
+
+    @Test
+    public void testNestedRanges() throws IPMatcherException {
+        assertEquals(Set.of("MIT", "Campus", "Library", "Wide"), lookup.lookup("18.25.3.4"));
+        assertEquals(Set.of("MIT", "Campus", "Wide"), lookup.lookup("18.25.3.5"));
+        assertEquals(Set.of("MIT", "Wide"), lookup.lookup("18.26.0.1"));
+        assertEquals(Set.of("Wide"), lookup.lookup("19.25.3.4"));
+        assertTrue(lookup.lookup("32.25.3.4").isEmpty());
+    }
+
+    @Test
+    public void testNetmask() throws IPMatcherException {
+        assertEquals(Set.of("Private"), lookup.lookup("192.168.12.34"));
+        assertTrue(lookup.lookup("192.169.12.34").isEmpty());
+    }
+
+    @Test
+    public void testNonContiguousNetmask() throws IPMatcherException {
+        assertEquals(Set.of("Sparse"), lookup.lookup("10.1.0.7"));
+        assertTrue(lookup.lookup("10.1.1.7").isEmpty());
+    }
+
+    @Test
+    public void testIPv6() throws IPMatcherException {
+        assertEquals(Set.of("IPv6"), lookup.lookup("2001:18e8:3:171:218:8bff:fe2a:56a4"));
+        assertTrue(lookup.lookup("2001:18e8:4:171:218:8bff:fe2a:56a4").isEmpty());
+    }
+
+    @Test
+    public void testSameAsMatchers() throws IPMatcherException {
+        IPMatcher matcher = new IPMatcher("130.56.128.0/17");
+        IPRangeLookup<Boolean> single = new IPRangeLookup<>();
+        single.add(matcher, true);
+        for (int i = 0; i < 256; i += 7) {
+            for (int j = 0; j < 256; j += 13) {
+                String ip = "130.56." + i + "." + j;
+                assertEquals(ip, matcher.match(ip), single.lookup(ip).contains(true));
+            }
+        }
+    }
+
+    @Test
+    public void testEmpty() throws IPMatcherException {
+        assertTrue(new IPRangeLookup<String>().isEmpty());
+        assertTrue(new IPRangeLookup<String>().lookup("1.2.3.4").isEmpty());
+    }
+
+    @Test(expected = IPMatcherException.class)
+    public void testMalformedAddress() throws IPMatcherException {
+        lookup.lookup("18.25.3");
+    }
+}
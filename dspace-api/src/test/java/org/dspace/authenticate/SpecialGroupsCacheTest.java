@@ -0,0 +1,71 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.authenticate;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link SpecialGroupsCache}
+ */
+public class SpecialGroupsCacheTest {
+
+    private final SpecialGroupsCache cache = new SpecialGroupsCache();
+
+    private final UUID group = UUID.randomUUID();
+
+    @Test
+    public void testKeys() {
+        UUID eperson = UUID.randomUUID();
+        assertEquals(SpecialGroupsCache.getKey("1.2.3.4", "ip", null),
+                     SpecialGroupsCache.getKey("1.2.3.4", "ip", null));
+        assertNotEquals(SpecialGroupsCache.getKey("1.2.3.4", "ip", null),
+                        SpecialGroupsCache.getKey("1.2.3.4", "ip", eperson));
+        assertNotEquals(SpecialGroupsCache.getKey("1.2.3.4", "ip", eperson),
+                        SpecialGroupsCache.getKey("1.2.3.4", "password", eperson));
+        assertNotEquals(SpecialGroupsCache.getKey("1.2.3.4", "ip", eperson),
+                        SpecialGroupsCache.getKey("1.2.3.5", "ip", eperson));
+    }
+
+    @Test
+    public void testExpiration() {
+        String key = SpecialGroupsCache.getKey("1.2.3.4", "ip", null);
+        cache.put(key, List.of(group), 1000, 10);
+
+        assertEquals(List.of(group), cache.get(key, 999));
+        assertNull(cache.get(key, 1000));
+        assertEquals(0, cache.getSize());
+    }
+
+    @Test
+    public void testEviction() {
+        for (int i = 0; i < 5; i++) {
+            cache.put(SpecialGroupsCache.getKey("1.2.3." + i, "ip", null), List.of(group), 1000, 3);
+        }
+
+        assertEquals(3, cache.getSize());
+        assertNull(cache.get(SpecialGroupsCache.getKey("1.2.3.1", "ip", null), 0));
+        assertEquals(List.of(group), cache.get(SpecialGroupsCache.getKey("1.2.3.4", "ip", null), 0));
+    }
+
+    @Test
+    public void testInvalidate() {
+        String key = SpecialGroupsCache.getKey("1.2.3.4", "ip", null);
+        cache.put(key, List.of(group), 1000, 10);
+
+        cache.invalidate(key);
+
+        assertNull(cache.get(key, 0));
+    }
+}
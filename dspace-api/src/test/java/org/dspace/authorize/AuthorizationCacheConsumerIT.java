@@ -0,0 +1,134 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.authorize;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.dspace.AbstractIntegrationTestWithDatabase;
+import org.dspace.authorize.factory.AuthorizeServiceFactory;
+import org.dspace.authorize.service.AuthorizeService;
+import org.dspace.builder.CollectionBuilder;
+import org.dspace.builder.CommunityBuilder;
+import org.dspace.builder.GroupBuilder;
+import org.dspace.builder.ItemBuilder;
+import org.dspace.content.Collection;
+import org.dspace.content.Item;
+import org.dspace.core.Constants;
+import org.dspace.eperson.Group;
+import org.dspace.eperson.factory.EPersonServiceFactory;
+import org.dspace.eperson.service.GroupService;
+import org.dspace.services.ConfigurationService;
+import org.dspace.services.factory.DSpaceServicesFactory;
+import org.dspace.utils.DSpace;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Integration tests of the invalidation of the cached authorization decisions by the
+ * {@link AuthorizationCacheConsumer}.
+ */
+public class AuthorizationCacheConsumerIT extends AbstractIntegrationTestWithDatabase {
+
+    private final ConfigurationService configurationService =
+        DSpaceServicesFactory.getInstance().getConfigurationService();
+    private final AuthorizeService authorizeService = AuthorizeServiceFactory.getInstance().getAuthorizeService();
+    private final GroupService groupService = EPersonServiceFactory.getInstance().getGroupService();
+
+    private AuthorizationDecisionCache authorizationDecisionCache;
+
+    private Item item;
+    private Group group;
+
+    @Before
+    public void setUp() throws Exception {
+        super.setUp();
+        authorizationDecisionCache = new DSpace().getSingletonService(AuthorizationDecisionCache.class);
+        configurationService.setProperty("authorization.cache.enabled", true);
+
+        context.turnOffAuthorisationSystem();
+        parentCommunity = CommunityBuilder.createCommunity(context)
+                                          .withName("Parent Community")
+                                          .build();
+        Collection collection = CollectionBuilder.createCollection(context, parentCommunity)
+                                                 .withName("Collection")
+                                                 .build();
+        item = ItemBuilder.createItem(context, collection)
+                          .withTitle("Item")
+                          .build();
+        group = GroupBuilder.createGroup(context)
+                            .withName("Group")
+                            .build();
+        context.restoreAuthSystemState();
+        context.commit();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        configurationService.setProperty("authorization.cache.enabled", false);
+    }
+
+    @Test
+    public void testPolicyChangeInvalidatesDecision() throws Exception {
+        cacheDecision();
+
+        context.turnOffAuthorisationSystem();
+        authorizeService.addPolicy(context, item, Constants.READ, group);
+        context.restoreAuthSystemState();
+        context.commit();
+
+        assertNull(getDecision());
+    }
+
+    @Test
+    public void testGroupMembershipChangeInvalidatesDecision() throws Exception {
+        cacheDecision();
+
+        context.turnOffAuthorisationSystem();
+        groupService.addMember(context, group, eperson);
+        groupService.update(context, group);
+        context.restoreAuthSystemState();
+        context.commit();
+
+        assertNull(getDecision());
+    }
+
+    @Test
+    public void testGroupHierarchyChangeInvalidatesDecision() throws Exception {
+        context.turnOffAuthorisationSystem();
+        Group parentGroup = GroupBuilder.createGroup(context)
+                                        .withName("Parent Group")
+                                        .build();
+        context.restoreAuthSystemState();
+        context.commit();
+        cacheDecision();
+
+        context.turnOffAuthorisationSystem();
+        groupService.addMember(context, parentGroup, group);
+        groupService.update(context, parentGroup);
+        context.restoreAuthSystemState();
+        context.commit();
+
+        assertNull(getDecision());
+    }
+
+    /**
+     * Cache a decision about the item, as if computed after the quiet period following the changes of the set up
+     */
+    private void cacheDecision() {
+        authorizationDecisionCache.put(context, item, Constants.READ, eperson, true, false,
+                                       authorizationDecisionCache.currentTime()
+                                           + AuthorizationDecisionCache.QUIET_PERIOD, null);
+        assertEquals(Boolean.FALSE, getDecision());
+    }
+
+    private Boolean getDecision() {
+        return authorizationDecisionCache.get(context, item, Constants.READ, eperson, true);
+    }
+}
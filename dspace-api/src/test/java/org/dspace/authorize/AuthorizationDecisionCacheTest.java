@@ -0,0 +1,167 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.authorize;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.Set;
+import java.util.UUID;
+
+import org.dspace.content.Bundle;
+import org.dspace.content.DSpaceObject;
+import org.dspace.content.Item;
+import org.dspace.core.Constants;
+import org.dspace.core.Context;
+import org.dspace.eperson.EPerson;
+import org.dspace.services.ConfigurationService;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link AuthorizationDecisionCache}
+ */
+public class AuthorizationDecisionCacheTest {
+
+    private long now = 1_000_000;
+
+    private AuthorizationDecisionCache cache;
+    private Context context;
+    private EPerson eperson;
+
+    @Before
+    public void setUp() {
+        cache = new AuthorizationDecisionCache() {
+            @Override
+            public long currentTime() {
+                return now;
+            }
+        };
+        cache.configurationService = mock(ConfigurationService.class);
+        when(cache.configurationService.getBooleanProperty(eq("authorization.cache.enabled"), eq(false)))
+            .thenReturn(true);
+        when(cache.configurationService.getLongProperty(eq("authorization.cache.ttl"), anyLong())).thenReturn(300L);
+        when(cache.configurationService.getIntProperty(eq("authorization.cache.max-objects"), anyInt()))
+            .thenReturn(2);
+
+        context = mock(Context.class);
+        when(context.getSpecialGroupUuids()).thenReturn(Set.of());
+        eperson = mockWithId(EPerson.class);
+    }
+
+    @Test
+    public void testCachedDecision() {
+        Item item = mockWithId(Item.class);
+        assertNull(cache.get(context, item, Constants.READ, eperson, true));
+
+        cache.put(context, item, Constants.READ, eperson, true, true, now, null);
+
+        assertEquals(Boolean.TRUE, cache.get(context, item, Constants.READ, eperson, true));
+        assertNull(cache.get(context, item, Constants.WRITE, eperson, true));
+        assertNull(cache.get(context, item, Constants.READ, null, true));
+        assertNull(cache.get(context, item, Constants.READ, eperson, false));
+        assertEquals(1, cache.getHits());
+        assertEquals(4, cache.getMisses());
+    }
+
+    @Test
+    public void testDecisionDependsOnSpecialGroups() {
+        Item item = mockWithId(Item.class);
+        cache.put(context, item, Constants.READ, null, true, false, now, null);
+
+        Context specialContext = mock(Context.class);
+        when(specialContext.getSpecialGroupUuids()).thenReturn(Set.of(UUID.randomUUID()));
+
+        assertEquals(Boolean.FALSE, cache.get(context, item, Constants.READ, null, true));
+        assertNull(cache.get(specialContext, item, Constants.READ, null, true));
+    }
+
+    @Test
+    public void testDecisionExpires() {
+        Item item = mockWithId(Item.class);
+        cache.put(context, item, Constants.READ, eperson, true, true, now, Instant.ofEpochMilli(now + 1000));
+
+        now += 999;
+        assertEquals(Boolean.TRUE, cache.get(context, item, Constants.READ, eperson, true));
+        now += 2;
+        assertNull(cache.get(context, item, Constants.READ, eperson, true));
+    }
+
+    @Test
+    public void testInvalidate() {
+        Item item = mockWithId(Item.class);
+        Item other = mockWithId(Item.class);
+        cache.put(context, item, Constants.READ, eperson, true, true, now, null);
+        cache.put(context, other, Constants.READ, eperson, true, true, now, null);
+
+        cache.invalidate(item.getID());
+
+        assertNull(cache.get(context, item, Constants.READ, eperson, true));
+        assertEquals(Boolean.TRUE, cache.get(context, other, Constants.READ, eperson, true));
+
+        cache.invalidateAll();
+
+        assertNull(cache.get(context, other, Constants.READ, eperson, true));
+        assertEquals(0, cache.getSize());
+    }
+
+    @Test
+    public void testDecisionComputedAroundInvalidationIsNotCached() {
+        Item item = mockWithId(Item.class);
+        long computedSince = now;
+        now += 100;
+        cache.invalidate(item.getID());
+        now += 100;
+
+        // computed from data which may have been changed by the invalidating transaction
+        cache.put(context, item, Constants.READ, eperson, true, true, computedSince, null);
+        assertNull(cache.get(context, item, Constants.READ, eperson, true));
+
+        // computed long enough after the invalidation
+        now += 60000;
+        cache.put(context, item, Constants.READ, eperson, true, true, now, null);
+        assertEquals(Boolean.TRUE, cache.get(context, item, Constants.READ, eperson, true));
+    }
+
+    @Test
+    public void testLeastRecentlyUsedObjectsAreEvicted() {
+        Item first = mockWithId(Item.class);
+        Item second = mockWithId(Item.class);
+        Item third = mockWithId(Item.class);
+        cache.put(context, first, Constants.READ, eperson, true, true, now, null);
+        cache.put(context, second, Constants.READ, eperson, true, true, now, null);
+        cache.get(context, first, Constants.READ, eperson, true);
+
+        cache.put(context, third, Constants.READ, eperson, true, true, now, null);
+
+        assertEquals(2, cache.getSize());
+        assertEquals(Boolean.TRUE, cache.get(context, first, Constants.READ, eperson, true));
+        assertNull(cache.get(context, second, Constants.READ, eperson, true));
+    }
+
+    @Test
+    public void testBundlesAreNotCacheable() {
+        assertTrue(cache.isCacheable(mockWithId(Item.class)));
+        assertFalse(cache.isCacheable(mockWithId(Bundle.class)));
+    }
+
+    private <T extends DSpaceObject> T mockWithId(Class<T> type) {
+        T dso = mock(type);
+        UUID id = UUID.randomUUID();
+        when(dso.getID()).thenReturn(id);
+        return dso;
+    }
+}
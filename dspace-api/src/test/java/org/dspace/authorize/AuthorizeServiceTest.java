@@ -9,6 +9,9 @@
 package org.dspace.authorize;
 
 import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
 import org.dspace.AbstractUnitTest;
 import org.dspace.authorize.factory.AuthorizeServiceFactory;
@@ -127,6 +130,109 @@ public class AuthorizeServiceTest extends AbstractUnitTest {
             throw new AssertionError(ex);
         }
     }
+
+    @Test
+    public void testauthorizeActionBooleansMatchesSingleChecks() {
+        EPerson eperson;
+        Community allowed;
+        Community denied;
+        try {
+            context.turnOffAuthorisationSystem();
+
+            eperson = ePersonService.create(context);
+            Group group = groupService.create(context);
+            groupService.setName(group, "My test group 3");
+            groupService.addMember(context, group, eperson);
+            groupService.update(context, group);
+
+            allowed = communityService.create(null, context);
+            denied = communityService.create(null, context);
+            authorizeService.addPolicy(context, allowed, Constants.WRITE, group);
+            context.commit();
+
+            context.setCurrentUser(eperson);
+        } catch (SQLException | AuthorizeException ex) {
+            throw new AssertionError(ex);
+        } finally {
+            context.restoreAuthSystemState();
+        }
+
+        try {
+            Map<UUID, Boolean> decisions = authorizeService.authorizeActionBooleans(context,
+                List.of(allowed, denied, allowed), Constants.WRITE);
+            Assert.assertEquals(2, decisions.size());
+            Assert.assertTrue(decisions.get(allowed.getID()));
+            Assert.assertFalse(decisions.get(denied.getID()));
+            Assert.assertEquals(authorizeService.authorizeActionBoolean(context, allowed, Constants.WRITE),
+                                decisions.get(allowed.getID()));
+            Assert.assertEquals(authorizeService.authorizeActionBoolean(context, denied, Constants.WRITE),
+                                decisions.get(denied.getID()));
+        } catch (SQLException ex) {
+            throw new AssertionError(ex);
+        }
+    }
+
+    @Test
+    public void testauthorizeActionBooleansForSeveralActions() {
+        EPerson eperson;
+        Community community;
+        try {
+            context.turnOffAuthorisationSystem();
+
+            eperson = ePersonService.create(context);
+            Group group = groupService.create(context);
+            groupService.setName(group, "My test group 4");
+            groupService.addMember(context, group, eperson);
+            groupService.update(context, group);
+
+            community = communityService.create(null, context);
+            authorizeService.addPolicy(context, community, Constants.ADD, group);
+            context.commit();
+
+            context.setCurrentUser(eperson);
+        } catch (SQLException | AuthorizeException ex) {
+            throw new AssertionError(ex);
+        } finally {
+            context.restoreAuthSystemState();
+        }
+
+        try {
+            Map<Integer, Map<UUID, Boolean>> decisions = authorizeService.authorizeActionBooleans(context,
+                List.of(community), List.of(Constants.ADD, Constants.REMOVE));
+            Assert.assertEquals(2, decisions.size());
+            Assert.assertTrue(decisions.get(Constants.ADD).get(community.getID()));
+            Assert.assertFalse(decisions.get(Constants.REMOVE).get(community.getID()));
+        } catch (SQLException ex) {
+            throw new AssertionError(ex);
+        }
+    }
+
+    @Test
+    public void testCachedPolicyLookupsSeeChanges() {
+        try {
+            context.turnOffAuthorisationSystem();
+            Group group = groupService.create(context);
+            groupService.setName(group, "My test group 5");
+            Community community = communityService.create(null, context);
+            context.commit();
+
+            // cached empty result
+            Assert.assertTrue(resourcePolicyService.find(context, community, Constants.DELETE).isEmpty());
+            Assert.assertTrue(resourcePolicyService.find(context, community, Constants.DELETE).isEmpty());
+
+            authorizeService.addPolicy(context, community, Constants.DELETE, group);
+            context.commit();
+            Assert.assertEquals(1, resourcePolicyService.find(context, community, Constants.DELETE).size());
+
+            resourcePolicyService.removePolicies(context, community, Constants.DELETE);
+            context.commit();
+            Assert.assertTrue(resourcePolicyService.find(context, community, Constants.DELETE).isEmpty());
+        } catch (SQLException | AuthorizeException ex) {
+            throw new AssertionError(ex);
+        } finally {
+            context.restoreAuthSystemState();
+        }
+    }
 //
 //    @Test
 //    public void testIsCollectionAdmin() throws SQLException, AuthorizeException, IOException {
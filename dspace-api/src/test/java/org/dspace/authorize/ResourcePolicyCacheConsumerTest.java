@@ -0,0 +1,66 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.authorize;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.util.UUID;
+
+import org.dspace.authorize.dao.impl.ResourcePolicyDAOImpl;
+import org.dspace.core.Constants;
+import org.dspace.core.Context;
+import org.dspace.event.Event;
+import org.hibernate.Cache;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link ResourcePolicyCacheConsumer}
+ */
+public class ResourcePolicyCacheConsumerTest {
+
+    private ResourcePolicyCacheConsumer consumer;
+    private Context context;
+
+    @Before
+    public void setUp() {
+        consumer = new ResourcePolicyCacheConsumer();
+        consumer.cache = mock(Cache.class);
+        context = mock(Context.class);
+    }
+
+    @Test
+    public void testModifiedItemEvictsLookups() throws Exception {
+        consumer.consume(context, new Event(Event.MODIFY, Constants.ITEM, UUID.randomUUID(), null));
+        consumer.end(context);
+
+        verify(consumer.cache).evictQueryRegion(ResourcePolicyDAOImpl.DSO_AND_ACTION_CACHE_REGION);
+        verify(consumer.cache, never()).evictEntityData(ResourcePolicy.class);
+    }
+
+    @Test
+    public void testDeletedGroupEvictsPolicies() throws Exception {
+        consumer.consume(context, new Event(Event.DELETE, Constants.GROUP, UUID.randomUUID(), null));
+        consumer.end(context);
+
+        verify(consumer.cache).evictQueryRegion(ResourcePolicyDAOImpl.DSO_AND_ACTION_CACHE_REGION);
+        verify(consumer.cache).evictEntityData(ResourcePolicy.class);
+    }
+
+    @Test
+    public void testMetadataChangesEvictNothing() throws Exception {
+        consumer.consume(context, new Event(Event.MODIFY_METADATA, Constants.ITEM, UUID.randomUUID(), null));
+        consumer.consume(context, new Event(Event.CREATE, Constants.COLLECTION, UUID.randomUUID(), null));
+        consumer.end(context);
+
+        verifyNoInteractions(consumer.cache);
+    }
+}
@@ -0,0 +1,64 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.checker;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.dspace.content.Bitstream;
+import org.junit.Test;
+
+/**
+ * Unit tests for the batches handed out by {@link BitstreamDispatcher#next(int)}
+ */
+public class BitstreamDispatcherTest {
+
+    @Test
+    public void testBatchesOfIteratorDispatcher() throws Exception {
+        List<Bitstream> bitstreams = createBitstreams(5);
+        BitstreamDispatcher dispatcher = new IteratorDispatcher(bitstreams.iterator());
+
+        assertEquals(bitstreams.subList(0, 3), dispatcher.next(3));
+        assertEquals(bitstreams.subList(3, 5), dispatcher.next(3));
+        assertTrue(dispatcher.next(3).isEmpty());
+    }
+
+    @Test
+    public void testLimitedCountDispatcherCountsBatches() throws Exception {
+        List<Bitstream> bitstreams = createBitstreams(10);
+        BitstreamDispatcher dispatcher = new LimitedCountDispatcher(new IteratorDispatcher(bitstreams.iterator()), 4);
+
+        assertEquals(bitstreams.subList(0, 3), dispatcher.next(3));
+        assertEquals(bitstreams.subList(3, 4), dispatcher.next(3));
+        assertTrue(dispatcher.next(3).isEmpty());
+        assertNull(dispatcher.next());
+    }
+
+    @Test
+    public void testLimitedDurationDispatcherStopsBatches() throws Exception {
+        List<Bitstream> bitstreams = createBitstreams(10);
+        BitstreamDispatcher dispatcher = new LimitedDurationDispatcher(
+            new IteratorDispatcher(bitstreams.iterator()), Instant.now().minusSeconds(1));
+
+        assertTrue(dispatcher.next(3).isEmpty());
+    }
+
+    private List<Bitstream> createBitstreams(int count) {
+        List<Bitstream> bitstreams = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            bitstreams.add(mock(Bitstream.class));
+        }
+        return bitstreams;
+    }
+}
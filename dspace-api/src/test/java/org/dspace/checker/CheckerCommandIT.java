@@ -0,0 +1,101 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.checker;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.apache.commons.io.IOUtils;
+import org.dspace.AbstractIntegrationTestWithDatabase;
+import org.dspace.builder.BitstreamBuilder;
+import org.dspace.builder.CollectionBuilder;
+import org.dspace.builder.CommunityBuilder;
+import org.dspace.builder.ItemBuilder;
+import org.dspace.checker.dao.ChecksumHistoryDAO;
+import org.dspace.content.Bitstream;
+import org.dspace.content.Collection;
+import org.dspace.content.Item;
+import org.dspace.content.factory.ContentServiceFactory;
+import org.dspace.content.service.BitstreamService;
+import org.dspace.utils.DSpace;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Integration tests for the concurrent checking of the bitstreams by {@link CheckerCommand}
+ */
+public class CheckerCommandIT extends AbstractIntegrationTestWithDatabase {
+
+    private BitstreamService bitstreamService = ContentServiceFactory.getInstance().getBitstreamService();
+
+    private ChecksumHistoryDAO checksumHistoryDAO = new DSpace().getSingletonService(ChecksumHistoryDAO.class);
+
+    private List<Bitstream> bitstreams;
+
+    @Before
+    public void setup() throws Exception {
+        context.turnOffAuthorisationSystem();
+        parentCommunity = CommunityBuilder.createCommunity(context).build();
+        Collection collection = CollectionBuilder.createCollection(context, parentCommunity).build();
+        Item item = ItemBuilder.createItem(context, collection).build();
+        bitstreams = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            bitstreams.add(BitstreamBuilder.createBitstream(context, item,
+                                                            IOUtils.toInputStream("Content " + i, UTF_8))
+                                           .build());
+        }
+        // the checksum recorded for the first bitstream doesn't match its content anymore
+        bitstreams.get(0).setChecksum("00000000000000000000000000000000");
+        bitstreamService.update(context, bitstreams.get(0));
+        context.restoreAuthSystemState();
+        context.commit();
+    }
+
+    @Test
+    public void testConcurrentCheckRecordsEachResultOnce() throws Exception {
+        Map<UUID, Integer> historyBefore = countHistory();
+        List<MostRecentChecksum> collected = new ArrayList<>();
+
+        CheckerCommand checker = new CheckerCommand(context);
+        checker.setDispatcher(new IteratorDispatcher(new ArrayList<>(bitstreams).iterator()));
+        checker.setCollector((c, info) -> collected.add(info));
+        checker.setReportVerbose(true);
+        checker.setThreads(4);
+        checker.setBatchSize(3);
+        checker.process();
+
+        Map<UUID, Integer> historyAfter = countHistory();
+        Map<UUID, ChecksumResultCode> results = new HashMap<>();
+        for (MostRecentChecksum info : collected) {
+            assertNull(results.put(info.getBitstream().getID(), info.getChecksumResult().getResultCode()));
+        }
+        assertEquals(bitstreams.size(), results.size());
+        for (Bitstream bitstream : bitstreams) {
+            UUID id = bitstream.getID();
+            assertEquals(historyBefore.getOrDefault(id, 0) + 1, (int) historyAfter.getOrDefault(id, 0));
+            ChecksumResultCode expected = id.equals(bitstreams.get(0).getID())
+                ? ChecksumResultCode.CHECKSUM_NO_MATCH : ChecksumResultCode.CHECKSUM_MATCH;
+            assertEquals(expected, results.get(id));
+        }
+    }
+
+    private Map<UUID, Integer> countHistory() throws Exception {
+        Map<UUID, Integer> counts = new HashMap<>();
+        for (ChecksumHistory history : checksumHistoryDAO.findAll(context, ChecksumHistory.class)) {
+            counts.merge(history.getBitstream().getID(), 1, Integer::sum);
+        }
+        return counts;
+    }
+}
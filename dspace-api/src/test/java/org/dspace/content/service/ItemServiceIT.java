@@ -48,6 +48,7 @@ import org.dspace.content.Bitstream;
 import org.dspace.content.Bundle;
 import org.dspace.content.Collection;
 import org.dspace.content.Community;
+import org.dspace.content.DSpaceObject;
 import org.dspace.content.EntityType;
 import org.dspace.content.Item;
 import org.dspace.content.MetadataField;
@@ -921,6 +922,95 @@ public class ItemServiceIT extends AbstractIntegrationTestWithDatabase {
 
     }
 
+    @Test
+    public void testInheritCollectionDefaultPoliciesOfAllItems() throws Exception {
+        /* Verify that replacing the policies of all the items of a collection at once has the same effect as
+         * inheriting the default policies item by item: the READ policies of the items, bundles and bitstreams
+         * are replaced, and the other policies are kept.
+         */
+
+        context.turnOffAuthorisationSystem();
+
+        Group anonymous = groupService.findByName(context, Group.ANONYMOUS);
+        Group admin = groupService.findByName(context, Group.ADMIN);
+
+        Collection collection = CollectionBuilder
+            .createCollection(context, community)
+            .build();
+
+        // Add two items with a bitstream while the collection is public
+        Item first = ItemBuilder.createItem(context, collection).build();
+        Bitstream firstBitstream = BitstreamBuilder.createBitstream(context, first, InputStream.nullInputStream())
+            .build();
+        Item second = ItemBuilder.createItem(context, collection).build();
+        Bitstream secondBitstream = BitstreamBuilder.createBitstream(context, second, InputStream.nullInputStream())
+            .build();
+        Bundle firstBundle = first.getBundles("ORIGINAL").get(0);
+        Bundle secondBundle = second.getBundles("ORIGINAL").get(0);
+        authorizeService.addPolicy(context, first, Constants.WRITE, admin);
+
+        // Restrict the collection
+        authorizeService.removePoliciesActionFilter(context, collection, Constants.DEFAULT_ITEM_READ);
+        authorizeService.addPolicy(context, collection, Constants.DEFAULT_ITEM_READ, admin);
+        authorizeService.removePoliciesActionFilter(context, collection, Constants.DEFAULT_BITSTREAM_READ);
+        authorizeService.addPolicy(context, collection, Constants.DEFAULT_BITSTREAM_READ, admin);
+        authorizeService.addPolicy(context, collection, Constants.DEFAULT_BITSTREAM_READ, anonymous);
+
+        itemService.inheritCollectionDefaultPolicies(context, collection);
+
+        for (DSpaceObject dso : List.of(first, firstBundle, second, secondBundle)) {
+            List<ResourcePolicy> policies = authorizeService.getPoliciesActionFilter(context, dso, Constants.READ);
+            assertEquals(List.of(admin), policies.stream().map(ResourcePolicy::getGroup).collect(Collectors.toList()));
+            assertEquals(ResourcePolicy.TYPE_INHERITED, policies.get(0).getRpType());
+        }
+        for (Bitstream bitstream : List.of(firstBitstream, secondBitstream)) {
+            assertEquals(
+                List.of(admin, anonymous),
+                authorizeService.getPoliciesActionFilter(context, bitstream, Constants.READ)
+                    .stream().map(ResourcePolicy::getGroup).sorted(Comparator.comparing(Group::getName))
+                    .collect(Collectors.toList())
+            );
+        }
+        assertEquals(1, authorizeService.getPoliciesActionFilter(context, first, Constants.WRITE).size());
+
+        // The policies already loaded in the session are refreshed too
+        assertEquals(
+            List.of(admin),
+            first.getResourcePolicies()
+                .stream().filter(policy -> policy.getAction() == Constants.READ).map(ResourcePolicy::getGroup)
+                .collect(Collectors.toList())
+        );
+        assertEquals(
+            List.of(admin, anonymous),
+            firstBitstream.getResourcePolicies()
+                .stream().filter(policy -> policy.getAction() == Constants.READ).map(ResourcePolicy::getGroup)
+                .sorted(Comparator.comparing(Group::getName)).collect(Collectors.toList())
+        );
+
+        context.restoreAuthSystemState();
+    }
+
+    @Test
+    public void testFindByIds() throws Exception {
+        context.turnOffAuthorisationSystem();
+        Item first = ItemBuilder.createItem(context, collection1).withTitle("First").build();
+        Item second = ItemBuilder.createItem(context, collection1).withTitle("Second").build();
+        context.restoreAuthSystemState();
+        context.commit();
+        context.uncacheEntities();
+
+        List<Item> items = itemService.findByIds(context, List.of(second.getID(), UUID.randomUUID(), first.getID()));
+
+        assertEquals(2, items.size());
+        items.sort(Comparator.comparing(item -> itemService.getName(item)));
+        assertEquals(first.getID(), items.get(0).getID());
+        assertEquals("First", itemService.getName(items.get(0)));
+        assertEquals(second.getID(), items.get(1).getID());
+        assertEquals("Second", itemService.getName(items.get(1)));
+        assertEquals(collection1.getID(), items.get(1).getOwningCollection().getID());
+        assertTrue(itemService.findByIds(context, List.of()).isEmpty());
+    }
+
     private void assertMetadataValue(String authorQualifier, String contributorElement, String dcSchema, String value,
                                      String authority, int place, MetadataValue metadataValue) {
         assertThat(metadataValue.getValue(), equalTo(value));
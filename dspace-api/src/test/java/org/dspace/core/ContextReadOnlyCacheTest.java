@@ -59,6 +59,23 @@ public class ContextReadOnlyCacheTest {
         assertNull(readOnlyCache.getCachedAuthorizationResult(null, Constants.READ, ePerson));
     }
 
+    @Test
+    public void cacheAuthorizedActionWithAndWithoutInheritance() throws Exception {
+        Item item = Mockito.mock(Item.class);
+        when(item.getID()).thenReturn(UUID.randomUUID());
+
+        readOnlyCache.cacheAuthorizedAction(item, Constants.ADD, ePerson, true, true);
+
+        assertTrue(readOnlyCache.getCachedAuthorizationResult(item, Constants.ADD, ePerson, true));
+        assertTrue(readOnlyCache.getCachedAuthorizationResult(item, Constants.ADD, ePerson));
+        // a decision granted through the ADMIN rights on a parent object doesn't hold without inheritance
+        assertNull(readOnlyCache.getCachedAuthorizationResult(item, Constants.ADD, ePerson, false));
+
+        readOnlyCache.cacheAuthorizedAction(item, Constants.ADD, ePerson, false, false);
+        assertFalse(readOnlyCache.getCachedAuthorizationResult(item, Constants.ADD, ePerson, false));
+        assertTrue(readOnlyCache.getCachedAuthorizationResult(item, Constants.ADD, ePerson, true));
+    }
+
     @Test
     public void cacheGroupMembership() throws Exception {
         Group group1 = buildGroupMock("Test Group 1");
@@ -248,4 +248,26 @@ public class HibernateDBConnectionTest extends AbstractUnitTest {
         assertTrue("Current user should be cached back in session", dbConnection.getSession()
                                                                                 .contains(person));
     }
+
+    /**
+     * Test of setConnectionMode method, for the read-only mode
+     */
+    @Test
+    public void testReadOnlyConnectionMode() throws SQLException {
+        // Get DBConnection associated with DSpace Context
+        HibernateDBConnection dbConnection = (HibernateDBConnection) context.getDBConnection();
+        EPerson person = context.getCurrentUser();
+        dbConnection.uncacheEntities();
+
+        dbConnection.setConnectionMode(false, true);
+        assertTrue("Session should be read-only by default", dbConnection.getSession().isDefaultReadOnly());
+        person = dbConnection.reloadEntity(person);
+        assertTrue("Entity loaded in read-only mode should be read-only", dbConnection.getSession()
+                                                                                 .isReadOnly(person));
+
+        dbConnection.setConnectionMode(false, false);
+        assertFalse("Session should not be read-only by default", dbConnection.getSession().isDefaultReadOnly());
+        assertFalse("Entity loaded in read-only mode should be modifiable in read-write mode", dbConnection
+            .getSession().isReadOnly(person));
+    }
 }
@@ -0,0 +1,114 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.core;
+
+import static org.junit.Assert.assertEquals;
+
+import java.sql.SQLException;
+import java.util.Iterator;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.dspace.AbstractIntegrationTestWithDatabase;
+import org.dspace.authorize.factory.AuthorizeServiceFactory;
+import org.dspace.authorize.service.AuthorizeService;
+import org.dspace.builder.CollectionBuilder;
+import org.dspace.builder.CommunityBuilder;
+import org.dspace.builder.ItemBuilder;
+import org.dspace.content.Collection;
+import org.dspace.content.Item;
+import org.dspace.content.factory.ContentServiceFactory;
+import org.dspace.content.service.ItemService;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Compares the handling of anonymous reads with a read-only and a read-write Context: both must read the same items,
+ * and their durations are logged for comparison.
+ */
+public class ReadOnlyContextPerformanceIT extends AbstractIntegrationTestWithDatabase {
+
+    private static final Logger log = LogManager.getLogger();
+
+    private static final int ITEMS = 200;
+    private static final int ROUNDS = 5;
+
+    private final ItemService itemService = ContentServiceFactory.getInstance().getItemService();
+    private final AuthorizeService authorizeService = AuthorizeServiceFactory.getInstance().getAuthorizeService();
+
+    private Collection collection;
+
+    @Before
+    public void setUp() throws Exception {
+        context.turnOffAuthorisationSystem();
+        collection = CollectionBuilder.createCollection(context, CommunityBuilder.createCommunity(context).build())
+                                      .build();
+        for (int i = 0; i < ITEMS; i++) {
+            ItemBuilder.createItem(context, collection)
+                       .withTitle("Item " + i)
+                       .withAuthor("Author, " + i)
+                       .withSubject("Subject " + i)
+                       .build();
+        }
+        context.restoreAuthSystemState();
+        context.commit();
+        context.setCurrentUser(null);
+    }
+
+    @Test
+    public void testAnonymousReads() throws SQLException {
+        // warm up
+        readItems(Context.Mode.READ_WRITE);
+
+        long readWrite = 0;
+        long readOnly = 0;
+        for (int i = 0; i < ROUNDS; i++) {
+            readWrite += readItems(Context.Mode.READ_WRITE);
+            readOnly += readItems(Context.Mode.READ_ONLY);
+        }
+        context.setMode(Context.Mode.READ_WRITE);
+
+        double readWritePerRequest = readWrite / 1_000_000d / ROUNDS;
+        double readOnlyPerRequest = readOnly / 1_000_000d / ROUNDS;
+        // the durations are only reported: they depend too much on the build machine to be asserted
+        log.info("Reading {} items: {} ms in read-write mode, {} ms in read-only mode", ITEMS,
+                 readWritePerRequest, readOnlyPerRequest);
+    }
+
+    /**
+     * Read the items of the collection, with their metadata and read authorization, as a listing would do, then
+     * end the "request".
+     *
+     * @return the duration in nanoseconds
+     */
+    private long readItems(Context.Mode mode) throws SQLException {
+        context.uncacheEntities();
+        long start = System.nanoTime();
+        context.setMode(mode);
+
+        int read = 0;
+        Iterator<Item> items = itemService.findAllByCollection(context, context.reloadEntity(collection));
+        while (items.hasNext()) {
+            Item item = items.next();
+            itemService.getMetadata(item, "dc", "title", null, Item.ANY);
+            itemService.getMetadata(item, "dc", "contributor", "author", Item.ANY);
+            if (authorizeService.authorizeActionBoolean(context, item, Constants.READ)) {
+                read++;
+            }
+        }
+        if (!context.isReadOnly()) {
+            // the session of a read-write context is flushed, with a dirty check of all the loaded entities
+            context.commit();
+        }
+        long duration = System.nanoTime() - start;
+
+        context.setMode(Context.Mode.READ_WRITE);
+        assertEquals(ITEMS, read);
+        return duration;
+    }
+}
@@ -9,6 +9,7 @@ package org.dspace.discovery;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -17,8 +18,10 @@ import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.UUID;
 
@@ -157,5 +160,62 @@ public class DiscoverResultIteratorTest {
         }
     }
 
-}
+    @Test
+    public void testPagesWithCursorMark() throws Exception {
+        try (MockedStatic<SearchUtils> mockedStatic = mockStatic(SearchUtils.class)) {
+            mockedStatic.when(SearchUtils::getSearchService).thenReturn(mockSearchService);
+            DiscoverResult firstPage = mock(DiscoverResult.class);
+            when(firstPage.getIndexableObjects()).thenReturn(List.of(mockIndexableObject1));
+            when(firstPage.getNextCursorMark()).thenReturn("mark1");
+            DiscoverResult lastPage = mock(DiscoverResult.class);
+            when(lastPage.getIndexableObjects()).thenReturn(List.of(mockIndexableObject2));
+            when(lastPage.getNextCursorMark()).thenReturn("mark2");
+            DiscoverResult emptyPage = mock(DiscoverResult.class);
+            when(emptyPage.getIndexableObjects()).thenReturn(List.of());
+            when(emptyPage.getNextCursorMark()).thenReturn("mark2");
+            List<String> cursorMarks = new ArrayList<>();
+            when(mockSearchService.search(eq(mockContext), any(DiscoverQuery.class))).thenAnswer(invocation -> {
+                DiscoverQuery query = invocation.getArgument(1);
+                cursorMarks.add(query.getCursorMark());
+                assertEquals(0, query.getStart());
+                switch (query.getCursorMark()) {
+                    case DiscoverQuery.CURSOR_MARK_START:
+                        return firstPage;
+                    case "mark1":
+                        return lastPage;
+                    default:
+                        return emptyPage;
+                }
+            });
 
+            DiscoverResultIterator<Item, UUID> iterator =
+                new DiscoverResultIterator<>(mockContext, null, new DiscoverQuery());
+
+            assertTrue(iterator.hasNext());
+            assertEquals(mockItem1, iterator.next());
+            assertTrue(iterator.hasNext());
+            assertEquals(mockItem2, iterator.next());
+            assertFalse(iterator.hasNext());
+            assertEquals(List.of(DiscoverQuery.CURSOR_MARK_START, "mark1", "mark2"), cursorMarks);
+        }
+    }
+
+    @Test
+    public void testPagesWithStartOffset() throws Exception {
+        try (MockedStatic<SearchUtils> mockedStatic = mockStatic(SearchUtils.class)) {
+            mockedStatic.when(SearchUtils::getSearchService).thenReturn(mockSearchService);
+            DiscoverQuery discoverQuery = new DiscoverQuery();
+            discoverQuery.setStart(5);
+
+            DiscoverResultIterator<Item, UUID> iterator =
+                new DiscoverResultIterator<>(mockContext, null, discoverQuery);
+
+            assertTrue(iterator.hasNext());
+            iterator.next();
+            iterator.next();
+            assertFalse(iterator.hasNext());
+            assertNull(discoverQuery.getCursorMark());
+            assertEquals(7, discoverQuery.getStart());
+        }
+    }
+}
@@ -0,0 +1,49 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.discovery;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import org.apache.solr.common.SolrInputDocument;
+import org.dspace.discovery.indexobject.IndexFactoryImpl;
+import org.junit.Test;
+
+/**
+ * Unit tests for the document fingerprints computed by {@link IndexFactoryImpl#computeFingerprint(SolrInputDocument)}
+ */
+public class DocumentFingerprintTest {
+
+    @Test
+    public void testIndexTimeAndFieldOrderAreIgnored() {
+        SolrInputDocument first = new SolrInputDocument();
+        first.addField(SearchUtils.LAST_INDEXED_FIELD, "2025-01-01T00:00:00Z");
+        first.addField(SearchUtils.RESOURCE_UNIQUE_ID, "Item-1");
+        first.addField("dc.title", "Title");
+
+        SolrInputDocument second = new SolrInputDocument();
+        second.addField("dc.title", "Title");
+        second.addField(SearchUtils.RESOURCE_UNIQUE_ID, "Item-1");
+        second.addField(SearchUtils.LAST_INDEXED_FIELD, "2025-02-01T00:00:00Z");
+        second.addField(SearchUtils.FINGERPRINT_FIELD, "previous");
+
+        assertEquals(IndexFactoryImpl.computeFingerprint(first), IndexFactoryImpl.computeFingerprint(second));
+    }
+
+    @Test
+    public void testChangedValueChangesFingerprint() {
+        SolrInputDocument first = new SolrInputDocument();
+        first.addField("dc.subject", "a");
+        first.addField("dc.subject", "b");
+
+        SolrInputDocument second = new SolrInputDocument();
+        second.addField("dc.subject", "ab");
+
+        assertNotEquals(IndexFactoryImpl.computeFingerprint(first), IndexFactoryImpl.computeFingerprint(second));
+    }
+}
@@ -0,0 +1,103 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.discovery;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.dspace.content.Bitstream;
+import org.dspace.services.ConfigurationService;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Unit tests for {@link FullTextCache}
+ */
+public class FullTextCacheTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private FullTextCache cache;
+
+    @Before
+    public void setUp() throws IOException {
+        ConfigurationService configurationService = mock(ConfigurationService.class);
+        when(configurationService.getProperty(eq("discovery.fulltext.cache.dir"), eq("null/var/fulltext-cache")))
+            .thenReturn(folder.newFolder().getAbsolutePath());
+        when(configurationService.getLongProperty(eq("discovery.fulltext.cache.max-size"), anyLong()))
+            .thenReturn(10L);
+        when(configurationService.getIntProperty("discovery.solr.fulltext.charLimit", 100000)).thenReturn(100000);
+        cache = new FullTextCache();
+        cache.configurationService = configurationService;
+    }
+
+    @Test
+    public void testHitAfterMiss() throws IOException {
+        Bitstream bitstream = bitstream("abc123");
+        assertEquals("hello", read(cache.open(bitstream, () -> stream("hello"))));
+        assertEquals("hello", read(cache.open(bitstream, () -> {
+            throw new IOException("the assetstore should not be read on a cache hit");
+        })));
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+        assertEquals(5, cache.getSize());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEntryIsEvicted() throws IOException {
+        Bitstream first = bitstream("aaa111");
+        Bitstream second = bitstream("bbb222");
+        Bitstream third = bitstream("ccc333");
+        read(cache.open(first, () -> stream("1111")));
+        read(cache.open(second, () -> stream("2222")));
+        // touch the first entry, so the second one is the least recently used
+        read(cache.open(first, () -> stream("1111")));
+        read(cache.open(third, () -> stream("3333")));
+
+        assertEquals(1, cache.getEvictions());
+        assertEquals(8, cache.getSize());
+        assertEquals("1111", read(cache.open(first, () -> stream("miss"))));
+        assertEquals("miss", read(cache.open(second, () -> stream("miss"))));
+    }
+
+    @Test
+    public void testBitstreamWithoutChecksumIsNotCached() throws IOException {
+        Bitstream bitstream = bitstream(null);
+        assertEquals("hello", read(cache.open(bitstream, () -> stream("hello"))));
+        assertEquals(0, cache.getMisses());
+        assertEquals(0, cache.getSize());
+    }
+
+    private Bitstream bitstream(String checksum) {
+        Bitstream bitstream = mock(Bitstream.class);
+        when(bitstream.getChecksum()).thenReturn(checksum);
+        when(bitstream.getChecksumAlgorithm()).thenReturn("MD5");
+        return bitstream;
+    }
+
+    private InputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String read(InputStream inputStream) throws IOException {
+        try (InputStream in = inputStream) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.discovery;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link ItemListing}
+ */
+public class ItemListingTest {
+
+    @Test
+    public void testJsonRoundTrip() throws Exception {
+        UUID id = UUID.randomUUID();
+        Instant lastModified = Instant.parse("2024-03-01T10:15:30.123Z");
+        ItemListing listing = new ItemListing(id, "123456789/42", "A title", false, lastModified, List.of(
+            new ItemListing.Value("dc.title", "A title", "en", null, -1, 0),
+            new ItemListing.Value("dc.contributor.author", "Doe, John", null, "person-1", 600, 0),
+            new ItemListing.Value("dc.contributor.author", "Roe, Jane \"JR\"", null, null, -1, 1)));
+
+        ItemListing parsed = ItemListing.fromJson(listing.toJson());
+
+        assertEquals(id, parsed.getID());
+        assertEquals("123456789/42", parsed.getHandle());
+        assertEquals("A title", parsed.getName());
+        assertFalse(parsed.isDiscoverable());
+        assertEquals(lastModified, parsed.getLastModified());
+        assertEquals(3, parsed.getMetadata().size());
+        ItemListing.Value author = parsed.getMetadata().get(1);
+        assertEquals("dc.contributor.author", author.getField());
+        assertEquals("Doe, John", author.getValue());
+        assertNull(author.getLanguage());
+        assertEquals("person-1", author.getAuthority());
+        assertEquals(600, author.getConfidence());
+        assertEquals(0, author.getPlace());
+        assertEquals("Roe, Jane \"JR\"", parsed.getMetadata().get(2).getValue());
+        assertEquals(1, parsed.getMetadata().get(2).getPlace());
+        assertEquals("en", parsed.getMetadata().get(0).getLanguage());
+    }
+
+    @Test
+    public void testNullValues() throws Exception {
+        UUID id = UUID.randomUUID();
+        ItemListing parsed = ItemListing.fromJson(new ItemListing(id, null, null, true, null, List.of()).toJson());
+
+        assertEquals(id, parsed.getID());
+        assertNull(parsed.getHandle());
+        assertNull(parsed.getName());
+        assertNull(parsed.getLastModified());
+        assertEquals(0, parsed.getMetadata().size());
+    }
+}
@@ -0,0 +1,93 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.discovery;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.apache.solr.client.solrj.SolrClient;
+import org.apache.solr.client.solrj.SolrServerException;
+import org.apache.solr.common.SolrInputDocument;
+import org.dspace.AbstractIntegrationTestWithDatabase;
+import org.dspace.app.scripts.handler.impl.TestDSpaceRunnableHandler;
+import org.dspace.builder.CollectionBuilder;
+import org.dspace.builder.CommunityBuilder;
+import org.dspace.builder.ItemBuilder;
+import org.dspace.content.Collection;
+import org.dspace.content.Item;
+import org.dspace.content.factory.ContentServiceFactory;
+import org.dspace.discovery.indexobject.IndexableItem;
+import org.dspace.discovery.indexobject.factory.IndexObjectFactoryFactory;
+import org.dspace.services.ConfigurationService;
+import org.dspace.services.factory.DSpaceServicesFactory;
+import org.junit.Test;
+
+/**
+ * Integration tests for {@link ParallelIndexRebuilder}
+ */
+public class ParallelIndexRebuilderIT extends AbstractIntegrationTestWithDatabase {
+
+    private final IndexingService indexingService = DSpaceServicesFactory.getInstance().getServiceManager()
+        .getServiceByName(IndexingService.class.getName(), IndexingService.class);
+
+    private final ConfigurationService configurationService =
+        DSpaceServicesFactory.getInstance().getConfigurationService();
+
+    @Test
+    public void testRebuildReportsFailedFlush() throws Exception {
+        context.turnOffAuthorisationSystem();
+        parentCommunity = CommunityBuilder.createCommunity(context).withName("Parent Community").build();
+        Collection collection = CollectionBuilder.createCollection(context, parentCommunity)
+                                                 .withName("Collection").build();
+        Item item1 = ItemBuilder.createItem(context, collection).withTitle("Item 1").build();
+        Item item2 = ItemBuilder.createItem(context, collection).withTitle("Item 2").build();
+        Item item3 = ItemBuilder.createItem(context, collection).withTitle("Item 3").build();
+        context.restoreAuthSystemState();
+
+        String rejected = new IndexableItem(item2).getUniqueIndexID();
+        // solr rejects every batch, and the document of item 2 on its own
+        SolrClient solrClient = mock(SolrClient.class);
+        when(solrClient.add(anyCollection(), anyInt())).thenThrow(new SolrServerException("Rejected batch"));
+        when(solrClient.add(argThat((SolrInputDocument doc) ->
+                                        rejected.equals(doc.getFieldValue(SearchUtils.RESOURCE_UNIQUE_ID))),
+                            anyInt()))
+            .thenThrow(new SolrServerException("Rejected document"));
+        SolrSearchCore solrSearchCore = mock(SolrSearchCore.class);
+        when(solrSearchCore.getSolr()).thenReturn(solrClient);
+
+        configurationService.setProperty("discovery.index.batch-size", 2);
+        try {
+            ParallelIndexRebuilder rebuilder = new ParallelIndexRebuilder(indexingService,
+                IndexObjectFactoryFactory.getInstance(), solrSearchCore,
+                ContentServiceFactory.getInstance().getItemService(), configurationService,
+                new TestDSpaceRunnableHandler(), 2);
+            try {
+                rebuilder.rebuild(context);
+                fail("The rebuild must fail when some objects could not be indexed");
+            } catch (SearchServiceException e) {
+                assertEquals(1, rebuilder.getFailed());
+            }
+        } finally {
+            configurationService.setProperty("discovery.index.batch-size", null);
+        }
+
+        // the other documents of the rejected batches were written one by one
+        for (Item item : new Item[] { item1, item3 }) {
+            String uniqueId = new IndexableItem(item).getUniqueIndexID();
+            verify(solrClient, atLeastOnce()).add(argThat((SolrInputDocument doc) ->
+                uniqueId.equals(doc.getFieldValue(SearchUtils.RESOURCE_UNIQUE_ID))), anyInt());
+        }
+    }
+}
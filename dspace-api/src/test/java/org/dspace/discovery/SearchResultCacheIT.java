@@ -0,0 +1,122 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.discovery;
+
+import static org.junit.Assert.assertEquals;
+
+import org.dspace.AbstractIntegrationTestWithDatabase;
+import org.dspace.builder.CollectionBuilder;
+import org.dspace.builder.CommunityBuilder;
+import org.dspace.builder.ItemBuilder;
+import org.dspace.content.Collection;
+import org.dspace.content.Item;
+import org.dspace.discovery.configuration.DiscoveryConfiguration;
+import org.dspace.discovery.indexobject.IndexableItem;
+import org.dspace.discovery.queue.IndexQueueAction;
+import org.dspace.discovery.queue.service.IndexQueueService;
+import org.dspace.kernel.ServiceManager;
+import org.dspace.services.ConfigurationService;
+import org.dspace.services.factory.DSpaceServicesFactory;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Integration tests of the search results cached with {@link SearchResultCache}, for the discovery configurations
+ * with {@link DiscoveryConfiguration#isCacheEnabled()}
+ */
+public class SearchResultCacheIT extends AbstractIntegrationTestWithDatabase {
+
+    private final ServiceManager serviceManager = DSpaceServicesFactory.getInstance().getServiceManager();
+
+    private final ConfigurationService configurationService =
+        DSpaceServicesFactory.getInstance().getConfigurationService();
+
+    private final IndexingService indexingService =
+        serviceManager.getServiceByName(IndexingService.class.getName(), IndexingService.class);
+
+    private final SolrSearchCore solrSearchCore = serviceManager.getServicesByType(SolrSearchCore.class).get(0);
+
+    private final SearchService searchService = SearchUtils.getSearchService();
+
+    private DiscoveryConfiguration defaultConfiguration;
+
+    private Collection collection;
+
+    @Before
+    public void setUp() throws Exception {
+        super.setUp();
+        configurationService.setProperty("discovery.search.cache.ttl", 60);
+        defaultConfiguration = SearchUtils.getConfigurationService().getDiscoveryConfiguration("default");
+        defaultConfiguration.setCacheEnabled(true);
+
+        context.turnOffAuthorisationSystem();
+        parentCommunity = CommunityBuilder.createCommunity(context).withName("Parent Community").build();
+        collection = CollectionBuilder.createCollection(context, parentCommunity).withName("Collection").build();
+        ItemBuilder.createItem(context, collection).withTitle("Cached item").build();
+        context.restoreAuthSystemState();
+        context.commit();
+    }
+
+    @After
+    @Override
+    public void destroy() throws Exception {
+        defaultConfiguration.setCacheEnabled(false);
+        configurationService.setProperty("discovery.search.cache.ttl", 0);
+        super.destroy();
+    }
+
+    @Test
+    public void testCommitDiscardsCachedResults() throws Exception {
+        assertEquals(1, countCachedItems());
+
+        // an item is indexed and committed without going through the indexing service
+        Item item = createUnindexedItem();
+        indexingService.indexContent(context, new IndexableItem(item), true, false);
+        solrSearchCore.getSolr().commit();
+
+        // the cached results are still used
+        assertEquals(1, countCachedItems());
+
+        indexingService.commit();
+        assertEquals(2, countCachedItems());
+    }
+
+    @Test
+    public void testIndexingQueueDiscardsCachedResults() throws Exception {
+        IndexQueueService indexQueueService = serviceManager
+            .getServiceByName(IndexQueueService.class.getName(), IndexQueueService.class);
+        assertEquals(1, countCachedItems());
+
+        Item item = createUnindexedItem();
+        indexQueueService.enqueue(context, new IndexableItem(item).getUniqueIndexID(), IndexQueueAction.UPDATE);
+        context.commit();
+        assertEquals(1, indexQueueService.processQueue());
+        // the changes are sent with commitWithin, don't wait for solr to commit them
+        solrSearchCore.getSolr().commit();
+
+        assertEquals(2, countCachedItems());
+    }
+
+    private Item createUnindexedItem() throws Exception {
+        context.turnOffAuthorisationSystem();
+        context.setDispatcher("noindex");
+        Item item = ItemBuilder.createItem(context, collection).withTitle("Cached item").build();
+        context.restoreAuthSystemState();
+        context.commit();
+        return item;
+    }
+
+    private long countCachedItems() throws Exception {
+        DiscoverQuery discoverQuery = new DiscoverQuery();
+        discoverQuery.setQuery("Cached");
+        discoverQuery.addFilterQueries("search.resourcetype:Item");
+        discoverQuery.setDiscoveryConfigurationName("default");
+        return searchService.search(context, discoverQuery).getTotalSearchResults();
+    }
+}
@@ -0,0 +1,100 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.discovery;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import org.apache.solr.client.solrj.SolrQuery;
+import org.apache.solr.client.solrj.response.QueryResponse;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link SearchResultCache}
+ */
+public class SearchResultCacheTest {
+
+    private final SearchResultCache cache = new SearchResultCache();
+
+    @Test
+    public void testGetAndExpire() {
+        QueryResponse response = new QueryResponse();
+        cache.put("q", response, cache.getGeneration(), 1000, 10);
+
+        assertSame(response, cache.get("q", 999));
+        assertNull(cache.get("q", 1000));
+        assertNull(cache.get("other", 0));
+        assertEquals(0, cache.getSize());
+    }
+
+    @Test
+    public void testInvalidate() {
+        long generation = cache.getGeneration();
+        cache.put("q1", new QueryResponse(), generation, 1000, 10);
+
+        cache.invalidate();
+
+        assertNull(cache.get("q1", 0));
+        // a response obtained before the invalidation must not be cached
+        cache.put("q2", new QueryResponse(), generation, 1000, 10);
+        assertNull(cache.get("q2", 0));
+        cache.put("q2", new QueryResponse(), cache.getGeneration(), 1000, 10);
+        assertEquals(1, cache.getSize());
+    }
+
+    @Test
+    public void testInvalidateUntilCommitted() {
+        cache.put("q1", new QueryResponse(), cache.getGeneration(), Long.MAX_VALUE, 10);
+
+        // the changes become visible in a minute
+        cache.invalidate(System.currentTimeMillis() + 60000);
+
+        assertNull(cache.get("q1", 0));
+        // the responses obtained until then may not include the changes
+        cache.put("q2", new QueryResponse(), cache.getGeneration(), Long.MAX_VALUE, 10);
+        assertEquals(0, cache.getSize());
+    }
+
+    @Test
+    public void testInvalidateAlreadyCommitted() {
+        cache.invalidate(System.currentTimeMillis() - 1);
+
+        cache.put("q1", new QueryResponse(), cache.getGeneration(), Long.MAX_VALUE, 10);
+        assertEquals(1, cache.getSize());
+    }
+
+    @Test
+    public void testEvictsLeastRecentlyUsed() {
+        cache.put("q1", new QueryResponse(), 0, 1000, 2);
+        cache.put("q2", new QueryResponse(), 0, 1000, 2);
+        cache.get("q1", 0);
+        cache.put("q3", new QueryResponse(), 0, 1000, 2);
+
+        assertEquals(2, cache.getSize());
+        assertNull(cache.get("q2", 0));
+    }
+
+    @Test
+    public void testKeyIgnoresFilterQueryOrder() {
+        SolrQuery query = new SolrQuery("title:test");
+        query.addFilterQuery("read:(g1 OR g2)", "search.resourcetype:Item");
+        query.setRows(10);
+        SolrQuery sameQuery = new SolrQuery();
+        sameQuery.setRows(10);
+        sameQuery.addFilterQuery("search.resourcetype:Item", "read:(g1 OR g2)");
+        sameQuery.setQuery("title:test");
+        SolrQuery otherGroups = new SolrQuery("title:test");
+        otherGroups.addFilterQuery("read:(g1)", "search.resourcetype:Item");
+        otherGroups.setRows(10);
+
+        assertEquals(SearchResultCache.getKey(query), SearchResultCache.getKey(sameQuery));
+        assertNotEquals(SearchResultCache.getKey(query), SearchResultCache.getKey(otherGroups));
+    }
+}
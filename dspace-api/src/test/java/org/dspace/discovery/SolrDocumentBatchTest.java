@@ -0,0 +1,185 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.discovery;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Set;
+
+import org.apache.solr.client.solrj.SolrClient;
+import org.apache.solr.client.solrj.SolrServerException;
+import org.apache.solr.common.SolrDocument;
+import org.apache.solr.common.SolrDocumentList;
+import org.apache.solr.common.SolrInputDocument;
+import org.apache.solr.common.params.SolrParams;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link SolrDocumentBatch}
+ */
+public class SolrDocumentBatchTest {
+
+    private final SolrClient solrClient = mock(SolrClient.class);
+
+    @Test
+    public void testFlushWhenFull() throws Exception {
+        try (SolrDocumentBatch batch = SolrDocumentBatch.open(solrClient, 2)) {
+            assertSame(batch, SolrDocumentBatch.current());
+            batch.add(new SolrInputDocument());
+            verify(solrClient, never()).add(anyCollection(), anyInt());
+            batch.add(new SolrInputDocument());
+            verify(solrClient, times(1)).add(anyCollection(), anyInt());
+            batch.add(new SolrInputDocument());
+            assertEquals(2, batch.getWritten());
+        }
+        verify(solrClient, times(2)).add(anyCollection(), anyInt());
+    }
+
+    @Test
+    public void testCloseUnbindsBatch() throws Exception {
+        SolrDocumentBatch batch = SolrDocumentBatch.open(solrClient, 10);
+        batch.close();
+        assertNull(SolrDocumentBatch.current());
+        verify(solrClient, never()).add(anyCollection(), anyInt());
+    }
+
+    @Test
+    public void testDeletionsAreFlushedWithCommitWithin() throws Exception {
+        try (SolrDocumentBatch batch = SolrDocumentBatch.open(solrClient, 10, 1000)) {
+            batch.delete("Item-1");
+            batch.add(new SolrInputDocument());
+        }
+        verify(solrClient).deleteById(List.of("Item-1"), 1000);
+        verify(solrClient).add(anyCollection(), eq(1000));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testOnlyOneBatchPerThread() throws Exception {
+        try (SolrDocumentBatch batch = SolrDocumentBatch.open(solrClient, 10)) {
+            SolrDocumentBatch.open(solrClient, 10);
+        }
+    }
+
+    @Test
+    public void testFallsBackToSingleDocumentsWhenBatchFails() throws Exception {
+        SolrInputDocument valid = document("Item-1");
+        SolrInputDocument invalid = document("Item-2");
+        when(solrClient.add(anyCollection(), anyInt())).thenThrow(new SolrServerException("Rejected batch"));
+        when(solrClient.add(invalid, -1)).thenThrow(new SolrServerException("Rejected document"));
+        when(solrClient.deleteById(List.of("Item-3"), -1)).thenThrow(new SolrServerException("Rejected batch"));
+
+        SolrDocumentBatch batch = SolrDocumentBatch.open(solrClient, 10);
+        batch.add(valid);
+        batch.add(invalid);
+        batch.delete("Item-3");
+        batch.close();
+
+        verify(solrClient).add(valid, -1);
+        verify(solrClient).deleteById("Item-3", -1);
+        assertEquals(1, batch.getWritten());
+        assertEquals(1, batch.getDeleted());
+        assertEquals(1, batch.getFailed());
+        assertEquals(List.of("Item-2"), batch.getFailedIds());
+    }
+
+    @Test
+    public void testFlushClearsBufferAfterFailure() throws Exception {
+        when(solrClient.add(anyCollection(), anyInt())).thenThrow(new SolrServerException("Rejected batch"));
+        when(solrClient.add(any(SolrInputDocument.class), anyInt()))
+            .thenThrow(new SolrServerException("Rejected document"));
+
+        try (SolrDocumentBatch batch = SolrDocumentBatch.open(solrClient, 10)) {
+            batch.add(document("Item-1"));
+            batch.flush();
+            batch.flush();
+            // the failed document is reported once, not sent again
+            assertEquals(List.of("Item-1"), batch.getFailedIds());
+        }
+        verify(solrClient, times(1)).add(anyCollection(), anyInt());
+    }
+
+    @Test
+    public void testUnchangedDocumentsAreSkipped() throws Exception {
+        SolrDocumentList indexed = new SolrDocumentList();
+        indexed.add(indexedDocument("Item-1", "unchanged"));
+        indexed.add(indexedDocument("Item-2", "previous"));
+        when(solrClient.getById(anyCollection(), any(SolrParams.class))).thenReturn(indexed);
+
+        SolrInputDocument unchanged = document("Item-1", "unchanged");
+        SolrInputDocument changed = document("Item-2", "changed");
+        SolrInputDocument added = document("Item-3", "new");
+        long totalSkipped = SolrDocumentBatch.getTotalSkipped();
+        SolrDocumentBatch batch = SolrDocumentBatch.open(solrClient, 10);
+        batch.addIfChanged(unchanged);
+        batch.addIfChanged(changed);
+        batch.addIfChanged(added);
+        batch.close();
+
+        // a single lookup for the whole batch
+        verify(solrClient).getById(eq(Set.of("Item-1", "Item-2", "Item-3")), any(SolrParams.class));
+        verify(solrClient).add(List.of(changed, added), -1);
+        assertEquals(1, batch.getSkipped());
+        assertEquals(2, batch.getWritten());
+        assertEquals(totalSkipped + 1, SolrDocumentBatch.getTotalSkipped());
+    }
+
+    @Test
+    public void testAddWritesUnchangedDocument() throws Exception {
+        SolrInputDocument unchanged = document("Item-1", "unchanged");
+        try (SolrDocumentBatch batch = SolrDocumentBatch.open(solrClient, 10)) {
+            batch.add(unchanged);
+        }
+        verify(solrClient, never()).getById(anyCollection(), any(SolrParams.class));
+        verify(solrClient).add(List.of(unchanged), -1);
+    }
+
+    @Test
+    public void testWritesAllDocumentsWhenFingerprintLookupFails() throws Exception {
+        when(solrClient.getById(anyCollection(), any(SolrParams.class)))
+            .thenThrow(new SolrServerException("Unavailable"));
+
+        SolrInputDocument document = document("Item-1", "unchanged");
+        try (SolrDocumentBatch batch = SolrDocumentBatch.open(solrClient, 10)) {
+            batch.addIfChanged(document);
+            batch.flush();
+            assertEquals(0, batch.getSkipped());
+        }
+        verify(solrClient).add(List.of(document), -1);
+    }
+
+    private static SolrInputDocument document(String uniqueId, String fingerprint) {
+        SolrInputDocument document = document(uniqueId);
+        document.addField(SearchUtils.FINGERPRINT_FIELD, fingerprint);
+        return document;
+    }
+
+    private static SolrDocument indexedDocument(String uniqueId, String fingerprint) {
+        SolrDocument document = new SolrDocument();
+        document.addField(SearchUtils.RESOURCE_UNIQUE_ID, uniqueId);
+        document.addField(SearchUtils.FINGERPRINT_FIELD, fingerprint);
+        return document;
+    }
+
+    private static SolrInputDocument document(String uniqueId) {
+        SolrInputDocument document = new SolrInputDocument();
+        document.addField(SearchUtils.RESOURCE_UNIQUE_ID, uniqueId);
+        return document;
+    }
+}
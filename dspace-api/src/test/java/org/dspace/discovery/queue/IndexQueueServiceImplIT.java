@@ -0,0 +1,117 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.discovery.queue;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+
+import java.util.Collections;
+
+import org.dspace.AbstractIntegrationTestWithDatabase;
+import org.dspace.builder.CollectionBuilder;
+import org.dspace.builder.CommunityBuilder;
+import org.dspace.builder.ItemBuilder;
+import org.dspace.content.Collection;
+import org.dspace.content.Item;
+import org.dspace.core.Context;
+import org.dspace.discovery.IndexableObject;
+import org.dspace.discovery.IndexingService;
+import org.dspace.discovery.SearchServiceException;
+import org.dspace.discovery.SolrSearchCore;
+import org.dspace.discovery.indexobject.IndexableItem;
+import org.dspace.discovery.indexobject.factory.IndexObjectFactoryFactory;
+import org.dspace.discovery.queue.dao.IndexQueueEntryDAO;
+import org.dspace.kernel.ServiceManager;
+import org.dspace.services.factory.DSpaceServicesFactory;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Integration tests for {@link IndexQueueServiceImpl}
+ */
+public class IndexQueueServiceImplIT extends AbstractIntegrationTestWithDatabase {
+
+    private final ServiceManager serviceManager = DSpaceServicesFactory.getInstance().getServiceManager();
+
+    private final IndexQueueEntryDAO indexQueueEntryDAO =
+        serviceManager.getServicesByType(IndexQueueEntryDAO.class).get(0);
+
+    private IndexQueueServiceImpl indexQueueService;
+
+    private String uniqueIndexId;
+
+    @Before
+    public void setUp() throws Exception {
+        super.setUp();
+        indexQueueService = new IndexQueueServiceImpl();
+        indexQueueService.indexQueueEntryDAO = indexQueueEntryDAO;
+        indexQueueService.configurationService = DSpaceServicesFactory.getInstance().getConfigurationService();
+        indexQueueService.indexingService =
+            serviceManager.getServiceByName(IndexingService.class.getName(), IndexingService.class);
+        indexQueueService.indexObjectFactoryFactory = IndexObjectFactoryFactory.getInstance();
+        indexQueueService.solrSearchCore = serviceManager.getServicesByType(SolrSearchCore.class).get(0);
+
+        context.turnOffAuthorisationSystem();
+        parentCommunity = CommunityBuilder.createCommunity(context).withName("Parent Community").build();
+        Collection collection = CollectionBuilder.createCollection(context, parentCommunity)
+                                                 .withName("Collection").build();
+        Item item = ItemBuilder.createItem(context, collection).withTitle("Queued item").build();
+        context.restoreAuthSystemState();
+        uniqueIndexId = new IndexableItem(item).getUniqueIndexID();
+    }
+
+    @After
+    public void emptyQueue() throws Exception {
+        for (IndexQueueEntry entry : indexQueueEntryDAO.findOldest(context, 1, 0, Collections.emptySet(), 100)) {
+            indexQueueEntryDAO.delete(context, entry);
+        }
+        context.commit();
+    }
+
+    @Test
+    public void testEnqueueKeepsSingleRecord() throws Exception {
+        indexQueueService.enqueue(context, uniqueIndexId, IndexQueueAction.UPDATE);
+        indexQueueService.enqueue(context, uniqueIndexId, IndexQueueAction.UPDATE);
+        context.commit();
+
+        assertEquals(1, indexQueueService.countQueued(context));
+    }
+
+    @Test
+    public void testProcessQueueRemovesIndexedRecords() throws Exception {
+        indexQueueService.enqueue(context, uniqueIndexId, IndexQueueAction.UPDATE);
+        context.commit();
+
+        assertEquals(1, indexQueueService.processQueue());
+        assertEquals(0, indexQueueService.countQueued(context));
+    }
+
+    @Test
+    public void testProcessQueueKeepsFailedRecords() throws Exception {
+        indexQueueService.enqueue(context, uniqueIndexId, IndexQueueAction.UPDATE);
+        context.commit();
+
+        IndexingService indexingService = indexQueueService.indexingService;
+        IndexingService failingIndexingService = mock(IndexingService.class);
+        doThrow(new SearchServiceException("Indexing failed")).when(failingIndexingService)
+            .indexContent(any(Context.class), any(IndexableObject.class), anyBoolean(), anyBoolean());
+        indexQueueService.indexingService = failingIndexingService;
+
+        assertEquals(0, indexQueueService.processQueue());
+        assertEquals(1, indexQueueService.countQueued(context));
+
+        // the record is processed on the next run
+        indexQueueService.indexingService = indexingService;
+        assertEquals(1, indexQueueService.processQueue());
+        assertEquals(0, indexQueueService.countQueued(context));
+    }
+}
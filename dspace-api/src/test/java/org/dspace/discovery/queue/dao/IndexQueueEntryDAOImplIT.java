@@ -0,0 +1,123 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.discovery.queue.dao;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.dspace.AbstractIntegrationTestWithDatabase;
+import org.dspace.discovery.queue.IndexQueueAction;
+import org.dspace.discovery.queue.IndexQueueEntry;
+import org.dspace.services.factory.DSpaceServicesFactory;
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Integration tests for {@link org.dspace.discovery.queue.dao.impl.IndexQueueEntryDAOImpl}
+ */
+public class IndexQueueEntryDAOImplIT extends AbstractIntegrationTestWithDatabase {
+
+    private final IndexQueueEntryDAO indexQueueEntryDAO = DSpaceServicesFactory.getInstance().getServiceManager()
+        .getServicesByType(IndexQueueEntryDAO.class).get(0);
+
+    @After
+    public void emptyQueue() throws Exception {
+        for (IndexQueueEntry entry : findAll()) {
+            indexQueueEntryDAO.delete(context, entry);
+        }
+        context.commit();
+    }
+
+    @Test
+    public void testUpsertKeepsSingleRecord() throws Exception {
+        Instant first = Instant.parse("2025-01-01T10:00:00Z");
+        Instant second = Instant.parse("2025-01-01T11:00:00Z");
+        indexQueueEntryDAO.upsert(context, "Item-1", IndexQueueAction.UPDATE, first);
+        context.commit();
+
+        List<IndexQueueEntry> entries = findAll();
+        assertEquals(1, entries.size());
+        assertEquals(IndexQueueAction.UPDATE, entries.get(0).getAction());
+        assertEquals(first, entries.get(0).getQueued());
+        assertEquals(Integer.valueOf(0), entries.get(0).getRevision());
+        Integer id = entries.get(0).getID();
+        context.uncacheEntities();
+
+        indexQueueEntryDAO.upsert(context, "Item-1", IndexQueueAction.DELETE, second);
+        context.commit();
+
+        entries = findAll();
+        assertEquals(1, entries.size());
+        assertEquals(id, entries.get(0).getID());
+        assertEquals(IndexQueueAction.DELETE, entries.get(0).getAction());
+        assertEquals(second, entries.get(0).getQueued());
+        assertEquals(Integer.valueOf(1), entries.get(0).getRevision());
+        assertEquals(1, indexQueueEntryDAO.countQueued(context));
+        assertEquals(second, indexQueueEntryDAO.findOldestQueued(context));
+    }
+
+    @Test
+    public void testDeleteIfUnchanged() throws Exception {
+        indexQueueEntryDAO.upsert(context, "Item-1", IndexQueueAction.UPDATE, Instant.now());
+        context.commit();
+        IndexQueueEntry entry = findAll().get(0);
+        Integer id = entry.getID();
+        Integer revision = entry.getRevision();
+        context.uncacheEntities();
+
+        // queued again while it was being processed
+        indexQueueEntryDAO.upsert(context, "Item-1", IndexQueueAction.UPDATE, Instant.now());
+        assertEquals(0, indexQueueEntryDAO.deleteIfUnchanged(context, id, revision));
+        assertEquals(1, indexQueueEntryDAO.countQueued(context));
+
+        assertEquals(1, indexQueueEntryDAO.deleteIfUnchanged(context, id, revision + 1));
+        assertEquals(0, indexQueueEntryDAO.countQueued(context));
+    }
+
+    @Test
+    public void testFindOldest() throws Exception {
+        Instant now = Instant.now();
+        for (int i = 0; i < 6; i++) {
+            indexQueueEntryDAO.upsert(context, "Item-" + i, IndexQueueAction.UPDATE, now.minusSeconds(i));
+        }
+        context.commit();
+
+        List<IndexQueueEntry> all = findAll();
+        assertEquals(6, all.size());
+        // oldest first
+        assertEquals("Item-5", all.get(0).getUniqueIndexId());
+        assertEquals("Item-0", all.get(5).getUniqueIndexId());
+        assertEquals(2, indexQueueEntryDAO.findOldest(context, 1, 0, Collections.emptySet(), 2).size());
+
+        // every record is in exactly one partition
+        List<IndexQueueEntry> partition0 = indexQueueEntryDAO.findOldest(context, 2, 0, Collections.emptySet(), 10);
+        List<IndexQueueEntry> partition1 = indexQueueEntryDAO.findOldest(context, 2, 1, Collections.emptySet(), 10);
+        assertEquals(6, partition0.size() + partition1.size());
+        for (IndexQueueEntry entry : partition0) {
+            assertEquals(0, entry.getID() % 2);
+        }
+        for (IndexQueueEntry entry : partition1) {
+            assertEquals(1, entry.getID() % 2);
+        }
+
+        // excluded records are skipped
+        Integer excluded = all.get(0).getID();
+        List<IndexQueueEntry> remaining = indexQueueEntryDAO.findOldest(context, 1, 0, Set.of(excluded), 10);
+        assertEquals(5, remaining.size());
+        assertTrue(remaining.stream().noneMatch(entry -> entry.getID().equals(excluded)));
+    }
+
+    private List<IndexQueueEntry> findAll() throws Exception {
+        return indexQueueEntryDAO.findOldest(context, 1, 0, Collections.emptySet(), 100);
+    }
+}
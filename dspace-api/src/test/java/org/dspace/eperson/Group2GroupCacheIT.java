@@ -0,0 +1,89 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.eperson;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.dspace.AbstractIntegrationTestWithDatabase;
+import org.dspace.builder.GroupBuilder;
+import org.dspace.eperson.factory.EPersonServiceFactory;
+import org.dspace.eperson.service.GroupService;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Integration tests for the incremental maintenance of the group2groupcache table
+ */
+public class Group2GroupCacheIT extends AbstractIntegrationTestWithDatabase {
+
+    private final GroupService groupService = EPersonServiceFactory.getInstance().getGroupService();
+
+    private Group top;
+    private Group middle;
+    private Group bottom;
+    private Group other;
+
+    @Before
+    public void setUp() throws Exception {
+        context.turnOffAuthorisationSystem();
+        top = GroupBuilder.createGroup(context).withName("top").build();
+        middle = GroupBuilder.createGroup(context).withName("middle").withParent(top).build();
+        bottom = GroupBuilder.createGroup(context).withName("bottom").withParent(middle).build();
+        other = GroupBuilder.createGroup(context).withName("other").build();
+        context.restoreAuthSystemState();
+    }
+
+    @Test
+    public void testAddMemberUpdatesAncestors() throws Exception {
+        assertTrue(groupService.isParentOf(context, top, middle));
+        assertTrue(groupService.isParentOf(context, top, bottom));
+        assertTrue(groupService.isParentOf(context, middle, bottom));
+        assertFalse(groupService.isParentOf(context, bottom, top));
+
+        context.turnOffAuthorisationSystem();
+        groupService.addMember(context, bottom, other);
+        groupService.update(context, bottom);
+        context.restoreAuthSystemState();
+
+        assertTrue(groupService.isParentOf(context, bottom, other));
+        assertTrue(groupService.isParentOf(context, middle, other));
+        assertTrue(groupService.isParentOf(context, top, other));
+    }
+
+    @Test
+    public void testRemoveMemberUpdatesAncestors() throws Exception {
+        context.turnOffAuthorisationSystem();
+        groupService.addMember(context, top, bottom);
+        groupService.update(context, top);
+        groupService.removeMember(context, middle, bottom);
+        groupService.update(context, middle);
+        context.restoreAuthSystemState();
+
+        // still a member of top directly
+        assertTrue(groupService.isParentOf(context, top, bottom));
+        assertFalse(groupService.isParentOf(context, middle, bottom));
+
+        context.turnOffAuthorisationSystem();
+        groupService.removeMember(context, top, middle);
+        groupService.update(context, top);
+        context.restoreAuthSystemState();
+
+        assertFalse(groupService.isParentOf(context, top, middle));
+        assertTrue(groupService.isParentOf(context, top, bottom));
+    }
+
+    @Test
+    public void testDeleteUpdatesAncestors() throws Exception {
+        context.turnOffAuthorisationSystem();
+        groupService.delete(context, middle);
+        context.restoreAuthSystemState();
+
+        assertFalse(groupService.isParentOf(context, top, bottom));
+    }
+}
@@ -0,0 +1,135 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.eperson;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.dspace.core.Constants;
+import org.dspace.core.Context;
+import org.dspace.event.Event;
+import org.dspace.services.ConfigurationService;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link GroupMembershipCache}
+ */
+public class GroupMembershipCacheTest {
+
+    private GroupMembershipCache cache;
+
+    private final UUID eperson = UUID.randomUUID();
+    private final UUID group = UUID.randomUUID();
+    private final UUID parentGroup = UUID.randomUUID();
+
+    private long now = System.currentTimeMillis();
+
+    @Before
+    public void setUp() {
+        cache = new GroupMembershipCache() {
+            @Override
+            public long currentTime() {
+                return now;
+            }
+        };
+        cache.configurationService = mock(ConfigurationService.class);
+        when(cache.configurationService.getIntProperty(eq("groups.membership-cache.max-members"), anyInt()))
+            .thenReturn(10);
+        when(cache.configurationService.getLongProperty(eq("groups.membership-cache.ttl"), anyLong()))
+            .thenReturn(300L);
+    }
+
+    @Test
+    public void testSnapshot() {
+        GroupMembershipCache.Snapshot snapshot = cache.put(eperson, Set.of(group, parentGroup), cache.getVersion(),
+                                                           System.currentTimeMillis());
+
+        assertTrue(snapshot.contains(group));
+        assertTrue(snapshot.contains(parentGroup));
+        assertFalse(snapshot.contains(UUID.randomUUID()));
+        assertEquals(Set.of(group, parentGroup), snapshot.getGroupIds());
+        assertSame(snapshot, cache.get(eperson));
+    }
+
+    @Test
+    public void testInvalidateDiscardsSnapshotOfMember() {
+        UUID other = UUID.randomUUID();
+        cache.put(eperson, Set.of(group), cache.getVersion(), System.currentTimeMillis());
+        cache.put(other, Set.of(group), cache.getVersion(), System.currentTimeMillis());
+
+        cache.invalidate(eperson);
+
+        assertNull(cache.get(eperson));
+        assertNotNull(cache.get(other));
+
+        // loaded right after the invalidation, possibly before the change was committed
+        cache.put(eperson, Set.of(group), cache.getVersion(), System.currentTimeMillis());
+        assertNull(cache.get(eperson));
+    }
+
+    @Test
+    public void testInvalidateAllMakesSnapshotsStale() {
+        long version = cache.getVersion();
+        cache.put(eperson, Set.of(group), version, System.currentTimeMillis());
+
+        cache.invalidateAll();
+
+        assertNull(cache.get(eperson));
+        // loaded at the previous version
+        GroupMembershipCache.Snapshot snapshot = cache.put(eperson, Set.of(group), version, 0);
+        assertTrue(snapshot.contains(group));
+        assertNull(cache.get(eperson));
+        assertEquals(0, cache.getSize());
+    }
+
+    @Test
+    public void testSnapshotExpires() {
+        cache.put(eperson, Set.of(group), cache.getVersion(), now);
+
+        now += 299 * 1000;
+        assertNotNull(cache.get(eperson));
+
+        now += 2 * 1000;
+        assertNull(cache.get(eperson));
+    }
+
+    @Test
+    public void testHasPendingChanges() {
+        Context context = mock(Context.class);
+        assertFalse(cache.hasPendingChanges(context));
+
+        LinkedList<Event> events = new LinkedList<>(List.of(
+            new Event(Event.MODIFY_METADATA, Constants.GROUP, group, null),
+            new Event(Event.MODIFY, Constants.EPERSON, eperson, null)));
+        when(context.hasEvents()).thenReturn(true);
+        when(context.getEvents()).thenReturn(events);
+        assertFalse(cache.hasPendingChanges(context));
+
+        events.add(new Event(Event.ADD, Constants.GROUP, group, Constants.EPERSON, eperson, null));
+        assertTrue(cache.hasPendingChanges(context));
+
+        events.removeLast();
+        events.add(new Event(Event.DELETE, Constants.EPERSON, eperson, null));
+        assertTrue(cache.hasPendingChanges(context));
+    }
+}
@@ -29,6 +29,8 @@ import org.dspace.authorize.AuthorizeException;
 import org.dspace.eperson.factory.EPersonServiceFactory;
 import org.dspace.eperson.service.EPersonService;
 import org.dspace.eperson.service.GroupService;
+import org.dspace.services.ConfigurationService;
+import org.dspace.services.factory.DSpaceServicesFactory;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -327,6 +329,34 @@ public class GroupTest extends AbstractUnitTest {
         groupService.delete(context, parentGroup);
     }
 
+    @Test
+    public void isMemberWithPendingMembershipChangesBypassesCache()
+        throws SQLException, AuthorizeException, EPersonDeletionException, IOException {
+        ConfigurationService configurationService = DSpaceServicesFactory.getInstance().getConfigurationService();
+        GroupMembershipCache groupMembershipCache = DSpaceServicesFactory.getInstance().getServiceManager()
+            .getServicesByType(GroupMembershipCache.class).get(0);
+        configurationService.setProperty("groups.membership-cache.enabled", true);
+        EPerson ePerson = null;
+        context.turnOffAuthorisationSystem();
+        try {
+            ePerson = createEPerson("pendingMembershipChanges@dspace.org");
+            groupService.addMember(context, level2Group, ePerson);
+            groupService.update(context, level2Group);
+            int cached = groupMembershipCache.getSize();
+
+            // the uncommitted membership is seen by its own context, but not cached for the others
+            assertTrue(groupMembershipCache.hasPendingChanges(context));
+            assertTrue(groupService.isMember(context, ePerson, topGroup));
+            assertEquals(cached, groupMembershipCache.getSize());
+        } finally {
+            configurationService.setProperty("groups.membership-cache.enabled", false);
+            if (ePerson != null) {
+                ePersonService.delete(context, ePerson);
+            }
+            context.restoreAuthSystemState();
+        }
+    }
+
     @Test
     public void isMemberGroup() throws SQLException {
         assertTrue("isMemberGroup 1", groupService.isMember(topGroup, level1Group));
@@ -58,6 +58,8 @@ public class MockSolrLoggerServiceImpl
         Mockito.lenient().when(reader.city(any(InetAddress.class))).thenReturn(mockCityResponse());
         // Save this mock DatabaseReader to be used by SolrLoggerService
         locationService = reader;
+
+        initIngestion();
     }
 
     /**
@@ -91,6 +93,7 @@ public class MockSolrLoggerServiceImpl
 
     @Override
     public void destroy() throws Exception {
+        shutdownIngestion();
         mockSolrServer.destroy();
     }
 }
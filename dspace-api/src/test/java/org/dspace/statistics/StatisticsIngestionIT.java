@@ -0,0 +1,178 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.statistics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.solr.client.solrj.SolrQuery;
+import org.apache.solr.common.SolrDocument;
+import org.apache.solr.common.SolrDocumentList;
+import org.dspace.AbstractIntegrationTestWithDatabase;
+import org.dspace.builder.BitstreamBuilder;
+import org.dspace.builder.CollectionBuilder;
+import org.dspace.builder.CommunityBuilder;
+import org.dspace.builder.ItemBuilder;
+import org.dspace.content.Bitstream;
+import org.dspace.content.Collection;
+import org.dspace.content.Item;
+import org.dspace.services.ConfigurationService;
+import org.dspace.services.factory.DSpaceServicesFactory;
+import org.dspace.statistics.SolrLoggerServiceImpl.StatisticsType;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+/**
+ * Integration tests of the usage events recorded in the background, with
+ * {@code solr-statistics.ingestion.enabled}, compared with the ones recorded on the request thread.
+ */
+public class StatisticsIngestionIT extends AbstractIntegrationTestWithDatabase {
+
+    /**
+     * Fields which differ from one document to another
+     */
+    private static final Set<String> IGNORED_FIELDS = Set.of("uid", "time", "_version_");
+
+    /**
+     * How long to wait for the queued events to be recorded, in milliseconds
+     */
+    private static final long RECORDING_TIMEOUT = 10000;
+
+    private final ConfigurationService configurationService =
+        DSpaceServicesFactory.getInstance().getConfigurationService();
+
+    private MockSolrLoggerServiceImpl solrLoggerService;
+
+    private Bitstream bitstream;
+
+    private MockHttpServletRequest request;
+
+    @Before
+    public void setUp() throws Exception {
+        super.setUp();
+        solrLoggerService = DSpaceServicesFactory.getInstance().getServiceManager()
+                                                 .getServiceByName("solrLoggerService",
+                                                                   MockSolrLoggerServiceImpl.class);
+
+        context.turnOffAuthorisationSystem();
+        parentCommunity = CommunityBuilder.createCommunity(context)
+                                          .withName("Parent Community")
+                                          .build();
+        Collection collection = CollectionBuilder.createCollection(context, parentCommunity)
+                                                 .withName("Collection")
+                                                 .build();
+        Item item = ItemBuilder.createItem(context, collection)
+                               .withTitle("Item")
+                               .build();
+        bitstream = BitstreamBuilder.createBitstream(context, item,
+                                                     new ByteArrayInputStream(
+                                                         "content".getBytes(StandardCharsets.UTF_8)))
+                                    .withName("file.txt")
+                                    .build();
+        context.restoreAuthSystemState();
+        // the background recording reads the objects in its own context
+        context.commit();
+
+        request = new MockHttpServletRequest();
+        request.setRemoteAddr("127.0.0.1");
+        request.addHeader("User-Agent", "Firefox");
+        request.addHeader("referer", "http://example.com/");
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        solrLoggerService.shutdownIngestion();
+    }
+
+    @Test
+    public void queuedViewMatchesSynchronousViewTest() throws Exception {
+        solrLoggerService.postView(bitstream, request, eperson);
+
+        enableIngestion();
+        solrLoggerService.postView(bitstream, request, eperson);
+        waitForRecording(1);
+
+        SolrDocumentList documents = findViews();
+        assertEquals(2, documents.size());
+        Map<String, Object> synchronous = getFields(documents.get(0));
+        Map<String, Object> queued = getFields(documents.get(1));
+        assertEquals(synchronous, queued);
+
+        assertEquals(bitstream.getID().toString(), synchronous.get("id"));
+        assertEquals("view", synchronous.get("statistics_type"));
+        assertTrue(synchronous.containsKey("bundleName"));
+        assertTrue(synchronous.containsKey("owningItem"));
+        assertTrue(synchronous.containsKey("countryCode"));
+        assertTrue(synchronous.containsKey("referrer"));
+    }
+
+    @Test
+    public void adminViewIsNotRecordedTest() throws Exception {
+        solrLoggerService.postView(bitstream, request, admin);
+
+        enableIngestion();
+        solrLoggerService.postView(bitstream, request, admin);
+        waitForRecording(1);
+
+        assertEquals(0, findViews().size());
+    }
+
+    @Test
+    public void synchronousViewOnlyReadsDatabaseWhenNeededTest() throws Exception {
+        StatisticsEvent ipView = solrLoggerService.createEvent(StatisticsType.VIEW, bitstream, "127.0.0.1",
+                                                               "Firefox", null, eperson, null);
+        assertFalse(solrLoggerService.needsContext(ipView, bitstream));
+        // without the object, it is found by its identifier
+        assertTrue(solrLoggerService.needsContext(ipView, null));
+
+        StatisticsEvent requestView = solrLoggerService.createEvent(StatisticsType.VIEW, bitstream, request,
+                                                                    eperson, null);
+        requestView.setSkipAdmin(true);
+        // the user is checked not to be an administrator
+        assertTrue(solrLoggerService.needsContext(requestView, bitstream));
+
+        solrLoggerService.postView(bitstream, "127.0.0.1", "Firefox", null, eperson);
+        SolrDocumentList documents = findViews();
+        assertEquals(1, documents.size());
+        assertEquals(bitstream.getID().toString(), documents.get(0).getFieldValue("id"));
+        assertTrue(documents.get(0).containsKey("owningItem"));
+    }
+
+    private void enableIngestion() {
+        configurationService.setProperty("solr-statistics.ingestion.enabled", true);
+        solrLoggerService.initIngestion();
+    }
+
+    private void waitForRecording(long count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + RECORDING_TIMEOUT;
+        while (solrLoggerService.ingestionQueue.getRecorded() < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertEquals(count, solrLoggerService.ingestionQueue.getRecorded());
+    }
+
+    private SolrDocumentList findViews() throws Exception {
+        solrLoggerService.solr.commit();
+        return solrLoggerService.solr.query(new SolrQuery("*:*")).getResults();
+    }
+
+    private Map<String, Object> getFields(SolrDocument document) {
+        Map<String, Object> fields = new HashMap<>(document);
+        fields.keySet().removeAll(IGNORED_FIELDS);
+        return fields;
+    }
+}
@@ -0,0 +1,116 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.statistics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link StatisticsIngestionQueue}
+ */
+public class StatisticsIngestionQueueTest {
+
+    private final List<List<StatisticsEvent>> batches = new ArrayList<>();
+
+    private void record(List<StatisticsEvent> batch) {
+        synchronized (batches) {
+            batches.add(new ArrayList<>(batch));
+        }
+    }
+
+    private static StatisticsEvent event() {
+        return new StatisticsEvent(SolrLoggerServiceImpl.StatisticsType.VIEW);
+    }
+
+    @Test
+    public void testRecordsInBatchesAndFlushesOnShutdown() throws InterruptedException {
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        StatisticsIngestionQueue queue = new StatisticsIngestionQueue(100, 1, 3, 0, batch -> {
+            if (blocked.getCount() > 0) {
+                blocked.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            record(batch);
+        });
+
+        // the worker is busy with the first event while the others are queued
+        assertTrue(queue.offer(event()));
+        assertTrue(blocked.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < 7; i++) {
+            assertTrue(queue.offer(event()));
+        }
+        release.countDown();
+        queue.shutdown(5000);
+
+        assertEquals(4, batches.size());
+        assertEquals(1, batches.get(0).size());
+        assertEquals(3, batches.get(1).size());
+        assertEquals(3, batches.get(2).size());
+        assertEquals(1, batches.get(3).size());
+        assertEquals(8, queue.getAccepted());
+        assertEquals(8, queue.getRecorded());
+        assertEquals(0, queue.getDropped());
+        assertEquals(0, queue.getSize());
+        assertFalse(queue.offer(event()));
+        assertEquals(1, queue.getDropped());
+    }
+
+    @Test
+    public void testDropsWhenFull() throws InterruptedException {
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        StatisticsIngestionQueue queue = new StatisticsIngestionQueue(2, 1, 10, 0, batch -> {
+            blocked.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            record(batch);
+        });
+
+        assertTrue(queue.offer(event()));
+        assertTrue(blocked.await(5, TimeUnit.SECONDS));
+        assertTrue(queue.offer(event()));
+        assertTrue(queue.offer(event()));
+        assertFalse(queue.offer(event()));
+        assertEquals(1, queue.getDropped());
+        assertEquals(2, queue.getSize());
+
+        release.countDown();
+        queue.shutdown(5000);
+        assertEquals(3, queue.getRecorded());
+    }
+
+    @Test
+    public void testCountsFailedBatches() {
+        StatisticsIngestionQueue queue = new StatisticsIngestionQueue(10, 1, 10, 0, batch -> {
+            throw new IllegalStateException("Solr is down");
+        });
+
+        queue.offer(event());
+        queue.offer(event());
+        queue.shutdown(5000);
+
+        assertEquals(2, queue.getFailed());
+        assertEquals(0, queue.getRecorded());
+    }
+}
@@ -0,0 +1,72 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.statistics.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link DnsCache}
+ */
+public class DnsCacheTest {
+
+    private final List<String> lookups = new ArrayList<>();
+
+    private DnsCache cache(long ttl, int maxEntries) {
+        return new DnsCache(ttl, maxEntries) {
+            @Override
+            protected String lookup(String ip) {
+                lookups.add(ip);
+                return ip.startsWith("10.") ? "host-" + ip : null;
+            }
+        };
+    }
+
+    @Test
+    public void testCachesLookups() {
+        DnsCache cache = cache(60000, 10);
+
+        assertEquals("host-10.0.0.1", cache.getHostName("10.0.0.1"));
+        assertEquals("host-10.0.0.1", cache.getHostName("10.0.0.1"));
+        // failed lookups are cached too
+        assertNull(cache.getHostName("invalid"));
+        assertNull(cache.getHostName("invalid"));
+
+        assertEquals(List.of("10.0.0.1", "invalid"), lookups);
+    }
+
+    @Test
+    public void testExpires() {
+        DnsCache cache = cache(0, 10);
+
+        cache.getHostName("10.0.0.1");
+        cache.getHostName("10.0.0.1");
+
+        assertEquals(2, lookups.size());
+    }
+
+    @Test
+    public void testEvictsLeastRecentlyUsed() {
+        DnsCache cache = cache(60000, 2);
+
+        cache.getHostName("10.0.0.1");
+        cache.getHostName("10.0.0.2");
+        cache.getHostName("10.0.0.1");
+        cache.getHostName("10.0.0.3");
+        assertEquals(2, cache.getSize());
+
+        cache.getHostName("10.0.0.1");
+        cache.getHostName("10.0.0.2");
+        assertEquals(List.of("10.0.0.1", "10.0.0.2", "10.0.0.3", "10.0.0.2"), lookups);
+    }
+}
@@ -0,0 +1,79 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.storage.bitstore;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThan;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link BandwidthThrottle}
+ */
+public class BandwidthThrottleTest {
+
+    private static final long BYTES_PER_SECOND = 1_000_000;
+
+    @Test
+    public void testThrottledStreamIsReadAtMaximumThroughput() throws Exception {
+        BandwidthThrottle throttle = new BandwidthThrottle(BYTES_PER_SECOND);
+
+        long start = System.nanoTime();
+        try (InputStream in = throttle.throttle(new ByteArrayInputStream(new byte[500_000]))) {
+            IOUtils.consume(in);
+        }
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // 500 KB at 1 MB/s
+        assertThat(elapsed, greaterThanOrEqualTo(450L));
+        assertThat(elapsed, lessThan(2000L));
+    }
+
+    @Test
+    public void testThroughputIsSharedByThreads() throws Exception {
+        BandwidthThrottle throttle = new BandwidthThrottle(BYTES_PER_SECOND);
+
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            threads.add(new Thread(() -> {
+                try {
+                    for (int j = 0; j < 25; j++) {
+                        throttle.acquire(5_000);
+                    }
+                } catch (Exception e) {
+                    throw new RuntimeException(e);
+                }
+            }));
+        }
+        long start = System.nanoTime();
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // 4 threads x 125 KB at 1 MB/s in total
+        assertThat(elapsed, greaterThanOrEqualTo(450L));
+        assertThat(elapsed, lessThan(2000L));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testThroughputMustBePositive() {
+        new BandwidthThrottle(0);
+    }
+}
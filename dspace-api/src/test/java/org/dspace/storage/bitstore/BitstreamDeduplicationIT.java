@@ -0,0 +1,113 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.storage.bitstore;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.io.InputStream;
+
+import org.apache.commons.io.IOUtils;
+import org.dspace.AbstractIntegrationTestWithDatabase;
+import org.dspace.builder.BitstreamBuilder;
+import org.dspace.builder.CollectionBuilder;
+import org.dspace.builder.CommunityBuilder;
+import org.dspace.builder.ItemBuilder;
+import org.dspace.content.Bitstream;
+import org.dspace.content.Collection;
+import org.dspace.content.Item;
+import org.dspace.content.factory.ContentServiceFactory;
+import org.dspace.content.service.BitstreamService;
+import org.dspace.storage.bitstore.factory.StorageServiceFactory;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Integration tests for the deduplication of assets by {@link BitstreamStorageServiceImpl}
+ */
+public class BitstreamDeduplicationIT extends AbstractIntegrationTestWithDatabase {
+
+    private BitstreamStorageServiceImpl bitstreamStorageService =
+        (BitstreamStorageServiceImpl) StorageServiceFactory.getInstance().getBitstreamStorageService();
+
+    private BitstreamService bitstreamService = ContentServiceFactory.getInstance().getBitstreamService();
+
+    private Item item;
+
+    @Before
+    public void setup() throws Exception {
+        bitstreamStorageService.setDeduplicate(true);
+
+        context.turnOffAuthorisationSystem();
+        parentCommunity = CommunityBuilder.createCommunity(context).build();
+        Collection collection = CollectionBuilder.createCollection(context, parentCommunity).build();
+        item = ItemBuilder.createItem(context, collection).build();
+        context.restoreAuthSystemState();
+    }
+
+    @After
+    public void resetDeduplicate() {
+        bitstreamStorageService.setDeduplicate(false);
+    }
+
+    @Test
+    public void testIdenticalContentSharesAsset() throws Exception {
+        context.turnOffAuthorisationSystem();
+        Bitstream first = createBitstream("Identical license text");
+        Bitstream second = createBitstream("Identical license text");
+        Bitstream other = createBitstream("Another text");
+        context.restoreAuthSystemState();
+
+        assertThat(second.getInternalId(), is(first.getInternalId()));
+        assertThat(other.getInternalId(), not(first.getInternalId()));
+        assertThat(IOUtils.toString(bitstreamService.retrieve(context, second), UTF_8), is("Identical license text"));
+    }
+
+    @Test
+    public void testDuplicateContentIsNotUploaded() throws Exception {
+        int incoming = bitstreamStorageService.getIncoming();
+        BitStoreService store = bitstreamStorageService.getStores().get(incoming);
+        BitStoreService spiedStore = spy(store);
+        bitstreamStorageService.getStores().put(incoming, spiedStore);
+        try {
+            context.turnOffAuthorisationSystem();
+            Bitstream first = createBitstream("Uploaded once");
+            Bitstream second = createBitstream("Uploaded once");
+            context.restoreAuthSystemState();
+
+            assertThat(second.getInternalId(), is(first.getInternalId()));
+            assertThat(second.getChecksum(), is(first.getChecksum()));
+            assertThat(second.getSizeBytes(), is(first.getSizeBytes()));
+            verify(spiedStore, times(1)).put(any(Bitstream.class), any(InputStream.class));
+        } finally {
+            bitstreamStorageService.getStores().put(incoming, store);
+        }
+    }
+
+    @Test
+    public void testDeletedBitstreamIsNotShared() throws Exception {
+        context.turnOffAuthorisationSystem();
+        Bitstream first = createBitstream("Deleted content");
+        bitstreamService.delete(context, first);
+        Bitstream second = createBitstream("Deleted content");
+        context.restoreAuthSystemState();
+
+        assertThat(second.getInternalId(), not(first.getInternalId()));
+    }
+
+    private Bitstream createBitstream(String content) throws Exception {
+        return BitstreamBuilder.createBitstream(context, item, IOUtils.toInputStream(content, UTF_8)).build();
+    }
+}
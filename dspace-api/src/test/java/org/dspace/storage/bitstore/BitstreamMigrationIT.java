@@ -0,0 +1,176 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.storage.bitstore;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.file.PathUtils;
+import org.dspace.AbstractIntegrationTestWithDatabase;
+import org.dspace.builder.BitstreamBuilder;
+import org.dspace.builder.CollectionBuilder;
+import org.dspace.builder.CommunityBuilder;
+import org.dspace.builder.ItemBuilder;
+import org.dspace.content.Bitstream;
+import org.dspace.content.Collection;
+import org.dspace.content.Item;
+import org.dspace.content.factory.ContentServiceFactory;
+import org.dspace.content.service.BitstreamService;
+import org.dspace.storage.bitstore.factory.StorageServiceFactory;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Integration tests for the migration of assets from a store to another by {@link BitstreamStorageServiceImpl}
+ */
+public class BitstreamMigrationIT extends AbstractIntegrationTestWithDatabase {
+
+    /**
+     * Number of the store the assets are migrated to, which is only registered during the tests
+     */
+    private static final int DESTINATION = 9;
+
+    private BitstreamStorageServiceImpl bitstreamStorageService =
+        (BitstreamStorageServiceImpl) StorageServiceFactory.getInstance().getBitstreamStorageService();
+
+    private BitstreamService bitstreamService = ContentServiceFactory.getInstance().getBitstreamService();
+
+    private Path destinationDir;
+    private DSBitStoreService destination;
+    private int source;
+
+    private Item item;
+
+    @Before
+    public void setup() throws Exception {
+        destinationDir = Files.createTempDirectory("migrationTest");
+        DSBitStoreService store = new DSBitStoreService();
+        store.setBaseDir(destinationDir.toFile());
+        destination = spy(store);
+        bitstreamStorageService.getStores().put(DESTINATION, destination);
+        source = bitstreamStorageService.getIncoming();
+
+        context.turnOffAuthorisationSystem();
+        parentCommunity = CommunityBuilder.createCommunity(context).build();
+        Collection collection = CollectionBuilder.createCollection(context, parentCommunity).build();
+        item = ItemBuilder.createItem(context, collection).build();
+        context.restoreAuthSystemState();
+    }
+
+    @After
+    @Override
+    public void destroy() throws Exception {
+        // move the assets back, so that no bitstream is left in the unregistered store
+        migrate(DESTINATION, source, 100, 1);
+        bitstreamStorageService.getStores().remove(DESTINATION);
+        PathUtils.deleteDirectory(destinationDir);
+        super.destroy();
+    }
+
+    @Test
+    public void testConcurrentMigration() throws Exception {
+        List<Bitstream> bitstreams = createBitstreams(10);
+
+        migrate(source, DESTINATION, 3, 4);
+
+        for (Bitstream bitstream : bitstreams) {
+            assertMigrated(bitstream);
+            verify(destination, times(1)).put(argThat(b -> b.getID().equals(bitstream.getID())), any());
+        }
+    }
+
+    @Test
+    public void testChecksumMismatchIsRejected() throws Exception {
+        List<Bitstream> bitstreams = createBitstreams(2);
+        Bitstream corrupted = bitstreams.get(0);
+        setChecksum(corrupted, "00000000000000000000000000000000");
+
+        migrate(source, DESTINATION, 100, 2);
+
+        Bitstream reloaded = bitstreamService.find(context, corrupted.getID());
+        assertThat(reloaded.getStoreNumber(), is(source));
+        assertThat(destination.about(reloaded, List.of("size_bytes")), nullValue());
+        assertMigrated(bitstreams.get(1));
+    }
+
+    @Test
+    public void testMigrationResumesAfterPartialRun() throws Exception {
+        List<Bitstream> bitstreams = createBitstreams(4);
+        // the migration of the first bitstream fails, as if it was interrupted before it was transferred
+        Bitstream remaining = bitstreams.get(0);
+        String checksum = remaining.getChecksum();
+        setChecksum(remaining, "00000000000000000000000000000000");
+        migrate(source, DESTINATION, 1, 2);
+
+        remaining = bitstreamService.find(context, remaining.getID());
+        setChecksum(remaining, checksum);
+        migrate(source, DESTINATION, 1, 2);
+
+        for (Bitstream bitstream : bitstreams) {
+            assertMigrated(bitstream);
+        }
+        // the bitstreams migrated by the first run aren't transferred again
+        for (Bitstream bitstream : bitstreams.subList(1, bitstreams.size())) {
+            verify(destination, times(1)).put(argThat(b -> b.getID().equals(bitstream.getID())), any());
+        }
+        UUID remainingId = remaining.getID();
+        verify(destination, times(2)).put(argThat(b -> b.getID().equals(remainingId)), any());
+        verify(destination, never()).remove(argThat(b -> !b.getID().equals(remainingId)));
+    }
+
+    private List<Bitstream> createBitstreams(int count) throws Exception {
+        List<Bitstream> bitstreams = new ArrayList<>();
+        context.turnOffAuthorisationSystem();
+        for (int i = 0; i < count; i++) {
+            bitstreams.add(BitstreamBuilder.createBitstream(context, item,
+                                                            IOUtils.toInputStream("Content " + i, UTF_8))
+                                           .withName("bitstream" + i)
+                                           .build());
+        }
+        context.restoreAuthSystemState();
+        context.commit();
+        return bitstreams;
+    }
+
+    private void migrate(int from, int to, int batchCommitSize, int threads) throws Exception {
+        context.turnOffAuthorisationSystem();
+        bitstreamStorageService.migrate(context, from, to, false, batchCommitSize, threads, 0);
+        context.restoreAuthSystemState();
+    }
+
+    private void setChecksum(Bitstream bitstream, String checksum) throws Exception {
+        context.turnOffAuthorisationSystem();
+        bitstream.setChecksum(checksum);
+        bitstreamService.update(context, bitstream);
+        context.restoreAuthSystemState();
+        context.commit();
+    }
+
+    private void assertMigrated(Bitstream bitstream) throws Exception {
+        Bitstream reloaded = bitstreamService.find(context, bitstream.getID());
+        assertThat(reloaded.getStoreNumber(), is(DESTINATION));
+        assertThat(IOUtils.toString(bitstreamService.retrieve(context, reloaded), UTF_8),
+                   is(IOUtils.toString(bitstreamStorageService.getStore(source).get(reloaded), UTF_8)));
+    }
+}
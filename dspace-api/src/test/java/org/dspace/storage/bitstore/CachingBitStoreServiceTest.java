@@ -0,0 +1,195 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.storage.bitstore;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import org.dspace.content.Bitstream;
+import org.dspace.core.Utils;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Unit tests for {@link CachingBitStoreService}
+ */
+public class CachingBitStoreServiceTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private BitStoreService store;
+
+    private CachingBitStoreService cache;
+
+    @Before
+    public void setUp() throws Exception {
+        store = mock(BitStoreService.class);
+        when(store.isEnabled()).thenReturn(true);
+        when(store.isInitialized()).thenReturn(true);
+
+        cache = new CachingBitStoreService();
+        cache.setStore(store);
+        cache.setCacheDir(folder.newFolder("cache"));
+        cache.setMaxSize(10);
+        cache.init();
+    }
+
+    @Test
+    public void testSecondReadIsServedFromCache() throws Exception {
+        Bitstream bitstream = mockBitstream("123456789", "abcd", Utils.getMD5("abcd"));
+
+        assertArrayEquals("abcd".getBytes(StandardCharsets.UTF_8), read(bitstream));
+        assertArrayEquals("abcd".getBytes(StandardCharsets.UTF_8), read(bitstream));
+
+        verify(store, times(1)).get(bitstream);
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+        assertEquals(4, cache.getSize());
+    }
+
+    @Test
+    public void testChecksumMismatchIsNotCached() throws Exception {
+        Bitstream bitstream = mockBitstream("123456789", "abcd", Utils.getMD5("other"));
+
+        assertArrayEquals("abcd".getBytes(StandardCharsets.UTF_8), read(bitstream));
+
+        assertEquals(1, cache.getChecksumFailures());
+        assertEquals(0, cache.getEntryCount());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedIsEvicted() throws Exception {
+        Bitstream first = mockBitstream("111111111", "aaaa", Utils.getMD5("aaaa"));
+        Bitstream second = mockBitstream("222222222", "bbbb", Utils.getMD5("bbbb"));
+        Bitstream third = mockBitstream("333333333", "cccc", Utils.getMD5("cccc"));
+
+        read(first);
+        read(second);
+        // touch the first asset, so the second one is the least recently used
+        read(first);
+        read(third);
+
+        assertEquals(1, cache.getEvictions());
+        assertEquals(2, cache.getEntryCount());
+        read(first);
+        read(second);
+        verify(store, times(1)).get(first);
+        verify(store, times(2)).get(second);
+    }
+
+    @Test
+    public void testMissIsStreamedWhileCopied() throws Exception {
+        Bitstream bitstream = mockBitstream("123456789", "abcd", Utils.getMD5("abcd"));
+
+        try (InputStream in = cache.get(bitstream)) {
+            assertEquals('a', in.read());
+            // the first byte is returned before the asset is cached
+            assertEquals(0, cache.getEntryCount());
+            assertArrayEquals("bcd".getBytes(StandardCharsets.UTF_8), in.readAllBytes());
+        }
+
+        assertEquals(1, cache.getEntryCount());
+        assertArrayEquals("abcd".getBytes(StandardCharsets.UTF_8), read(bitstream));
+        verify(store, times(1)).get(bitstream);
+    }
+
+    @Test
+    public void testPartialReadIsNotCached() throws Exception {
+        Bitstream bitstream = mockBitstream("123456789", "abcd", Utils.getMD5("abcd"));
+
+        try (InputStream in = cache.get(bitstream)) {
+            assertEquals('a', in.read());
+        }
+
+        assertEquals(0, cache.getEntryCount());
+        try (Stream<Path> files = Files.walk(cache.getCacheDir().toPath())) {
+            assertFalse(files.anyMatch(Files::isRegularFile));
+        }
+    }
+
+    @Test
+    public void testConcurrentReadIsServedFromStore() throws Exception {
+        Bitstream bitstream = mockBitstream("123456789", "abcd", Utils.getMD5("abcd"));
+
+        try (InputStream in = cache.get(bitstream)) {
+            assertEquals('a', in.read());
+            assertArrayEquals("abcd".getBytes(StandardCharsets.UTF_8), read(bitstream));
+            assertArrayEquals("bcd".getBytes(StandardCharsets.UTF_8), in.readAllBytes());
+        }
+
+        verify(store, times(2)).get(bitstream);
+        assertEquals(1, cache.getEntryCount());
+    }
+
+    @Test
+    public void testLocalPathIsPinned() throws Exception {
+        Bitstream first = mockBitstream("111111111", "aaaa", Utils.getMD5("aaaa"));
+        Bitstream second = mockBitstream("222222222", "bbbb", Utils.getMD5("bbbb"));
+        Bitstream third = mockBitstream("333333333", "cccc", Utils.getMD5("cccc"));
+
+        read(first);
+        Path path = cache.getLocalPath(first);
+        read(second);
+        read(third);
+
+        // the first asset is the least recently used, but its path is in use
+        assertTrue(Files.exists(path));
+        assertEquals(1, cache.getEvictions());
+        read(first);
+        verify(store, times(1)).get(first);
+    }
+
+    @Test
+    public void testExpiredPinIsEvicted() throws Exception {
+        Bitstream first = mockBitstream("111111111", "aaaa", Utils.getMD5("aaaa"));
+        Bitstream second = mockBitstream("222222222", "bbbb", Utils.getMD5("bbbb"));
+        Bitstream third = mockBitstream("333333333", "cccc", Utils.getMD5("cccc"));
+        cache.setPinDuration(0);
+
+        read(first);
+        Path path = cache.getLocalPath(first);
+        read(second);
+        read(third);
+
+        assertFalse(Files.exists(path));
+        assertEquals(1, cache.getEvictions());
+    }
+
+    private Bitstream mockBitstream(String internalId, String content, String checksum) throws Exception {
+        Bitstream bitstream = mock(Bitstream.class);
+        when(bitstream.getInternalId()).thenReturn(internalId);
+        when(bitstream.getSizeBytes()).thenReturn((long) content.length());
+        when(bitstream.getChecksum()).thenReturn(checksum);
+        when(bitstream.getChecksumAlgorithm()).thenReturn("MD5");
+        when(store.get(bitstream)).thenAnswer(
+            invocation -> new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+        return bitstream;
+    }
+
+    private byte[] read(Bitstream bitstream) throws Exception {
+        try (InputStream in = cache.get(bitstream)) {
+            return in.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.storage.bitstore;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.stream.Stream;
+
+import org.dspace.content.Bitstream;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Unit tests for {@link DSBitStoreService}
+ */
+public class DSBitStoreServiceTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private DSBitStoreService store;
+
+    private Bitstream bitstream;
+
+    @Before
+    public void setUp() throws Exception {
+        store = new DSBitStoreService();
+        store.setBaseDir(folder.newFolder("assetstore"));
+        store.init();
+        bitstream = mock(Bitstream.class);
+        when(bitstream.getInternalId()).thenReturn("123456789");
+    }
+
+    @Test
+    public void testPut() throws Exception {
+        store.put(bitstream, new ByteArrayInputStream("abcd".getBytes(StandardCharsets.UTF_8)));
+
+        File file = store.getFile(bitstream);
+        assertArrayEquals("abcd".getBytes(StandardCharsets.UTF_8), Files.readAllBytes(file.toPath()));
+        assertEquals(1, countFiles(file.getParentFile()));
+    }
+
+    @Test
+    public void testFailedPutLeavesNoPartialAsset() throws Exception {
+        try {
+            store.put(bitstream, failingStream("abcd"));
+            fail("The put should have failed");
+        } catch (IOException e) {
+            // expected
+        }
+
+        File file = store.getFile(bitstream);
+        assertFalse(file.exists());
+        assertEquals(0, countFiles(file.getParentFile()));
+    }
+
+    @Test
+    public void testFailedPutKeepsExistingAsset() throws Exception {
+        store.put(bitstream, new ByteArrayInputStream("abcd".getBytes(StandardCharsets.UTF_8)));
+
+        try {
+            store.put(bitstream, failingStream("efgh"));
+            fail("The put should have failed");
+        } catch (IOException e) {
+            // expected
+        }
+
+        File file = store.getFile(bitstream);
+        assertTrue(file.exists());
+        assertEquals("abcd", Files.readString(file.toPath()));
+        assertEquals(1, countFiles(file.getParentFile()));
+    }
+
+    /**
+     * @return a stream which fails after returning the given content
+     */
+    private InputStream failingStream(String content) {
+        return new SequenceInputStream(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)),
+                                       new InputStream() {
+                                           @Override
+                                           public int read() throws IOException {
+                                               throw new IOException("Connection reset");
+                                           }
+                                       });
+    }
+
+    private long countFiles(File dir) throws IOException {
+        if (!dir.exists()) {
+            return 0;
+        }
+        try (Stream<?> files = Files.list(dir.toPath())) {
+            return files.count();
+        }
+    }
+}
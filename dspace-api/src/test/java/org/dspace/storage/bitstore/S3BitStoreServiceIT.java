@@ -147,6 +147,76 @@ public class S3BitStoreServiceIT extends AbstractIntegrationTestWithDatabase {
 
     }
 
+    @Test
+    public void testBitstreamGetWithPrefetch() throws IOException {
+
+        s3BitStoreService.setPrefetchChunks(2);
+        s3BitStoreService.init();
+
+        context.turnOffAuthorisationSystem();
+        String content = "Test bitstream contentThis content span three chunksTest bitstream content";
+        Bitstream bitstream = createBitstream(content);
+        context.restoreAuthSystemState();
+
+        s3BitStoreService.put(bitstream, toInputStream(content));
+
+        assertThat(IOUtils.toString(s3BitStoreService.get(bitstream), UTF_8), is(content));
+
+        try (InputStream inputStream = s3BitStoreService.get(bitstream)) {
+            assertThat(inputStream.skip(30), is(30L));
+            assertThat(IOUtils.toString(inputStream, UTF_8), is(content.substring(30)));
+        }
+    }
+
+    @Test
+    public void testBitstreamGetAfterSkip() throws IOException {
+
+        s3BitStoreService.init();
+
+        context.turnOffAuthorisationSystem();
+        String content = "Test bitstream contentThis content span three chunksTest bitstream content";
+        Bitstream bitstream = createBitstream(content);
+        context.restoreAuthSystemState();
+
+        s3BitStoreService.put(bitstream, toInputStream(content));
+
+        try (InputStream inputStream = s3BitStoreService.get(bitstream)) {
+            // within the first chunk
+            assertThat(inputStream.skip(5), is(5L));
+            // beyond the first chunk
+            assertThat(inputStream.skip(40), is(40L));
+            assertThat(IOUtils.toString(inputStream, UTF_8), is(content.substring(45)));
+        }
+    }
+
+    @Test
+    public void testBitstreamGetDoesNotDownloadBeforeRead() throws IOException {
+        checkNoDownloadBeforeRead();
+    }
+
+    @Test
+    public void testBitstreamGetWithPrefetchDoesNotDownloadBeforeRead() throws IOException {
+        s3BitStoreService.setPrefetchChunks(2);
+        checkNoDownloadBeforeRead();
+    }
+
+    private void checkNoDownloadBeforeRead() throws IOException {
+        s3BitStoreService.init();
+
+        context.turnOffAuthorisationSystem();
+        String content = "Test bitstream content";
+        Bitstream bitstream = createBitstream(content);
+        context.restoreAuthSystemState();
+
+        s3BitStoreService.put(bitstream, toInputStream(content));
+
+        try (InputStream inputStream = s3BitStoreService.get(bitstream)) {
+            // the object is only requested on the first read, so its removal is noticed then
+            s3BitStoreService.remove(bitstream);
+            assertThrows(IOException.class, inputStream::read);
+        }
+    }
+
     private void checkGetPut(String bucketName, String content, Bitstream bitstream) throws IOException {
         s3BitStoreService.put(bitstream, toInputStream(content));
         String expectedChecksum = Utils.toHex(generateChecksum(content));
@@ -22,9 +22,12 @@ import org.dspace.app.rest.model.hateoas.DSpaceLinkRelationProvider;
 import org.dspace.app.rest.parameter.resolver.SearchFilterResolver;
 import org.dspace.app.rest.utils.ApplicationConfig;
 import org.dspace.app.rest.utils.DSpaceAPIRequestLoggingFilter;
+import org.dspace.app.rest.utils.LocalFileResourceHttpMessageConverter;
+import org.dspace.app.rest.utils.LocalFileResourceRegionHttpMessageConverter;
 import org.dspace.app.sitemap.GenerateSitemaps;
 import org.dspace.app.solrdatabaseresync.SolrDatabaseResyncCli;
 import org.dspace.app.util.DSpaceContextListener;
+import org.dspace.discovery.queue.service.IndexQueueService;
 import org.dspace.google.GoogleAsyncEventListener;
 import org.dspace.utils.servlet.DSpaceWebappServletFilter;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -33,6 +36,9 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.annotation.Order;
 import org.springframework.hateoas.server.LinkRelationProvider;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.ResourceHttpMessageConverter;
+import org.springframework.http.converter.ResourceRegionHttpMessageConverter;
 import org.springframework.lang.NonNull;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -62,6 +68,9 @@ public class WebApplication {
     @Autowired
     private GoogleAsyncEventListener googleAsyncEventListener;
 
+    @Autowired
+    private IndexQueueService indexQueueService;
+
     @Scheduled(cron = "${sitemap.cron:-}")
     public void generateSitemap() throws IOException, SQLException {
         GenerateSitemaps.generateSitemapsScheduled();
@@ -88,6 +97,14 @@ public class WebApplication {
         SolrDatabaseResyncCli.runScheduled();
     }
 
+    @Scheduled(cron = "${discovery.indexing.queue.cron:-}")
+    public void processIndexQueue() {
+        if (!indexQueueService.isEnabled()) {
+            return;
+        }
+        indexQueueService.processQueue();
+    }
+
     @Scheduled(cron = "${google.analytics.cron:-}")
     public void sendGoogleAnalyticsEvents() {
         googleAsyncEventListener.sendCollectedEvents();
@@ -247,6 +264,24 @@ public class WebApplication {
             public void addArgumentResolvers(@NonNull List<HandlerMethodArgumentResolver> argumentResolvers) {
                 argumentResolvers.add(new SearchFilterResolver());
             }
+
+            /**
+             * Replace the default (Range) Resource converters by ones which can send bitstreams stored in local
+             * files from these files (see webui.content.zero-copy.enabled)
+             * @param converters the configured message converters
+             */
+            @Override
+            public void extendMessageConverters(@NonNull List<HttpMessageConverter<?>> converters) {
+                converters.replaceAll(converter -> {
+                    if (converter.getClass() == ResourceHttpMessageConverter.class) {
+                        return new LocalFileResourceHttpMessageConverter();
+                    }
+                    if (converter.getClass() == ResourceRegionHttpMessageConverter.class) {
+                        return new LocalFileResourceRegionHttpMessageConverter();
+                    }
+                    return converter;
+                });
+            }
         };
     }
 
@@ -14,6 +14,7 @@ import org.dspace.app.rest.model.BaseObjectRest;
 import org.dspace.app.rest.model.SiteRest;
 import org.dspace.core.Context;
 import org.dspace.discovery.SearchServiceException;
+import org.dspace.eperson.EPerson;
 
 /**
  * This service provides access to the Authorization Features and check if the feature is allowed or not in a specific
@@ -38,6 +39,26 @@ public interface AuthorizationFeatureService {
     boolean isAuthorized(Context context, AuthorizationFeature feature, BaseObjectRest object)
         throws SQLException, SearchServiceException;
 
+    /**
+     * Evaluate many features on many objects at once for the eperson in the provided context, or the anonymous user
+     * if not loggedin. The facts shared by the features (admin status, community or collection admin status and the
+     * policies of the objects) are computed once and reused by all the evaluations.
+     *
+     * @param context
+     *            the DSpace Context
+     * @param user
+     *            the user to report in the authorizations, it must be the current user of the context
+     * @param objects
+     *            the objects to check, null objects are skipped
+     * @param features
+     *            the features to check, or null to check all the features supporting the type of each object. Null
+     *            features are skipped
+     * @return the granted authorizations, by object and then by feature in the order of the requested lists
+     */
+    List<Authorization> findAuthorizations(Context context, EPerson user, List<BaseObjectRest> objects,
+                                           List<AuthorizationFeature> features)
+        throws SQLException, SearchServiceException;
+
     /**
      * Get all the authorization features defined in the system
      *
@@ -8,17 +8,28 @@
 package org.dspace.app.rest.authorization.impl;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.dspace.app.rest.authorization.Authorization;
 import org.dspace.app.rest.authorization.AuthorizationFeature;
 import org.dspace.app.rest.authorization.AuthorizationFeatureService;
 import org.dspace.app.rest.model.BaseObjectRest;
 import org.dspace.app.rest.utils.Utils;
+import org.dspace.authorize.service.AuthorizeService;
+import org.dspace.content.DSpaceObject;
+import org.dspace.core.Constants;
 import org.dspace.core.Context;
 import org.dspace.discovery.SearchServiceException;
+import org.dspace.eperson.EPerson;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
@@ -31,9 +42,22 @@ import org.springframework.stereotype.Service;
  */
 @Service
 public class AuthorizationFeatureServiceImpl implements AuthorizationFeatureService {
+
+    private static final Logger log = LogManager.getLogger();
+
+    /**
+     * The actions checked by the features, whose policies are loaded for all the objects before the evaluation
+     */
+    private static final List<Integer> PREFETCHED_ACTIONS = List.of(Constants.READ, Constants.WRITE, Constants.ADD,
+                                                                    Constants.REMOVE, Constants.DELETE,
+                                                                    Constants.ADMIN);
+
     @Autowired
     private List<AuthorizationFeature> features;
 
+    @Autowired
+    private AuthorizeService authorizeService;
+
     @Autowired
     private Utils utils;
 
@@ -53,6 +77,83 @@ public class AuthorizationFeatureServiceImpl implements AuthorizationFeatureServ
         return feature.isAuthorized(context, object);
     }
 
+    /**
+     * The evaluation runs with the context in read-only mode, so that the authorization decisions, the group
+     * memberships and the community/collection admin checks are cached in the context and shared by the features.
+     * The previous mode (and so the content of the caches) is restored afterwards.
+     */
+    @Override
+    public List<Authorization> findAuthorizations(Context context, EPerson user, List<BaseObjectRest> objects,
+                                                  List<AuthorizationFeature> features)
+        throws SQLException, SearchServiceException {
+        List<Authorization> authorizations = new ArrayList<>();
+        // time spent by each feature, in nanoseconds
+        Map<String, Long> timings = new LinkedHashMap<>();
+        long start = System.nanoTime();
+
+        Context.Mode originalMode = context.getCurrentMode();
+        context.setMode(Context.Mode.READ_ONLY);
+        try {
+            prefetch(context, objects);
+            for (BaseObjectRest object : objects) {
+                if (object == null) {
+                    continue;
+                }
+                List<AuthorizationFeature> objectFeatures = features != null ? features
+                    : findByResourceType(object.getUniqueType());
+                for (AuthorizationFeature feature : objectFeatures) {
+                    if (feature == null) {
+                        continue;
+                    }
+                    long featureStart = System.nanoTime();
+                    if (isAuthorized(context, feature, object)) {
+                        authorizations.add(new Authorization(user, feature, object));
+                    }
+                    timings.merge(feature.getName(), System.nanoTime() - featureStart, Long::sum);
+                }
+            }
+        } finally {
+            context.setMode(originalMode);
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug("Evaluated {} features on {} objects in {} ms, by feature: {}", timings.size(), objects.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), timings.entrySet().stream()
+                    .map(e -> e.getKey() + "=" + TimeUnit.NANOSECONDS.toMillis(e.getValue()) + "ms")
+                    .collect(Collectors.joining(", ")));
+        }
+        return authorizations;
+    }
+
+    /**
+     * Compute the facts shared by the features: the admin status of the current user and the decisions for the
+     * policies of the objects, loaded with a single query. They are cached in the (read-only) context.
+     */
+    private void prefetch(Context context, List<BaseObjectRest> objects) throws SQLException {
+        if (authorizeService.isAdmin(context)) {
+            // every policy check is granted without looking at the policies
+            return;
+        }
+        List<DSpaceObject> dsos = new ArrayList<>();
+        for (BaseObjectRest object : objects) {
+            if (object == null) {
+                continue;
+            }
+            try {
+                Object dso = utils.getDSpaceAPIObjectFromRest(context, object);
+                if (dso instanceof DSpaceObject) {
+                    dsos.add((DSpaceObject) dso);
+                }
+            } catch (IllegalArgumentException e) {
+                // not backed by a repository, the features will deal with it
+                log.debug("Unable to load the object {} to prefetch its policies", object.getId(), e);
+            }
+        }
+        if (!dsos.isEmpty()) {
+            authorizeService.authorizeActionBooleans(context, dsos, PREFETCHED_ACTIONS);
+        }
+    }
+
     @Override
     public List<AuthorizationFeature> findAll() {
         return features;
@@ -13,12 +13,21 @@ import java.util.Arrays;
 
 import org.apache.solr.client.solrj.SolrServerException;
 import org.dspace.app.rest.DiscoverableEndpointsService;
+import org.dspace.app.rest.health.AssetCacheHealthIndicator;
+import org.dspace.app.rest.health.AuthorizationCacheHealthIndicator;
 import org.dspace.app.rest.health.GeoIpHealthIndicator;
+import org.dspace.app.rest.health.IndexQueueHealthIndicator;
 import org.dspace.app.rest.health.SEOHealthIndicator;
 import org.dspace.app.rest.health.SolrHealthIndicator;
+import org.dspace.app.rest.health.StatisticsIngestionHealthIndicator;
 import org.dspace.authority.AuthoritySolrServiceImpl;
+import org.dspace.authorize.AuthorizationDecisionCache;
 import org.dspace.discovery.SolrSearchCore;
+import org.dspace.discovery.queue.service.IndexQueueService;
+import org.dspace.services.ConfigurationService;
 import org.dspace.statistics.SolrStatisticsCore;
+import org.dspace.statistics.service.SolrLoggerService;
+import org.dspace.storage.bitstore.service.BitstreamStorageService;
 import org.dspace.xoai.services.api.solr.SolrServerResolver;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
@@ -95,6 +104,34 @@ public class ActuatorConfiguration {
         return new GeoIpHealthIndicator();
     }
 
+    @Bean
+    @ConditionalOnEnabledHealthIndicator("indexQueue")
+    @ConditionalOnProperty("discovery.indexing.queue.enabled")
+    public IndexQueueHealthIndicator indexQueueHealthIndicator(IndexQueueService indexQueueService,
+                                                               ConfigurationService configurationService) {
+        return new IndexQueueHealthIndicator(indexQueueService, configurationService);
+    }
+
+    @Bean
+    @ConditionalOnEnabledHealthIndicator("statisticsIngestion")
+    @ConditionalOnProperty("solr-statistics.ingestion.enabled")
+    public StatisticsIngestionHealthIndicator statisticsIngestionHealthIndicator(SolrLoggerService solrLoggerService) {
+        return new StatisticsIngestionHealthIndicator(solrLoggerService);
+    }
+
+    @Bean
+    @ConditionalOnEnabledHealthIndicator("assetCache")
+    public AssetCacheHealthIndicator assetCacheHealthIndicator(BitstreamStorageService bitstreamStorageService) {
+        return new AssetCacheHealthIndicator(bitstreamStorageService);
+    }
+
+    @Bean
+    @ConditionalOnEnabledHealthIndicator("authorizationCache")
+    public AuthorizationCacheHealthIndicator authorizationCacheHealthIndicator(
+        AuthorizationDecisionCache authorizationDecisionCache) {
+        return new AuthorizationCacheHealthIndicator(authorizationDecisionCache);
+    }
+
     public String getActuatorBasePath() {
         return actuatorBasePath;
     }
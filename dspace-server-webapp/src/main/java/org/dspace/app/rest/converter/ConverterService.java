@@ -11,11 +11,16 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
+import java.util.regex.Pattern;
 
 import jakarta.annotation.Nullable;
 import jakarta.annotation.PostConstruct;
@@ -32,7 +37,15 @@ import org.dspace.app.rest.projection.DefaultProjection;
 import org.dspace.app.rest.projection.Projection;
 import org.dspace.app.rest.repository.DSpaceRestRepository;
 import org.dspace.app.rest.security.WebSecurityExpressionEvaluator;
+import org.dspace.app.rest.utils.ContextUtil;
 import org.dspace.app.rest.utils.Utils;
+import org.dspace.authorize.service.AuthorizeService;
+import org.dspace.content.DSpaceObject;
+import org.dspace.content.Item;
+import org.dspace.content.service.ItemService;
+import org.dspace.core.Constants;
+import org.dspace.core.Context;
+import org.dspace.discovery.ItemListing;
 import org.dspace.services.RequestService;
 import org.springframework.aop.support.AopUtils;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -64,6 +77,12 @@ public class ConverterService {
 
     private static final Logger log = LogManager.getLogger();
 
+    /**
+     * A READ (or METADATA_READ) permission on the converted object in a pre-authorize expression
+     */
+    private static final Pattern READ_PERMISSION =
+        Pattern.compile("hasPermission\\(#id, '\\w+', '(METADATA_)?READ'\\)");
+
     private final Map<String, Projection> projectionMap = new HashMap<>();
 
     private final Map<Class, DSpaceConverter> converterMap = new HashMap<>();
@@ -88,6 +107,12 @@ public class ConverterService {
     @Autowired
     private RequestService requestService;
 
+    @Autowired
+    private AuthorizeService authorizeService;
+
+    @Autowired
+    private ItemService itemService;
+
     /**
      * Converts the given model object to a rest object, using the appropriate {@link DSpaceConverter} and
      * the given projection.
@@ -107,6 +132,37 @@ public class ConverterService {
      * @throws ClassCastException if the converter's return type is not compatible with the inferred return type.
      */
     public <M, R> R toRest(M modelObject, Projection projection) {
+        Set<String> readAuthorized = modelObject instanceof ItemListing ? getReadAuthorizedIds(List.of(modelObject))
+            : Set.of();
+        return toRest(modelObject, projection, readAuthorized);
+    }
+
+    /**
+     * Converts the given model objects to rest objects like {@link #toRest(Object, Projection)}, checking the READ
+     * permission of the current user on all the DSpace objects at once beforehand.
+     *
+     * @param modelObjects the model objects.
+     * @param projection the projection to use.
+     * @param <M> the model object class.
+     * @param <R> the rest object class.
+     * @return the rest objects, in the same order as the model objects, with null for the objects which the current
+     *         user isn't allowed to retrieve.
+     */
+    public <M, R> List<R> toRestList(List<M> modelObjects, Projection projection) {
+        Set<String> readAuthorized = getReadAuthorizedIds(modelObjects);
+        List<R> restObjects = new ArrayList<>(modelObjects.size());
+        for (M modelObject : modelObjects) {
+            restObjects.add(toRest(modelObject, projection, readAuthorized));
+        }
+        return restObjects;
+    }
+
+    private <M, R> R toRest(M modelObject, Projection projection, Set<String> readAuthorized) {
+        if (modelObject instanceof ItemListing
+            && !readAuthorized.contains(((ItemListing) modelObject).getID().toString())) {
+            log.debug("Access denied on the listing of item {}", ((ItemListing) modelObject).getID());
+            return null;
+        }
         M transformedModel = projection.transformModel(modelObject);
         DSpaceConverter<M, R> converter = requireConverter(modelObject.getClass());
         R restObject = converter.convert(transformedModel, projection);
@@ -116,7 +172,9 @@ public class ConverterService {
             // rest object. It'll only return the REST object if the permission is granted.
             // If permission isn't granted, it'll return null
             String preAuthorizeValue = getPreAuthorizeAnnotationForBaseObject(baseObjectRest);
-            if (!webSecurityExpressionEvaluator
+            boolean grantedByRead = readAuthorized.contains(String.valueOf(baseObjectRest.getId()))
+                && isGrantedByRead(preAuthorizeValue);
+            if (!grantedByRead && !webSecurityExpressionEvaluator
                 .evaluate(preAuthorizeValue, requestService.getCurrentRequest().getHttpServletRequest(),
                           requestService.getCurrentRequest().getHttpServletResponse(),
                           String.valueOf(baseObjectRest.getId()))) {
@@ -131,6 +189,66 @@ public class ConverterService {
         return restObject;
     }
 
+    /**
+     * Check the READ permission of the current user on all the DSpace objects among the given model objects with a
+     * single batch evaluation. The search core may not be up to date, so the READ permission on the items of the
+     * {@link ItemListing}s is checked too, and a listing is only readable if its item is still archived and not
+     * withdrawn.
+     *
+     * @return the ids of the DSpace objects the current user can READ
+     */
+    private Set<String> getReadAuthorizedIds(List<?> modelObjects) {
+        Set<String> readAuthorized = new HashSet<>();
+        List<DSpaceObject> dsos = new ArrayList<>();
+        List<UUID> listingIds = new ArrayList<>();
+        for (Object modelObject : modelObjects) {
+            if (modelObject instanceof DSpaceObject) {
+                dsos.add((DSpaceObject) modelObject);
+            } else if (modelObject instanceof ItemListing) {
+                listingIds.add(((ItemListing) modelObject).getID());
+            }
+        }
+        if (dsos.size() < 2 && listingIds.isEmpty()) {
+            return readAuthorized;
+        }
+        try {
+            Context context = ContextUtil.obtainContext(requestService.getCurrentRequest().getHttpServletRequest());
+            if (!listingIds.isEmpty()) {
+                for (Item item : itemService.findByIds(context, listingIds)) {
+                    if (item.isArchived() && !item.isWithdrawn()) {
+                        dsos.add(item);
+                    }
+                }
+            }
+            Map<UUID, Boolean> decisions = authorizeService.authorizeActionBooleans(context, dsos, Constants.READ);
+            for (Map.Entry<UUID, Boolean> decision : decisions.entrySet()) {
+                if (decision.getValue()) {
+                    readAuthorized.add(decision.getKey().toString());
+                }
+            }
+        } catch (SQLException e) {
+            log.warn("Unable to check the READ permission on {} objects at once", dsos.size(), e);
+        }
+        return readAuthorized;
+    }
+
+    /**
+     * @return true if the given pre-authorize expression is granted when the current user is allowed to READ the
+     *         object, i.e. when it is an alternative of permissions of which one is READ (or METADATA_READ, which
+     *         READ implies) on the object
+     */
+    private boolean isGrantedByRead(String preAuthorizeValue) {
+        if (preAuthorizeValue == null || preAuthorizeValue.contains("&&")) {
+            return false;
+        }
+        for (String alternative : preAuthorizeValue.split("\\|\\|")) {
+            if (READ_PERMISSION.matcher(alternative.trim()).matches()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private String getPreAuthorizeAnnotationForBaseObject(BaseObjectRest restObject) {
         Annotation preAuthorize = getAnnotationForRestObject(restObject);
         if (preAuthorize == null) {
@@ -207,8 +325,7 @@ public class ConverterService {
         }
         List<M> pageableObjects = utils.getPageObjectList(modelObjects, pageable);
         List<R> transformedList = new LinkedList<>();
-        for (M modelObject : pageableObjects) {
-            R transformedObject = toRest(modelObject, projection);
+        for (R transformedObject : this.<M, R>toRestList(pageableObjects, projection)) {
             if (transformedObject != null) {
                 transformedList.add(transformedObject);
             }
@@ -231,8 +348,7 @@ public class ConverterService {
      */
     public <M, R> Page<R> toRestPage(List<M> modelObjects, Pageable pageable, long total, Projection projection) {
         List<R> transformedList = new LinkedList<>();
-        for (M modelObject : modelObjects) {
-            R transformedObject = toRest(modelObject, projection);
+        for (R transformedObject : this.<M, R>toRestList(modelObjects, projection)) {
             if (transformedObject != null) {
                 transformedList.add(transformedObject);
             }
@@ -7,10 +7,12 @@
  */
 package org.dspace.app.rest.converter;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
 import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.collections4.ListUtils;
 import org.apache.commons.collections4.MapUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -75,12 +77,19 @@ public class DiscoverResultConverter {
 
     private void addSearchResults(final DiscoverResult searchResult, final SearchResultsRest resultsRest,
                                   final Projection projection) {
-        for (IndexableObject dspaceObject : CollectionUtils.emptyIfNull(searchResult.getIndexableObjects())) {
+        List<IndexableObject> indexableObjects = ListUtils.emptyIfNull(searchResult.getIndexableObjects());
+        //Convert the DSpace Objects to their REST model, checking the permissions on all of them at once
+        List<Object> indexedObjects = new ArrayList<>(indexableObjects.size());
+        for (IndexableObject indexableObject : indexableObjects) {
+            indexedObjects.add(indexableObject.getIndexedObject());
+        }
+        List<RestAddressableModel> restObjects = converter.toRestList(indexedObjects, projection);
+
+        for (int i = 0; i < indexableObjects.size(); i++) {
+            IndexableObject dspaceObject = indexableObjects.get(i);
             SearchResultEntryRest resultEntry = new SearchResultEntryRest();
             resultEntry.setProjection(projection);
-
-            //Convert the DSpace Object to its REST model
-            resultEntry.setIndexableObject(convertDSpaceObject(dspaceObject, projection));
+            resultEntry.setIndexableObject(restObjects.get(i));
 
             //Add hit highlighting for this DSO if present
             DiscoverResult.IndexableObjectHighlightResult highlightedResults = searchResult
@@ -96,11 +105,6 @@ public class DiscoverResultConverter {
         }
     }
 
-    private RestAddressableModel convertDSpaceObject(final IndexableObject indexableObject,
-                                                     final Projection projection) {
-        return converter.toRest(indexableObject.getIndexedObject(), projection);
-    }
-
     private void setRequestInformation(final Context context, final String query, final List<String> dsoTypes,
                                        final String configurationName, final String scope,
                                        final List<SearchFilter> searchFilters, final Pageable page,
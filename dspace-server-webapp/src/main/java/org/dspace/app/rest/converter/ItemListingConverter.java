@@ -0,0 +1,76 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.app.rest.converter;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.lang3.StringUtils;
+import org.dspace.app.rest.model.ItemRest;
+import org.dspace.app.rest.model.MetadataRest;
+import org.dspace.app.rest.model.MetadataValueRest;
+import org.dspace.app.rest.projection.Projection;
+import org.dspace.discovery.IndexableObject;
+import org.dspace.discovery.ItemListing;
+import org.springframework.stereotype.Component;
+
+/**
+ * This is the converter from the {@link ItemListing} stored in the search core to the REST data model of the item.
+ * The item is not loaded from the database: only the metadata stored in the listing are returned, as visible to an
+ * anonymous user.
+ */
+@Component
+public class ItemListingConverter implements IndexableObjectConverter<ItemListing, ItemRest> {
+
+    private static final String ENTITY_TYPE_FIELD = "dspace.entity.type";
+
+    @Override
+    public ItemRest convert(ItemListing obj, Projection projection) {
+        ItemRest item = new ItemRest();
+        item.setProjection(projection);
+        item.setUuid(obj.getID().toString());
+        item.setHandle(obj.getHandle());
+        item.setName(obj.getName());
+        // only archived items which are not withdrawn have a listing
+        item.setInArchive(true);
+        item.setWithdrawn(false);
+        item.setDiscoverable(obj.isDiscoverable());
+        item.setLastModified(obj.getLastModified());
+
+        MetadataRest<MetadataValueRest> metadata = new MetadataRest<>();
+        Map<String, List<MetadataValueRest>> values = metadata.getMap();
+        for (ItemListing.Value value : obj.getMetadata()) {
+            MetadataValueRest valueRest = new MetadataValueRest(value.getValue());
+            valueRest.setLanguage(value.getLanguage());
+            valueRest.setAuthority(value.getAuthority());
+            valueRest.setConfidence(value.getConfidence());
+            valueRest.setPlace(value.getPlace());
+            values.computeIfAbsent(value.getField(), field -> new ArrayList<>()).add(valueRest);
+        }
+        values.values().forEach(list -> list.sort(Comparator.comparingInt(MetadataValueRest::getPlace)));
+        item.setMetadata(metadata);
+
+        List<MetadataValueRest> entityTypes = values.get(ENTITY_TYPE_FIELD);
+        if (entityTypes != null && StringUtils.isNotBlank(entityTypes.get(0).getValue())) {
+            item.setEntityType(entityTypes.get(0).getValue());
+        }
+        return item;
+    }
+
+    @Override
+    public Class<ItemListing> getModelClass() {
+        return ItemListing.class;
+    }
+
+    @Override
+    public boolean supportsModel(IndexableObject idxo) {
+        return idxo.getIndexedObject() instanceof ItemListing;
+    }
+}
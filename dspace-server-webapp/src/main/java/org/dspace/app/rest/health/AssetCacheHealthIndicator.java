@@ -0,0 +1,61 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.app.rest.health;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.dspace.storage.bitstore.BitStoreService;
+import org.dspace.storage.bitstore.BitstreamStorageServiceImpl;
+import org.dspace.storage.bitstore.CachingBitStoreService;
+import org.dspace.storage.bitstore.service.BitstreamStorageService;
+import org.springframework.boot.actuate.health.AbstractHealthIndicator;
+import org.springframework.boot.actuate.health.Health.Builder;
+import org.springframework.boot.actuate.health.HealthIndicator;
+
+/**
+ * Implementation of {@link HealthIndicator} that reports the hit, miss and eviction counts of the local asset caches
+ * ({@link CachingBitStoreService}) configured in the bitstream storage service, by store number.
+ */
+public class AssetCacheHealthIndicator extends AbstractHealthIndicator {
+
+    private final BitstreamStorageService bitstreamStorageService;
+
+    public AssetCacheHealthIndicator(BitstreamStorageService bitstreamStorageService) {
+        this.bitstreamStorageService = bitstreamStorageService;
+    }
+
+    @Override
+    protected void doHealthCheck(Builder builder) throws Exception {
+        builder.up();
+        if (!(bitstreamStorageService instanceof BitstreamStorageServiceImpl)) {
+            return;
+        }
+        Map<Integer, BitStoreService> stores = ((BitstreamStorageServiceImpl) bitstreamStorageService).getStores();
+        for (Map.Entry<Integer, BitStoreService> store : stores.entrySet()) {
+            if (store.getValue() instanceof CachingBitStoreService) {
+                builder.withDetail("store" + store.getKey(), getDetails((CachingBitStoreService) store.getValue()));
+            }
+        }
+    }
+
+    private Map<String, Object> getDetails(CachingBitStoreService cache) {
+        long hits = cache.getHits();
+        long misses = cache.getMisses();
+        Map<String, Object> details = new LinkedHashMap<>();
+        details.put("hits", hits);
+        details.put("misses", misses);
+        details.put("hitRatio", hits + misses > 0 ? (double) hits / (hits + misses) : 0d);
+        details.put("evictions", cache.getEvictions());
+        details.put("checksumFailures", cache.getChecksumFailures());
+        details.put("entries", cache.getEntryCount());
+        details.put("sizeBytes", cache.getSize());
+        return details;
+    }
+
+}
@@ -0,0 +1,40 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.app.rest.health;
+
+import org.dspace.authorize.AuthorizationDecisionCache;
+import org.springframework.boot.actuate.health.AbstractHealthIndicator;
+import org.springframework.boot.actuate.health.Health.Builder;
+import org.springframework.boot.actuate.health.HealthIndicator;
+
+/**
+ * Implementation of {@link HealthIndicator} that reports the hit, miss and invalidation counts of the cache of
+ * authorization decisions ({@link AuthorizationDecisionCache}).
+ */
+public class AuthorizationCacheHealthIndicator extends AbstractHealthIndicator {
+
+    private final AuthorizationDecisionCache authorizationDecisionCache;
+
+    public AuthorizationCacheHealthIndicator(AuthorizationDecisionCache authorizationDecisionCache) {
+        this.authorizationDecisionCache = authorizationDecisionCache;
+    }
+
+    @Override
+    protected void doHealthCheck(Builder builder) throws Exception {
+        long hits = authorizationDecisionCache.getHits();
+        long misses = authorizationDecisionCache.getMisses();
+        builder.up()
+               .withDetail("enabled", authorizationDecisionCache.isEnabled())
+               .withDetail("hits", hits)
+               .withDetail("misses", misses)
+               .withDetail("hitRatio", hits + misses > 0 ? (double) hits / (hits + misses) : 0d)
+               .withDetail("invalidations", authorizationDecisionCache.getInvalidations())
+               .withDetail("objects", authorizationDecisionCache.getSize());
+    }
+
+}
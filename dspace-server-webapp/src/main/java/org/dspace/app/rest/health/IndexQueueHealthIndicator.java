@@ -0,0 +1,57 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.app.rest.health;
+
+import static org.dspace.app.rest.configuration.ActuatorConfiguration.UP_WITH_ISSUES_STATUS;
+
+import java.time.Duration;
+
+import org.dspace.core.Context;
+import org.dspace.discovery.queue.service.IndexQueueService;
+import org.dspace.services.ConfigurationService;
+import org.springframework.boot.actuate.health.AbstractHealthIndicator;
+import org.springframework.boot.actuate.health.Health.Builder;
+import org.springframework.boot.actuate.health.HealthIndicator;
+
+/**
+ * Implementation of {@link HealthIndicator} that reports the depth and lag of the discovery indexing queue. The
+ * status is UP_WITH_ISSUES when the oldest queued record is older than discovery.indexing.queue.lag.warning seconds.
+ */
+public class IndexQueueHealthIndicator extends AbstractHealthIndicator {
+
+    private final IndexQueueService indexQueueService;
+
+    private final ConfigurationService configurationService;
+
+    public IndexQueueHealthIndicator(IndexQueueService indexQueueService, ConfigurationService configurationService) {
+        this.indexQueueService = indexQueueService;
+        this.configurationService = configurationService;
+    }
+
+    @Override
+    protected void doHealthCheck(Builder builder) throws Exception {
+        Context context = new Context(Context.Mode.READ_ONLY);
+        try {
+            long queued = indexQueueService.countQueued(context);
+            Duration lag = indexQueueService.getLag(context);
+            long warning = configurationService.getLongProperty("discovery.indexing.queue.lag.warning", 600);
+            if (lag.getSeconds() > warning) {
+                builder.status(UP_WITH_ISSUES_STATUS)
+                       .withDetail("reason", "The oldest record has been queued for more than " + warning + " seconds");
+            } else {
+                builder.up();
+            }
+            builder.withDetail("enabled", indexQueueService.isEnabled())
+                   .withDetail("queued", queued)
+                   .withDetail("lagSeconds", lag.getSeconds());
+        } finally {
+            context.complete();
+        }
+    }
+
+}
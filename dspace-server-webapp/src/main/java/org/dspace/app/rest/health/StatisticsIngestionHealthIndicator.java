@@ -0,0 +1,45 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.app.rest.health;
+
+import org.dspace.statistics.SolrLoggerServiceImpl;
+import org.dspace.statistics.StatisticsIngestionQueue;
+import org.dspace.statistics.service.SolrLoggerService;
+import org.springframework.boot.actuate.health.AbstractHealthIndicator;
+import org.springframework.boot.actuate.health.Health.Builder;
+import org.springframework.boot.actuate.health.HealthIndicator;
+
+/**
+ * Implementation of {@link HealthIndicator} that reports the size and the accepted, dropped, recorded and failed
+ * counts of the queue of the usage events recorded in the background ({@link StatisticsIngestionQueue}).
+ */
+public class StatisticsIngestionHealthIndicator extends AbstractHealthIndicator {
+
+    private final SolrLoggerService solrLoggerService;
+
+    public StatisticsIngestionHealthIndicator(SolrLoggerService solrLoggerService) {
+        this.solrLoggerService = solrLoggerService;
+    }
+
+    @Override
+    protected void doHealthCheck(Builder builder) throws Exception {
+        builder.up();
+        StatisticsIngestionQueue queue = solrLoggerService instanceof SolrLoggerServiceImpl
+            ? ((SolrLoggerServiceImpl) solrLoggerService).getIngestionQueue() : null;
+        builder.withDetail("enabled", queue != null);
+        if (queue == null) {
+            return;
+        }
+        builder.withDetail("queued", queue.getSize())
+               .withDetail("accepted", queue.getAccepted())
+               .withDetail("dropped", queue.getDropped())
+               .withDetail("recorded", queue.getRecorded())
+               .withDetail("failed", queue.getFailed());
+    }
+
+}
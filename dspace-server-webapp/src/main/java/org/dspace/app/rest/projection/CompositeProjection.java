@@ -37,6 +37,13 @@ public class CompositeProjection extends AbstractProjection {
         return NAME;
     }
 
+    /**
+     * @return the combined projections, in the order they are applied
+     */
+    public List<Projection> getProjections() {
+        return projections;
+    }
+
     @Override
     public <T> T transformModel(T modelObject) {
         for (Projection projection : projections) {
@@ -0,0 +1,42 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.app.rest.projection;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Projection returning the items found by a search as stored in the search core, without loading them from the
+ * database. Only the metadata configured in {@code discovery.item-listing.metadata} are returned, as visible to an
+ * anonymous user. Withdrawn and non-archived items are still loaded from the database.
+ * As the search core may not be up to date, the READ permission on the items is still checked (in bulk), and
+ * no listing is returned for an item which has been withdrawn since it was indexed.
+ *
+ * Besides that, this does no transformation, and allows linking but not embedding of all subresources.
+ */
+@Component
+public class ListingProjection extends AbstractProjection {
+
+    public final static String NAME = "listing";
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    /**
+     * @param projection the projection of the request
+     * @return true if the given projection is, or combines, the listing projection
+     */
+    public static boolean isListing(Projection projection) {
+        if (projection instanceof CompositeProjection) {
+            return ((CompositeProjection) projection).getProjections().stream()
+                                                     .anyMatch(ListingProjection::isListing);
+        }
+        return projection != null && NAME.equals(projection.getName());
+    }
+}
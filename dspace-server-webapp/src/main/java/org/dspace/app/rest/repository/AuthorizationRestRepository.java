@@ -7,7 +7,6 @@
  */
 package org.dspace.app.rest.repository;
 
-import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
 
@@ -207,28 +206,25 @@ public class AuthorizationRestRepository extends DSpaceRestRepository<Authorizat
     private List<Authorization> findAuthorizationsByUUIDList(
         Context context,
         String type, List<String> uuidList, EPerson user,
-        List<String> featureNames) {
+        List<String> featureNames) throws SQLException {
 
         if (featureNames.isEmpty()) {
             return new ArrayList<>();
         }
 
-        List<Authorization> authorizations = new ArrayList<>();
-
         List<BaseObjectRest> objects = uuidList.stream()
             .map(uuid -> utils.getBaseObjectRestFromTypeAndUUID(context, type, uuid))
             .collect(Collectors.toList());
+        List<AuthorizationFeature> features = featureNames.stream()
+            .map(featureName -> authorizationFeatureService.find(featureName))
+            .collect(Collectors.toList());
 
-        objects.forEach(object ->
-            featureNames.forEach(featureName -> {
-                try {
-                    authorizations.addAll(authorizationsForObject(context, user, featureName, object));
-                } catch (Exception ex) {
-                    log.error("An error occurred during authorizations check");
-                    throw new RuntimeException(ex);
-                }
-            }));
-        return authorizations;
+        try {
+            return authorizationFeatureService.findAuthorizations(context, user, objects, features);
+        } catch (SearchServiceException ex) {
+            log.error("An error occurred during authorizations check");
+            throw new RuntimeException(ex);
+        }
     }
 
     private List<Authorization> findAuthorizationsForUri(
@@ -238,47 +234,11 @@ public class AuthorizationRestRepository extends DSpaceRestRepository<Authorizat
         String featureName) throws SQLException, SearchServiceException {
 
         BaseObjectRest restObject = utils.getBaseObjectRestFromUri(context, uri);
-        return authorizationsForObject(context, user, featureName, restObject);
-    }
-
-    private List<Authorization> authorizationsForObject(
-        Context context,
-        EPerson user, String featureName,
-        BaseObjectRest obj)
-        throws SQLException, SearchServiceException {
-
-        if (obj == null) {
-            return new ArrayList<>();
-        }
-
-        List<Authorization> authorizations;
+        List<AuthorizationFeature> features = null;
         if (isNotBlank(featureName)) {
-            authorizations = findByObjectAndFeature(context, user, obj, featureName);
-        } else {
-            List<AuthorizationFeature> features =
-                    authorizationFeatureService.findByResourceType(obj.getUniqueType());
-            authorizations = new ArrayList<>();
-            for (AuthorizationFeature f : features) {
-                if (authorizationFeatureService.isAuthorized(context, f, obj)) {
-                    authorizations.add(new Authorization(user, f, obj));
-                }
-            }
-        }
-
-        return authorizations;
-    }
-
-    private List<Authorization> findByObjectAndFeature(
-            Context context, EPerson user, BaseObjectRest obj, String featureName
-    ) throws SQLException, SearchServiceException {
-
-        AuthorizationFeature feature = authorizationFeatureService.find(featureName);
-
-        if (!authorizationFeatureService.isAuthorized(context, feature, obj)) {
-            return emptyList();
+            features = singletonList(authorizationFeatureService.find(featureName));
         }
-
-        return singletonList(new Authorization(user, feature, obj));
+        return authorizationFeatureService.findAuthorizations(context, user, singletonList(restObject), features);
     }
 
     /**
@@ -60,6 +60,7 @@ import org.dspace.discovery.SearchServiceException;
 import org.dspace.discovery.indexobject.IndexableCollection;
 import org.dspace.eperson.Group;
 import org.dspace.eperson.service.GroupService;
+import org.dspace.services.ConfigurationService;
 import org.dspace.workflow.WorkflowException;
 import org.dspace.workflow.WorkflowService;
 import org.dspace.xmlworkflow.WorkflowConfigurationException;
@@ -125,6 +126,9 @@ public class CollectionRestRepository extends DSpaceObjectRestRepository<Collect
     @Autowired
     private ObjectMapper mapper;
 
+    @Autowired
+    private ConfigurationService configurationService;
+
     public CollectionRestRepository(CollectionService dsoService) {
         super(dsoService);
     }
@@ -543,7 +547,9 @@ public class CollectionRestRepository extends DSpaceObjectRestRepository<Collect
         context.turnOffAuthorisationSystem();
         Group role = cs.createDefaultReadGroup(context, collection, "ITEM", Constants.DEFAULT_ITEM_READ);
         context.restoreAuthSystemState();
-        return populateGroupInformation(context, request, role);
+        GroupRest groupRest = populateGroupInformation(context, request, role);
+        inheritDefaultReadPolicies(context, collection);
+        return groupRest;
     }
 
     /**
@@ -562,6 +568,7 @@ public class CollectionRestRepository extends DSpaceObjectRestRepository<Collect
         groupService.delete(context, itemReadGroup);
         authorizeService.addPolicy(context, collection, Constants.DEFAULT_ITEM_READ,
                                    groupService.findByName(context, Group.ANONYMOUS));
+        inheritDefaultReadPolicies(context, collection);
     }
 
     /**
@@ -580,7 +587,9 @@ public class CollectionRestRepository extends DSpaceObjectRestRepository<Collect
         context.turnOffAuthorisationSystem();
         Group role = cs.createDefaultReadGroup(context, collection, "BITSTREAM", Constants.DEFAULT_BITSTREAM_READ);
         context.restoreAuthSystemState();
-        return populateGroupInformation(context, request, role);
+        GroupRest groupRest = populateGroupInformation(context, request, role);
+        inheritDefaultReadPolicies(context, collection);
+        return groupRest;
     }
 
     /**
@@ -599,9 +608,23 @@ public class CollectionRestRepository extends DSpaceObjectRestRepository<Collect
         groupService.delete(context, itemReadGroup);
         authorizeService.addPolicy(context, collection, Constants.DEFAULT_BITSTREAM_READ,
                                    groupService.findByName(context, Group.ANONYMOUS));
+        inheritDefaultReadPolicies(context, collection);
     }
 
-
+    /**
+     * When enabled by the core.authorization.inheritance.on-default-read-change property, apply the new default READ
+     * policies of the given Collection to all its items and their bitstreams, in the transaction of the request.
+     * @param context       The current context
+     * @param collection    The collection whose default READ policies changed
+     * @throws SQLException If something goes wrong
+     * @throws AuthorizeException   If something goes wrong
+     */
+    private void inheritDefaultReadPolicies(Context context, Collection collection)
+        throws SQLException, AuthorizeException {
+        if (configurationService.getBooleanProperty("core.authorization.inheritance.on-default-read-change", false)) {
+            itemService.inheritCollectionDefaultPolicies(context, collection);
+        }
+    }
 
     private GroupRest populateGroupInformation(Context context, HttpServletRequest request, Group group)
         throws SQLException, AuthorizeException {
@@ -16,6 +16,7 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.dspace.app.rest.utils.ContextUtil;
@@ -101,10 +102,28 @@ public class StatelessAuthenticationFilter extends BasicAuthenticationFilter {
         // If we have a valid Authentication, save it to Spring Security
         if (authentication != null) {
             SecurityContextHolder.getContext().setAuthentication(authentication);
+        } else if (isAnonymousRead(req)) {
+            // Nothing will be modified: don't track the changes to the loaded entities, and cache the authorizations
+            ContextUtil.obtainContext(req).setMode(Context.Mode.READ_ONLY);
         }
         chain.doFilter(req, res);
     }
 
+    /**
+     * Check whether an unauthenticated request only reads data, so that it can use a read-only Context. Requests to
+     * the authentication endpoints are excluded, as the login endpoints of external authentication methods are
+     * anonymous GET requests which create or update the EPerson logging in.
+     *
+     * @param request the current request, for which no authentication data was found
+     * @return true if the request can use a read-only Context
+     */
+    private boolean isAnonymousRead(HttpServletRequest request) {
+        String method = request.getMethod();
+        return ("GET".equals(method) || "HEAD".equals(method))
+            && !StringUtils.removeStart(request.getRequestURI(), request.getContextPath()).startsWith("/api/authn")
+            && configurationService.getBooleanProperty("rest.anonymous-read.read-only-context", false);
+    }
+
     /**
      * This method returns an Authentication object
      * This Authentication object will be attempted to be for the eperson with the uuid in the parameter. In case
@@ -10,7 +10,9 @@ package org.dspace.app.rest.security.jwt;
 import java.sql.SQLException;
 import java.text.ParseException;
 import java.time.Instant;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import com.nimbusds.jose.CompressionAlgorithm;
 import com.nimbusds.jose.EncryptionMethod;
@@ -32,6 +34,7 @@ import com.nimbusds.jwt.SignedJWT;
 import com.nimbusds.jwt.util.DateUtils;
 import jakarta.servlet.http.HttpServletRequest;
 import org.apache.commons.codec.binary.Base64;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -79,6 +82,11 @@ public abstract class JWTTokenHandler {
     private String generatedJwtKey;
     private String generatedEncryptionKey;
 
+    /**
+     * Tokens which were verified, by SHA-256 hash of the token, in access order
+     */
+    private final Map<String, VerifiedToken> verifiedTokens = new LinkedHashMap<>(16, 0.75f, true);
+
     /**
      * Get the configuration property key for the token secret.
      * @return the configuration property key
@@ -125,27 +133,45 @@ public abstract class JWTTokenHandler {
         if (StringUtils.isBlank(token)) {
             return null;
         }
-        // parse/decrypt the token
-        SignedJWT signedJWT = getSignedJWT(token);
-        // get the claims set from the parsed token
-        JWTClaimsSet jwtClaimsSet = signedJWT.getJWTClaimsSet();
-        // retrieve the EPerson from the claims set
-        EPerson ePerson = getEPerson(context, jwtClaimsSet);
-
-        // As long as the JWT is valid, parse all claims and return the EPerson
-        if (isValidToken(request, signedJWT, jwtClaimsSet, ePerson)) {
-
-            log.debug("Received valid token for username: {}", ePerson::getEmail);
+        String tokenHash = getVerificationCacheSize() > 0 ? DigestUtils.sha256Hex(token) : null;
+        VerifiedToken verifiedToken = tokenHash != null ? getVerifiedToken(tokenHash) : null;
 
-            for (JWTClaimProvider jwtClaimProvider : jwtClaimProviders) {
-                jwtClaimProvider.parseClaim(context, request, jwtClaimsSet);
+        JWTClaimsSet jwtClaimsSet;
+        EPerson ePerson;
+        if (verifiedToken != null) {
+            // the token was verified before, only check that it is still valid for the EPerson
+            jwtClaimsSet = verifiedToken.claimsSet;
+            ePerson = getEPerson(context, jwtClaimsSet);
+            if (!verifiedToken.isStillValid(ePerson)) {
+                removeVerifiedToken(tokenHash);
+                log.warn("{} tried to use an expired or non-valid token", getIpAddress(request));
+                return null;
             }
-
-            return ePerson;
         } else {
-            log.warn("{} tried to use an expired or non-valid token", getIpAddress(request));
-            return null;
+            // parse/decrypt the token
+            SignedJWT signedJWT = getSignedJWT(token);
+            // get the claims set from the parsed token
+            jwtClaimsSet = signedJWT.getJWTClaimsSet();
+            // retrieve the EPerson from the claims set
+            ePerson = getEPerson(context, jwtClaimsSet);
+
+            if (!isValidToken(request, signedJWT, jwtClaimsSet, ePerson)) {
+                log.warn("{} tried to use an expired or non-valid token", getIpAddress(request));
+                return null;
+            }
+            if (tokenHash != null) {
+                putVerifiedToken(tokenHash, new VerifiedToken(jwtClaimsSet, ePerson));
+            }
         }
+
+        // As long as the JWT is valid, parse all claims and return the EPerson
+        log.debug("Received valid token for username: {}", ePerson::getEmail);
+
+        for (JWTClaimProvider jwtClaimProvider : jwtClaimProviders) {
+            jwtClaimProvider.parseClaim(context, request, jwtClaimsSet);
+        }
+
+        return ePerson;
     }
 
     /**
@@ -199,6 +225,7 @@ public abstract class JWTTokenHandler {
             if (ePerson != null) {
                 ePerson.setSessionSalt("");
             }
+            removeVerifiedToken(DigestUtils.sha256Hex(token));
 
         }
     }
@@ -220,6 +247,23 @@ public abstract class JWTTokenHandler {
         return secret;
     }
 
+    /**
+     * Get the configuration property key for the maximum number of verified tokens to cache, the verification of
+     * the tokens isn't cached if there is none.
+     * @return the configuration property key, or null
+     */
+    protected String getVerificationCacheSizeConfigurationKey() {
+        return null;
+    }
+
+    /**
+     * @return the maximum number of verified tokens to cache, 0 if verified tokens aren't cached
+     */
+    public int getVerificationCacheSize() {
+        String key = getVerificationCacheSizeConfigurationKey();
+        return key != null ? configurationService.getIntProperty(key, 1000) : 0;
+    }
+
     public long getExpirationPeriod() {
         return configurationService.getLongProperty(getTokenExpirationConfigurationKey(), 1800000);
     }
@@ -288,6 +332,28 @@ public abstract class JWTTokenHandler {
         }
     }
 
+    private VerifiedToken getVerifiedToken(String tokenHash) {
+        synchronized (verifiedTokens) {
+            return verifiedTokens.get(tokenHash);
+        }
+    }
+
+    private void putVerifiedToken(String tokenHash, VerifiedToken verifiedToken) {
+        int maxSize = getVerificationCacheSize();
+        synchronized (verifiedTokens) {
+            verifiedTokens.put(tokenHash, verifiedToken);
+            while (verifiedTokens.size() > maxSize) {
+                verifiedTokens.remove(verifiedTokens.keySet().iterator().next());
+            }
+        }
+    }
+
+    private void removeVerifiedToken(String tokenHash) {
+        synchronized (verifiedTokens) {
+            verifiedTokens.remove(tokenHash);
+        }
+    }
+
     /**
      * Return the signed JWT.
      * If JWT encryption is enabled, decrypt the token and return.
@@ -436,4 +502,26 @@ public abstract class JWTTokenHandler {
         byte[] secretKey = bytesKeyGenerator.generateKey();
         return Base64.encodeBase64String(secretKey);
     }
+
+    /**
+     * The claims of a token whose signature was verified, and what the verification depended on: the token stays
+     * valid as long as it isn't expired and the signing key (which includes the session salt of the EPerson, reset
+     * on logout) is unchanged.
+     */
+    private class VerifiedToken {
+        private final JWTClaimsSet claimsSet;
+        private final String signingKeyHash;
+
+        private VerifiedToken(JWTClaimsSet claimsSet, EPerson ePerson) {
+            this.claimsSet = claimsSet;
+            this.signingKeyHash = DigestUtils.sha256Hex(buildSigningKey(ePerson));
+        }
+
+        private boolean isStillValid(EPerson ePerson) {
+            return ePerson != null && StringUtils.isNotBlank(ePerson.getSessionSalt())
+                && signingKeyHash.equals(DigestUtils.sha256Hex(buildSigningKey(ePerson)))
+                && DateUtils.isAfter(claimsSet.getExpirationTime(), java.util.Date.from(Instant.now()),
+                                     MAX_CLOCK_SKEW_SECONDS);
+        }
+    }
 }
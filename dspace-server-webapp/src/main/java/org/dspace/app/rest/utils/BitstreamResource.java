@@ -10,6 +10,8 @@ package org.dspace.app.rest.utils;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.sql.SQLException;
 import java.util.Set;
 import java.util.UUID;
@@ -92,9 +94,24 @@ public class BitstreamResource extends AbstractResource {
     public InputStream getInputStream() throws IOException {
         fetchDocument();
 
+        if (document.localPath() != null) {
+            return Files.newInputStream(document.localPath());
+        }
         return document.inputStream();
     }
 
+    /**
+     * Get the local file holding the bitstream, if its assetstore keeps the bitstreams on a local file system and no
+     * cover page is generated. Such a resource may be sent from its file, see {@link LocalFileTransfer}.
+     *
+     * @return the path of the file, or null if the content is only available as a stream
+     */
+    public Path getLocalPath() {
+        fetchDocument();
+
+        return document.localPath();
+    }
+
     @Override
     public String getFilename() {
         return name;
@@ -127,9 +144,7 @@ public class BitstreamResource extends AbstractResource {
                         coverPage.length,
                         new ByteArrayInputStream(coverPage));
             } else {
-                this.document = new BitstreamDocument(bitstream.getChecksum(),
-                        bitstream.getSizeBytes(),
-                        bitstreamService.retrieve(context, bitstream));
+                this.document = retrieveDocument(context, bitstream);
             }
         } catch (SQLException | AuthorizeException | IOException e) {
             throw new RuntimeException(e);
@@ -138,6 +153,24 @@ public class BitstreamResource extends AbstractResource {
         LOG.debug("fetched document {} {}", shouldGenerateCoverPage, document);
     }
 
+    /**
+     * Retrieve the content of the bitstream. When the bitstream is kept in a local file, the file is only opened when
+     * the content is read, and can be sent without copying it through the heap.
+     *
+     * @param context   the DSpace context
+     * @param bitstream the bitstream
+     * @return the document holding the content of the bitstream
+     */
+    BitstreamDocument retrieveDocument(Context context, Bitstream bitstream)
+            throws SQLException, AuthorizeException, IOException {
+        Path localPath = bitstreamService.retrieveLocalPath(context, bitstream);
+        if (localPath != null) {
+            return new BitstreamDocument(bitstream.getChecksum(), bitstream.getSizeBytes(), null, localPath);
+        }
+        return new BitstreamDocument(bitstream.getChecksum(), bitstream.getSizeBytes(),
+                bitstreamService.retrieve(context, bitstream));
+    }
+
     String etag(Bitstream bitstream) {
 
          /* Ideally we would calculate the md5 checksum based on the document with coverpage.
@@ -165,5 +198,9 @@ public class BitstreamResource extends AbstractResource {
         return context;
     }
 
-    record BitstreamDocument(String etag, long length, InputStream inputStream) {}
+    record BitstreamDocument(String etag, long length, InputStream inputStream, Path localPath) {
+        BitstreamDocument(String etag, long length, InputStream inputStream) {
+            this(etag, length, inputStream, null);
+        }
+    }
 }
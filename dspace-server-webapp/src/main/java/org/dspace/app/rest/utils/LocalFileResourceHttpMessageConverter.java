@@ -0,0 +1,45 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.app.rest.utils;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.ResourceHttpMessageConverter;
+
+/**
+ * {@link ResourceHttpMessageConverter} which sends {@link BitstreamResource}s kept in a local file from that file,
+ * with the sendfile support of the servlet container when available (see {@link LocalFileTransfer}). All other
+ * resources are written as usual.
+ */
+public class LocalFileResourceHttpMessageConverter extends ResourceHttpMessageConverter {
+
+    @Override
+    protected void writeContent(Resource resource, HttpOutputMessage outputMessage)
+        throws IOException, HttpMessageNotWritableException {
+        Path localPath = getLocalPath(resource);
+        if (localPath == null) {
+            super.writeContent(resource, outputMessage);
+            return;
+        }
+        LocalFileTransfer.transfer(localPath, 0, resource.contentLength(), outputMessage);
+    }
+
+    /**
+     * @return the local file of the given resource, or null if it should be streamed
+     */
+    static Path getLocalPath(Resource resource) {
+        if (resource instanceof BitstreamResource && LocalFileTransfer.isEnabled()) {
+            return ((BitstreamResource) resource).getLocalPath();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,44 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.app.rest.utils;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.springframework.core.io.support.ResourceRegion;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.ResourceRegionHttpMessageConverter;
+
+/**
+ * {@link ResourceRegionHttpMessageConverter} which answers (single) Range requests on {@link BitstreamResource}s kept
+ * in a local file by sending the requested range from its position in the file (see {@link LocalFileTransfer}),
+ * instead of opening a stream and skipping to the start of the range.
+ */
+public class LocalFileResourceRegionHttpMessageConverter extends ResourceRegionHttpMessageConverter {
+
+    @Override
+    protected void writeResourceRegion(ResourceRegion region, HttpOutputMessage outputMessage) throws IOException {
+        Path localPath = LocalFileResourceHttpMessageConverter.getLocalPath(region.getResource());
+        if (localPath == null) {
+            super.writeResourceRegion(region, outputMessage);
+            return;
+        }
+
+        long start = region.getPosition();
+        long resourceLength = region.getResource().contentLength();
+        long end = Math.min(start + region.getCount() - 1, resourceLength - 1);
+        long rangeLength = end - start + 1;
+
+        HttpHeaders responseHeaders = outputMessage.getHeaders();
+        responseHeaders.add("Content-Range", "bytes " + start + '-' + end + '/' + resourceLength);
+        responseHeaders.setContentLength(rangeLength);
+
+        LocalFileTransfer.transfer(localPath, start, rangeLength, outputMessage);
+    }
+}
@@ -0,0 +1,95 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.app.rest.utils;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.dspace.services.factory.DSpaceServicesFactory;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Sends (a byte range of) a bitstream kept in a local file.
+ * <p>
+ * When the servlet container supports it (Tomcat's "sendfile" request attributes), the response body is left to the
+ * container which sends the file with the sendfile system call, without copying it through the JVM. Otherwise the
+ * file is written with {@link FileChannel#transferTo(long, long, WritableByteChannel)} to a channel wrapping the
+ * response output stream: this is an ordinary copy through a buffer in the JVM, whose only gain over streaming the
+ * bitstream is that a byte range is read at its position instead of skipping through the file.
+ */
+public final class LocalFileTransfer {
+
+    private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private LocalFileTransfer() {
+    }
+
+    /**
+     * @return true if bitstreams kept in local files should be sent from their file (webui.content.zero-copy.enabled)
+     */
+    public static boolean isEnabled() {
+        return DSpaceServicesFactory.getInstance().getConfigurationService()
+                                    .getBooleanProperty("webui.content.zero-copy.enabled", false);
+    }
+
+    /**
+     * Send the given byte range of the file as response body. The response headers (including the Content-Length)
+     * must be set before.
+     *
+     * @param file          the file to send
+     * @param position      the position of the first byte to send
+     * @param count         the number of bytes to send
+     * @param outputMessage the response
+     * @throws IOException if the file can't be read or the response can't be written
+     */
+    public static void transfer(Path file, long position, long count, HttpOutputMessage outputMessage)
+        throws IOException {
+        HttpServletRequest request = getCurrentRequest();
+        if (request != null && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+            request.setAttribute(SENDFILE_FILENAME, file.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, position);
+            request.setAttribute(SENDFILE_END, position + count);
+            // Only write the headers, the container sends the file once the request has been handled
+            outputMessage.getBody();
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            // Don't close the target: it would close the response output stream
+            WritableByteChannel target = Channels.newChannel(outputMessage.getBody());
+            long transferred = 0;
+            while (transferred < count) {
+                long written = channel.transferTo(position + transferred, count - transferred, target);
+                if (written <= 0) {
+                    throw new EOFException("Unexpected end of file " + file + " at byte " + (position + transferred));
+                }
+                transferred += written;
+            }
+        }
+    }
+
+    private static HttpServletRequest getCurrentRequest() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes) {
+            return ((ServletRequestAttributes) attributes).getRequest();
+        }
+        return null;
+    }
+}
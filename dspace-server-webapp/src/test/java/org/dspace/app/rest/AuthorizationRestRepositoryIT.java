@@ -8,18 +8,22 @@
 package org.dspace.app.rest;
 
 import static com.jayway.jsonpath.matchers.JsonPathMatchers.hasJsonPath;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.allOf;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.nullValue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 import java.util.function.Supplier;
 
@@ -59,6 +63,7 @@ import org.dspace.content.Item;
 import org.dspace.content.Site;
 import org.dspace.content.factory.ContentServiceFactory;
 import org.dspace.content.service.SiteService;
+import org.dspace.core.Context;
 import org.dspace.eperson.EPerson;
 import org.dspace.eperson.Group;
 import org.dspace.services.ConfigurationService;
@@ -3080,6 +3085,64 @@ public class AuthorizationRestRepositoryIT extends AbstractControllerIntegration
                                        .doesNotExist());
     }
 
+    /**
+     * Verify that the search by many objects, whose policies are prefetched for all the features, gives the same
+     * authorizations as the features checked one by one. The cclicense feature checks the ADD and REMOVE actions
+     * without inheritance, so the ADMIN rights of a collection administrator must not leak from the prefetched
+     * decisions.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void findByMultipleObjectsMatchesFeaturesWithoutPrefetchTest() throws Exception {
+        configurationService.setProperty("core.authorization.item-admin.cc-license", false);
+        configurationService.setProperty("core.authorization.collection-admin.item-admin.cc-license", false);
+        configurationService.setProperty("core.authorization.community-admin.item-admin.cc-license", false);
+
+        context.turnOffAuthorisationSystem();
+        Community community = CommunityBuilder.createCommunity(context).build();
+        Collection collection = CollectionBuilder.createCollection(context, community)
+                                                 .withAdminGroup(eperson)
+                                                 .build();
+        Item item = ItemBuilder.createItem(context, collection).build();
+        Item secondItem = ItemBuilder.createItem(context, collection).build();
+        context.restoreAuthSystemState();
+
+        List<ItemRest> itemRests = List.of(itemConverter.convert(item, DefaultProjection.DEFAULT),
+                                           itemConverter.convert(secondItem, DefaultProjection.DEFAULT));
+        String[] featureNames = { "cclicense", "canEditItem", "canManagePolicies", "canManageBitstreamBundles" };
+
+        // the authorizations of the features checked one by one, without prefetch
+        List<String> expected = new ArrayList<>();
+        Context epersonContext = new Context();
+        try {
+            epersonContext.setCurrentUser(eperson);
+            for (ItemRest itemRest : itemRests) {
+                for (String featureName : featureNames) {
+                    AuthorizationFeature feature = authorizationFeatureService.find(featureName);
+                    if (authorizationFeatureService.isAuthorized(epersonContext, feature, itemRest)) {
+                        expected.add(getAuthorizationID(eperson, featureName, itemRest));
+                    }
+                }
+            }
+        } finally {
+            epersonContext.abort();
+        }
+        assertThat(expected, not(Matchers.empty()));
+        assertThat(expected, not(Matchers.hasItem(getAuthorizationID(eperson, "cclicense", itemRests.get(0)))));
+
+        String epersonToken = getAuthToken(eperson.getEmail(), password);
+        getClient(epersonToken).perform(get("/api/authz/authorizations/search/objects")
+            .param("type", "core.items")
+            .param("uuid", item.getID().toString())
+            .param("uuid", secondItem.getID().toString())
+            .param("feature", featureNames)
+            .param("size", "100"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.page.totalElements", is(expected.size())))
+            .andExpect(jsonPath("$._embedded.authorizations[*].id", containsInAnyOrder(expected.toArray())));
+    }
+
     // utility methods to build authorization ID without having an authorization object
     private String getAuthorizationID(EPerson eperson, AuthorizationFeature feature, BaseObjectRest obj) {
         return getAuthorizationID(eperson != null ? eperson.getID().toString() : null, feature.getName(),
@@ -42,6 +42,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.io.ByteArrayInputStream;
@@ -347,6 +348,94 @@ public class BitstreamRestControllerIT extends AbstractControllerIntegrationTest
             checkNumberOfStatsRecords(bitstream, 0);
     }
 
+    @Test
+    public void retrieveBitstreamWithLocalFileTransfer() throws Exception {
+        configurationService.setProperty("webui.content.zero-copy.enabled", true);
+        String bitstreamContent = "0123456789";
+        bitstream = createPublicBitstream(bitstreamContent);
+
+        //The servlet container doesn't support sendfile: the file is written from its channel
+        getClient().perform(get("/api/core/bitstreams/" + bitstream.getID() + "/content"))
+                   .andExpect(status().isOk())
+                   .andExpect(header().longValue("Content-Length", bitstreamContent.getBytes().length))
+                   .andExpect(content().contentType("text/plain;charset=UTF-8"))
+                   .andExpect(content().bytes(bitstreamContent.getBytes()));
+
+        getClient().perform(get("/api/core/bitstreams/" + bitstream.getID() + "/content")
+                                .header("Range", "bytes=1-3"))
+                   .andExpect(status().is(206))
+                   .andExpect(header().longValue("Content-Length", 3))
+                   .andExpect(header().string("Content-Range", "bytes 1-3/10"))
+                   .andExpect(content().bytes("123".getBytes()));
+
+        getClient().perform(get("/api/core/bitstreams/" + bitstream.getID() + "/content")
+                                .header("Range", "bytes=4-"))
+                   .andExpect(status().is(206))
+                   .andExpect(header().longValue("Content-Length", 6))
+                   .andExpect(header().string("Content-Range", "bytes 4-9/10"))
+                   .andExpect(content().bytes("456789".getBytes()));
+    }
+
+    @Test
+    public void retrieveBitstreamWithSendfile() throws Exception {
+        configurationService.setProperty("webui.content.zero-copy.enabled", true);
+        String bitstreamContent = "0123456789";
+        bitstream = createPublicBitstream(bitstreamContent);
+
+        //The servlet container supports sendfile: it is asked to send the file, and no body is written
+        getClient().perform(get("/api/core/bitstreams/" + bitstream.getID() + "/content")
+                                .requestAttr("org.apache.tomcat.sendfile.support", true))
+                   .andExpect(status().isOk())
+                   .andExpect(header().longValue("Content-Length", bitstreamContent.getBytes().length))
+                   .andExpect(request().attribute("org.apache.tomcat.sendfile.filename", not(nullValue())))
+                   .andExpect(request().attribute("org.apache.tomcat.sendfile.start", 0L))
+                   .andExpect(request().attribute("org.apache.tomcat.sendfile.end", 10L))
+                   .andExpect(content().bytes(new byte[] {}));
+
+        getClient().perform(get("/api/core/bitstreams/" + bitstream.getID() + "/content")
+                                .header("Range", "bytes=4-")
+                                .requestAttr("org.apache.tomcat.sendfile.support", true))
+                   .andExpect(status().is(206))
+                   .andExpect(header().longValue("Content-Length", 6))
+                   .andExpect(header().string("Content-Range", "bytes 4-9/10"))
+                   .andExpect(request().attribute("org.apache.tomcat.sendfile.start", 4L))
+                   .andExpect(request().attribute("org.apache.tomcat.sendfile.end", 10L))
+                   .andExpect(content().bytes(new byte[] {}));
+    }
+
+    @Test
+    public void retrieveBitstreamWithoutLocalFileTransfer() throws Exception {
+        String bitstreamContent = "0123456789";
+        bitstream = createPublicBitstream(bitstreamContent);
+
+        //Disabled by default: the bitstream is streamed even when the container supports sendfile
+        getClient().perform(get("/api/core/bitstreams/" + bitstream.getID() + "/content")
+                                .requestAttr("org.apache.tomcat.sendfile.support", true))
+                   .andExpect(status().isOk())
+                   .andExpect(request().attribute("org.apache.tomcat.sendfile.filename", nullValue()))
+                   .andExpect(content().bytes(bitstreamContent.getBytes()));
+    }
+
+    private Bitstream createPublicBitstream(String bitstreamContent) throws Exception {
+        context.turnOffAuthorisationSystem();
+        parentCommunity = CommunityBuilder.createCommunity(context)
+                                          .withName("Parent Community")
+                                          .build();
+        Collection col1 = CollectionBuilder.createCollection(context, parentCommunity).withName("Collection 1").build();
+        Item publicItem1 = ItemBuilder.createItem(context, col1)
+                                      .withTitle("Public item 1")
+                                      .build();
+        Bitstream publicBitstream;
+        try (InputStream is = IOUtils.toInputStream(bitstreamContent, CharEncoding.UTF_8)) {
+            publicBitstream = BitstreamBuilder.createBitstream(context, publicItem1, is)
+                                              .withName("Test bitstream")
+                                              .withMimeType("text/plain")
+                                              .build();
+        }
+        context.restoreAuthSystemState();
+        return publicBitstream;
+    }
+
     @Test
     public void testBitstreamName() throws Exception {
 
@@ -0,0 +1,155 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.app.rest;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.dspace.app.rest.matcher.SearchResultMatcher;
+import org.dspace.app.rest.projection.ListingProjection;
+import org.dspace.app.rest.test.AbstractControllerIntegrationTest;
+import org.dspace.authorize.service.ResourcePolicyService;
+import org.dspace.builder.CollectionBuilder;
+import org.dspace.builder.CommunityBuilder;
+import org.dspace.builder.ItemBuilder;
+import org.dspace.content.Collection;
+import org.dspace.content.Item;
+import org.dspace.content.service.ItemService;
+import org.dspace.core.Constants;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Integration tests of the search results served from the listings stored in the search core, with the
+ * {@link ListingProjection}.
+ */
+public class DiscoveryItemListingIT extends AbstractControllerIntegrationTest {
+
+    private static final String OBJECTS = "$._embedded.searchResult._embedded.objects";
+
+    private static final String INDEXABLE_OBJECT = OBJECTS + "[0]._embedded.indexableObject";
+
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired
+    private ResourcePolicyService resourcePolicyService;
+
+    private Item item;
+
+    @Before
+    public void setUp() throws Exception {
+        super.setUp();
+        context.turnOffAuthorisationSystem();
+        parentCommunity = CommunityBuilder.createCommunity(context)
+                                          .withName("Parent Community")
+                                          .build();
+        Collection collection = CollectionBuilder.createCollection(context, parentCommunity)
+                                                 .withName("Collection")
+                                                 .build();
+        item = ItemBuilder.createItem(context, collection)
+                          .withTitle("Listed item")
+                          .withIssueDate("2010-10-17")
+                          .withAuthor("Smith, Donald")
+                          .withSubject("ExtraEntry")
+                          .build();
+        context.restoreAuthSystemState();
+    }
+
+    @Test
+    public void listingProjectionTest() throws Exception {
+        getClient().perform(get("/api/discover/search/objects")
+                                .param("query", "Listed")
+                                .param("dsoType", "ITEM")
+                                .param("projection", ListingProjection.NAME))
+                   .andExpect(status().isOk())
+                   .andExpect(jsonPath(OBJECTS, contains(
+                       SearchResultMatcher.matchOnItemName("item", "items", "Listed item"))))
+                   .andExpect(jsonPath(INDEXABLE_OBJECT + ".uuid", is(item.getID().toString())))
+                   .andExpect(jsonPath(INDEXABLE_OBJECT + ".metadata['dc.contributor.author'][0].value",
+                                       is("Smith, Donald")))
+                   .andExpect(jsonPath(INDEXABLE_OBJECT + ".metadata['dc.date.issued'][0].value",
+                                       is("2010-10-17")))
+                   // not part of the listing
+                   .andExpect(jsonPath(INDEXABLE_OBJECT + ".metadata['dc.subject']").doesNotExist());
+
+        // the same search without the projection loads the item from the database
+        getClient().perform(get("/api/discover/search/objects")
+                                .param("query", "Listed")
+                                .param("dsoType", "ITEM"))
+                   .andExpect(status().isOk())
+                   .andExpect(jsonPath(INDEXABLE_OBJECT + ".metadata['dc.subject'][0].value", is("ExtraEntry")));
+    }
+
+    @Test
+    public void listingProjectionChecksReadPermissionTest() throws Exception {
+        // the READ permission is removed without updating the search core
+        context.turnOffAuthorisationSystem();
+        context.setDispatcher("noindex");
+        resourcePolicyService.removePolicies(context, item, Constants.READ);
+        context.commit();
+        context.restoreAuthSystemState();
+
+        // the stale document is still found, but its listing is not returned
+        getClient().perform(get("/api/discover/search/objects")
+                                .param("query", "Listed")
+                                .param("dsoType", "ITEM")
+                                .param("projection", ListingProjection.NAME))
+                   .andExpect(status().isOk())
+                   .andExpect(jsonPath(OBJECTS + "[0].type", is("discover")))
+                   .andExpect(jsonPath(INDEXABLE_OBJECT).doesNotExist());
+
+        // an administrator can still READ the item
+        String adminToken = getAuthToken(admin.getEmail(), password);
+        getClient(adminToken).perform(get("/api/discover/search/objects")
+                                          .param("query", "Listed")
+                                          .param("dsoType", "ITEM")
+                                          .param("projection", ListingProjection.NAME))
+                             .andExpect(status().isOk())
+                             .andExpect(jsonPath(INDEXABLE_OBJECT + ".uuid", is(item.getID().toString())));
+    }
+
+    @Test
+    public void listingProjectionSkipsWithdrawnItemTest() throws Exception {
+        // the item is withdrawn without updating the search core
+        context.turnOffAuthorisationSystem();
+        context.setDispatcher("noindex");
+        itemService.withdraw(context, item);
+        context.commit();
+        context.restoreAuthSystemState();
+
+        getClient().perform(get("/api/discover/search/objects")
+                                .param("query", "Listed")
+                                .param("dsoType", "ITEM")
+                                .param("projection", ListingProjection.NAME))
+                   .andExpect(status().isOk())
+                   .andExpect(jsonPath(INDEXABLE_OBJECT).doesNotExist());
+    }
+
+    @Test
+    public void listingProjectionRemovesDeletedItemTest() throws Exception {
+        // the item is deleted without updating the search core
+        context.turnOffAuthorisationSystem();
+        context.setDispatcher("noindex");
+        itemService.delete(context, context.reloadEntity(item));
+        context.commit();
+        context.restoreAuthSystemState();
+
+        // the stale document is removed from the search core, and the search is run again
+        getClient().perform(get("/api/discover/search/objects")
+                                .param("query", "Listed")
+                                .param("dsoType", "ITEM")
+                                .param("projection", ListingProjection.NAME))
+                   .andExpect(status().isOk())
+                   .andExpect(jsonPath("$._embedded.searchResult.page.totalElements", is(0)));
+    }
+}
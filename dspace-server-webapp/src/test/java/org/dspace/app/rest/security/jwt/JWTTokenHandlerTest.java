@@ -8,7 +8,10 @@
 package org.dspace.app.rest.security.jwt;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.text.ParseException;
@@ -153,4 +156,22 @@ public class JWTTokenHandlerTest {
         assertEquals(null, parsed);
     }
 
+    @Test
+    public void testVerifiedTokenIsRejectedOnceSessionSaltChanges() throws Exception {
+        when(configurationService.getIntProperty("jwt.login.verification-cache.size", 1000)).thenReturn(10);
+        when(ePersonClaimProvider.getEPerson(any(Context.class), any(JWTClaimsSet.class))).thenReturn(ePerson);
+        Instant previous = Instant.now().minus(10000000000L, ChronoUnit.MILLIS);
+        String token = loginJWTTokenHandler
+            .createTokenForEPerson(context, new MockHttpServletRequest(), previous);
+
+        assertEquals(ePerson, loginJWTTokenHandler.parseEPersonFromToken(token, httpServletRequest, context));
+        assertEquals(ePerson, loginJWTTokenHandler.parseEPersonFromToken(token, httpServletRequest, context));
+        // the signature was only verified once
+        verify(loginJWTTokenHandler, times(1)).isValidToken(any(), any(), any(), any());
+
+        // e.g. logout from another device
+        when(ePerson.getSessionSalt()).thenReturn("");
+        assertNull(loginJWTTokenHandler.parseEPersonFromToken(token, httpServletRequest, context));
+    }
+
 }